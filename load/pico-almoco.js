@@ -0,0 +1,87 @@
+// Cenário de carga do pico de almoço (k6).
+// Rampa de checkouts e avanço dos pedidos pela cozinha, para comparar no
+// Prometheus o momento em que as métricas de negócio (checkouts/s, fila da
+// cozinha, pagamentos pendentes) cruzam os alvos do HPA com o da CPU.
+//
+// Uso: docker compose --profile carga up   (ver load/README.md)
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import encoding from 'k6/encoding';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USUARIO = __ENV.FASTFOOD_USUARIO;
+const SENHA = __ENV.FASTFOOD_SENHA;
+
+const headers = { 'Content-Type': 'application/json' };
+if (USUARIO && SENHA) {
+  headers.Authorization = `Basic ${encoding.b64encode(`${USUARIO}:${SENHA}`)}`;
+}
+
+export const options = {
+  scenarios: {
+    // Clientes fazendo checkout: de 1 a 40 checkouts/s em 5 minutos
+    checkouts: {
+      executor: 'ramping-arrival-rate',
+      startRate: 1,
+      timeUnit: '1s',
+      preAllocatedVUs: 50,
+      maxVUs: 200,
+      stages: [
+        { target: 5, duration: '1m' },
+        { target: 40, duration: '3m' },
+        { target: 40, duration: '3m' },
+        { target: 2, duration: '2m' },
+      ],
+      exec: 'checkout',
+    },
+    // Cozinha com capacidade fixa: a fila cresce quando os checkouts passam dela
+    cozinha: {
+      executor: 'constant-arrival-rate',
+      rate: 10,
+      timeUnit: '1s',
+      duration: '9m',
+      preAllocatedVUs: 10,
+      exec: 'cozinha',
+    },
+  },
+};
+
+const METODOS = ['PIX', 'CARTAO_CREDITO', 'CARTAO_DEBITO', 'DINHEIRO'];
+
+export function checkout() {
+  const corpo = {
+    cliente: {
+      nome: `Cliente ${__VU}`,
+      email: `cliente${__VU}@carga.local`,
+    },
+    itens: [
+      { produtoId: 1 + (__ITER % 5), quantidade: 1 + (__ITER % 3) },
+      { produtoId: 9, quantidade: 1 },
+    ],
+    metodoPagamento: METODOS[__ITER % METODOS.length],
+  };
+  const resposta = http.post(`${BASE_URL}/api/pedidos/checkout`, JSON.stringify(corpo), { headers });
+  check(resposta, { 'checkout 201': (r) => r.status === 201 });
+}
+
+export function cozinha() {
+  const fila = http.get(`${BASE_URL}/api/pedidos/cozinha`, { headers });
+  if (fila.status !== 200) {
+    return;
+  }
+  const pedidos = fila.json();
+  if (!pedidos.length) {
+    sleep(0.5);
+    return;
+  }
+  // Avança o pedido mais antigo de maior prioridade
+  const pedido = pedidos[0];
+  const acao = {
+    RECEBIDO: 'iniciar-preparacao',
+    EM_PREPARACAO: 'marcar-pronto',
+    PRONTO: 'finalizar',
+  }[pedido.status];
+  if (acao) {
+    http.patch(`${BASE_URL}/api/pedidos/${pedido.id}/${acao}`, null, { headers });
+  }
+}
@@ -0,0 +1,81 @@
+#!/usr/bin/env sh
+# Benchmark de tempo de subida da API, independente de CI.
+#
+# Compara três modos, cada um com N execuções encerradas assim que a
+# aplicação fica pronta (app.startup.encerrar-apos-subida):
+#   jar       - java -jar com o perfil padrão (como antes do perfil prod)
+#   prod      - jar explodido com o perfil prod (beans tardios e exclusões)
+#   prod-cds  - igual ao prod, usando o arquivo AppCDS gerado aqui
+#
+# Uso: scripts/benchmark-inicializacao.sh [execucoes]
+# Resultado: tabela no terminal e target/benchmark-inicializacao.csv
+
+set -eu
+
+EXECUCOES="${1:-5}"
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+DESTINO="$RAIZ/target/benchmark-inicializacao"
+CSV="$RAIZ/target/benchmark-inicializacao.csv"
+MAIN_CLASS="com.marianapetrolini.fastfood.FastfoodApplication"
+H2_ARGS="--spring.datasource.url=jdbc:h2:mem:benchmark --spring.datasource.driver-class-name=org.h2.Driver \
+--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+
+cd "$RAIZ"
+JAR="$(ls target/fastfood-*.jar 2>/dev/null | grep -v original | head -n 1 || true)"
+if [ -z "$JAR" ]; then
+    ./mvnw -q -B package -DskipTests
+    JAR="$(ls target/fastfood-*.jar | grep -v original | head -n 1)"
+fi
+
+rm -rf "$DESTINO"
+mkdir -p "$DESTINO"
+(cd "$DESTINO" && jar -xf "$RAIZ/$JAR")
+CP="$DESTINO/BOOT-INF/classes:$DESTINO/BOOT-INF/lib/*"
+
+# Gera o arquivo AppCDS do mesmo jeito que o Dockerfile
+java -Xshare:off -XX:DumpLoadedClassList="$DESTINO/app.classlist" -cp "$CP" "$MAIN_CLASS" \
+    --spring.profiles.active=prod --app.startup.encerrar-apos-subida=true $H2_ARGS >/dev/null 2>&1 || true
+java -Xshare:dump -XX:SharedClassListFile="$DESTINO/app.classlist" \
+    -XX:SharedArchiveFile="$DESTINO/app.jsa" -cp "$CP" >/dev/null 2>&1 || true
+
+# Executa um modo e imprime "wall_ms;spring_ms" (spring_ms = "Started ... in X seconds")
+medir() {
+    inicio=$(date +%s%N)
+    saida=$("$@" 2>&1 || true)
+    fim=$(date +%s%N)
+    spring=$(printf '%s\n' "$saida" | sed -n 's/.*Started FastfoodApplication in \([0-9.]*\) seconds.*/\1/p' | head -n 1)
+    spring_ms=$(awk -v s="${spring:-0}" 'BEGIN { printf "%d", s * 1000 }')
+    echo "$(( (fim - inicio) / 1000000 ));$spring_ms"
+}
+
+executar() {
+    case "$1" in
+        jar)
+            medir java -jar "$JAR" --app.startup.encerrar-apos-subida=true ;;
+        prod)
+            medir java -cp "$CP" "$MAIN_CLASS" --spring.profiles.active=prod \
+                --app.startup.encerrar-apos-subida=true $H2_ARGS ;;
+        prod-cds)
+            medir java -Xshare:auto -XX:SharedArchiveFile="$DESTINO/app.jsa" -cp "$CP" "$MAIN_CLASS" \
+                --spring.profiles.active=prod --app.startup.encerrar-apos-subida=true $H2_ARGS ;;
+    esac
+}
+
+echo "modo;execucao;wall_ms;spring_ms" > "$CSV"
+for modo in jar prod prod-cds; do
+    i=1
+    while [ "$i" -le "$EXECUCOES" ]; do
+        echo "$modo;$i;$(executar "$modo")" >> "$CSV"
+        i=$((i + 1))
+    done
+done
+
+# Mediana por modo
+mediana() {
+    grep "^$1;" "$CSV" | cut -d';' -f"$2" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+printf '%-10s %12s %12s\n' "modo" "wall (ms)" "spring (ms)"
+for modo in jar prod prod-cds; do
+    printf '%-10s %12s %12s\n' "$modo" "$(mediana "$modo" 3)" "$(mediana "$modo" 4)"
+done
+echo "Detalhes em $CSV"
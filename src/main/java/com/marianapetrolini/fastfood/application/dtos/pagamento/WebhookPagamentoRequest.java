@@ -1,6 +1,7 @@
 package com.marianapetrolini.fastfood.application.dtos.pagamento;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * DTO para requisição de webhook de pagamento.
@@ -13,6 +14,7 @@ public class WebhookPagamentoRequest {
     private String motivo;
     private String provedor;
     private String assinatura;
+    private LocalDateTime dataEvento;
     
     public WebhookPagamentoRequest() {
     }
@@ -72,6 +74,20 @@ public class WebhookPagamentoRequest {
         this.assinatura = assinatura;
     }
     
+    /**
+     * Momento em que o provedor gerou o evento (opcional).
+     * Usado para medir a defasagem de processamento do webhook.
+     * 
+     * @return Data e hora do evento no provedor
+     */
+    public LocalDateTime getDataEvento() {
+        return dataEvento;
+    }
+    
+    public void setDataEvento(LocalDateTime dataEvento) {
+        this.dataEvento = dataEvento;
+    }
+    
     @Override
     public String toString() {
         return String.format("WebhookPagamentoRequest{transacaoId='%s', status='%s', valor=%s, provedor='%s'}", 
@@ -1,5 +1,9 @@
 package com.marianapetrolini.fastfood.application.dtos.pedido;
 
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+
 import java.util.List;
 
 /**
@@ -10,6 +14,7 @@ public class CheckoutRequest {
     private ClienteRequest cliente;
     private List<ItemPedidoRequest> itens;
     private String metodoPagamento;
+    private Long lojaId;
     
     public CheckoutRequest() {
     }
@@ -44,6 +49,30 @@ public class CheckoutRequest {
         this.metodoPagamento = metodoPagamento;
     }
     
+    /**
+     * Loja em que o pedido é feito; quando omitida, o pedido vai para a
+     * loja padrão ({@link com.marianapetrolini.fastfood.domain.entities.Pedido#LOJA_PADRAO}).
+     */
+    public Long getLojaId() {
+        return lojaId;
+    }
+    
+    public void setLojaId(Long lojaId) {
+        this.lojaId = lojaId;
+    }
+    
+    /**
+     * Cria o pedido na loja da requisição, ou na loja padrão quando ela é omitida.
+     *
+     * @param cliente Cliente do pedido
+     * @param itens Itens já resolvidos para os produtos do cardápio
+     * @return Pedido novo, ainda não gravado
+     * @throws com.marianapetrolini.fastfood.domain.exceptions.DomainException se a loja for inválida
+     */
+    public Pedido criarPedido(Cliente cliente, List<ItemPedido> itens) {
+        return new Pedido(lojaId != null ? lojaId : Pedido.LOJA_PADRAO, cliente, itens);
+    }
+    
     /**
      * DTO para dados do cliente no checkout.
      */
@@ -145,8 +174,8 @@ public class CheckoutRequest {
     
     @Override
     public String toString() {
-        return String.format("CheckoutRequest{cliente=%s, itens=%d, metodoPagamento='%s'}", 
-                           cliente, itens != null ? itens.size() : 0, metodoPagamento);
+        return String.format("CheckoutRequest{cliente=%s, itens=%d, metodoPagamento='%s', lojaId=%s}", 
+                           cliente, itens != null ? itens.size() : 0, metodoPagamento, lojaId);
     }
 }
 
@@ -1,5 +1,7 @@
 package com.marianapetrolini.fastfood.application.dtos.pedido;
 
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+
 import java.time.LocalDateTime;
 
 /**
@@ -41,6 +43,28 @@ public class TempoEsperaResponse {
         this.alertaTempoEspera = determinarAlerta(tempoTotalMinutos);
     }
     
+    /**
+     * Cria um TempoEsperaResponse a partir de uma entidade Pedido.
+     * 
+     * @param pedido Entidade pedido
+     * @param agora Instante de referência para etapas ainda em andamento
+     * @return DTO de resposta
+     */
+    public static TempoEsperaResponse fromEntity(Pedido pedido, LocalDateTime agora) {
+        return new TempoEsperaResponse(
+            pedido.getId(),
+            String.valueOf(pedido.getId()),
+            pedido.getStatus().name(),
+            pedido.getCriadoEm(),
+            pedido.getIniciadoPreparacaoEm(),
+            pedido.getProntoEm(),
+            pedido.getFinalizadoEm(),
+            pedido.getTempoEsperaMinutos(agora),
+            pedido.getTempoPreparacaoMinutos(agora),
+            pedido.getTempoTotalMinutos(agora)
+        );
+    }
+    
     private String determinarAlerta(int tempoTotal) {
         if (tempoTotal <= 15) {
             return "NORMAL";
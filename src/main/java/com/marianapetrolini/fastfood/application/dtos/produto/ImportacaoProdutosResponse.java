@@ -0,0 +1,139 @@
+package com.marianapetrolini.fastfood.application.dtos.produto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO para resposta da importação de produtos em lote.
+ * Se algum item for inválido, nada é gravado e os erros são listados.
+ */
+public class ImportacaoProdutosResponse {
+
+    private int recebidos;
+    private int criados;
+    private int atualizados;
+    private int inalterados;
+    private int duplicados;
+    private boolean aplicada;
+    private List<ErroImportacao> erros = new ArrayList<>();
+
+    public ImportacaoProdutosResponse() {
+    }
+
+    public ImportacaoProdutosResponse(int recebidos) {
+        this.recebidos = recebidos;
+    }
+
+    public int getRecebidos() {
+        return recebidos;
+    }
+
+    public void setRecebidos(int recebidos) {
+        this.recebidos = recebidos;
+    }
+
+    public int getCriados() {
+        return criados;
+    }
+
+    public void setCriados(int criados) {
+        this.criados = criados;
+    }
+
+    public int getAtualizados() {
+        return atualizados;
+    }
+
+    public void setAtualizados(int atualizados) {
+        this.atualizados = atualizados;
+    }
+
+    public int getInalterados() {
+        return inalterados;
+    }
+
+    public void setInalterados(int inalterados) {
+        this.inalterados = inalterados;
+    }
+
+    public int getDuplicados() {
+        return duplicados;
+    }
+
+    public void setDuplicados(int duplicados) {
+        this.duplicados = duplicados;
+    }
+
+    public boolean isAplicada() {
+        return aplicada;
+    }
+
+    public void setAplicada(boolean aplicada) {
+        this.aplicada = aplicada;
+    }
+
+    public List<ErroImportacao> getErros() {
+        return erros;
+    }
+
+    public void setErros(List<ErroImportacao> erros) {
+        this.erros = erros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ImportacaoProdutosResponse{recebidos=%d, criados=%d, atualizados=%d, " +
+                           "inalterados=%d, duplicados=%d, aplicada=%s, erros=%d}",
+                           recebidos, criados, atualizados, inalterados, duplicados, aplicada, erros.size());
+    }
+
+    /**
+     * DTO para item rejeitado na importação.
+     */
+    public static class ErroImportacao {
+        private int item;
+        private String nome;
+        private String mensagem;
+
+        public ErroImportacao() {
+        }
+
+        public ErroImportacao(int item, String nome, String mensagem) {
+            this.item = item;
+            this.nome = nome;
+            this.mensagem = mensagem;
+        }
+
+        /**
+         * Posição do item no arquivo, a partir de 1 (sem contar o cabeçalho do CSV).
+         */
+        public int getItem() {
+            return item;
+        }
+
+        public void setItem(int item) {
+            this.item = item;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        public void setNome(String nome) {
+            this.nome = nome;
+        }
+
+        public String getMensagem() {
+            return mensagem;
+        }
+
+        public void setMensagem(String mensagem) {
+            this.mensagem = mensagem;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ErroImportacao{item=%d, nome='%s', mensagem='%s'}", item, nome, mensagem);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.marianapetrolini.fastfood.application.ports.input;
 import com.marianapetrolini.fastfood.application.dtos.cliente.CriarClienteRequest;
 import com.marianapetrolini.fastfood.application.dtos.cliente.AtualizarClienteRequest;
 import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteResponse;
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteSugestaoResponse;
 
 import java.util.List;
 import java.util.Map;
@@ -67,6 +68,15 @@ public interface ClienteUseCase {
      */
     List<ClienteResponse> buscarClientesPorNome(String nome);
     
+    /**
+     * Sugere clientes enquanto o atendente digita (autocompletar).
+     * 
+     * @param termo Início do nome, do CPF ou do telefone
+     * @param limite Quantidade máxima de sugestões
+     * @return Sugestões de clientes, no máximo {@code limite}
+     */
+    List<ClienteSugestaoResponse> sugerirClientes(String termo, int limite);
+    
     /**
      * Atualiza os dados de um cliente.
      * 
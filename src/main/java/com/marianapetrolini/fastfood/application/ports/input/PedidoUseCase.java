@@ -47,6 +47,15 @@ public interface PedidoUseCase {
      */
     List<PedidoListaResponse> listarPedidosParaCozinha();
     
+    /**
+     * Lista pedidos para a cozinha de uma loja, com as mesmas regras de
+     * ordenação de {@link #listarPedidosParaCozinha()}.
+     * 
+     * @param lojaId ID da loja
+     * @return Lista de pedidos da loja para a cozinha
+     */
+    List<PedidoListaResponse> listarPedidosParaCozinha(Long lojaId);
+    
     /**
      * Lista pedidos por status.
      * 
@@ -2,6 +2,7 @@ package com.marianapetrolini.fastfood.application.ports.input;
 
 import com.marianapetrolini.fastfood.application.dtos.produto.CriarProdutoRequest;
 import com.marianapetrolini.fastfood.application.dtos.produto.AtualizarProdutoRequest;
+import com.marianapetrolini.fastfood.application.dtos.produto.ImportacaoProdutosResponse;
 import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
 import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
 
@@ -13,6 +14,11 @@ import java.util.List;
  */
 public interface ProdutoUseCase {
     
+    /**
+     * Quantidade máxima de produtos em uma importação.
+     */
+    int MAXIMO_ITENS_IMPORTACAO = 10_000;
+    
     /**
      * Cria um novo produto.
      * 
@@ -99,6 +105,15 @@ public interface ProdutoUseCase {
      */
     void removerProduto(Long id);
     
+    /**
+     * Importa produtos em lote: cria os novos e atualiza os existentes pelo nome.
+     * Nada é gravado se algum item for inválido.
+     * 
+     * @param produtos Produtos na ordem em que foram recebidos
+     * @return Resumo da importação
+     */
+    ImportacaoProdutosResponse importarProdutos(List<CriarProdutoRequest> produtos);
+    
     /**
      * Lista todas as categorias de produtos disponíveis.
      * 
@@ -0,0 +1,69 @@
+package com.marianapetrolini.fastfood.application.ports.output;
+
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Port de saída para o modelo de leitura de pedidos.
+ * As consultas retornam diretamente os DTOs a partir de linhas
+ * desnormalizadas, sem reconstruir o agregado de domínio.
+ */
+public interface ConsultaPedidosPort {
+
+    /**
+     * Lista todos os pedidos.
+     *
+     * @return Pedidos ordenados pela data de criação
+     */
+    List<PedidoResponse> listarTodos();
+
+    /**
+     * Lista os pedidos visíveis na cozinha.
+     *
+     * @return Pedidos ordenados por prioridade e data de criação
+     */
+    List<PedidoListaResponse> listarParaCozinha();
+
+    /**
+     * Lista os pedidos visíveis na cozinha de uma loja.
+     *
+     * @param lojaId ID da loja
+     * @return Pedidos da loja ordenados por prioridade e data de criação
+     */
+    List<PedidoListaResponse> listarParaCozinha(Long lojaId);
+
+    /**
+     * Lista pedidos com o status informado.
+     *
+     * @param status Status dos pedidos
+     * @return Pedidos com o status
+     */
+    List<PedidoResponse> listarPorStatus(StatusPedido status);
+
+    /**
+     * Lista pedidos de um cliente.
+     *
+     * @param clienteId ID do cliente
+     * @return Pedidos do cliente
+     */
+    List<PedidoResponse> listarDoCliente(Long clienteId);
+
+    /**
+     * Lista pedidos ainda não encerrados.
+     *
+     * @return Pedidos ativos
+     */
+    List<PedidoResponse> listarAtivos();
+
+    /**
+     * Lista pedidos criados em uma data.
+     *
+     * @param data Data de criação
+     * @return Pedidos do dia
+     */
+    List<PedidoResponse> listarDoDia(LocalDate data);
+}
@@ -120,5 +120,11 @@ public interface NotificacaoPort {
      * @return Estatísticas de notificações
      */
     NotificacaoResponse obterEstatisticas();
+    
+    /**
+     * Obtém o número de notificações aguardando ou em envio.
+     * 
+     * @return Tamanho da fila de notificações
+     */
+    int getNotificacoesPendentes();
 }
-
@@ -0,0 +1,37 @@
+package com.marianapetrolini.fastfood.application.ports.output;
+
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+
+/**
+ * Port de saída para interessados no ciclo de vida dos pedidos.
+ * Recebe os eventos de criação (checkout) e de mudança de status
+ * emitidos pela camada de persistência após cada gravação.
+ */
+public interface OuvintePedidoPort {
+
+    /**
+     * Chamado após a gravação de um novo pedido.
+     *
+     * @param pedido Pedido recém-criado (já com ID)
+     */
+    default void pedidoCriado(Pedido pedido) {
+    }
+
+    /**
+     * Chamado após a gravação de um pedido cujo status mudou.
+     *
+     * @param pedido Pedido com o novo status
+     * @param statusAnterior Status antes da gravação
+     */
+    default void statusAlterado(Pedido pedido, StatusPedido statusAnterior) {
+    }
+
+    /**
+     * Chamado após a remoção de um pedido.
+     *
+     * @param pedido Pedido removido (estado anterior à remoção)
+     */
+    default void pedidoRemovido(Pedido pedido) {
+    }
+}
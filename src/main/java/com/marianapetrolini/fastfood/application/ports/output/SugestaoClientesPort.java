@@ -0,0 +1,21 @@
+package com.marianapetrolini.fastfood.application.ports.output;
+
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteSugestaoResponse;
+
+import java.util.List;
+
+/**
+ * Port de saída para as sugestões de clientes enquanto o atendente digita.
+ * A busca é por prefixo do nome, do CPF ou do telefone e sempre limitada.
+ */
+public interface SugestaoClientesPort {
+
+    /**
+     * Sugere clientes para o texto digitado.
+     *
+     * @param termo Início do nome (uma ou mais palavras), do CPF ou do telefone
+     * @param limite Quantidade máxima de sugestões
+     * @return Clientes encontrados, no máximo {@code limite}
+     */
+    List<ClienteSugestaoResponse> sugerir(String termo, int limite);
+}
@@ -2,8 +2,10 @@ package com.marianapetrolini.fastfood.application.usecases.cliente;
 
 import com.marianapetrolini.fastfood.application.dtos.cliente.AtualizarClienteRequest;
 import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteResponse;
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteSugestaoResponse;
 import com.marianapetrolini.fastfood.application.dtos.cliente.CriarClienteRequest;
 import com.marianapetrolini.fastfood.application.ports.input.ClienteUseCase;
+import com.marianapetrolini.fastfood.application.ports.output.SugestaoClientesPort;
 import com.marianapetrolini.fastfood.domain.entities.Cliente;
 import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
 import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
@@ -21,10 +23,14 @@ import java.util.stream.Collectors;
 @Service
 public class ClienteUseCaseImpl implements ClienteUseCase {
     
+    private static final int LIMITE_MAXIMO_SUGESTOES = 50;
+    
     private final ClienteRepository clienteRepository;
+    private final SugestaoClientesPort sugestaoClientes;
     
-    public ClienteUseCaseImpl(ClienteRepository clienteRepository) {
+    public ClienteUseCaseImpl(ClienteRepository clienteRepository, SugestaoClientesPort sugestaoClientes) {
         this.clienteRepository = clienteRepository;
+        this.sugestaoClientes = sugestaoClientes;
     }
     
     @Override
@@ -127,6 +133,18 @@ public class ClienteUseCaseImpl implements ClienteUseCase {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public List<ClienteSugestaoResponse> sugerirClientes(String termo, int limite) {
+        if (termo == null || termo.trim().isEmpty()) {
+            throw new DomainException("Termo para sugestão não pode ser nulo ou vazio");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO_SUGESTOES) {
+            throw new DomainException("Limite de sugestões deve estar entre 1 e " + LIMITE_MAXIMO_SUGESTOES);
+        }
+        
+        return sugestaoClientes.sugerir(termo, limite);
+    }
+    
     @Override
     public List<ClienteResponse> listarClientesParaCampanhas() {
         return clienteRepository.buscarTodos().stream()
@@ -0,0 +1,93 @@
+package com.marianapetrolini.fastfood.application.usecases.pedido;
+
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutRequest;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.application.ports.input.PedidoUseCase;
+import com.marianapetrolini.fastfood.application.ports.output.ConsultaPedidosPort;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Decorator do caso de uso de pedidos que separa leitura e escrita.
+ * Comandos e a busca por ID seguem para o caso de uso original; as
+ * listagens são atendidas pelo modelo de leitura desnormalizado.
+ */
+public class PedidoUseCaseLeitura implements PedidoUseCase {
+
+    private final PedidoUseCase delegate;
+    private final ConsultaPedidosPort consultaPedidos;
+
+    public PedidoUseCaseLeitura(PedidoUseCase delegate, ConsultaPedidosPort consultaPedidos) {
+        this.delegate = delegate;
+        this.consultaPedidos = consultaPedidos;
+    }
+
+    @Override
+    public CheckoutResponse realizarCheckout(CheckoutRequest request) {
+        return delegate.realizarCheckout(request);
+    }
+
+    @Override
+    public PedidoResponse buscarPedidoPorId(Long id) {
+        return delegate.buscarPedidoPorId(id);
+    }
+
+    @Override
+    public List<PedidoResponse> listarTodosPedidos() {
+        return consultaPedidos.listarTodos();
+    }
+
+    @Override
+    public List<PedidoListaResponse> listarPedidosParaCozinha() {
+        return consultaPedidos.listarParaCozinha();
+    }
+
+    @Override
+    public List<PedidoListaResponse> listarPedidosParaCozinha(Long lojaId) {
+        return consultaPedidos.listarParaCozinha(lojaId);
+    }
+
+    @Override
+    public List<PedidoResponse> listarPedidosPorStatus(String status) {
+        return consultaPedidos.listarPorStatus(StatusPedido.fromString(status));
+    }
+
+    @Override
+    public List<PedidoResponse> listarPedidosDoCliente(Long clienteId) {
+        return consultaPedidos.listarDoCliente(clienteId);
+    }
+
+    @Override
+    public List<PedidoResponse> listarPedidosAtivos() {
+        return consultaPedidos.listarAtivos();
+    }
+
+    @Override
+    public List<PedidoResponse> listarPedidosDeHoje() {
+        return consultaPedidos.listarDoDia(LocalDate.now());
+    }
+
+    @Override
+    public PedidoResponse iniciarPreparacaoPedido(Long id) {
+        return delegate.iniciarPreparacaoPedido(id);
+    }
+
+    @Override
+    public PedidoResponse marcarPedidoComoPronto(Long id) {
+        return delegate.marcarPedidoComoPronto(id);
+    }
+
+    @Override
+    public PedidoResponse finalizarPedido(Long id) {
+        return delegate.finalizarPedido(id);
+    }
+
+    @Override
+    public PedidoResponse atualizarStatusPedido(Long id, String novoStatus) {
+        return delegate.atualizarStatusPedido(id, novoStatus);
+    }
+}
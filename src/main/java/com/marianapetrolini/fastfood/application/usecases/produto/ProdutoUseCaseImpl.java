@@ -2,6 +2,8 @@ package com.marianapetrolini.fastfood.application.usecases.produto;
 
 import com.marianapetrolini.fastfood.application.dtos.produto.AtualizarProdutoRequest;
 import com.marianapetrolini.fastfood.application.dtos.produto.CriarProdutoRequest;
+import com.marianapetrolini.fastfood.application.dtos.produto.ImportacaoProdutosResponse;
+import com.marianapetrolini.fastfood.application.dtos.produto.ImportacaoProdutosResponse.ErroImportacao;
 import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
 import com.marianapetrolini.fastfood.application.ports.input.ProdutoUseCase;
 import com.marianapetrolini.fastfood.domain.entities.Produto;
@@ -9,9 +11,15 @@ import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
 import com.marianapetrolini.fastfood.domain.repositories.ProdutoRepository;
 import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Implementação dos use cases relacionados a produtos.
@@ -180,6 +188,73 @@ public class ProdutoUseCaseImpl implements ProdutoUseCase {
         }
     }
     
+    /**
+     * Valida os itens em paralelo e deduplica os nomes em memória (vale a
+     * última ocorrência). Os existentes são buscados em uma única consulta e
+     * só os criados ou alterados são gravados, em um único lote.
+     */
+    @Override
+    public ImportacaoProdutosResponse importarProdutos(List<CriarProdutoRequest> produtos) {
+        if (produtos == null || produtos.isEmpty()) {
+            throw new DomainException("Importação não possui produtos");
+        }
+        if (produtos.size() > MAXIMO_ITENS_IMPORTACAO) {
+            throw new DomainException("Importação limitada a " + MAXIMO_ITENS_IMPORTACAO + " produtos");
+        }
+        
+        ImportacaoProdutosResponse resposta = new ImportacaoProdutosResponse(produtos.size());
+        Produto[] validos = new Produto[produtos.size()];
+        String[] erros = new String[produtos.size()];
+        IntStream.range(0, produtos.size()).parallel().forEach(i -> {
+            try {
+                CriarProdutoRequest item = produtos.get(i);
+                validarRequestCriacao(item);
+                validos[i] = new Produto(item.getNome(), item.getDescricao(), item.getPreco(),
+                                         CategoriaProduto.fromString(item.getCategoria()));
+            } catch (DomainException e) {
+                erros[i] = e.getMessage();
+            }
+        });
+        for (int i = 0; i < erros.length; i++) {
+            if (erros[i] != null) {
+                CriarProdutoRequest item = produtos.get(i);
+                resposta.getErros().add(new ErroImportacao(i + 1, item != null ? item.getNome() : null, erros[i]));
+            }
+        }
+        if (!resposta.getErros().isEmpty()) {
+            return resposta;
+        }
+        
+        Map<String, Produto> porNome = new LinkedHashMap<>();
+        for (Produto produto : validos) {
+            if (porNome.put(produto.getNome(), produto) != null) {
+                resposta.setDuplicados(resposta.getDuplicados() + 1);
+            }
+        }
+        Map<String, Produto> existentes = produtoRepository.buscarPorNomes(porNome.keySet()).stream()
+            .collect(Collectors.toMap(Produto::getNome, Function.identity(), (primeiro, segundo) -> primeiro));
+        
+        List<Produto> gravar = new ArrayList<>();
+        for (Produto novo : porNome.values()) {
+            Produto existente = existentes.get(novo.getNome());
+            if (existente == null) {
+                gravar.add(novo);
+                resposta.setCriados(resposta.getCriados() + 1);
+            } else if (mesmoConteudo(existente, novo)) {
+                resposta.setInalterados(resposta.getInalterados() + 1);
+            } else {
+                existente.atualizar(novo.getNome(), novo.getDescricao(), novo.getPreco(), novo.getCategoria());
+                gravar.add(existente);
+                resposta.setAtualizados(resposta.getAtualizados() + 1);
+            }
+        }
+        if (!gravar.isEmpty()) {
+            produtoRepository.salvarTodos(gravar);
+        }
+        resposta.setAplicada(true);
+        return resposta;
+    }
+    
     @Override
     public List<String> listarCategorias() {
         return Arrays.stream(CategoriaProduto.values())
@@ -212,6 +287,12 @@ public class ProdutoUseCaseImpl implements ProdutoUseCase {
         }
     }
     
+    private boolean mesmoConteudo(Produto existente, Produto novo) {
+        return Objects.equals(existente.getDescricao(), novo.getDescricao())
+            && existente.getPreco().compareTo(novo.getPreco()) == 0
+            && existente.getCategoria() == novo.getCategoria();
+    }
+    
     private void validarRequestAtualizacao(AtualizarProdutoRequest request) {
         if (request == null) {
             throw new DomainException("Request de atualização não pode ser nulo");
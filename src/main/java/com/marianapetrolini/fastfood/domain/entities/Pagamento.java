@@ -65,6 +65,15 @@ public class Pagamento {
         return pedido;
     }
     
+    /**
+     * Loja do pagamento, sempre a mesma do pedido.
+     * 
+     * @return ID da loja
+     */
+    public Long getLojaId() {
+        return pedido.getLojaId();
+    }
+    
     public MetodoPagamento getMetodo() {
         return metodo;
     }
@@ -4,6 +4,7 @@ import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
 import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -16,13 +17,23 @@ import java.util.Objects;
  */
 public class Pedido {
     
+    /**
+     * Loja usada quando a implantação tem uma única loja ou o pedido não
+     * informa a loja; corresponde à loja criada pelas migrações.
+     */
+    public static final long LOJA_PADRAO = 1L;
+    
     private Long id;
+    private Long lojaId = LOJA_PADRAO;
     private Cliente cliente;
     private List<ItemPedido> itens;
     private StatusPedido status;
     private BigDecimal valorTotal;
     private LocalDateTime criadoEm;
     private LocalDateTime atualizadoEm;
+    private LocalDateTime iniciadoPreparacaoEm;
+    private LocalDateTime prontoEm;
+    private LocalDateTime finalizadoEm;
     
     // Construtor para criação de novos pedidos
     public Pedido(Cliente cliente, List<ItemPedido> itens) {
@@ -34,6 +45,12 @@ public class Pedido {
         this.atualizadoEm = LocalDateTime.now();
     }
     
+    // Construtor para criação de novos pedidos em uma loja específica
+    public Pedido(Long lojaId, Cliente cliente, List<ItemPedido> itens) {
+        this(cliente, itens);
+        this.setLojaId(lojaId);
+    }
+    
     // Construtor para reconstrução (usado pelos adapters)
     public Pedido(Long id, Cliente cliente, List<ItemPedido> itens, StatusPedido status,
                   BigDecimal valorTotal, LocalDateTime criadoEm, LocalDateTime atualizadoEm) {
@@ -46,11 +63,25 @@ public class Pedido {
         this.atualizadoEm = atualizadoEm;
     }
     
+    // Construtor completo para reconstrução, com os horários de cada etapa
+    public Pedido(Long id, Cliente cliente, List<ItemPedido> itens, StatusPedido status,
+                  BigDecimal valorTotal, LocalDateTime criadoEm, LocalDateTime atualizadoEm,
+                  LocalDateTime iniciadoPreparacaoEm, LocalDateTime prontoEm, LocalDateTime finalizadoEm) {
+        this(id, cliente, itens, status, valorTotal, criadoEm, atualizadoEm);
+        this.iniciadoPreparacaoEm = iniciadoPreparacaoEm;
+        this.prontoEm = prontoEm;
+        this.finalizadoEm = finalizadoEm;
+    }
+    
     // Getters
     public Long getId() {
         return id;
     }
     
+    public Long getLojaId() {
+        return lojaId;
+    }
+    
     public Cliente getCliente() {
         return cliente;
     }
@@ -75,7 +106,26 @@ public class Pedido {
         return atualizadoEm;
     }
     
+    public LocalDateTime getIniciadoPreparacaoEm() {
+        return iniciadoPreparacaoEm;
+    }
+    
+    public LocalDateTime getProntoEm() {
+        return prontoEm;
+    }
+    
+    public LocalDateTime getFinalizadoEm() {
+        return finalizadoEm;
+    }
+    
     // Setters com validações de domínio
+    public void setLojaId(Long lojaId) {
+        if (lojaId == null || lojaId <= 0) {
+            throw new DomainException("Loja do pedido inválida: " + lojaId);
+        }
+        this.lojaId = lojaId;
+    }
+    
     public void setCliente(Cliente cliente) {
         if (cliente == null) {
             throw new DomainException("Cliente do pedido não pode ser nulo");
@@ -175,6 +225,7 @@ public class Pedido {
         this.status.validarTransicao(novoStatus);
         this.status = novoStatus;
         this.atualizarTimestamp();
+        this.registrarHorarioStatus(novoStatus);
     }
     
     /**
@@ -198,6 +249,18 @@ public class Pedido {
         this.atualizarStatus(StatusPedido.FINALIZADO);
     }
     
+    /**
+     * Cancela o pedido (transição para CANCELADO).
+     * Só é permitido antes de o pedido ficar pronto.
+     */
+    public void cancelar() {
+        if (!podeCancelar()) {
+            throw DomainException.operacaoNaoPermitida("cancelar pedido",
+                "pedido no status " + status.getNome());
+        }
+        this.atualizarStatus(StatusPedido.CANCELADO);
+    }
+    
     /**
      * Calcula o valor total do pedido somando todos os itens.
      */
@@ -234,6 +297,15 @@ public class Pedido {
         return status == StatusPedido.FINALIZADO;
     }
     
+    /**
+     * Verifica se o pedido está encerrado (finalizado ou cancelado).
+     * 
+     * @return true se encerrado
+     */
+    public boolean isEncerrado() {
+        return status.isEncerrado();
+    }
+    
     /**
      * Verifica se o pedido deve aparecer na lista da cozinha.
      * 
@@ -275,6 +347,63 @@ public class Pedido {
         return descricao.toString();
     }
     
+    /**
+     * Calcula o tempo total de espera em minutos, desde a criação até a
+     * finalização (ou até agora, se o pedido ainda não foi finalizado).
+     * 
+     * @param agora Instante de referência para pedidos não finalizados
+     * @return Tempo total de espera em minutos
+     */
+    public int getTempoTotalMinutos(LocalDateTime agora) {
+        return minutosEntre(criadoEm, finalizadoEm != null ? finalizadoEm : agora);
+    }
+    
+    /**
+     * Calcula o tempo aguardando o início da preparação em minutos.
+     * 
+     * @param agora Instante de referência se a preparação não começou
+     * @return Tempo de espera em minutos
+     */
+    public int getTempoEsperaMinutos(LocalDateTime agora) {
+        return minutosEntre(criadoEm, iniciadoPreparacaoEm != null ? iniciadoPreparacaoEm : agora);
+    }
+    
+    /**
+     * Calcula o tempo de preparação em minutos.
+     * 
+     * @param agora Instante de referência se o pedido ainda está em preparação
+     * @return Tempo de preparação em minutos, zero se não iniciada
+     */
+    public int getTempoPreparacaoMinutos(LocalDateTime agora) {
+        if (iniciadoPreparacaoEm == null) {
+            return 0;
+        }
+        return minutosEntre(iniciadoPreparacaoEm, prontoEm != null ? prontoEm : agora);
+    }
+    
+    private static int minutosEntre(LocalDateTime inicio, LocalDateTime fim) {
+        if (inicio == null || fim == null || fim.isBefore(inicio)) {
+            return 0;
+        }
+        return (int) Duration.between(inicio, fim).toMinutes();
+    }
+    
+    private void registrarHorarioStatus(StatusPedido novoStatus) {
+        switch (novoStatus) {
+            case EM_PREPARACAO:
+                this.iniciadoPreparacaoEm = this.atualizadoEm;
+                break;
+            case PRONTO:
+                this.prontoEm = this.atualizadoEm;
+                break;
+            case FINALIZADO:
+                this.finalizadoEm = this.atualizadoEm;
+                break;
+            default:
+                break;
+        }
+    }
+    
     private void atualizarTimestamp() {
         this.atualizadoEm = LocalDateTime.now();
     }
@@ -299,8 +428,8 @@ public class Pedido {
     
     @Override
     public String toString() {
-        return String.format("Pedido{id=%d, cliente=%s, status=%s, valorTotal=%s, totalItens=%d}", 
-                           id, cliente != null ? cliente.getNome() : "null", 
+        return String.format("Pedido{id=%d, lojaId=%d, cliente=%s, status=%s, valorTotal=%s, totalItens=%d}", 
+                           id, lojaId, cliente != null ? cliente.getNome() : "null", 
                            status, valorTotal, getTotalItens());
     }
 }
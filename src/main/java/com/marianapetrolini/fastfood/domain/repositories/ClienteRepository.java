@@ -2,6 +2,7 @@ package com.marianapetrolini.fastfood.domain.repositories;
 
 import com.marianapetrolini.fastfood.domain.entities.Cliente;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +59,24 @@ public interface ClienteRepository {
      */
     List<Cliente> buscarTodos();
     
+    /**
+     * Busca os clientes criados ou alterados a partir do instante informado.
+     * 
+     * @param instante Instante inicial (inclusive)
+     * @return Lista de clientes com atualização a partir do instante
+     */
+    List<Cliente> buscarAtualizadosDesde(LocalDateTime instante);
+    
+    /**
+     * Busca um lote de clientes em ordem de ID, a partir do ID seguinte ao informado.
+     * Permite percorrer todos os clientes sem carregá-los de uma vez.
+     * 
+     * @param aposId Último ID do lote anterior (0 no primeiro lote)
+     * @param tamanho Quantidade máxima de clientes no lote
+     * @return Lista de clientes em ordem de ID
+     */
+    List<Cliente> buscarLoteAposId(Long aposId, int tamanho);
+    
     /**
      * Remove um cliente do repositório.
      * 
@@ -108,6 +108,16 @@ public interface PagamentoRepository {
      */
     List<Pagamento> buscarProcessadosNoPeriodo(LocalDateTime inicio, LocalDateTime fim);
     
+    /**
+     * Busca pagamentos de uma loja processados em um período.
+     * 
+     * @param lojaId ID da loja
+     * @param inicio Data/hora de início
+     * @param fim Data/hora de fim
+     * @return Lista de pagamentos da loja processados no período
+     */
+    List<Pagamento> buscarProcessadosNoPeriodo(Long lojaId, LocalDateTime inicio, LocalDateTime fim);
+    
     /**
      * Busca pagamentos criados hoje.
      * 
@@ -115,6 +125,14 @@ public interface PagamentoRepository {
      */
     List<Pagamento> buscarDeHoje();
     
+    /**
+     * Busca pagamentos de uma loja criados hoje.
+     * 
+     * @param lojaId ID da loja
+     * @return Lista de pagamentos da loja de hoje
+     */
+    List<Pagamento> buscarDeHoje(Long lojaId);
+    
     /**
      * Busca pagamentos que precisam ser verificados (pendentes há muito tempo).
      * 
@@ -5,7 +5,9 @@ import com.marianapetrolini.fastfood.domain.entities.Pedido;
 import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -36,6 +38,16 @@ public interface PedidoRepository {
      * @return Lista de todos os pedidos
      */
     List<Pedido> buscarTodos();
+
+    /**
+     * Busca um lote de pedidos em ordem de ID, a partir do ID informado
+     * (paginação por chave), para percorrer todos os pedidos sem carregá-los de uma vez.
+     *
+     * @param aposId Somente pedidos com ID maior que este
+     * @param limite Tamanho máximo do lote
+     * @return Pedidos do lote em ordem de ID
+     */
+    List<Pedido> buscarLote(Long aposId, int limite);
     
     /**
      * Busca pedidos por status.
@@ -72,6 +84,15 @@ public interface PedidoRepository {
      */
     List<Pedido> buscarParaCozinha();
     
+    /**
+     * Busca pedidos visíveis na cozinha de uma loja, com a mesma ordenação
+     * de {@link #buscarParaCozinha()}.
+     * 
+     * @param lojaId ID da loja
+     * @return Lista de pedidos da loja ordenados para a cozinha
+     */
+    List<Pedido> buscarParaCozinha(Long lojaId);
+    
     /**
      * Busca pedidos criados em um período.
      * 
@@ -81,6 +102,16 @@ public interface PedidoRepository {
      */
     List<Pedido> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim);
     
+    /**
+     * Busca pedidos de uma loja criados em um período.
+     * 
+     * @param lojaId ID da loja
+     * @param inicio Data/hora de início
+     * @param fim Data/hora de fim
+     * @return Lista de pedidos da loja no período
+     */
+    List<Pedido> buscarPorPeriodo(Long lojaId, LocalDateTime inicio, LocalDateTime fim);
+    
     /**
      * Busca pedidos criados hoje.
      * 
@@ -146,6 +177,21 @@ public interface PedidoRepository {
      */
     long contarPorStatus(StatusPedido status);
     
+    /**
+     * Conta pedidos de todos os status em uma única chamada.
+     * Implementações que mantêm contadores em memória devem sobrescrever
+     * este método para evitar uma consulta por status.
+     * 
+     * @return Número de pedidos por status
+     */
+    default Map<StatusPedido, Long> contarPorTodosStatus() {
+        Map<StatusPedido, Long> contagens = new EnumMap<>(StatusPedido.class);
+        for (StatusPedido status : StatusPedido.values()) {
+            contagens.put(status, contarPorStatus(status));
+        }
+        return contagens;
+    }
+    
     /**
      * Conta pedidos por cliente.
      * 
@@ -3,6 +3,7 @@ package com.marianapetrolini.fastfood.domain.repositories;
 import com.marianapetrolini.fastfood.domain.entities.Produto;
 import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +59,22 @@ public interface ProdutoRepository {
      */
     List<Produto> buscarDisponiveisPorCategoria(CategoriaProduto categoria);
     
+    /**
+     * Salva vários produtos de uma vez, em uma única transação.
+     * 
+     * @param produtos Produtos a serem salvos
+     * @return Produtos salvos com IDs gerados, na mesma ordem
+     */
+    List<Produto> salvarTodos(List<Produto> produtos);
+    
+    /**
+     * Busca produtos pelos nomes exatos informados.
+     * 
+     * @param nomes Nomes dos produtos
+     * @return Produtos encontrados
+     */
+    List<Produto> buscarPorNomes(Collection<String> nomes);
+    
     /**
      * Busca produtos por nome (busca parcial, case-insensitive).
      * 
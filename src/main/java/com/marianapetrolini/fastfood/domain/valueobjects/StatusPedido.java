@@ -14,7 +14,8 @@ public enum StatusPedido {
     RECEBIDO("Recebido", "Pedido foi recebido e aguarda pagamento"),
     EM_PREPARACAO("Em Preparação", "Pagamento aprovado, pedido em preparação"),
     PRONTO("Pronto", "Pedido finalizado e pronto para retirada"),
-    FINALIZADO("Finalizado", "Pedido foi entregue ao cliente");
+    FINALIZADO("Finalizado", "Pedido foi entregue ao cliente"),
+    CANCELADO("Cancelado", "Pedido foi cancelado antes da entrega");
     
     private final String nome;
     private final String descricao;
@@ -45,12 +46,13 @@ public enum StatusPedido {
         
         switch (this) {
             case RECEBIDO:
-                return novoStatus == EM_PREPARACAO;
+                return novoStatus == EM_PREPARACAO || novoStatus == CANCELADO;
             case EM_PREPARACAO:
-                return novoStatus == PRONTO;
+                return novoStatus == PRONTO || novoStatus == CANCELADO;
             case PRONTO:
                 return novoStatus == FINALIZADO;
             case FINALIZADO:
+            case CANCELADO:
                 return false; // Status final, não permite transições
             default:
                 return false;
@@ -80,26 +82,36 @@ public enum StatusPedido {
     public List<StatusPedido> getProximosStatusPossiveis() {
         switch (this) {
             case RECEBIDO:
-                return Arrays.asList(EM_PREPARACAO);
+                return Arrays.asList(EM_PREPARACAO, CANCELADO);
             case EM_PREPARACAO:
-                return Arrays.asList(PRONTO);
+                return Arrays.asList(PRONTO, CANCELADO);
             case PRONTO:
                 return Arrays.asList(FINALIZADO);
             case FINALIZADO:
+            case CANCELADO:
                 return Arrays.asList(); // Nenhuma transição possível
             default:
                 return Arrays.asList();
         }
     }
     
+    /**
+     * Verifica se o status é final (pedido finalizado ou cancelado).
+     * 
+     * @return true se o pedido não terá mais transições
+     */
+    public boolean isEncerrado() {
+        return this == FINALIZADO || this == CANCELADO;
+    }
+    
     /**
      * Verifica se o status é visível na lista da cozinha.
-     * Pedidos finalizados não devem aparecer na lista da cozinha.
+     * Pedidos finalizados ou cancelados não devem aparecer na lista da cozinha.
      * 
      * @return true se deve aparecer na lista da cozinha
      */
     public boolean isVisivelNaCozinha() {
-        return this != FINALIZADO;
+        return !isEncerrado();
     }
     
     /**
@@ -117,6 +129,7 @@ public enum StatusPedido {
             case RECEBIDO:
                 return 3; // Menor prioridade
             case FINALIZADO:
+            case CANCELADO:
                 return 4; // Não deve aparecer na cozinha
             default:
                 return 999;
@@ -139,7 +152,7 @@ public enum StatusPedido {
             return StatusPedido.valueOf(status.trim().toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Status inválido: " + status + 
-                ". Status válidos: RECEBIDO, EM_PREPARACAO, PRONTO, FINALIZADO");
+                ". Status válidos: RECEBIDO, EM_PREPARACAO, PRONTO, FINALIZADO, CANCELADO");
         }
     }
 }
@@ -0,0 +1,197 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.external;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Modelo de texto de notificação pré-compilado.
+ * O texto é analisado uma única vez em trechos fixos e variáveis no formato
+ * {@code {nome}}; a renderização só concatena os trechos com os valores,
+ * sem reinterpretar o padrão como o String.format faz a cada chamada, e
+ * escreve em um buffer reaproveitado por thread.
+ * Chaves que não formam uma variável (ex.: {@code { }} ou {@code {1}}) são
+ * mantidas como texto.
+ */
+public final class ModeloNotificacao {
+
+    private static final int CAPACIDADE_INICIAL = 256;
+    // Buffers maiores que isso (campanha muito longa) não ficam presos à thread
+    private static final int CAPACIDADE_MAXIMA = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER =
+        ThreadLocal.withInitial(() -> new StringBuilder(CAPACIDADE_INICIAL));
+
+    private final String texto;
+    private final String[] trechos;
+    private final String[] variaveis;
+    private final int[] posicoes;
+    private final int tamanhoFixo;
+
+    private ModeloNotificacao(String texto, String[] trechos, String[] variaveis, int[] posicoes) {
+        this.texto = texto;
+        this.trechos = trechos;
+        this.variaveis = variaveis;
+        this.posicoes = posicoes;
+        int tamanho = 0;
+        for (String trecho : trechos) {
+            tamanho += trecho.length();
+        }
+        this.tamanhoFixo = tamanho;
+    }
+
+    /**
+     * Compila um modelo de mensagem fixa, cujos valores são passados na ordem
+     * declarada em {@code parametros}.
+     *
+     * @param texto Texto com as variáveis no formato {nome}
+     * @param parametros Nomes das variáveis, na ordem dos valores de {@link #renderizar(Object...)}
+     * @return Modelo compilado
+     * @throws IllegalArgumentException se o texto usar uma variável não declarada
+     */
+    public static ModeloNotificacao compilar(String texto, String... parametros) {
+        List<String> trechos = new ArrayList<>();
+        List<String> variaveis = new ArrayList<>();
+        analisar(texto, trechos, variaveis);
+
+        int[] posicoes = new int[variaveis.size()];
+        for (int i = 0; i < posicoes.length; i++) {
+            posicoes[i] = indice(parametros, variaveis.get(i));
+            if (posicoes[i] < 0) {
+                throw new IllegalArgumentException("Variável {" + variaveis.get(i) + "} não declarada no modelo");
+            }
+        }
+        return new ModeloNotificacao(texto, trechos.toArray(new String[0]), variaveis.toArray(new String[0]),
+                                     posicoes);
+    }
+
+    /**
+     * Compila um modelo livre (ex.: texto de campanha), renderizado com
+     * {@link #renderizar(Function)} para cada destinatário.
+     *
+     * @param texto Texto com as variáveis no formato {nome}
+     * @return Modelo compilado
+     */
+    public static ModeloNotificacao compilarLivre(String texto) {
+        List<String> trechos = new ArrayList<>();
+        List<String> variaveis = new ArrayList<>();
+        analisar(texto, trechos, variaveis);
+        return new ModeloNotificacao(texto, trechos.toArray(new String[0]), variaveis.toArray(new String[0]),
+                                     new int[variaveis.size()]);
+    }
+
+    /**
+     * Indica se o texto não tem variáveis e, portanto, é sempre o mesmo.
+     *
+     * @return true se o modelo não tem variáveis
+     */
+    public boolean isConstante() {
+        return variaveis.length == 0;
+    }
+
+    /**
+     * Renderiza o modelo com os valores na ordem dos parâmetros declarados.
+     *
+     * @param valores Valores das variáveis
+     * @return Texto renderizado
+     */
+    public String renderizar(Object... valores) {
+        if (variaveis.length == 0) {
+            return texto;
+        }
+        StringBuilder buffer = buffer();
+        for (int i = 0; i < variaveis.length; i++) {
+            buffer.append(trechos[i]).append(valores[posicoes[i]]);
+        }
+        return concluir(buffer);
+    }
+
+    /**
+     * Renderiza o modelo resolvendo cada variável pelo nome. Variáveis sem
+     * valor ficam no texto como estavam ({nome}).
+     *
+     * @param valores Função que devolve o valor de uma variável, ou null se não houver
+     * @return Texto renderizado
+     */
+    public String renderizar(Function<String, ?> valores) {
+        if (variaveis.length == 0) {
+            return texto;
+        }
+        // Resolve antes de pegar o buffer: a função pode renderizar outro modelo
+        Object[] resolvidos = new Object[variaveis.length];
+        for (int i = 0; i < variaveis.length; i++) {
+            resolvidos[i] = valores.apply(variaveis[i]);
+        }
+        StringBuilder buffer = buffer();
+        for (int i = 0; i < variaveis.length; i++) {
+            buffer.append(trechos[i]);
+            if (resolvidos[i] != null) {
+                buffer.append(resolvidos[i]);
+            } else {
+                buffer.append('{').append(variaveis[i]).append('}');
+            }
+        }
+        return concluir(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return texto;
+    }
+
+    private StringBuilder buffer() {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(tamanhoFixo + 16 * variaveis.length);
+        return buffer;
+    }
+
+    private String concluir(StringBuilder buffer) {
+        String resultado = buffer.append(trechos[variaveis.length]).toString();
+        if (buffer.capacity() > CAPACIDADE_MAXIMA) {
+            BUFFER.remove();
+        }
+        return resultado;
+    }
+
+    private static void analisar(String texto, List<String> trechos, List<String> variaveis) {
+        StringBuilder trecho = new StringBuilder();
+        int i = 0;
+        while (i < texto.length()) {
+            char c = texto.charAt(i);
+            int fim = c == '{' ? fimVariavel(texto, i) : -1;
+            if (fim < 0) {
+                trecho.append(c);
+                i++;
+                continue;
+            }
+            trechos.add(trecho.toString());
+            trecho.setLength(0);
+            variaveis.add(texto.substring(i + 1, fim));
+            i = fim + 1;
+        }
+        trechos.add(trecho.toString());
+    }
+
+    /**
+     * Retorna a posição do '}' que fecha a variável iniciada em {@code inicio}, ou -1 se não for uma variável.
+     */
+    private static int fimVariavel(String texto, int inicio) {
+        int i = inicio + 1;
+        if (i >= texto.length() || !Character.isLetter(texto.charAt(i))) {
+            return -1;
+        }
+        while (i < texto.length() && (Character.isLetterOrDigit(texto.charAt(i)) || texto.charAt(i) == '_')) {
+            i++;
+        }
+        return i < texto.length() && texto.charAt(i) == '}' ? i : -1;
+    }
+
+    private static int indice(String[] parametros, String nome) {
+        for (int i = 0; i < parametros.length; i++) {
+            if (parametros[i].equals(nome)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
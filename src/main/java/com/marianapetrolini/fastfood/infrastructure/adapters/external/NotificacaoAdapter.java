@@ -9,34 +9,65 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Adapter para sistema de notificações.
  * Implementa a integração com serviços de notificação (email, SMS, push).
+ * Os textos de cada tipo de mensagem são modelos pré-compilados
+ * ({@link ModeloNotificacao}); nas campanhas e envios em massa o texto é
+ * compilado uma vez e renderizado por destinatário, com as variáveis
+ * {@code {destinatario}} e as dos parâmetros da requisição.
  */
 @Component
 public class NotificacaoAdapter implements NotificacaoPort {
     
     private static final Logger logger = LoggerFactory.getLogger(NotificacaoAdapter.class);
     
+    private static final ModeloNotificacao PEDIDO_PRONTO = ModeloNotificacao.compilar(
+        "Olá! Seu pedido #{numeroPedido} está pronto para retirada. " +
+        "Dirija-se ao balcão de retirada com este número. " +
+        "Obrigado pela preferência!",
+        "numeroPedido");
+    private static final ModeloNotificacao MUDANCA_STATUS = ModeloNotificacao.compilar(
+        "Seu pedido #{numeroPedido} teve o status atualizado para: {status}. " +
+        "Acompanhe o progresso pelo painel de pedidos.",
+        "numeroPedido", "status");
+    private static final ModeloNotificacao PAGAMENTO_APROVADO = ModeloNotificacao.compilar(
+        "Seu pagamento de R$ {valorPago} foi aprovado com sucesso! " +
+        "Pedido #{numeroPedido} confirmado e enviado para a cozinha. " +
+        "Tempo estimado: 15-20 minutos.",
+        "numeroPedido", "valorPago");
+    private static final ModeloNotificacao PAGAMENTO_RECUSADO = ModeloNotificacao.compilar(
+        "Infelizmente seu pagamento para o pedido #{numeroPedido} não foi aprovado. " +
+        "Motivo: {motivo}. " +
+        "Tente novamente ou escolha outra forma de pagamento.",
+        "numeroPedido", "motivo");
+    private static final ModeloNotificacao NOVO_PEDIDO_COZINHA = ModeloNotificacao.compilar(
+        "Novo pedido #{numeroPedido} recebido:\n{itens}\n\nInicie a preparação!",
+        "numeroPedido", "itens");
+    private static final ModeloNotificacao ALERTA_TEMPO_ESPERA = ModeloNotificacao.compilar(
+        "ATENÇÃO: Pedido #{numeroPedido} está com tempo de espera de {tempoEspera} minutos. " +
+        "Verificar status na cozinha e priorizar se necessário.",
+        "numeroPedido", "tempoEspera");
+    
     private boolean servicoDisponivel = true;
     private int totalNotificacoesEnviadas = 0;
     private int totalNotificacoesFalha = 0;
+    private final AtomicInteger notificacoesEmEnvio = new AtomicInteger();
     
     @Override
     public NotificacaoResponse notificarPedidoPronto(Long pedidoId, String clienteEmail, String numeroPedido) {
         logger.info("Notificando pedido pronto - Pedido: {}, Cliente: {}", numeroPedido, clienteEmail);
         
         String titulo = "🍔 Seu pedido está pronto!";
-        String mensagem = String.format(
-            "Olá! Seu pedido #%s está pronto para retirada. " +
-            "Dirija-se ao balcão de retirada com este número. " +
-            "Obrigado pela preferência!",
-            numeroPedido
-        );
+        String mensagem = PEDIDO_PRONTO.renderizar(numeroPedido);
         
         NotificacaoRequest request = new NotificacaoRequest(clienteEmail, titulo, mensagem, 
                                                           "PEDIDO_PRONTO", pedidoId, numeroPedido);
@@ -53,11 +84,7 @@ public class NotificacaoAdapter implements NotificacaoPort {
                    numeroPedido, statusAnterior, novoStatus);
         
         String titulo = "📋 Status do seu pedido atualizado";
-        String mensagem = String.format(
-            "Seu pedido #%s teve o status atualizado para: %s. " +
-            "Acompanhe o progresso pelo painel de pedidos.",
-            numeroPedido, novoStatus.getDescricao()
-        );
+        String mensagem = MUDANCA_STATUS.renderizar(numeroPedido, novoStatus.getDescricao());
         
         NotificacaoRequest request = new NotificacaoRequest(clienteEmail, titulo, mensagem, 
                                                           "MUDANCA_STATUS", pedidoId, numeroPedido);
@@ -71,12 +98,7 @@ public class NotificacaoAdapter implements NotificacaoPort {
         logger.info("Notificando pagamento aprovado - Pedido: {}, Valor: {}", numeroPedido, valorPago);
         
         String titulo = "✅ Pagamento aprovado!";
-        String mensagem = String.format(
-            "Seu pagamento de R$ %s foi aprovado com sucesso! " +
-            "Pedido #%s confirmado e enviado para a cozinha. " +
-            "Tempo estimado: 15-20 minutos.",
-            valorPago, numeroPedido
-        );
+        String mensagem = PAGAMENTO_APROVADO.renderizar(numeroPedido, valorPago);
         
         NotificacaoRequest request = new NotificacaoRequest(clienteEmail, titulo, mensagem, 
                                                           "PAGAMENTO_APROVADO", pedidoId, numeroPedido);
@@ -91,12 +113,7 @@ public class NotificacaoAdapter implements NotificacaoPort {
         logger.info("Notificando pagamento recusado - Pedido: {}, Motivo: {}", numeroPedido, motivo);
         
         String titulo = "❌ Pagamento não aprovado";
-        String mensagem = String.format(
-            "Infelizmente seu pagamento para o pedido #%s não foi aprovado. " +
-            "Motivo: %s. " +
-            "Tente novamente ou escolha outra forma de pagamento.",
-            numeroPedido, motivo
-        );
+        String mensagem = PAGAMENTO_RECUSADO.renderizar(numeroPedido, motivo);
         
         NotificacaoRequest request = new NotificacaoRequest(clienteEmail, titulo, mensagem, 
                                                           "PAGAMENTO_RECUSADO", pedidoId, numeroPedido);
@@ -107,6 +124,7 @@ public class NotificacaoAdapter implements NotificacaoPort {
     
     @Override
     public NotificacaoResponse enviarNotificacao(NotificacaoRequest request) {
+        boolean emEnvio = false;
         try {
             if (!servicoDisponivel) {
                 logger.warn("Serviço de notificação indisponível");
@@ -115,8 +133,11 @@ public class NotificacaoAdapter implements NotificacaoPort {
                                                "Serviço de notificação temporariamente indisponível");
             }
             
+            notificacoesEmEnvio.incrementAndGet();
+            emEnvio = true;
+            
             // Simular envio de notificação
-            String notificacaoId = UUID.randomUUID().toString();
+            String notificacaoId = novoId();
             
             // Log da notificação
             logger.info("Enviando notificação - ID: {}, Destinatário: {}, Tipo: {}, Urgente: {}", 
@@ -136,6 +157,10 @@ public class NotificacaoAdapter implements NotificacaoPort {
             totalNotificacoesFalha++;
             return NotificacaoResponse.falha(request.getDestinatario(), request.getTitulo(), 
                                            "Erro interno: " + e.getMessage());
+        } finally {
+            if (emEnvio) {
+                notificacoesEmEnvio.decrementAndGet();
+            }
         }
     }
     
@@ -143,16 +168,28 @@ public class NotificacaoAdapter implements NotificacaoPort {
     public List<NotificacaoResponse> enviarNotificacaoEmMassa(NotificacaoRequest request, List<String> destinatarios) {
         logger.info("Enviando notificação em massa para {} destinatários", destinatarios.size());
         
-        return destinatarios.stream()
-            .map(destinatario -> {
-                NotificacaoRequest requestIndividual = new NotificacaoRequest(
-                    destinatario, request.getTitulo(), request.getMensagem()
-                );
-                requestIndividual.setTipo(request.getTipo());
-                requestIndividual.setCanal(request.getCanal());
-                return enviarNotificacao(requestIndividual);
-            })
-            .collect(Collectors.toList());
+        ModeloNotificacao titulo = ModeloNotificacao.compilarLivre(request.getTitulo());
+        ModeloNotificacao mensagem = ModeloNotificacao.compilarLivre(request.getMensagem());
+        Map<String, Object> parametros = request.getParametros();
+        
+        // O envio é síncrono e a resposta copia os campos, então a mesma requisição serve a todos
+        NotificacaoRequest requestIndividual = new NotificacaoRequest("", request.getTitulo(), request.getMensagem());
+        requestIndividual.setTipo(request.getTipo());
+        requestIndividual.setCanal(request.getCanal());
+        List<NotificacaoResponse> respostas = new ArrayList<>(destinatarios.size());
+        for (String destinatario : destinatarios) {
+            Function<String, Object> variaveis = nome -> "destinatario".equals(nome) ? destinatario
+                : parametros != null ? parametros.get(nome) : null;
+            requestIndividual.setDestinatario(destinatario);
+            if (!titulo.isConstante()) {
+                requestIndividual.setTitulo(titulo.renderizar(variaveis));
+            }
+            if (!mensagem.isConstante()) {
+                requestIndividual.setMensagem(mensagem.renderizar(variaveis));
+            }
+            respostas.add(enviarNotificacao(requestIndividual));
+        }
+        return respostas;
     }
     
     @Override
@@ -171,10 +208,7 @@ public class NotificacaoAdapter implements NotificacaoPort {
         logger.info("Notificando cozinha sobre novo pedido: {}", numeroPedido);
         
         String titulo = "🍳 Novo pedido na cozinha";
-        String mensagem = String.format(
-            "Novo pedido #%s recebido:\n%s\n\nInicie a preparação!",
-            numeroPedido, itens
-        );
+        String mensagem = NOVO_PEDIDO_COZINHA.renderizar(numeroPedido, itens);
         
         NotificacaoRequest request = new NotificacaoRequest("cozinha@fastfood.com", titulo, mensagem, 
                                                           "NOVO_PEDIDO_COZINHA", pedidoId, numeroPedido);
@@ -189,11 +223,7 @@ public class NotificacaoAdapter implements NotificacaoPort {
         logger.warn("Alerta de tempo de espera elevado - Pedido: {}, Tempo: {} min", numeroPedido, tempoEspera);
         
         String titulo = "⚠️ Alerta: Tempo de espera elevado";
-        String mensagem = String.format(
-            "ATENÇÃO: Pedido #%s está com tempo de espera de %d minutos. " +
-            "Verificar status na cozinha e priorizar se necessário.",
-            numeroPedido, tempoEspera
-        );
+        String mensagem = ALERTA_TEMPO_ESPERA.renderizar(numeroPedido, tempoEspera);
         
         NotificacaoRequest request = new NotificacaoRequest("gerencia@fastfood.com", titulo, mensagem, 
                                                           "ALERTA_TEMPO_ESPERA", pedidoId, numeroPedido);
@@ -203,6 +233,11 @@ public class NotificacaoAdapter implements NotificacaoPort {
         return enviarNotificacao(request);
     }
     
+    @Override
+    public int getNotificacoesPendentes() {
+        return notificacoesEmEnvio.get();
+    }
+    
     @Override
     public boolean isServicoDisponivel() {
         return servicoDisponivel;
@@ -221,7 +256,7 @@ public class NotificacaoAdapter implements NotificacaoPort {
         );
         
         NotificacaoResponse response = new NotificacaoResponse();
-        response.setId("STATS-" + UUID.randomUUID().toString());
+        response.setId("STATS-" + novoId());
         response.setTitulo(titulo);
         response.setMensagem(mensagem);
         response.setStatus("ESTATISTICAS");
@@ -231,6 +266,18 @@ public class NotificacaoAdapter implements NotificacaoPort {
         return response;
     }
     
+    /**
+     * Gera o id de uma notificação (UUID versão 4). Usa o ThreadLocalRandom em
+     * vez do SecureRandom compartilhado do UUID.randomUUID, que vira gargalo
+     * nos envios em massa; o id não é segredo, só precisa ser único.
+     */
+    private static String novoId() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        long maisSignificativos = (aleatorio.nextLong() & ~0xF000L) | 0x4000L;
+        long menosSignificativos = (aleatorio.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(maisSignificativos, menosSignificativos).toString();
+    }
+    
     /**
      * Método para simular indisponibilidade do serviço (para testes).
      */
@@ -0,0 +1,52 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Registro, compartilhado entre os pods, dos alertas de tempo de espera enviados.
+ * Cada limite de cada pedido é reivindicado uma única vez: a chave primária
+ * (pedido, limite) faz a inserção das demais réplicas falhar. Cada comando
+ * roda sozinho (fora de transação), então a violação não afeta outro trabalho.
+ */
+@Component
+public class AlertasTempoEsperaAdapter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AlertasTempoEsperaAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reivindica o envio do alerta de um limite do pedido.
+     *
+     * @param pedidoId ID do pedido
+     * @param limiteMinutos Limite de tempo de espera cruzado
+     * @param agora Momento do alerta
+     * @return false se outro pod já reivindicou o alerta
+     */
+    public boolean reivindicar(Long pedidoId, int limiteMinutos, LocalDateTime agora) {
+        try {
+            jdbcTemplate.update("INSERT INTO alertas_tempo_espera (pedido_id, limite_minutos, alertado_em) "
+                                + "VALUES (?, ?, ?)", pedidoId, limiteMinutos, Timestamp.valueOf(agora));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Remove os registros de alertas enviados antes do limite.
+     *
+     * @param limite Alertas anteriores a este momento são removidos
+     * @return Número de registros removidos
+     */
+    public int removerAnteriores(LocalDateTime limite) {
+        return jdbcTemplate.update("DELETE FROM alertas_tempo_espera WHERE alertado_em < ?", Timestamp.valueOf(limite));
+    }
+}
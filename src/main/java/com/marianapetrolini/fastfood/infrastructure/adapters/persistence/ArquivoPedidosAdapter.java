@@ -0,0 +1,120 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.marianapetrolini.fastfood.application.dtos.pagamento.PagamentoResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PagamentoJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PagamentoJpaRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoArquivadoJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoArquivadoJpaRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoJpaRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoLeituraJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Move pedidos encerrados (finalizados ou cancelados) das tabelas quentes
+ * para o arquivo. Cada lote é uma transação: o pedido completo (itens e
+ * pagamentos) é gravado em pedidos_arquivados como JSON comprimido e removido
+ * de pedidos, itens_pedido, pagamentos e do modelo de leitura, com um DELETE
+ * por tabela para o lote inteiro.
+ * Os pedidos do lote ficam travados até o fim da transação e as réplicas
+ * pulam os já travados, então execuções simultâneas dividem os pedidos em
+ * vez de arquivar os mesmos.
+ */
+@Component
+public class ArquivoPedidosAdapter {
+
+    private static final Set<StatusPedido> STATUS_ENCERRADOS = EnumSet.of(StatusPedido.FINALIZADO,
+                                                                          StatusPedido.CANCELADO);
+
+    private final PedidoJpaRepository pedidoJpaRepository;
+    private final PagamentoJpaRepository pagamentoJpaRepository;
+    private final PedidoLeituraJpaRepository leituraJpaRepository;
+    private final PedidoArquivadoJpaRepository arquivoJpaRepository;
+    private final ObjectWriter escritor;
+
+    public ArquivoPedidosAdapter(PedidoJpaRepository pedidoJpaRepository,
+                                 PagamentoJpaRepository pagamentoJpaRepository,
+                                 PedidoLeituraJpaRepository leituraJpaRepository,
+                                 PedidoArquivadoJpaRepository arquivoJpaRepository,
+                                 ObjectMapper objectMapper) {
+        this.pedidoJpaRepository = pedidoJpaRepository;
+        this.pagamentoJpaRepository = pagamentoJpaRepository;
+        this.leituraJpaRepository = leituraJpaRepository;
+        this.arquivoJpaRepository = arquivoJpaRepository;
+        this.escritor = objectMapper.writer();
+    }
+
+    /**
+     * Arquiva um lote de pedidos encerrados antes do limite.
+     *
+     * @param limite Pedidos finalizados ou cancelados antes deste momento são arquivados
+     * @param tamanhoLote Número máximo de pedidos no lote
+     * @return Número de pedidos arquivados
+     */
+    @Transactional
+    public int arquivarLote(LocalDateTime limite, int tamanhoLote) {
+        List<Long> ids = pedidoJpaRepository.travarEncerradosAntesDe(
+                STATUS_ENCERRADOS, limite, PageRequest.of(0, tamanhoLote)).stream()
+            .map(PedidoJpaEntity::getId)
+            .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<PedidoJpaEntity> pedidos = pedidoJpaRepository.buscarCompletosPorIds(ids);
+        List<PagamentoJpaEntity> pagamentos = pagamentoJpaRepository.findByPedidoIdIn(ids);
+        Map<Long, List<PagamentoJpaEntity>> pagamentosPorPedido = pagamentos.stream()
+            .collect(Collectors.groupingBy(pagamento -> pagamento.getPedido().getId()));
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<PedidoArquivadoJpaEntity> arquivados = new ArrayList<>(pedidos.size());
+        for (PedidoJpaEntity pedido : pedidos) {
+            Pedido dominio = pedido.toDomainEntity();
+            List<PagamentoJpaEntity> doPedido = pagamentosPorPedido.getOrDefault(dominio.getId(), Collections.emptyList());
+            arquivados.add(PedidoArquivadoJpaEntity.fromDomainEntity(dominio, serializar(dominio, doPedido), agora));
+        }
+
+        arquivoJpaRepository.saveAll(arquivados);
+        pagamentoJpaRepository.removerPorPedidos(ids);
+        leituraJpaRepository.removerItens(ids);
+        leituraJpaRepository.deleteAllByIdInBatch(ids);
+        pedidoJpaRepository.removerItens(ids);
+        pedidoJpaRepository.removerCriadosAntesDe(ids, limite);
+        return pedidos.size();
+    }
+
+    private byte[] serializar(Pedido pedido, List<PagamentoJpaEntity> pagamentos) {
+        Map<String, Object> conteudo = new LinkedHashMap<>();
+        conteudo.put("lojaId", pedido.getLojaId());
+        conteudo.put("pedido", PedidoResponse.fromEntity(pedido));
+        conteudo.put("finalizadoEm", pedido.getFinalizadoEm());
+        conteudo.put("atualizadoEm", pedido.getAtualizadoEm());
+        conteudo.put("pagamentos", pagamentos.stream()
+            .map(pagamento -> PagamentoResponse.fromEntity(pagamento.toDomainEntity()))
+            .collect(Collectors.toList()));
+        try {
+            return escritor.writeValueAsBytes(conteudo);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Falha ao serializar o pedido " + pedido.getId() + " para o arquivo", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Chave completa de um pedido na tabela particionada: loja e data de criação
+ * (as chaves de partição) e id. Buscar ou travar o pedido pela chave completa
+ * faz o PostgreSQL ler só a partição do pedido, em vez do índice de id de
+ * todas as partições.
+ */
+public final class ChavePedido {
+
+    private final Long lojaId;
+    private final LocalDateTime criadoEm;
+    private final Long id;
+
+    public ChavePedido(Long lojaId, LocalDateTime criadoEm, Long id) {
+        this.lojaId = lojaId;
+        this.criadoEm = truncar(criadoEm);
+        this.id = id;
+    }
+
+    /**
+     * @param pedido Pedido já gravado
+     * @return Chave do pedido
+     */
+    public static ChavePedido de(Pedido pedido) {
+        return new ChavePedido(pedido.getLojaId(), pedido.getCriadoEm(), pedido.getId());
+    }
+
+    /**
+     * O banco guarda microssegundos; o relógio da JVM pode ter nanossegundos.
+     * A data é gravada já truncada, para que a chave montada a partir do
+     * pedido em memória seja igual à gravada.
+     */
+    public static LocalDateTime truncar(LocalDateTime momento) {
+        return momento != null ? momento.truncatedTo(ChronoUnit.MICROS) : null;
+    }
+
+    /**
+     * @return false se falta alguma parte da chave (pedido ainda não gravado)
+     */
+    public boolean isCompleta() {
+        return lojaId != null && criadoEm != null && id != null;
+    }
+
+    public Long getLojaId() {
+        return lojaId;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "ChavePedido{lojaId=" + lojaId + ", criadoEm=" + criadoEm + ", id=" + id + "}";
+    }
+}
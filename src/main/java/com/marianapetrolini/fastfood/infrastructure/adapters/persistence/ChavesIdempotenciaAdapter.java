@@ -0,0 +1,96 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ChaveIdempotenciaJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ChaveIdempotenciaJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Persistência das chaves de idempotência do checkout, compartilhada entre os pods.
+ * Cada operação roda na sua própria transação: a reserva precisa estar
+ * gravada antes de o checkout começar, e a conclusão não pode ser desfeita
+ * junto com outra transação em andamento.
+ * Conclusão e liberação só alteram a reserva feita pela própria requisição,
+ * identificada pela chave e pelo momento da reserva ({@code criado_em}).
+ */
+@Component
+public class ChavesIdempotenciaAdapter {
+
+    private final ChaveIdempotenciaJpaRepository jpaRepository;
+
+    public ChavesIdempotenciaAdapter(ChaveIdempotenciaJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    /**
+     * Reserva a chave para uma requisição.
+     *
+     * @param chave Chave de idempotência
+     * @param impressao Impressão digital do corpo da requisição
+     * @param agora Momento da reserva
+     * @param expiraEm Fim da validade da chave
+     * @throws org.springframework.dao.DataIntegrityViolationException Se a chave já existir
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reservar(String chave, String impressao, LocalDateTime agora, LocalDateTime expiraEm) {
+        jpaRepository.saveAndFlush(new ChaveIdempotenciaJpaEntity(chave, impressao, agora, expiraEm));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<ChaveIdempotenciaJpaEntity> buscar(String chave) {
+        return jpaRepository.findById(chave);
+    }
+
+    /**
+     * Grava a resposta do checkout na reserva.
+     *
+     * @param chave Chave de idempotência
+     * @param criadoEm Momento da reserva
+     * @param resposta Resposta serializada
+     * @return false se a reserva não existe mais
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean concluir(String chave, LocalDateTime criadoEm, byte[] resposta) {
+        return jpaRepository.concluirReserva(chave, criadoEm, resposta) > 0;
+    }
+
+    /**
+     * Marca a reserva como de resultado desconhecido (checkout que falhou
+     * depois de poder ter gravado algo).
+     *
+     * @param chave Chave de idempotência
+     * @param criadoEm Momento da reserva
+     * @return false se a reserva não existe mais
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean marcarIndeterminada(String chave, LocalDateTime criadoEm) {
+        return jpaRepository.marcarIndeterminada(chave, criadoEm) > 0;
+    }
+
+    /**
+     * Remove a reserva (checkout recusado antes de gravar algo, ou chave expirada).
+     *
+     * @param chave Chave de idempotência
+     * @param criadoEm Momento da reserva
+     * @return false se a reserva já foi removida ou substituída
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean liberar(String chave, LocalDateTime criadoEm) {
+        return jpaRepository.removerReserva(chave, criadoEm) > 0;
+    }
+
+    /**
+     * Remove as chaves com validade vencida.
+     *
+     * @param agora Momento de referência
+     * @return Número de chaves removidas
+     */
+    @Transactional
+    public int removerExpiradas(LocalDateTime agora) {
+        return jpaRepository.removerExpiradas(agora);
+    }
+}
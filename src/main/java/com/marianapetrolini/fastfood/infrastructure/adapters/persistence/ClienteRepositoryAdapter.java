@@ -0,0 +1,121 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ClienteJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ClienteJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter que implementa o repositório de clientes usando JPA.
+ * CPF e email são normalizados como no domínio (somente dígitos e minúsculas).
+ * A remoção fica registrada em {@link ClientesRemovidosAdapter} para que os
+ * demais pods a vejam.
+ */
+@Component
+public class ClienteRepositoryAdapter implements ClienteRepository {
+
+    private final ClienteJpaRepository jpaRepository;
+    private final ClientesRemovidosAdapter removidos;
+
+    public ClienteRepositoryAdapter(ClienteJpaRepository jpaRepository, ClientesRemovidosAdapter removidos) {
+        this.jpaRepository = jpaRepository;
+        this.removidos = removidos;
+    }
+
+    @Override
+    @Transactional
+    public Cliente salvar(Cliente cliente) {
+        ClienteJpaEntity jpaEntity;
+
+        if (cliente.getId() == null) {
+            jpaEntity = ClienteJpaEntity.fromDomainEntity(cliente);
+        } else {
+            jpaEntity = jpaRepository.findById(cliente.getId())
+                .orElse(ClienteJpaEntity.fromDomainEntity(cliente));
+            jpaEntity.updateFromDomainEntity(cliente);
+        }
+
+        return jpaRepository.save(jpaEntity).toDomainEntity();
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorId(Long id) {
+        return jpaRepository.findById(id)
+            .map(ClienteJpaEntity::toDomainEntity);
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorCpf(String cpf) {
+        return jpaRepository.findByCpf(normalizarCpf(cpf))
+            .map(ClienteJpaEntity::toDomainEntity);
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorEmail(String email) {
+        return jpaRepository.findByEmail(normalizarEmail(email))
+            .map(ClienteJpaEntity::toDomainEntity);
+    }
+
+    @Override
+    public List<Cliente> buscarPorNome(String nome) {
+        return jpaRepository.findByNomeContainingIgnoreCase(nome).stream()
+            .map(ClienteJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Cliente> buscarTodos() {
+        return jpaRepository.findAllByOrderByNomeAsc().stream()
+            .map(ClienteJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Cliente> buscarAtualizadosDesde(LocalDateTime instante) {
+        return jpaRepository.findByAtualizadoEmGreaterThanEqual(instante).stream()
+            .map(ClienteJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Cliente> buscarLoteAposId(Long aposId, int tamanho) {
+        return jpaRepository.findByIdGreaterThanOrderByIdAsc(aposId, PageRequest.of(0, tamanho)).stream()
+            .map(ClienteJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void remover(Long id) {
+        if (jpaRepository.existsById(id)) {
+            jpaRepository.deleteById(id);
+            removidos.registrar(id, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public boolean existePorCpf(String cpf) {
+        return jpaRepository.existsByCpf(normalizarCpf(cpf));
+    }
+
+    @Override
+    public boolean existePorEmail(String email) {
+        return jpaRepository.existsByEmail(normalizarEmail(email));
+    }
+
+    private static String normalizarCpf(String cpf) {
+        return cpf != null ? cpf.replaceAll("[^0-9]", "") : null;
+    }
+
+    private static String normalizarEmail(String email) {
+        return email != null ? email.trim().toLowerCase() : null;
+    }
+}
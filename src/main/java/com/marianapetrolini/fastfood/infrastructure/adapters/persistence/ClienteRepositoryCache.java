@@ -0,0 +1,182 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.CPF;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheDoisNiveis;
+import com.marianapetrolini.fastfood.infrastructure.cache.Codificador;
+import com.marianapetrolini.fastfood.infrastructure.replica.ContextoRoteamento;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Decorator do repositório de clientes que atende as buscas por id, CPF e
+ * e-mail (identificação no checkout) a partir do {@link CacheDoisNiveis}.
+ * O cliente fica guardado só pela chave do id; CPF e e-mail guardam o id, e o
+ * cliente encontrado precisa conferir com o documento buscado, então uma
+ * troca de e-mail não deixa a chave antiga apontando para o cliente errado.
+ * Salvar ou remover um cliente invalida a chave do id em todos os pods.
+ * Valores lidos com a réplica permitida ({@link ContextoRoteamento}) não são
+ * guardados, porque a réplica pode estar atrás de uma escrita já invalidada.
+ */
+public class ClienteRepositoryCache implements ClienteRepository {
+
+    private static final Codificador<Cliente> CLIENTE = new CodificadorCliente();
+    private static final Codificador<Long> ID = new CodificadorId();
+
+    private final ClienteRepository delegate;
+    private final CacheDoisNiveis cache;
+
+    public ClienteRepositoryCache(ClienteRepository delegate, CacheDoisNiveis cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Cliente salvar(Cliente cliente) {
+        Cliente salvo = delegate.salvar(cliente);
+        cache.invalidar(chaveId(salvo.getId()));
+        return salvo;
+    }
+
+    @Override
+    public void remover(Long id) {
+        delegate.remover(id);
+        cache.invalidar(chaveId(id));
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorId(Long id) {
+        return cache.obter(chaveId(id), CLIENTE, () -> delegate.buscarPorId(id), podeGuardar());
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorCpf(String cpf) {
+        return buscarPorDocumento("cpf:" + cpf,
+            cliente -> cliente.getCpf() != null && cliente.getCpf().getValor().equals(cpf),
+            () -> delegate.buscarPorCpf(cpf));
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorEmail(String email) {
+        return buscarPorDocumento("email:" + email,
+            cliente -> cliente.getEmail() != null && cliente.getEmail().getValor().equals(email),
+            () -> delegate.buscarPorEmail(email));
+    }
+
+    @Override
+    public List<Cliente> buscarPorNome(String nome) {
+        return delegate.buscarPorNome(nome);
+    }
+
+    @Override
+    public List<Cliente> buscarTodos() {
+        return delegate.buscarTodos();
+    }
+
+    @Override
+    public List<Cliente> buscarAtualizadosDesde(LocalDateTime instante) {
+        return delegate.buscarAtualizadosDesde(instante);
+    }
+
+    @Override
+    public List<Cliente> buscarLoteAposId(Long aposId, int tamanho) {
+        return delegate.buscarLoteAposId(aposId, tamanho);
+    }
+
+    @Override
+    public boolean existePorCpf(String cpf) {
+        return delegate.existePorCpf(cpf);
+    }
+
+    @Override
+    public boolean existePorEmail(String email) {
+        return delegate.existePorEmail(email);
+    }
+
+    private Optional<Cliente> buscarPorDocumento(String chave, Predicate<Cliente> confere,
+                                                 Supplier<Optional<Cliente>> banco) {
+        boolean guardar = podeGuardar();
+        Cliente[] doBanco = new Cliente[1];
+        Optional<Long> id = cache.obter(chave, ID, () -> {
+            Optional<Cliente> cliente = banco.get();
+            cliente.ifPresent(encontrado -> doBanco[0] = encontrado);
+            return cliente.map(Cliente::getId);
+        }, guardar);
+        if (!id.isPresent()) {
+            return Optional.empty();
+        }
+        if (doBanco[0] != null) {
+            if (guardar) {
+                cache.gravar(chaveId(id.get()), CLIENTE.codificar(doBanco[0]));
+            }
+            return Optional.of(doBanco[0]);
+        }
+
+        Optional<Cliente> cliente = buscarPorId(id.get());
+        if (cliente.isPresent() && confere.test(cliente.get())) {
+            return cliente;
+        }
+        // Documento trocado ou cliente removido desde que a chave foi guardada
+        cache.invalidar(chave);
+        return banco.get();
+    }
+
+    private static boolean podeGuardar() {
+        return !ContextoRoteamento.isReplicaPermitida();
+    }
+
+    private static String chaveId(Long id) {
+        return "id:" + id;
+    }
+
+    private static final class CodificadorId extends Codificador<Long> {
+
+        @Override
+        protected void escrever(Long id, DataOutputStream saida) throws IOException {
+            saida.writeLong(id);
+        }
+
+        @Override
+        protected Long ler(DataInputStream entrada) throws IOException {
+            return entrada.readLong();
+        }
+    }
+
+    private static final class CodificadorCliente extends Codificador<Cliente> {
+
+        @Override
+        protected void escrever(Cliente cliente, DataOutputStream saida) throws IOException {
+            saida.writeLong(cliente.getId());
+            escreverTexto(cliente.getNome(), saida);
+            escreverTexto(cliente.getCpf() != null ? cliente.getCpf().getValor() : null, saida);
+            escreverTexto(cliente.getEmail() != null ? cliente.getEmail().getValor() : null, saida);
+            escreverTexto(cliente.getTelefone(), saida);
+            saida.writeBoolean(cliente.isAtivo());
+            saida.writeBoolean(cliente.isAceitaCampanhas());
+            saida.writeInt(cliente.getTotalPedidos());
+            escreverDataHora(cliente.getUltimoPedido(), saida);
+            escreverDataHora(cliente.getCriadoEm(), saida);
+            escreverDataHora(cliente.getAtualizadoEm(), saida);
+        }
+
+        @Override
+        protected Cliente ler(DataInputStream entrada) throws IOException {
+            Long id = entrada.readLong();
+            String nome = lerTexto(entrada);
+            String cpf = lerTexto(entrada);
+            String email = lerTexto(entrada);
+            return new Cliente(id, nome, cpf != null ? new CPF(cpf) : null, email != null ? new Email(email) : null,
+                               lerTexto(entrada), entrada.readBoolean(), entrada.readBoolean(), entrada.readInt(),
+                               lerDataHora(entrada), lerDataHora(entrada), lerDataHora(entrada));
+        }
+    }
+}
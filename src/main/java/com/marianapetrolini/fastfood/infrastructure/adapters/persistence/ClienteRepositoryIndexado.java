@@ -0,0 +1,82 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaClientes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorator do repositório de clientes que mantém o
+ * {@link IndiceBuscaClientes} atualizado a cada cliente salvo ou removido.
+ */
+public class ClienteRepositoryIndexado implements ClienteRepository {
+
+    private final ClienteRepository delegate;
+    private final IndiceBuscaClientes indice;
+
+    public ClienteRepositoryIndexado(ClienteRepository delegate, IndiceBuscaClientes indice) {
+        this.delegate = delegate;
+        this.indice = indice;
+    }
+
+    @Override
+    public Cliente salvar(Cliente cliente) {
+        Cliente salvo = delegate.salvar(cliente);
+        indice.indexar(salvo);
+        return salvo;
+    }
+
+    @Override
+    public void remover(Long id) {
+        delegate.remover(id);
+        indice.remover(id);
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorId(Long id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorCpf(String cpf) {
+        return delegate.buscarPorCpf(cpf);
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorEmail(String email) {
+        return delegate.buscarPorEmail(email);
+    }
+
+    @Override
+    public List<Cliente> buscarPorNome(String nome) {
+        return delegate.buscarPorNome(nome);
+    }
+
+    @Override
+    public List<Cliente> buscarTodos() {
+        return delegate.buscarTodos();
+    }
+
+    @Override
+    public List<Cliente> buscarAtualizadosDesde(LocalDateTime instante) {
+        return delegate.buscarAtualizadosDesde(instante);
+    }
+
+    @Override
+    public List<Cliente> buscarLoteAposId(Long aposId, int tamanho) {
+        return delegate.buscarLoteAposId(aposId, tamanho);
+    }
+
+    @Override
+    public boolean existePorCpf(String cpf) {
+        return delegate.existePorCpf(cpf);
+    }
+
+    @Override
+    public boolean existePorEmail(String email) {
+        return delegate.existePorEmail(email);
+    }
+}
@@ -0,0 +1,56 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Registro, compartilhado entre os pods, dos clientes removidos.
+ * A remoção apaga a linha do cliente, que some da atualização incremental por
+ * data de alteração; este registro permite que os demais pods também tirem o
+ * cliente do índice de sugestões. Gravado na transação da remoção, quando houver.
+ */
+@Component
+public class ClientesRemovidosAdapter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ClientesRemovidosAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Registra a remoção de um cliente.
+     *
+     * @param clienteId ID do cliente removido
+     * @param removidoEm Momento da remoção
+     */
+    public void registrar(Long clienteId, LocalDateTime removidoEm) {
+        jdbcTemplate.update("INSERT INTO clientes_removidos (cliente_id, removido_em) VALUES (?, ?)",
+                            clienteId, Timestamp.valueOf(removidoEm));
+    }
+
+    /**
+     * Busca os clientes removidos a partir de um momento.
+     *
+     * @param desde Momento inicial (inclusivo)
+     * @return IDs dos clientes removidos
+     */
+    public List<Long> buscarRemovidosDesde(LocalDateTime desde) {
+        return jdbcTemplate.queryForList("SELECT cliente_id FROM clientes_removidos WHERE removido_em >= ?",
+                                         Long.class, Timestamp.valueOf(desde));
+    }
+
+    /**
+     * Remove os registros de remoções anteriores ao limite.
+     *
+     * @param limite Registros anteriores a este momento são removidos
+     * @return Número de registros removidos
+     */
+    public int removerAnteriores(LocalDateTime limite) {
+        return jdbcTemplate.update("DELETE FROM clientes_removidos WHERE removido_em < ?", Timestamp.valueOf(limite));
+    }
+}
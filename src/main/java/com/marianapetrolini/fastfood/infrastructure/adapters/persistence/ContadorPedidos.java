@@ -0,0 +1,215 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contadores em memória de pedidos por status e por dia.
+ * Mantidos a cada checkout e mudança de status, sem locks, para que as
+ * consultas de contagem dos painéis não precisem ir ao banco.
+ * Periodicamente são reconciliados com as contagens reais do repositório.
+ */
+public class ContadorPedidos implements OuvintePedidoPort {
+
+    private static final StatusPedido[] STATUS = StatusPedido.values();
+
+    /**
+     * Bits reservados para a contagem diária; os bits superiores guardam o dia (epoch day).
+     */
+    private static final int BITS_CONTAGEM = 40;
+    private static final long MASCARA_CONTAGEM = (1L << BITS_CONTAGEM) - 1;
+
+    private final AtomicLongArray porStatus = new AtomicLongArray(STATUS.length);
+    private final AtomicLong diaEContagem = new AtomicLong();
+    private final Clock clock;
+
+    public ContadorPedidos() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public ContadorPedidos(Clock clock) {
+        this.clock = clock;
+        this.diaEContagem.set(empacotar(hoje(), 0));
+    }
+
+    @Override
+    public void pedidoCriado(Pedido pedido) {
+        porStatus.incrementAndGet(pedido.getStatus().ordinal());
+        if (isDeHoje(pedido)) {
+            somarHoje(1);
+        }
+    }
+
+    @Override
+    public void statusAlterado(Pedido pedido, StatusPedido statusAnterior) {
+        porStatus.decrementAndGet(statusAnterior.ordinal());
+        porStatus.incrementAndGet(pedido.getStatus().ordinal());
+    }
+
+    @Override
+    public void pedidoRemovido(Pedido pedido) {
+        porStatus.decrementAndGet(pedido.getStatus().ordinal());
+        if (isDeHoje(pedido)) {
+            somarHoje(-1);
+        }
+    }
+
+    /**
+     * Conta pedidos com o status informado.
+     *
+     * @param status Status dos pedidos
+     * @return Número de pedidos com o status
+     */
+    public long contarPorStatus(StatusPedido status) {
+        return Math.max(0, porStatus.get(status.ordinal()));
+    }
+
+    /**
+     * Conta pedidos ativos (não finalizados nem cancelados).
+     *
+     * @return Número de pedidos ativos
+     */
+    public long contarAtivos() {
+        long total = 0;
+        for (StatusPedido status : STATUS) {
+            if (!status.isEncerrado()) {
+                total += contarPorStatus(status);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Conta pedidos visíveis na cozinha.
+     *
+     * @return Número de pedidos na cozinha
+     */
+    public long contarNaCozinha() {
+        long total = 0;
+        for (StatusPedido status : STATUS) {
+            if (status.isVisivelNaCozinha()) {
+                total += contarPorStatus(status);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Conta pedidos criados hoje. A contagem é zerada na virada do dia.
+     *
+     * @return Número de pedidos de hoje
+     */
+    public long contarDeHoje() {
+        long atual = diaEContagem.get();
+        return dia(atual) == hoje() ? contagem(atual) : 0;
+    }
+
+    /**
+     * Retorna todas as contagens em uma única leitura.
+     *
+     * @return Contagens por status, ativos, cozinha e de hoje
+     */
+    public ContagemPedidos snapshot() {
+        Map<StatusPedido, Long> contagens = new EnumMap<>(StatusPedido.class);
+        for (StatusPedido status : STATUS) {
+            contagens.put(status, contarPorStatus(status));
+        }
+        return new ContagemPedidos(contagens, contarDeHoje());
+    }
+
+    /**
+     * Ajusta as contagens em memória às contagens reais do repositório.
+     * A correção é aplicada como diferença em relação ao valor lido antes da
+     * consulta, então as transições que chegam durante a consulta não se perdem.
+     *
+     * @param fonte Repositório consultado (não deve ser o próprio decorator)
+     */
+    public void reconciliar(PedidoRepository fonte) {
+        for (StatusPedido status : STATUS) {
+            long antes = porStatus.get(status.ordinal());
+            porStatus.addAndGet(status.ordinal(), fonte.contarPorStatus(status) - antes);
+        }
+        long dia = hoje();
+        long atual = diaEContagem.get();
+        long antesHoje = dia(atual) == dia ? contagem(atual) : 0;
+        somarHoje(fonte.contarDeHoje() - antesHoje);
+    }
+
+    private void somarHoje(long delta) {
+        long dia = hoje();
+        long atual;
+        long novo;
+        do {
+            atual = diaEContagem.get();
+            long base = dia(atual) == dia ? contagem(atual) : 0;
+            novo = empacotar(dia, Math.max(0, base + delta));
+        } while (!diaEContagem.compareAndSet(atual, novo));
+    }
+
+    private boolean isDeHoje(Pedido pedido) {
+        return pedido.getCriadoEm() != null
+            && pedido.getCriadoEm().toLocalDate().toEpochDay() == hoje();
+    }
+
+    private long hoje() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    private static long empacotar(long dia, long contagem) {
+        return (dia << BITS_CONTAGEM) | (contagem & MASCARA_CONTAGEM);
+    }
+
+    private static long dia(long empacotado) {
+        return empacotado >>> BITS_CONTAGEM;
+    }
+
+    private static long contagem(long empacotado) {
+        return empacotado & MASCARA_CONTAGEM;
+    }
+
+    /**
+     * Leitura consistente de todas as contagens de pedidos.
+     */
+    public static final class ContagemPedidos {
+
+        private final Map<StatusPedido, Long> porStatus;
+        private final long deHoje;
+
+        public ContagemPedidos(Map<StatusPedido, Long> porStatus, long deHoje) {
+            this.porStatus = Collections.unmodifiableMap(new EnumMap<>(porStatus));
+            this.deHoje = deHoje;
+        }
+
+        public Map<StatusPedido, Long> getPorStatus() {
+            return porStatus;
+        }
+
+        public long getDeHoje() {
+            return deHoje;
+        }
+
+        public long getAtivos() {
+            return porStatus.entrySet().stream()
+                .filter(e -> !e.getKey().isEncerrado())
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        }
+
+        public long getNaCozinha() {
+            return porStatus.entrySet().stream()
+                .filter(e -> e.getKey().isVisivelNaCozinha())
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+
+/**
+ * Repositório de pedidos que informa, na gravação, o status que o pedido
+ * tinha no banco, lido na mesma transação que o gravou. Usado pelo
+ * {@link PedidoRepositoryObservavel} para publicar as mudanças de status sem
+ * uma consulta extra e sem guardar esse dado no pedido.
+ */
+public interface GravacaoPedidos extends PedidoRepository {
+
+    /**
+     * Grava o pedido; os ids gerados são copiados para o próprio objeto.
+     *
+     * @param pedido Pedido a gravar
+     * @return Status gravado antes, ou null se a gravação criou o pedido
+     */
+    StatusPedido gravar(Pedido pedido);
+}
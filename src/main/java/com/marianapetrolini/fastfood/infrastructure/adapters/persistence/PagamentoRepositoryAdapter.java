@@ -0,0 +1,193 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Pagamento;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.repositories.PagamentoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.MetodoPagamento;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPagamento;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PagamentoJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PagamentoJpaRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter que implementa o repositório de pagamentos usando JPA.
+ * Na gravação de um pagamento novo o pedido entra apenas como referência
+ * e o id gerado é copiado para o próprio objeto de domínio.
+ */
+@Component
+public class PagamentoRepositoryAdapter implements PagamentoRepository {
+
+    private static final Set<StatusPagamento> STATUS_APROVADOS = EnumSet.of(StatusPagamento.APROVADO);
+    private static final Set<StatusPagamento> STATUS_NEGADOS = EnumSet.of(StatusPagamento.RECUSADO, StatusPagamento.CANCELADO);
+    private static final Set<StatusPagamento> STATUS_PENDENTES = EnumSet.of(StatusPagamento.PENDENTE, StatusPagamento.PROCESSANDO);
+
+    private final PagamentoJpaRepository jpaRepository;
+    private final PedidoJpaRepository pedidoJpaRepository;
+
+    public PagamentoRepositoryAdapter(PagamentoJpaRepository jpaRepository, PedidoJpaRepository pedidoJpaRepository) {
+        this.jpaRepository = jpaRepository;
+        this.pedidoJpaRepository = pedidoJpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public Pagamento salvar(Pagamento pagamento) {
+        PagamentoJpaEntity jpaEntity = pagamento.getId() != null
+            ? jpaRepository.findById(pagamento.getId()).orElse(null)
+            : null;
+
+        if (jpaEntity == null) {
+            jpaEntity = PagamentoJpaEntity.fromDomainEntity(pagamento,
+                pedidoJpaRepository.getReferenceById(pagamento.getPedido().getId()));
+        } else {
+            jpaEntity.updateFromDomainEntity(pagamento);
+        }
+
+        pagamento.setId(jpaRepository.save(jpaEntity).getId());
+        return pagamento;
+    }
+
+    @Override
+    public Optional<Pagamento> buscarPorId(Long id) {
+        return jpaRepository.buscarCompletoPorId(id)
+            .map(PagamentoJpaEntity::toDomainEntity);
+    }
+
+    @Override
+    public Optional<Pagamento> buscarPorPedido(Pedido pedido) {
+        return buscarPorPedidoId(pedido.getId());
+    }
+
+    @Override
+    public Optional<Pagamento> buscarPorPedidoId(Long pedidoId) {
+        return jpaRepository.buscarCompletosPorPedido(pedidoId).stream()
+            .findFirst()
+            .map(PagamentoJpaEntity::toDomainEntity);
+    }
+
+    @Override
+    public Optional<Pagamento> buscarPorTransacaoId(String transacaoId) {
+        return jpaRepository.buscarCompletoPorTransacao(transacaoId)
+            .map(PagamentoJpaEntity::toDomainEntity);
+    }
+
+    @Override
+    public List<Pagamento> buscarTodos() {
+        return paraDominio(jpaRepository.buscarTodosCompletos());
+    }
+
+    @Override
+    public List<Pagamento> buscarPorStatus(StatusPagamento status) {
+        return paraDominio(jpaRepository.buscarCompletosPorStatus(EnumSet.of(status)));
+    }
+
+    @Override
+    public List<Pagamento> buscarPorMetodo(MetodoPagamento metodo) {
+        return paraDominio(jpaRepository.buscarCompletosPorMetodo(metodo));
+    }
+
+    @Override
+    public List<Pagamento> buscarAprovados() {
+        return paraDominio(jpaRepository.buscarCompletosPorStatus(STATUS_APROVADOS));
+    }
+
+    @Override
+    public List<Pagamento> buscarNegados() {
+        return paraDominio(jpaRepository.buscarCompletosPorStatus(STATUS_NEGADOS));
+    }
+
+    @Override
+    public List<Pagamento> buscarPendentes() {
+        return paraDominio(jpaRepository.buscarCompletosPorStatus(STATUS_PENDENTES));
+    }
+
+    @Override
+    public List<Pagamento> buscarProcessadosNoPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        return paraDominio(jpaRepository.buscarCompletosProcessadosEntre(inicio, fim));
+    }
+
+    @Override
+    public List<Pagamento> buscarProcessadosNoPeriodo(Long lojaId, LocalDateTime inicio, LocalDateTime fim) {
+        return paraDominio(jpaRepository.buscarCompletosDaLojaProcessadosEntre(lojaId, inicio, fim));
+    }
+
+    @Override
+    public List<Pagamento> buscarDeHoje() {
+        LocalDateTime inicio = LocalDate.now().atStartOfDay();
+        return paraDominio(jpaRepository.buscarCompletosCriadosEntre(inicio, inicio.plusDays(1)));
+    }
+
+    @Override
+    public List<Pagamento> buscarDeHoje(Long lojaId) {
+        LocalDateTime inicio = LocalDate.now().atStartOfDay();
+        return paraDominio(jpaRepository.buscarCompletosDaLojaCriadosEntre(lojaId, inicio, inicio.plusDays(1)));
+    }
+
+    @Override
+    public List<Pagamento> buscarParaVerificacao(int minutosLimite) {
+        LocalDateTime limite = LocalDateTime.now().minusMinutes(minutosLimite);
+        return paraDominio(jpaRepository.buscarCompletosPorStatusCriadosAntesDe(STATUS_PENDENTES, limite));
+    }
+
+    @Override
+    public boolean remover(Long id) {
+        if (jpaRepository.existsById(id)) {
+            jpaRepository.deleteById(id);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long contar() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    public long contarPorStatus(StatusPagamento status) {
+        return jpaRepository.countByStatus(status);
+    }
+
+    @Override
+    public long contarPorMetodo(MetodoPagamento metodo) {
+        return jpaRepository.countByMetodo(metodo);
+    }
+
+    @Override
+    public long contarAprovados() {
+        return jpaRepository.countByStatusIn(STATUS_APROVADOS);
+    }
+
+    @Override
+    public long contarNegados() {
+        return jpaRepository.countByStatusIn(STATUS_NEGADOS);
+    }
+
+    @Override
+    public long contarPendentes() {
+        return jpaRepository.countByStatusIn(STATUS_PENDENTES);
+    }
+
+    @Override
+    public long contarDeHoje() {
+        LocalDateTime inicio = LocalDate.now().atStartOfDay();
+        return jpaRepository.countByCriadoEmGreaterThanEqualAndCriadoEmLessThan(inicio, inicio.plusDays(1));
+    }
+
+    private static List<Pagamento> paraDominio(Collection<PagamentoJpaEntity> entidades) {
+        return entidades.stream()
+            .map(PagamentoJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+}
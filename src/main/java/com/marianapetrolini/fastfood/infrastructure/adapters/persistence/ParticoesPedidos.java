@@ -0,0 +1,61 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.YearMonth;
+
+/**
+ * Cria com antecedência as partições mensais de pedidos e pagamentos de
+ * cada loja, pela função criar_particoes_loja da migração de
+ * particionamento do PostgreSQL. Em bancos sem a função (H2) não faz nada.
+ */
+@Component
+public class ParticoesPedidos {
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean disponivel;
+
+    public ParticoesPedidos(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Indica se o banco tem as tabelas particionadas.
+     *
+     * @return true se a função de criação de partições existe
+     */
+    public boolean isDisponivel() {
+        Boolean atual = disponivel;
+        if (atual == null) {
+            Integer funcoes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.routines WHERE LOWER(routine_name) = 'criar_particoes_loja'",
+                Integer.class);
+            atual = funcoes != null && funcoes > 0;
+            disponivel = atual;
+        }
+        return atual;
+    }
+
+    /**
+     * Garante as partições de todas as lojas do mês inicial até os meses seguintes.
+     * Partições já existentes são mantidas.
+     *
+     * @param inicio Primeiro mês
+     * @param mesesAFrente Número de meses após o inicial
+     * @return Número de meses garantidos, zero se o banco não é particionado
+     */
+    @Transactional
+    public int garantir(YearMonth inicio, int mesesAFrente) {
+        if (!isDisponivel()) {
+            return 0;
+        }
+        for (int i = 0; i <= mesesAFrente; i++) {
+            jdbcTemplate.queryForList("SELECT criar_particoes_loja(id, ?) FROM lojas",
+                                      Date.valueOf(inicio.plusMonths(i).atDay(1)));
+        }
+        return mesesAFrente + 1;
+    }
+}
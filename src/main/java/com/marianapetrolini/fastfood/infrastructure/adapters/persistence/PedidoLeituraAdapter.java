@@ -0,0 +1,356 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.application.ports.output.ConsultaPedidosPort;
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoLeituraJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoLeituraJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter do modelo de leitura de pedidos (CQRS).
+ * Projeta cada pedido gravado em uma linha desnormalizada e atende às
+ * listagens lendo essas linhas direto nos DTOs. A projeção roda depois do
+ * commit da gravação, em transação própria: uma falha nela não desfaz a
+ * gravação do pedido, só deixa a linha desatualizada até a próxima gravação
+ * ou reconstrução. A projeção trava a linha e não sobrescreve uma alteração
+ * mais nova do pedido, então projeções fora de ordem não fazem a linha
+ * regredir. Registra a defasagem entre a alteração do pedido e o commit da
+ * projeção e permite reconstruir o modelo inteiro a partir do repositório de
+ * pedidos, em lotes e por uma réplica de cada vez.
+ */
+@Component
+public class PedidoLeituraAdapter implements ConsultaPedidosPort, OuvintePedidoPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(PedidoLeituraAdapter.class);
+
+    private static final Set<StatusPedido> STATUS_ATIVOS = Arrays.stream(StatusPedido.values())
+        .filter(status -> !status.isEncerrado())
+        .collect(Collectors.toCollection(() -> EnumSet.noneOf(StatusPedido.class)));
+    private static final Set<StatusPedido> STATUS_COZINHA = Arrays.stream(StatusPedido.values())
+        .filter(StatusPedido::isVisivelNaCozinha)
+        .collect(Collectors.toCollection(() -> EnumSet.noneOf(StatusPedido.class)));
+
+    private static final String TAREFA_RECONSTRUCAO = "reconstrucao-leitura-pedidos";
+    private static final Duration PRAZO_TRAVA_RECONSTRUCAO = Duration.ofMinutes(5);
+    private static final int TAMANHO_LOTE_RECONSTRUCAO = 500;
+
+    private final PedidoLeituraJpaRepository jpaRepository;
+    private final TravasTarefasAdapter travasTarefas;
+    private final TransactionTemplate transacaoPropria;
+    private final Timer defasagem;
+    private final Counter falhas;
+    private final AtomicLong ultimaDefasagemMs = new AtomicLong();
+    private final AtomicReference<LocalDateTime> ultimaReconstrucao = new AtomicReference<>();
+
+    public PedidoLeituraAdapter(PedidoLeituraJpaRepository jpaRepository, TravasTarefasAdapter travasTarefas,
+                                PlatformTransactionManager transactionManager, MeterRegistry registry) {
+        this.jpaRepository = jpaRepository;
+        this.travasTarefas = travasTarefas;
+        this.transacaoPropria = new TransactionTemplate(transactionManager);
+        this.transacaoPropria.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.defasagem = Timer.builder("fastfood.leitura.pedidos.defasagem")
+            .description("Tempo entre a alteração do pedido e o commit da projeção no modelo de leitura")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        this.falhas = Counter.builder("fastfood.leitura.pedidos.falhas")
+            .description("Projeções do modelo de leitura que falharam")
+            .register(registry);
+        Gauge.builder("fastfood.leitura.pedidos.defasagem.ultima", ultimaDefasagemMs, AtomicLong::get)
+            .description("Defasagem da última projeção em milissegundos")
+            .baseUnit("milliseconds")
+            .register(registry);
+    }
+
+    @Override
+    public void pedidoCriado(Pedido pedido) {
+        aposCommit(() -> projetar(pedido));
+    }
+
+    @Override
+    public void statusAlterado(Pedido pedido, StatusPedido statusAnterior) {
+        aposCommit(() -> projetar(pedido));
+    }
+
+    @Override
+    public void pedidoRemovido(Pedido pedido) {
+        aposCommit(() -> remover(pedido));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoResponse> listarTodos() {
+        return paraPedidoResponse(jpaRepository.buscarTodosComItens());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoListaResponse> listarParaCozinha() {
+        return jpaRepository.findByStatusInOrderByPrioridadeAscCriadoEmAsc(STATUS_COZINHA).stream()
+            .map(PedidoLeituraJpaEntity::toPedidoListaResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoListaResponse> listarParaCozinha(Long lojaId) {
+        return jpaRepository.findByLojaIdAndStatusInOrderByPrioridadeAscCriadoEmAsc(lojaId, STATUS_COZINHA).stream()
+            .map(PedidoLeituraJpaEntity::toPedidoListaResponse)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoResponse> listarPorStatus(StatusPedido status) {
+        return paraPedidoResponse(jpaRepository.buscarPorStatusComItens(EnumSet.of(status)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoResponse> listarDoCliente(Long clienteId) {
+        return paraPedidoResponse(jpaRepository.buscarDoClienteComItens(clienteId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoResponse> listarAtivos() {
+        return paraPedidoResponse(jpaRepository.buscarPorStatusComItens(STATUS_ATIVOS));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PedidoResponse> listarDoDia(LocalDate data) {
+        return paraPedidoResponse(jpaRepository.buscarCriadosEntreComItens(
+            data.atStartOfDay(), data.plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * Reconstrói o modelo de leitura a partir do repositório de pedidos.
+     *
+     * @param fonte Repositório de pedidos (fonte da verdade)
+     * @return Número de pedidos projetados, ou -1 se outra réplica está reconstruindo
+     */
+    public int reconstruir(PedidoRepository fonte) {
+        return reconstruir(fonte, false);
+    }
+
+    /**
+     * Reconstrói o modelo de leitura a partir do repositório de pedidos.
+     * Percorre os pedidos em lotes por ID, cada lote em uma transação curta
+     * que trava as linhas do intervalo, projeta os pedidos do lote e remove as
+     * linhas de pedidos que não existem mais. As linhas continuam legíveis
+     * durante a reconstrução, e uma projeção concorrente mais nova é mantida.
+     * Só uma réplica reconstrói por vez.
+     *
+     * @param fonte Repositório de pedidos (fonte da verdade)
+     * @param somenteSeVazio Reconstrói só se o modelo estiver vazio depois de obter a trava
+     * @return Número de pedidos projetados, ou -1 se outra réplica está
+     *         reconstruindo ou o modelo já não está vazio
+     */
+    public int reconstruir(PedidoRepository fonte, boolean somenteSeVazio) {
+        if (!travasTarefas.adquirir(TAREFA_RECONSTRUCAO, PRAZO_TRAVA_RECONSTRUCAO)) {
+            logger.info("Modelo de leitura de pedidos sendo reconstruído por outra réplica");
+            return -1;
+        }
+        try {
+            if (somenteSeVazio && jpaRepository.count() > 0) {
+                return -1;
+            }
+            LocalDateTime inicio = LocalDateTime.now();
+            int projetados = 0;
+            Long aposId = 0L;
+            while (true) {
+                List<Pedido> lote = fonte.buscarLote(aposId, TAMANHO_LOTE_RECONSTRUCAO);
+                boolean ultimo = lote.size() < TAMANHO_LOTE_RECONSTRUCAO;
+                // O último lote cobre o resto do intervalo e remove as linhas que sobraram no fim
+                Long inicioLote = aposId;
+                Long fimLote = ultimo ? Long.MAX_VALUE : lote.get(lote.size() - 1).getId();
+                transacaoPropria.executeWithoutResult(status -> reconstruirLote(lote, inicioLote, fimLote));
+                projetados += lote.size();
+                if (ultimo) {
+                    break;
+                }
+                aposId = fimLote;
+                if (!travasTarefas.adquirir(TAREFA_RECONSTRUCAO, PRAZO_TRAVA_RECONSTRUCAO)) {
+                    throw new IllegalStateException("Trava da reconstrução do modelo de leitura perdida");
+                }
+            }
+            ultimaReconstrucao.set(inicio);
+            logger.info("Modelo de leitura de pedidos reconstruído com {} pedidos", projetados);
+            return projetados;
+        } finally {
+            travasTarefas.liberar(TAREFA_RECONSTRUCAO);
+        }
+    }
+
+    /**
+     * Retorna o número de linhas do modelo de leitura.
+     *
+     * @return Número de pedidos projetados
+     */
+    public long contarLinhas() {
+        return jpaRepository.count();
+    }
+
+    /**
+     * Retorna a defasagem da última projeção.
+     *
+     * @return Defasagem em milissegundos
+     */
+    public long getUltimaDefasagemMs() {
+        return ultimaDefasagemMs.get();
+    }
+
+    /**
+     * Retorna o número de projeções que falharam desde a subida da aplicação.
+     *
+     * @return Número de falhas
+     */
+    public long getFalhas() {
+        return (long) falhas.count();
+    }
+
+    /**
+     * Retorna o momento da última reconstrução.
+     *
+     * @return Momento da reconstrução ou null se nunca reconstruído
+     */
+    public LocalDateTime getUltimaReconstrucao() {
+        return ultimaReconstrucao.get();
+    }
+
+    /**
+     * Executa a ação depois do commit da transação corrente, ou na hora se não houver transação.
+     */
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    private void reconstruirLote(List<Pedido> lote, Long aposId, Long ate) {
+        LocalDateTime agora = LocalDateTime.now();
+        Map<Long, PedidoLeituraJpaEntity> existentes = jpaRepository.travarEntre(aposId, ate).stream()
+            .collect(Collectors.toMap(PedidoLeituraJpaEntity::getId, Function.identity()));
+        List<PedidoLeituraJpaEntity> linhas = new ArrayList<>();
+        for (Pedido pedido : lote) {
+            PedidoLeituraJpaEntity linha = existentes.remove(pedido.getId());
+            if (linha == null) {
+                linhas.add(PedidoLeituraJpaEntity.fromDomainEntity(pedido, agora));
+            } else if (linha.updateFromDomainEntity(pedido, agora)) {
+                linhas.add(linha);
+            }
+        }
+        if (!existentes.isEmpty()) {
+            // Pedidos removidos: itens e linhas saem em um comando cada
+            jpaRepository.removerItens(existentes.keySet());
+            jpaRepository.deleteAllByIdInBatch(existentes.keySet());
+        }
+        jpaRepository.saveAll(linhas);
+    }
+
+    private void projetar(Pedido pedido) {
+        if (pedido.getId() == null) {
+            return;
+        }
+        try {
+            try {
+                projetarTravado(pedido);
+            } catch (DataIntegrityViolationException e) {
+                // Outra projeção inseriu a linha ao mesmo tempo: agora ela existe e é travada
+                projetarTravado(pedido);
+            }
+            registrarDefasagem(pedido.getAtualizadoEm(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            // A linha fica desatualizada até a próxima gravação ou reconstrução
+            falhas.increment();
+            logger.warn("Falha ao projetar pedido {} no modelo de leitura: {}", pedido.getId(), e.getMessage());
+        }
+    }
+
+    private void projetarTravado(Pedido pedido) {
+        transacaoPropria.executeWithoutResult(status -> {
+            LocalDateTime agora = LocalDateTime.now();
+            Optional<PedidoLeituraJpaEntity> linha = jpaRepository.travarPorId(pedido.getId());
+            if (!linha.isPresent()) {
+                jpaRepository.save(PedidoLeituraJpaEntity.fromDomainEntity(pedido, agora));
+            } else if (linha.get().updateFromDomainEntity(pedido, agora)) {
+                jpaRepository.save(linha.get());
+            }
+        });
+    }
+
+    private void remover(Pedido pedido) {
+        if (pedido.getId() == null) {
+            return;
+        }
+        try {
+            transacaoPropria.executeWithoutResult(status -> {
+                if (jpaRepository.existsById(pedido.getId())) {
+                    jpaRepository.deleteById(pedido.getId());
+                }
+            });
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.warn("Falha ao remover pedido {} do modelo de leitura: {}", pedido.getId(), e.getMessage());
+        }
+    }
+
+    private void registrarDefasagem(LocalDateTime alteradoEm, LocalDateTime projetadoEm) {
+        if (alteradoEm == null) {
+            return;
+        }
+        // Inclui o restante da transação que gravou o pedido e o commit da projeção
+        Duration atraso = Duration.between(alteradoEm, projetadoEm);
+        if (atraso.isNegative()) {
+            atraso = Duration.ZERO;
+        }
+        defasagem.record(atraso);
+        ultimaDefasagemMs.set(atraso.toMillis());
+    }
+
+    private static List<PedidoResponse> paraPedidoResponse(List<PedidoLeituraJpaEntity> linhas) {
+        return linhas.stream()
+            .map(PedidoLeituraJpaEntity::toPedidoResponse)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,245 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ClienteJpaRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoJpaRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ProdutoJpaRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter que implementa o repositório de pedidos usando JPA.
+ * Na gravação de um pedido novo, cliente e produtos entram apenas como
+ * referências (sem consulta) e os ids gerados são copiados para o próprio
+ * objeto de domínio, que é devolvido sem ser recarregado do banco.
+ * Na atualização, o status lido do banco na mesma transação é devolvido por
+ * {@link #gravar(Pedido)}, e a versão da linha impede que duas gravações
+ * concorrentes partam do mesmo status. Leitura e UPDATE usam a chave completa
+ * do pedido ({@link ChavePedido}), e não só o id, para ler uma partição só.
+ * As buscas por loja usam consultas próprias, filtradas pela chave de
+ * partição, em vez de filtrar em memória o resultado de todas as lojas.
+ */
+@Component
+public class PedidoRepositoryAdapter implements GravacaoPedidos {
+
+    private static final Set<StatusPedido> STATUS_ATIVOS = Arrays.stream(StatusPedido.values())
+        .filter(status -> !status.isEncerrado())
+        .collect(Collectors.toCollection(() -> EnumSet.noneOf(StatusPedido.class)));
+    private static final Set<StatusPedido> STATUS_COZINHA = Arrays.stream(StatusPedido.values())
+        .filter(StatusPedido::isVisivelNaCozinha)
+        .collect(Collectors.toCollection(() -> EnumSet.noneOf(StatusPedido.class)));
+
+    private final PedidoJpaRepository jpaRepository;
+    private final ClienteJpaRepository clienteJpaRepository;
+    private final ProdutoJpaRepository produtoJpaRepository;
+
+    public PedidoRepositoryAdapter(PedidoJpaRepository jpaRepository,
+                                   ClienteJpaRepository clienteJpaRepository,
+                                   ProdutoJpaRepository produtoJpaRepository) {
+        this.jpaRepository = jpaRepository;
+        this.clienteJpaRepository = clienteJpaRepository;
+        this.produtoJpaRepository = produtoJpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public Pedido salvar(Pedido pedido) {
+        gravar(pedido);
+        return pedido;
+    }
+
+    @Override
+    @Transactional
+    public StatusPedido gravar(Pedido pedido) {
+        PedidoJpaEntity jpaEntity = pedido.getId() != null ? buscarParaGravar(pedido) : null;
+
+        if (jpaEntity == null) {
+            jpaEntity = PedidoJpaEntity.fromDomainEntity(pedido,
+                clienteJpaRepository.getReferenceById(pedido.getCliente().getId()),
+                produtoJpaRepository::getReferenceById);
+            jpaRepository.save(jpaEntity).atribuirIds(pedido);
+            return null;
+        }
+
+        StatusPedido statusNoBanco = jpaEntity.getStatus();
+        jpaEntity.atualizarItens(pedido, produtoJpaRepository::getReferenceById);
+        // O UPDATE confere a versão lida acima; uma gravação concorrente falha
+        // nesta chamada, antes de a mudança de status ser publicada
+        int gravados = jpaRepository.atualizarEstado(jpaEntity.getLojaId(), jpaEntity.getCriadoEm(),
+            jpaEntity.getId(), jpaEntity.getVersao(), pedido.getStatus(), pedido.getValorTotal(),
+            pedido.getAtualizadoEm(), pedido.getIniciadoPreparacaoEm(), pedido.getProntoEm(),
+            pedido.getFinalizadoEm());
+        if (gravados == 0) {
+            throw new ObjectOptimisticLockingFailureException(PedidoJpaEntity.class, pedido.getId());
+        }
+        jpaEntity.atribuirIds(pedido);
+        return statusNoBanco;
+    }
+
+    /**
+     * Lê o pedido pela chave completa; só o pedido sem loja ou data de criação
+     * (ou com uma data que não é a gravada) cai na busca por id, que consulta
+     * todas as partições.
+     */
+    private PedidoJpaEntity buscarParaGravar(Pedido pedido) {
+        ChavePedido chave = ChavePedido.de(pedido);
+        Optional<PedidoJpaEntity> linha = chave.isCompleta()
+            ? jpaRepository.buscarPorChave(chave.getLojaId(), chave.getCriadoEm(), chave.getId())
+            : Optional.empty();
+        return linha.orElseGet(() -> jpaRepository.findById(pedido.getId()).orElse(null));
+    }
+
+    @Override
+    public Optional<Pedido> buscarPorId(Long id) {
+        return jpaRepository.buscarCompletoPorId(id)
+            .map(PedidoJpaEntity::toDomainEntity);
+    }
+
+    @Override
+    public List<Pedido> buscarTodos() {
+        return paraDominio(jpaRepository.buscarTodosCompletos());
+    }
+
+    @Override
+    public List<Pedido> buscarLote(Long aposId, int limite) {
+        List<Long> ids = jpaRepository.buscarIdsApos(aposId, PageRequest.of(0, limite));
+        return ids.isEmpty() ? Collections.emptyList() : paraDominio(jpaRepository.buscarCompletosPorIds(ids));
+    }
+
+    @Override
+    public List<Pedido> buscarPorStatus(StatusPedido status) {
+        return paraDominio(jpaRepository.buscarCompletosPorStatus(EnumSet.of(status)));
+    }
+
+    @Override
+    public List<Pedido> buscarPorCliente(Cliente cliente) {
+        return buscarPorClienteId(cliente.getId());
+    }
+
+    @Override
+    public List<Pedido> buscarPorClienteId(Long clienteId) {
+        return paraDominio(jpaRepository.buscarCompletosPorCliente(clienteId));
+    }
+
+    @Override
+    public List<Pedido> buscarParaCozinha() {
+        return ordenarParaCozinha(jpaRepository.buscarCompletosPorStatus(STATUS_COZINHA));
+    }
+
+    @Override
+    public List<Pedido> buscarParaCozinha(Long lojaId) {
+        return ordenarParaCozinha(jpaRepository.buscarCompletosDaLojaPorStatus(lojaId, STATUS_COZINHA));
+    }
+
+    @Override
+    public List<Pedido> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        return paraDominio(jpaRepository.buscarCompletosCriadosEntre(inicio, fim));
+    }
+
+    @Override
+    public List<Pedido> buscarPorPeriodo(Long lojaId, LocalDateTime inicio, LocalDateTime fim) {
+        return paraDominio(jpaRepository.buscarCompletosDaLojaCriadosEntre(lojaId, inicio, fim));
+    }
+
+    @Override
+    public List<Pedido> buscarDeHoje() {
+        LocalDateTime inicio = LocalDate.now().atStartOfDay();
+        return buscarPorPeriodo(inicio, inicio.plusDays(1));
+    }
+
+    @Override
+    public List<Pedido> buscarAtivos() {
+        return paraDominio(jpaRepository.buscarCompletosPorStatus(STATUS_ATIVOS));
+    }
+
+    @Override
+    public List<Pedido> buscarFinalizados() {
+        return buscarPorStatus(StatusPedido.FINALIZADO);
+    }
+
+    @Override
+    public List<Pedido> buscarEmPreparacao() {
+        return buscarPorStatus(StatusPedido.EM_PREPARACAO);
+    }
+
+    @Override
+    public List<Pedido> buscarProntos() {
+        return buscarPorStatus(StatusPedido.PRONTO);
+    }
+
+    @Override
+    public List<Pedido> buscarRecebidos() {
+        return buscarPorStatus(StatusPedido.RECEBIDO);
+    }
+
+    @Override
+    public boolean remover(Long id) {
+        if (jpaRepository.existsById(id)) {
+            jpaRepository.deleteById(id);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long contar() {
+        return jpaRepository.count();
+    }
+
+    @Override
+    public long contarPorStatus(StatusPedido status) {
+        return jpaRepository.countByStatus(status);
+    }
+
+    @Override
+    public long contarPorCliente(Cliente cliente) {
+        return jpaRepository.countByClienteId(cliente.getId());
+    }
+
+    @Override
+    public long contarDeHoje() {
+        LocalDateTime inicio = LocalDate.now().atStartOfDay();
+        return jpaRepository.countByCriadoEmGreaterThanEqualAndCriadoEmLessThan(inicio, inicio.plusDays(1));
+    }
+
+    @Override
+    public long contarAtivos() {
+        return jpaRepository.countByStatusIn(STATUS_ATIVOS);
+    }
+
+    @Override
+    public long contarNaCozinha() {
+        return jpaRepository.countByStatusIn(STATUS_COZINHA);
+    }
+
+    private static List<Pedido> ordenarParaCozinha(Collection<PedidoJpaEntity> entidades) {
+        return entidades.stream()
+            .map(PedidoJpaEntity::toDomainEntity)
+            .sorted(Comparator.comparingInt(Pedido::getPrioridadeCozinha)
+                .thenComparing(Pedido::getCriadoEm))
+            .collect(Collectors.toList());
+    }
+
+    private static List<Pedido> paraDominio(Collection<PedidoJpaEntity> entidades) {
+        return entidades.stream()
+            .map(PedidoJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,245 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Decorator do repositório de pedidos que publica os eventos de checkout e
+ * de mudança de status para os {@link OuvintePedidoPort} registrados e
+ * responde às contagens a partir do {@link ContadorPedidos} em memória.
+ * O status anterior de cada gravação vem do próprio repositório
+ * ({@link GravacaoPedidos#gravar(Pedido)}), lido na transação da gravação.
+ * Dentro de uma transação, os contadores só mudam depois do commit: uma
+ * gravação desfeita não altera as contagens.
+ */
+public class PedidoRepositoryObservavel implements GravacaoPedidos {
+
+    private static final Logger logger = LoggerFactory.getLogger(PedidoRepositoryObservavel.class);
+
+    private final GravacaoPedidos delegate;
+    private final ContadorPedidos contador;
+    private final Supplier<List<OuvintePedidoPort>> ouvintes;
+
+    public PedidoRepositoryObservavel(GravacaoPedidos delegate, ContadorPedidos contador,
+                                     Supplier<List<OuvintePedidoPort>> ouvintes) {
+        this.delegate = delegate;
+        this.contador = contador;
+        this.ouvintes = ouvintes;
+    }
+
+    @Override
+    public Pedido salvar(Pedido pedido) {
+        gravar(pedido);
+        return pedido;
+    }
+
+    @Override
+    public StatusPedido gravar(Pedido pedido) {
+        boolean novo = pedido.getId() == null;
+        // Status anterior lido pelo adapter na própria transação da gravação
+        StatusPedido statusAnterior = delegate.gravar(pedido);
+        if (novo) {
+            notificar(ouvinte -> ouvinte.pedidoCriado(pedido));
+        } else if (statusAnterior != null && statusAnterior != pedido.getStatus()) {
+            notificar(ouvinte -> ouvinte.statusAlterado(pedido, statusAnterior));
+        }
+        return statusAnterior;
+    }
+
+    @Override
+    public boolean remover(Long id) {
+        Optional<Pedido> pedido = delegate.buscarPorId(id);
+        boolean removido = delegate.remover(id);
+        if (removido && pedido.isPresent()) {
+            notificar(ouvinte -> ouvinte.pedidoRemovido(pedido.get()));
+        }
+        return removido;
+    }
+
+    @Override
+    public long contarPorStatus(StatusPedido status) {
+        return contador.contarPorStatus(status);
+    }
+
+    @Override
+    public Map<StatusPedido, Long> contarPorTodosStatus() {
+        return contador.snapshot().getPorStatus();
+    }
+
+    @Override
+    public long contarDeHoje() {
+        return contador.contarDeHoje();
+    }
+
+    @Override
+    public long contarAtivos() {
+        return contador.contarAtivos();
+    }
+
+    @Override
+    public long contarNaCozinha() {
+        return contador.contarNaCozinha();
+    }
+
+    /**
+     * Conta no banco, sem os contadores em memória, os pedidos ativos.
+     *
+     * @return Número de pedidos ativos
+     */
+    public long contarAtivosNoBanco() {
+        return delegate.contarAtivos();
+    }
+
+    /**
+     * Conta no banco, sem os contadores em memória, os pedidos na cozinha.
+     *
+     * @return Número de pedidos visíveis na cozinha
+     */
+    public long contarNaCozinhaNoBanco() {
+        return delegate.contarNaCozinha();
+    }
+
+    /**
+     * Reconcilia os contadores em memória com as contagens do banco.
+     */
+    public void reconciliarContadores() {
+        contador.reconciliar(delegate);
+    }
+
+    private void notificar(Consumer<OuvintePedidoPort> evento) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    contar(evento);
+                }
+            });
+        } else {
+            contar(evento);
+        }
+        for (OuvintePedidoPort ouvinte : ouvintes.get()) {
+            if (ouvinte == contador) {
+                continue;
+            }
+            try {
+                evento.accept(ouvinte);
+            } catch (RuntimeException e) {
+                logger.error("Erro ao notificar ouvinte de pedidos {}: {}",
+                             ouvinte.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void contar(Consumer<OuvintePedidoPort> evento) {
+        try {
+            evento.accept(contador);
+        } catch (RuntimeException e) {
+            logger.error("Erro ao atualizar contadores de pedidos: {}", e.getMessage(), e);
+        }
+    }
+
+    // Operações apenas delegadas
+
+    @Override
+    public Optional<Pedido> buscarPorId(Long id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public List<Pedido> buscarTodos() {
+        return delegate.buscarTodos();
+    }
+
+    @Override
+    public List<Pedido> buscarLote(Long aposId, int limite) {
+        return delegate.buscarLote(aposId, limite);
+    }
+
+    @Override
+    public List<Pedido> buscarPorStatus(StatusPedido status) {
+        return delegate.buscarPorStatus(status);
+    }
+
+    @Override
+    public List<Pedido> buscarPorCliente(Cliente cliente) {
+        return delegate.buscarPorCliente(cliente);
+    }
+
+    @Override
+    public List<Pedido> buscarPorClienteId(Long clienteId) {
+        return delegate.buscarPorClienteId(clienteId);
+    }
+
+    @Override
+    public List<Pedido> buscarParaCozinha() {
+        return delegate.buscarParaCozinha();
+    }
+
+    @Override
+    public List<Pedido> buscarParaCozinha(Long lojaId) {
+        return delegate.buscarParaCozinha(lojaId);
+    }
+
+    @Override
+    public List<Pedido> buscarPorPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        return delegate.buscarPorPeriodo(inicio, fim);
+    }
+
+    @Override
+    public List<Pedido> buscarPorPeriodo(Long lojaId, LocalDateTime inicio, LocalDateTime fim) {
+        return delegate.buscarPorPeriodo(lojaId, inicio, fim);
+    }
+
+    @Override
+    public List<Pedido> buscarDeHoje() {
+        return delegate.buscarDeHoje();
+    }
+
+    @Override
+    public List<Pedido> buscarAtivos() {
+        return delegate.buscarAtivos();
+    }
+
+    @Override
+    public List<Pedido> buscarFinalizados() {
+        return delegate.buscarFinalizados();
+    }
+
+    @Override
+    public List<Pedido> buscarEmPreparacao() {
+        return delegate.buscarEmPreparacao();
+    }
+
+    @Override
+    public List<Pedido> buscarProntos() {
+        return delegate.buscarProntos();
+    }
+
+    @Override
+    public List<Pedido> buscarRecebidos() {
+        return delegate.buscarRecebidos();
+    }
+
+    @Override
+    public long contar() {
+        return delegate.contar();
+    }
+
+    @Override
+    public long contarPorCliente(Cliente cliente) {
+        return delegate.contarPorCliente(cliente);
+    }
+}
@@ -6,9 +6,14 @@ import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
 import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ProdutoJpaEntity;
 import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ProdutoJpaRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +47,46 @@ public class ProdutoRepositoryAdapter implements ProdutoRepository {
         return savedEntity.toDomainEntity();
     }
     
+    /**
+     * Os existentes são carregados em uma única consulta e todos os INSERTs e
+     * UPDATEs saem em lotes JDBC (hibernate.jdbc.batch_size) na mesma transação.
+     */
+    @Override
+    @Transactional
+    public List<Produto> salvarTodos(List<Produto> produtos) {
+        List<Long> ids = produtos.stream()
+            .map(Produto::getId)
+            .filter(id -> id != null)
+            .collect(Collectors.toList());
+        Map<Long, ProdutoJpaEntity> existentes = jpaRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(ProdutoJpaEntity::getId, Function.identity()));
+        
+        List<ProdutoJpaEntity> entidades = new ArrayList<>(produtos.size());
+        for (Produto produto : produtos) {
+            ProdutoJpaEntity jpaEntity = produto.getId() != null ? existentes.get(produto.getId()) : null;
+            if (jpaEntity == null) {
+                jpaEntity = ProdutoJpaEntity.fromDomainEntity(produto);
+            } else {
+                jpaEntity.updateFromDomainEntity(produto);
+            }
+            entidades.add(jpaEntity);
+        }
+        
+        return jpaRepository.saveAll(entidades).stream()
+            .map(ProdutoJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Produto> buscarPorNomes(Collection<String> nomes) {
+        if (nomes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jpaRepository.findByNomeIn(nomes).stream()
+            .map(ProdutoJpaEntity::toDomainEntity)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     public Optional<Produto> buscarPorId(Long id) {
         return jpaRepository.findById(id)
@@ -0,0 +1,143 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.repositories.ProdutoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheDoisNiveis;
+import com.marianapetrolini.fastfood.infrastructure.cache.Codificador;
+import com.marianapetrolini.fastfood.infrastructure.replica.ContextoRoteamento;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorator do repositório de produtos que atende a busca por id (itens do
+ * checkout e detalhe do cardápio) a partir do {@link CacheDoisNiveis}.
+ * Gravar, gravar em lote ou remover um produto invalida a chave em todos os pods.
+ * Valores lidos com a réplica permitida ({@link ContextoRoteamento}) não são guardados.
+ */
+public class ProdutoRepositoryCache implements ProdutoRepository {
+
+    private static final Codificador<Produto> PRODUTO = new CodificadorProduto();
+
+    private final ProdutoRepository delegate;
+    private final CacheDoisNiveis cache;
+
+    public ProdutoRepositoryCache(ProdutoRepository delegate, CacheDoisNiveis cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Produto salvar(Produto produto) {
+        Produto salvo = delegate.salvar(produto);
+        cache.invalidar(chave(salvo.getId()));
+        return salvo;
+    }
+
+    @Override
+    public List<Produto> salvarTodos(List<Produto> produtos) {
+        List<Produto> salvos = delegate.salvarTodos(produtos);
+        for (Produto salvo : salvos) {
+            cache.invalidar(chave(salvo.getId()));
+        }
+        return salvos;
+    }
+
+    @Override
+    public boolean remover(Long id) {
+        boolean removido = delegate.remover(id);
+        cache.invalidar(chave(id));
+        return removido;
+    }
+
+    @Override
+    public Optional<Produto> buscarPorId(Long id) {
+        return cache.obter(chave(id), PRODUTO, () -> delegate.buscarPorId(id), !ContextoRoteamento.isReplicaPermitida());
+    }
+
+    @Override
+    public List<Produto> buscarTodos() {
+        return delegate.buscarTodos();
+    }
+
+    @Override
+    public List<Produto> buscarPorCategoria(CategoriaProduto categoria) {
+        return delegate.buscarPorCategoria(categoria);
+    }
+
+    @Override
+    public List<Produto> buscarDisponiveis() {
+        return delegate.buscarDisponiveis();
+    }
+
+    @Override
+    public List<Produto> buscarDisponiveisPorCategoria(CategoriaProduto categoria) {
+        return delegate.buscarDisponiveisPorCategoria(categoria);
+    }
+
+    @Override
+    public List<Produto> buscarPorNomes(Collection<String> nomes) {
+        return delegate.buscarPorNomes(nomes);
+    }
+
+    @Override
+    public List<Produto> buscarPorNome(String nome) {
+        return delegate.buscarPorNome(nome);
+    }
+
+    @Override
+    public boolean existePorNome(String nome) {
+        return delegate.existePorNome(nome);
+    }
+
+    @Override
+    public boolean existePorNomeExcluindoId(String nome, Long idExcluir) {
+        return delegate.existePorNomeExcluindoId(nome, idExcluir);
+    }
+
+    @Override
+    public long contar() {
+        return delegate.contar();
+    }
+
+    @Override
+    public long contarPorCategoria(CategoriaProduto categoria) {
+        return delegate.contarPorCategoria(categoria);
+    }
+
+    @Override
+    public long contarDisponiveis() {
+        return delegate.contarDisponiveis();
+    }
+
+    private static String chave(Long id) {
+        return "id:" + id;
+    }
+
+    private static final class CodificadorProduto extends Codificador<Produto> {
+
+        @Override
+        protected void escrever(Produto produto, DataOutputStream saida) throws IOException {
+            saida.writeLong(produto.getId());
+            escreverTexto(produto.getNome(), saida);
+            escreverTexto(produto.getDescricao(), saida);
+            escreverDecimal(produto.getPreco(), saida);
+            saida.writeUTF(produto.getCategoria().name());
+            saida.writeBoolean(produto.isDisponivel());
+            escreverDataHora(produto.getCriadoEm(), saida);
+            escreverDataHora(produto.getAtualizadoEm(), saida);
+        }
+
+        @Override
+        protected Produto ler(DataInputStream entrada) throws IOException {
+            return new Produto(entrada.readLong(), lerTexto(entrada), lerTexto(entrada), lerDecimal(entrada),
+                               CategoriaProduto.valueOf(entrada.readUTF()), entrada.readBoolean(),
+                               lerDataHora(entrada), lerDataHora(entrada));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.repositories.ProdutoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaProdutos;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decorator do repositório de produtos que responde à busca por nome a
+ * partir do {@link IndiceBuscaProdutos} em memória. O índice é carregado
+ * na primeira busca e atualizado a cada produto salvo ou removido; uma
+ * gravação em lote apenas invalida o índice, que é recarregado uma vez na
+ * busca seguinte. Gravações de outros pods chegam pela recarga periódica
+ * (BuscaProdutosConfig).
+ */
+public class ProdutoRepositoryIndexado implements ProdutoRepository {
+
+    private final ProdutoRepository delegate;
+    private final IndiceBuscaProdutos indice;
+
+    public ProdutoRepositoryIndexado(ProdutoRepository delegate, IndiceBuscaProdutos indice) {
+        this.delegate = delegate;
+        this.indice = indice;
+    }
+
+    @Override
+    public Produto salvar(Produto produto) {
+        Produto salvo = delegate.salvar(produto);
+        indice.indexar(salvo);
+        return salvo;
+    }
+
+    @Override
+    public List<Produto> salvarTodos(List<Produto> produtos) {
+        List<Produto> salvos = delegate.salvarTodos(produtos);
+        indice.invalidar();
+        return salvos;
+    }
+
+    @Override
+    public boolean remover(Long id) {
+        boolean removido = delegate.remover(id);
+        if (removido) {
+            indice.remover(id);
+        }
+        return removido;
+    }
+
+    @Override
+    public List<Produto> buscarPorNome(String nome) {
+        indice.garantirCarregado(delegate::buscarTodos);
+        return indice.buscar(nome);
+    }
+
+    @Override
+    public List<Produto> buscarPorNomes(Collection<String> nomes) {
+        return delegate.buscarPorNomes(nomes);
+    }
+
+    @Override
+    public Optional<Produto> buscarPorId(Long id) {
+        return delegate.buscarPorId(id);
+    }
+
+    @Override
+    public List<Produto> buscarTodos() {
+        return delegate.buscarTodos();
+    }
+
+    @Override
+    public List<Produto> buscarPorCategoria(CategoriaProduto categoria) {
+        return delegate.buscarPorCategoria(categoria);
+    }
+
+    @Override
+    public List<Produto> buscarDisponiveis() {
+        return delegate.buscarDisponiveis();
+    }
+
+    @Override
+    public List<Produto> buscarDisponiveisPorCategoria(CategoriaProduto categoria) {
+        return delegate.buscarDisponiveisPorCategoria(categoria);
+    }
+
+    @Override
+    public boolean existePorNome(String nome) {
+        return delegate.existePorNome(nome);
+    }
+
+    @Override
+    public boolean existePorNomeExcluindoId(String nome, Long idExcluir) {
+        return delegate.existePorNomeExcluindoId(nome, idExcluir);
+    }
+
+    @Override
+    public long contar() {
+        return delegate.contar();
+    }
+
+    @Override
+    public long contarPorCategoria(CategoriaProduto categoria) {
+        return delegate.contarPorCategoria(categoria);
+    }
+
+    @Override
+    public long contarDisponiveis() {
+        return delegate.contarDisponiveis();
+    }
+}
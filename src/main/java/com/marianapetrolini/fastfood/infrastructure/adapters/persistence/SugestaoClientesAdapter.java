@@ -0,0 +1,144 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteSugestaoResponse;
+import com.marianapetrolini.fastfood.application.ports.output.SugestaoClientesPort;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaClientes;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adapter das sugestões de clientes sobre o {@link IndiceBuscaClientes}.
+ * O índice é carregado com todos os clientes no primeiro uso, lidos em lotes
+ * por ID para não manter todas as entidades em memória ao mesmo tempo; depois
+ * disso o {@link ClienteRepositoryIndexado} o mantém atualizado com as
+ * gravações deste pod e {@link #atualizar()} traz as dos demais pods,
+ * inclusive as remoções registradas em {@link ClientesRemovidosAdapter}.
+ * Enquanto a carga roda em segundo plano, as sugestões voltam vazias em vez
+ * de segurar a requisição até o fim dela.
+ */
+@Component
+public class SugestaoClientesAdapter implements SugestaoClientesPort {
+
+    /**
+     * Margem sobre a última atualização lida: cobre transações que gravaram
+     * antes e confirmaram depois da consulta anterior, e relógios defasados entre os pods.
+     */
+    private static final Duration MARGEM = Duration.ofMinutes(1);
+    private static final int TAMANHO_LOTE = 5_000;
+
+    private final IndiceBuscaClientes indice;
+    private final ObjectProvider<ClienteRepository> clienteRepository;
+    private final ClientesRemovidosAdapter removidos;
+    private final AtomicBoolean carregando = new AtomicBoolean();
+    private volatile LocalDateTime atualizadoAte;
+
+    public SugestaoClientesAdapter(IndiceBuscaClientes indice, ObjectProvider<ClienteRepository> clienteRepository,
+                                   ClientesRemovidosAdapter removidos) {
+        this.indice = indice;
+        this.clienteRepository = clienteRepository;
+        this.removidos = removidos;
+    }
+
+    @Override
+    public List<ClienteSugestaoResponse> sugerir(String termo, int limite) {
+        if (!indice.isCarregado() && carregando.get()) {
+            return Collections.emptyList();
+        }
+        carregar();
+        return indice.sugerir(termo, limite);
+    }
+
+    /**
+     * Carrega o índice a partir do repositório, se ainda não foi carregado.
+     */
+    public void carregar() {
+        if (indice.isCarregado()) {
+            return;
+        }
+        carregando.set(true);
+        try {
+            indice.garantirCarregado(() -> {
+                atualizadoAte = LocalDateTime.now();
+                ClienteRepository repository = clienteRepository.getObject();
+                return () -> new ClientesEmLotes(repository);
+            });
+        } finally {
+            carregando.set(false);
+        }
+    }
+
+    /**
+     * Reindexa os clientes criados ou alterados desde a última leitura,
+     * inclusive por outros pods, e tira do índice os removidos no mesmo
+     * período. Não faz nada se o índice ainda não foi carregado.
+     *
+     * @return Número de clientes reindexados ou removidos
+     */
+    public int atualizar() {
+        LocalDateTime desde = atualizadoAte;
+        if (!indice.isCarregado() || desde == null) {
+            return 0;
+        }
+        LocalDateTime inicio = LocalDateTime.now();
+        List<Cliente> alterados = clienteRepository.getObject().buscarAtualizadosDesde(desde.minus(MARGEM));
+        for (Cliente cliente : alterados) {
+            indice.indexar(cliente);
+        }
+        List<Long> removidosDesde = removidos.buscarRemovidosDesde(desde.minus(MARGEM));
+        for (Long id : removidosDesde) {
+            indice.remover(id);
+        }
+        atualizadoAte = inicio;
+        return alterados.size() + removidosDesde.size();
+    }
+
+    /**
+     * Percorre todos os clientes em lotes de {@value #TAMANHO_LOTE}, pedindo o lote seguinte só ao terminar o atual.
+     */
+    private static final class ClientesEmLotes implements Iterator<Cliente> {
+
+        private final ClienteRepository repository;
+        private List<Cliente> lote = Collections.emptyList();
+        private int posicao;
+        private long ultimoId;
+        private boolean fim;
+
+        ClientesEmLotes(ClienteRepository repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (posicao < lote.size()) {
+                return true;
+            }
+            if (fim) {
+                return false;
+            }
+            lote = repository.buscarLoteAposId(ultimoId, TAMANHO_LOTE);
+            posicao = 0;
+            fim = lote.size() < TAMANHO_LOTE;
+            return !lote.isEmpty();
+        }
+
+        @Override
+        public Cliente next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Cliente cliente = lote.get(posicao++);
+            ultimoId = cliente.getId();
+            return cliente;
+        }
+    }
+}
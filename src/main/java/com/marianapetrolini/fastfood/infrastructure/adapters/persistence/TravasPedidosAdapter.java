@@ -0,0 +1,43 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PagamentoJpaRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Travas de linha usadas por tarefas que rodam em todas as réplicas, como a
+ * expiração de pedidos: a réplica que trava o pedido é a única que o trata
+ * nesta execução. As travas valem até o fim da transação do chamador.
+ * O pedido é travado pela chave completa, e os pagamentos pela loja e pelo
+ * pedido, para ler só as partições da loja.
+ */
+@Component
+public class TravasPedidosAdapter {
+
+    private final PedidoJpaRepository pedidoJpaRepository;
+    private final PagamentoJpaRepository pagamentoJpaRepository;
+
+    public TravasPedidosAdapter(PedidoJpaRepository pedidoJpaRepository,
+                                PagamentoJpaRepository pagamentoJpaRepository) {
+        this.pedidoJpaRepository = pedidoJpaRepository;
+        this.pagamentoJpaRepository = pagamentoJpaRepository;
+    }
+
+    /**
+     * Trava o pedido e os seus pagamentos.
+     *
+     * @param chave Chave completa do pedido
+     * @return false se o pedido não existe ou já está travado por outra transação
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean travarPedido(ChavePedido chave) {
+        if (!pedidoJpaRepository.travarPorChave(chave.getLojaId(), chave.getCriadoEm(), chave.getId()).isPresent()) {
+            return false;
+        }
+        // Sempre o pedido antes do pagamento
+        pagamentoJpaRepository.travarPorPedido(chave.getLojaId(), chave.getId());
+        return true;
+    }
+}
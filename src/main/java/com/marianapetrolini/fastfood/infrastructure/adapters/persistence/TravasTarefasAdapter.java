@@ -0,0 +1,62 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Travas, compartilhadas entre os pods, de tarefas que só uma réplica deve
+ * executar por vez. Cada trava é uma linha arrendada por um prazo: o dono a
+ * renova enquanto trabalha, e se o pod morrer outra réplica a assume depois
+ * do vencimento. Cada comando roda sozinho (fora de transação), então a trava
+ * não segura linhas durante a tarefa.
+ */
+@Component
+public class TravasTarefasAdapter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String dono = UUID.randomUUID().toString();
+
+    public TravasTarefasAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adquire a trava da tarefa, ou renova o prazo se esta réplica já a detém.
+     *
+     * @param tarefa Nome da tarefa
+     * @param duracao Prazo da trava a partir de agora
+     * @return false se outra réplica detém a trava
+     */
+    public boolean adquirir(String tarefa, Duration duracao) {
+        LocalDateTime agora = LocalDateTime.now();
+        Timestamp validaAte = Timestamp.valueOf(agora.plus(duracao));
+        int atualizadas = jdbcTemplate.update("UPDATE travas_tarefas SET dono = ?, valida_ate = ? "
+                                              + "WHERE nome = ? AND (dono = ? OR dono IS NULL OR valida_ate < ?)",
+                                              dono, validaAte, tarefa, dono, Timestamp.valueOf(agora));
+        if (atualizadas > 0) {
+            return true;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO travas_tarefas (nome, dono, valida_ate) VALUES (?, ?, ?)",
+                                tarefa, dono, validaAte);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Libera a trava da tarefa, se esta réplica a detém.
+     *
+     * @param tarefa Nome da tarefa
+     */
+    public void liberar(String tarefa) {
+        jdbcTemplate.update("UPDATE travas_tarefas SET dono = NULL WHERE nome = ? AND dono = ?", tarefa, dono);
+    }
+}
@@ -0,0 +1,115 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA de uma chave de idempotência do checkout.
+ * A linha nasce como reserva (sem resposta) e é concluída com a resposta
+ * serializada, ou marcada como indeterminada se o checkout falhou sem que se
+ * saiba se algo foi gravado. Como a chave vem do cliente, a entidade se declara nova e o
+ * save faz persist direto: uma chave repetida falha na chave primária em vez
+ * de sobrescrever a reserva de outra requisição.
+ */
+@Entity
+@Table(name = "chaves_idempotencia", indexes = {
+    @Index(name = "idx_chaves_idempotencia_expira", columnList = "expira_em")
+})
+public class ChaveIdempotenciaJpaEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "chave", length = 100)
+    private String chave;
+
+    @Column(name = "impressao", nullable = false, length = 64)
+    private String impressao;
+
+    @Column(name = "resposta")
+    private byte[] resposta;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+
+    @Column(name = "indeterminada", nullable = false)
+    private boolean indeterminada;
+
+    @Transient
+    private boolean novo = true;
+
+    public ChaveIdempotenciaJpaEntity() {
+    }
+
+    public ChaveIdempotenciaJpaEntity(String chave, String impressao, LocalDateTime criadoEm,
+                                      LocalDateTime expiraEm) {
+        this.chave = chave;
+        this.impressao = impressao;
+        this.criadoEm = criadoEm;
+        this.expiraEm = expiraEm;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    /**
+     * Conclui a reserva com a resposta do checkout.
+     *
+     * @param resposta Resposta serializada
+     */
+    public void concluir(byte[] resposta) {
+        this.resposta = resposta;
+    }
+
+    public boolean isConcluida() {
+        return resposta != null;
+    }
+
+    /**
+     * Marca a reserva como de resultado desconhecido.
+     */
+    public void marcarIndeterminada() {
+        this.indeterminada = true;
+    }
+
+    public boolean isIndeterminada() {
+        return indeterminada;
+    }
+
+    // Getters
+    @Override
+    public String getId() {
+        return chave;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public String getImpressao() {
+        return impressao;
+    }
+
+    public byte[] getResposta() {
+        return resposta;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public LocalDateTime getExpiraEm() {
+        return expiraEm;
+    }
+}
@@ -0,0 +1,45 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositório JPA das chaves de idempotência do checkout.
+ */
+@Repository
+public interface ChaveIdempotenciaJpaRepository extends JpaRepository<ChaveIdempotenciaJpaEntity, String> {
+
+    /**
+     * Grava a resposta somente na reserva identificada pelo momento em que foi feita.
+     */
+    @Modifying
+    @Query("UPDATE ChaveIdempotenciaJpaEntity c SET c.resposta = :resposta "
+        + "WHERE c.chave = :chave AND c.criadoEm = :criadoEm")
+    int concluirReserva(@Param("chave") String chave, @Param("criadoEm") LocalDateTime criadoEm,
+                        @Param("resposta") byte[] resposta);
+
+    /**
+     * Marca como indeterminada somente a reserva identificada pelo momento em que foi feita.
+     */
+    @Modifying
+    @Query("UPDATE ChaveIdempotenciaJpaEntity c SET c.indeterminada = true "
+        + "WHERE c.chave = :chave AND c.criadoEm = :criadoEm AND c.resposta IS NULL")
+    int marcarIndeterminada(@Param("chave") String chave, @Param("criadoEm") LocalDateTime criadoEm);
+
+    /**
+     * Remove somente a reserva identificada pelo momento em que foi feita,
+     * e não uma reserva mais nova da mesma chave feita por outro pod.
+     */
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotenciaJpaEntity c WHERE c.chave = :chave AND c.criadoEm = :criadoEm")
+    int removerReserva(@Param("chave") String chave, @Param("criadoEm") LocalDateTime criadoEm);
+
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotenciaJpaEntity c WHERE c.expiraEm < :agora")
+    int removerExpiradas(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,140 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.valueobjects.CPF;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para persistência de clientes.
+ * O CPF é gravado apenas com os dígitos.
+ */
+@Entity
+@Table(name = "clientes")
+public class ClienteJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientes_seq")
+    @SequenceGenerator(name = "clientes_seq", sequenceName = "clientes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "nome", nullable = false, length = 100)
+    private String nome;
+
+    @Column(name = "cpf", length = 11)
+    private String cpf;
+
+    @Column(name = "email", nullable = false, length = 150)
+    private String email;
+
+    @Column(name = "telefone", length = 20)
+    private String telefone;
+
+    @Column(name = "ativo", nullable = false)
+    private boolean ativo;
+
+    @Column(name = "aceita_campanhas", nullable = false)
+    private boolean aceitaCampanhas;
+
+    @Column(name = "total_pedidos", nullable = false)
+    private int totalPedidos;
+
+    @Column(name = "ultimo_pedido")
+    private LocalDateTime ultimoPedido;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    public ClienteJpaEntity() {
+    }
+
+    /**
+     * Converte a entidade JPA para entidade de domínio.
+     *
+     * @return Entidade de domínio
+     */
+    public Cliente toDomainEntity() {
+        return new Cliente(
+            this.id,
+            this.nome,
+            this.cpf != null ? new CPF(this.cpf) : null,
+            new Email(this.email),
+            this.telefone,
+            this.ativo,
+            this.aceitaCampanhas,
+            this.totalPedidos,
+            this.ultimoPedido,
+            this.criadoEm,
+            this.atualizadoEm
+        );
+    }
+
+    /**
+     * Cria uma entidade JPA a partir de uma entidade de domínio.
+     *
+     * @param cliente Entidade de domínio
+     * @return Entidade JPA
+     */
+    public static ClienteJpaEntity fromDomainEntity(Cliente cliente) {
+        ClienteJpaEntity jpaEntity = new ClienteJpaEntity();
+        jpaEntity.id = cliente.getId();
+        jpaEntity.cpf = cliente.getCpf() != null ? cliente.getCpf().getValor() : null;
+        jpaEntity.criadoEm = cliente.getCriadoEm();
+        jpaEntity.updateFromDomainEntity(cliente);
+        return jpaEntity;
+    }
+
+    /**
+     * Atualiza a entidade JPA com dados da entidade de domínio.
+     *
+     * @param cliente Entidade de domínio
+     */
+    public void updateFromDomainEntity(Cliente cliente) {
+        this.nome = cliente.getNome();
+        this.email = cliente.getEmail().getValor();
+        this.telefone = cliente.getTelefone();
+        this.ativo = cliente.isAtivo();
+        this.aceitaCampanhas = cliente.isAceitaCampanhas();
+        this.totalPedidos = cliente.getTotalPedidos();
+        this.ultimoPedido = cliente.getUltimoPedido();
+        this.atualizadoEm = cliente.getAtualizadoEm();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getCpf() {
+        return cpf;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getTelefone() {
+        return telefone;
+    }
+
+    public boolean isAtivo() {
+        return ativo;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+}
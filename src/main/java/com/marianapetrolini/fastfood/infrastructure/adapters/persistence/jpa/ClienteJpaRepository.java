@@ -0,0 +1,71 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para clientes.
+ */
+@Repository
+public interface ClienteJpaRepository extends JpaRepository<ClienteJpaEntity, Long> {
+
+    /**
+     * Busca cliente pelo CPF (somente dígitos).
+     *
+     * @param cpf CPF do cliente
+     * @return Cliente encontrado
+     */
+    Optional<ClienteJpaEntity> findByCpf(String cpf);
+
+    /**
+     * Busca cliente pelo email.
+     *
+     * @param email Email do cliente
+     * @return Cliente encontrado
+     */
+    Optional<ClienteJpaEntity> findByEmail(String email);
+
+    /**
+     * Busca clientes por nome (busca parcial, case-insensitive).
+     *
+     * @param nome Nome ou parte do nome do cliente
+     * @return Lista de clientes ordenada por nome
+     */
+    @Query("SELECT c FROM ClienteJpaEntity c WHERE LOWER(c.nome) LIKE LOWER(CONCAT('%', :nome, '%')) ORDER BY c.nome")
+    List<ClienteJpaEntity> findByNomeContainingIgnoreCase(@Param("nome") String nome);
+
+    /**
+     * Busca todos os clientes ordenados por nome.
+     *
+     * @return Lista de clientes
+     */
+    List<ClienteJpaEntity> findAllByOrderByNomeAsc();
+
+    /**
+     * Busca os clientes atualizados a partir de um instante.
+     *
+     * @param instante Instante inicial (inclusive)
+     * @return Lista de clientes
+     */
+    List<ClienteJpaEntity> findByAtualizadoEmGreaterThanEqual(LocalDateTime instante);
+
+    /**
+     * Busca clientes com ID maior que o informado, em ordem de ID.
+     *
+     * @param id ID de referência
+     * @param pageable Tamanho do lote
+     * @return Lista de clientes
+     */
+    List<ClienteJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    boolean existsByCpf(String cpf);
+
+    boolean existsByEmail(String email);
+}
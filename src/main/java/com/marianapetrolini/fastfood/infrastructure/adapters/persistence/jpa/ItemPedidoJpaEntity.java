@@ -0,0 +1,89 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+
+/**
+ * Entidade JPA dos itens de pedido.
+ * O preço unitário é gravado no momento do pedido, independente de
+ * alterações posteriores no produto.
+ */
+@Entity
+@Table(name = "itens_pedido")
+public class ItemPedidoJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "itens_pedido_seq")
+    @SequenceGenerator(name = "itens_pedido_seq", sequenceName = "itens_pedido_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "pedido_id", nullable = false)
+    private PedidoJpaEntity pedido;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "produto_id", nullable = false)
+    private ProdutoJpaEntity produto;
+
+    @Column(name = "quantidade", nullable = false)
+    private int quantidade;
+
+    @Column(name = "preco_unitario", nullable = false, precision = 10, scale = 2)
+    private BigDecimal precoUnitario;
+
+    @Column(name = "observacoes", length = 500)
+    private String observacoes;
+
+    public ItemPedidoJpaEntity() {
+    }
+
+    ItemPedidoJpaEntity(PedidoJpaEntity pedido, ProdutoJpaEntity produto, ItemPedido item) {
+        this.pedido = pedido;
+        this.produto = produto;
+        this.quantidade = item.getQuantidade();
+        this.precoUnitario = item.getPrecoUnitario();
+        this.observacoes = item.getObservacoes();
+    }
+
+    /**
+     * Converte a entidade JPA para entidade de domínio.
+     *
+     * @return Entidade de domínio
+     */
+    public ItemPedido toDomainEntity() {
+        return new ItemPedido(this.id, this.produto.toDomainEntity(), this.quantidade,
+                              this.precoUnitario, this.observacoes);
+    }
+
+    void updateFromDomainEntity(ItemPedido item) {
+        this.quantidade = item.getQuantidade();
+        this.observacoes = item.getObservacoes();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public PedidoJpaEntity getPedido() {
+        return pedido;
+    }
+
+    public ProdutoJpaEntity getProduto() {
+        return produto;
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public BigDecimal getPrecoUnitario() {
+        return precoUnitario;
+    }
+
+    public String getObservacoes() {
+        return observacoes;
+    }
+}
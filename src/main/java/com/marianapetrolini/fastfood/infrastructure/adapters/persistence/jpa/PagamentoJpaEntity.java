@@ -0,0 +1,159 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.entities.Pagamento;
+import com.marianapetrolini.fastfood.domain.valueobjects.MetodoPagamento;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPagamento;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para persistência de pagamentos.
+ * A versão (bloqueio otimista) faz o UPDATE falhar se outra transação
+ * gravou o pagamento depois da leitura.
+ */
+@Entity
+@Table(name = "pagamentos")
+public class PagamentoJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pagamentos_seq")
+    @SequenceGenerator(name = "pagamentos_seq", sequenceName = "pagamentos_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "loja_id", nullable = false, updatable = false)
+    private Long lojaId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "pedido_id", nullable = false)
+    private PedidoJpaEntity pedido;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metodo", nullable = false, length = 20)
+    private MetodoPagamento metodo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusPagamento status;
+
+    @Column(name = "valor", nullable = false, precision = 10, scale = 2)
+    private BigDecimal valor;
+
+    @Column(name = "transacao_id", length = 100)
+    private String transacaoId;
+
+    @Column(name = "qr_code", length = 1000)
+    private String qrCode;
+
+    @Column(name = "link_pagamento", length = 500)
+    private String linkPagamento;
+
+    @Column(name = "motivo_recusa", length = 500)
+    private String motivoRecusa;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    @Column(name = "processado_em")
+    private LocalDateTime processadoEm;
+
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
+    public PagamentoJpaEntity() {
+    }
+
+    /**
+     * Converte a entidade JPA para entidade de domínio.
+     * O pedido (com cliente, itens e produtos) deve estar carregado.
+     *
+     * @return Entidade de domínio
+     */
+    public Pagamento toDomainEntity() {
+        return new Pagamento(
+            this.id,
+            this.pedido.toDomainEntity(),
+            this.metodo,
+            this.status,
+            this.valor,
+            this.transacaoId,
+            this.qrCode,
+            this.linkPagamento,
+            this.motivoRecusa,
+            this.criadoEm,
+            this.atualizadoEm,
+            this.processadoEm
+        );
+    }
+
+    /**
+     * Cria uma entidade JPA a partir de uma entidade de domínio.
+     *
+     * @param pagamento Entidade de domínio
+     * @param pedido Referência ao pedido já persistido
+     * @return Entidade JPA
+     */
+    public static PagamentoJpaEntity fromDomainEntity(Pagamento pagamento, PedidoJpaEntity pedido) {
+        PagamentoJpaEntity jpaEntity = new PagamentoJpaEntity();
+        jpaEntity.lojaId = pagamento.getLojaId();
+        jpaEntity.pedido = pedido;
+        jpaEntity.metodo = pagamento.getMetodo();
+        jpaEntity.valor = pagamento.getValor();
+        jpaEntity.criadoEm = pagamento.getCriadoEm();
+        jpaEntity.updateFromDomainEntity(pagamento);
+        return jpaEntity;
+    }
+
+    /**
+     * Atualiza a entidade JPA com dados da entidade de domínio.
+     *
+     * @param pagamento Entidade de domínio
+     */
+    public void updateFromDomainEntity(Pagamento pagamento) {
+        this.status = pagamento.getStatus();
+        this.transacaoId = pagamento.getTransacaoId();
+        this.qrCode = pagamento.getQrCode();
+        this.linkPagamento = pagamento.getLinkPagamento();
+        this.motivoRecusa = pagamento.getMotivoRecusa();
+        this.atualizadoEm = pagamento.getAtualizadoEm();
+        this.processadoEm = pagamento.getProcessadoEm();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLojaId() {
+        return lojaId;
+    }
+
+    public PedidoJpaEntity getPedido() {
+        return pedido;
+    }
+
+    public MetodoPagamento getMetodo() {
+        return metodo;
+    }
+
+    public StatusPagamento getStatus() {
+        return status;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public String getTransacaoId() {
+        return transacaoId;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+}
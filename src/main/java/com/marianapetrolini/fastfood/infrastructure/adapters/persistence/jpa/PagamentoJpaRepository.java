@@ -0,0 +1,94 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.valueobjects.MetodoPagamento;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPagamento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para pagamentos.
+ * As buscas carregam o pedido completo (cliente, itens e produtos) na mesma consulta.
+ * As buscas por loja filtram pela chave de partição (loja_id e criado_em).
+ */
+@Repository
+public interface PagamentoJpaRepository extends JpaRepository<PagamentoJpaEntity, Long> {
+
+    String SELECT_COMPLETO = "SELECT DISTINCT pg FROM PagamentoJpaEntity pg "
+        + "JOIN FETCH pg.pedido p "
+        + "JOIN FETCH p.cliente "
+        + "LEFT JOIN FETCH p.itens i "
+        + "LEFT JOIN FETCH i.produto ";
+
+    @Query(SELECT_COMPLETO + "WHERE pg.id = :id")
+    Optional<PagamentoJpaEntity> buscarCompletoPorId(@Param("id") Long id);
+
+    @Query(SELECT_COMPLETO + "WHERE p.id = :pedidoId ORDER BY pg.criadoEm DESC")
+    List<PagamentoJpaEntity> buscarCompletosPorPedido(@Param("pedidoId") Long pedidoId);
+
+    // Trava os pagamentos do pedido (FOR UPDATE), esperando quem já os travou;
+    // o pagamento é da loja do pedido, e o filtro por loja poupa as outras partições
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pg FROM PagamentoJpaEntity pg WHERE pg.lojaId = :lojaId AND pg.pedido.id = :pedidoId")
+    List<PagamentoJpaEntity> travarPorPedido(@Param("lojaId") Long lojaId, @Param("pedidoId") Long pedidoId);
+
+    @Query(SELECT_COMPLETO + "WHERE pg.transacaoId = :transacaoId")
+    Optional<PagamentoJpaEntity> buscarCompletoPorTransacao(@Param("transacaoId") String transacaoId);
+
+    @Query(SELECT_COMPLETO + "ORDER BY pg.criadoEm DESC")
+    List<PagamentoJpaEntity> buscarTodosCompletos();
+
+    @Query(SELECT_COMPLETO + "WHERE pg.status IN :status ORDER BY pg.criadoEm ASC")
+    List<PagamentoJpaEntity> buscarCompletosPorStatus(@Param("status") Collection<StatusPagamento> status);
+
+    @Query(SELECT_COMPLETO + "WHERE pg.metodo = :metodo ORDER BY pg.criadoEm DESC")
+    List<PagamentoJpaEntity> buscarCompletosPorMetodo(@Param("metodo") MetodoPagamento metodo);
+
+    @Query(SELECT_COMPLETO + "WHERE pg.processadoEm >= :inicio AND pg.processadoEm < :fim ORDER BY pg.processadoEm ASC")
+    List<PagamentoJpaEntity> buscarCompletosProcessadosEntre(@Param("inicio") LocalDateTime inicio,
+                                                            @Param("fim") LocalDateTime fim);
+
+    @Query(SELECT_COMPLETO + "WHERE pg.lojaId = :lojaId AND pg.criadoEm >= :inicio AND pg.criadoEm < :fim "
+        + "ORDER BY pg.criadoEm ASC")
+    List<PagamentoJpaEntity> buscarCompletosDaLojaCriadosEntre(@Param("lojaId") Long lojaId,
+                                                              @Param("inicio") LocalDateTime inicio,
+                                                              @Param("fim") LocalDateTime fim);
+
+    // Um pagamento processado antes do fim foi criado antes dele: o limite em criadoEm poupa as partições futuras
+    @Query(SELECT_COMPLETO + "WHERE pg.lojaId = :lojaId AND pg.criadoEm < :fim "
+        + "AND pg.processadoEm >= :inicio AND pg.processadoEm < :fim ORDER BY pg.processadoEm ASC")
+    List<PagamentoJpaEntity> buscarCompletosDaLojaProcessadosEntre(@Param("lojaId") Long lojaId,
+                                                                  @Param("inicio") LocalDateTime inicio,
+                                                                  @Param("fim") LocalDateTime fim);
+
+    @Query(SELECT_COMPLETO + "WHERE pg.criadoEm >= :inicio AND pg.criadoEm < :fim ORDER BY pg.criadoEm ASC")
+    List<PagamentoJpaEntity> buscarCompletosCriadosEntre(@Param("inicio") LocalDateTime inicio,
+                                                        @Param("fim") LocalDateTime fim);
+
+    @Query(SELECT_COMPLETO + "WHERE pg.status IN :status AND pg.criadoEm < :limite ORDER BY pg.criadoEm ASC")
+    List<PagamentoJpaEntity> buscarCompletosPorStatusCriadosAntesDe(@Param("status") Collection<StatusPagamento> status,
+                                                                   @Param("limite") LocalDateTime limite);
+
+    List<PagamentoJpaEntity> findByPedidoIdIn(Collection<Long> pedidoIds);
+
+    @Modifying
+    @Query("DELETE FROM PagamentoJpaEntity pg WHERE pg.pedido.id IN :pedidoIds")
+    int removerPorPedidos(@Param("pedidoIds") Collection<Long> pedidoIds);
+
+    long countByStatus(StatusPagamento status);
+
+    long countByStatusIn(Collection<StatusPagamento> status);
+
+    long countByMetodo(MetodoPagamento metodo);
+
+    long countByCriadoEmGreaterThanEqualAndCriadoEmLessThan(LocalDateTime inicio, LocalDateTime fim);
+}
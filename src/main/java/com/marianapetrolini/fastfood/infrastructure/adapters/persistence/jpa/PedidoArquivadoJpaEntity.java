@@ -0,0 +1,151 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Entidade JPA do arquivo de pedidos finalizados e cancelados (armazenamento frio).
+ * Cada linha guarda as colunas usadas em relatórios e o pedido completo,
+ * com itens e pagamentos, em JSON comprimido com gzip.
+ * O id vem do pedido; como a linha só é inserida uma vez, a entidade se
+ * declara nova e o save faz persist direto, sem o SELECT do merge.
+ */
+@Entity
+@Table(name = "pedidos_arquivados", indexes = {
+    @Index(name = "idx_pedidos_arquivados_loja_criado", columnList = "loja_id, criado_em"),
+    @Index(name = "idx_pedidos_arquivados_cliente", columnList = "cliente_id")
+})
+public class PedidoArquivadoJpaEntity implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "loja_id", nullable = false)
+    private Long lojaId;
+
+    @Column(name = "cliente_id", nullable = false)
+    private Long clienteId;
+
+    @Column(name = "valor_total", nullable = false, precision = 10, scale = 2)
+    private BigDecimal valorTotal;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "finalizado_em")
+    private LocalDateTime finalizadoEm;
+
+    @Column(name = "arquivado_em", nullable = false)
+    private LocalDateTime arquivadoEm;
+
+    @Column(name = "conteudo", nullable = false)
+    private byte[] conteudo;
+
+    @Transient
+    private boolean novo = true;
+
+    public PedidoArquivadoJpaEntity() {
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        this.novo = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    /**
+     * Cria a linha do arquivo a partir de um pedido e do seu conteúdo serializado.
+     *
+     * @param pedido Pedido finalizado ou cancelado
+     * @param json Pedido completo (itens e pagamentos) em JSON
+     * @param arquivadoEm Momento do arquivamento
+     * @return Entidade JPA do arquivo
+     */
+    public static PedidoArquivadoJpaEntity fromDomainEntity(Pedido pedido, byte[] json, LocalDateTime arquivadoEm) {
+        PedidoArquivadoJpaEntity entity = new PedidoArquivadoJpaEntity();
+        entity.id = pedido.getId();
+        entity.lojaId = pedido.getLojaId();
+        entity.clienteId = pedido.getCliente().getId();
+        entity.valorTotal = pedido.getValorTotal();
+        entity.criadoEm = pedido.getCriadoEm();
+        entity.finalizadoEm = pedido.getFinalizadoEm();
+        entity.arquivadoEm = arquivadoEm;
+        entity.conteudo = comprimir(json);
+        return entity;
+    }
+
+    /**
+     * Retorna o pedido completo em JSON, já descomprimido.
+     *
+     * @return JSON do pedido arquivado
+     */
+    public byte[] lerConteudo() {
+        try (InputStream entrada = new GZIPInputStream(new ByteArrayInputStream(conteudo))) {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream(conteudo.length * 4);
+            byte[] buffer = new byte[4096];
+            int lidos;
+            while ((lidos = entrada.read(buffer)) != -1) {
+                saida.write(buffer, 0, lidos);
+            }
+            return saida.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Conteúdo do pedido arquivado " + id + " corrompido", e);
+        }
+    }
+
+    private static byte[] comprimir(byte[] dados) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(Math.max(64, dados.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(dados);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+
+    // Getters
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLojaId() {
+        return lojaId;
+    }
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public LocalDateTime getFinalizadoEm() {
+        return finalizadoEm;
+    }
+
+    public LocalDateTime getArquivadoEm() {
+        return arquivadoEm;
+    }
+
+    public byte[] getConteudo() {
+        return conteudo;
+    }
+}
@@ -0,0 +1,11 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório JPA do arquivo de pedidos finalizados.
+ */
+@Repository
+public interface PedidoArquivadoJpaRepository extends JpaRepository<PedidoArquivadoJpaEntity, Long> {
+}
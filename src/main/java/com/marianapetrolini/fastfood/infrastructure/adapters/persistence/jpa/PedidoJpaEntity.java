@@ -0,0 +1,235 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+
+import org.hibernate.annotations.OptimisticLock;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Entidade JPA para persistência de pedidos e seus itens.
+ * Os ids vêm de sequências com alocação em bloco (pooled), o que mantém o
+ * batch de JDBC do Hibernate ativo: o pedido e todos os itens de um checkout
+ * são inseridos em poucos comandos agrupados.
+ * Loja e data de criação são as chaves de partição da tabela no PostgreSQL
+ * e não mudam depois do checkout; a data é gravada com a precisão do banco
+ * (microssegundos), para que a chave completa montada a partir do pedido em
+ * memória encontre a linha.
+ * A linha do pedido é atualizada pela chave completa
+ * ({@link PedidoJpaRepository#atualizarEstado}), que confere e incrementa a
+ * versão (bloqueio otimista): o UPDATE falha se outra transação gravou o
+ * pedido depois da leitura. Mudanças nos itens não mexem na versão, para que
+ * o Hibernate não gere o seu próprio UPDATE do pedido, só por id.
+ */
+@Entity
+@Table(name = "pedidos")
+public class PedidoJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pedidos_seq")
+    @SequenceGenerator(name = "pedidos_seq", sequenceName = "pedidos_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "loja_id", nullable = false, updatable = false)
+    private Long lojaId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "cliente_id", nullable = false)
+    private ClienteJpaEntity cliente;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusPedido status;
+
+    @Column(name = "valor_total", nullable = false, precision = 10, scale = 2)
+    private BigDecimal valorTotal;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    @Column(name = "iniciado_preparacao_em")
+    private LocalDateTime iniciadoPreparacaoEm;
+
+    @Column(name = "pronto_em")
+    private LocalDateTime prontoEm;
+
+    @Column(name = "finalizado_em")
+    private LocalDateTime finalizadoEm;
+
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
+    @OneToMany(mappedBy = "pedido", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
+    @OptimisticLock(excluded = true)
+    private List<ItemPedidoJpaEntity> itens = new ArrayList<>();
+
+    public PedidoJpaEntity() {
+    }
+
+    /**
+     * Converte a entidade JPA para entidade de domínio.
+     * Cliente, itens e produtos devem estar carregados (fetch join) para
+     * evitar uma consulta por associação.
+     *
+     * @return Entidade de domínio
+     */
+    public Pedido toDomainEntity() {
+        Pedido pedido = new Pedido(
+            this.id,
+            this.cliente.toDomainEntity(),
+            this.itens.stream().map(ItemPedidoJpaEntity::toDomainEntity).collect(Collectors.toList()),
+            this.status,
+            this.valorTotal,
+            this.criadoEm,
+            this.atualizadoEm,
+            this.iniciadoPreparacaoEm,
+            this.prontoEm,
+            this.finalizadoEm
+        );
+        pedido.setLojaId(this.lojaId);
+        return pedido;
+    }
+
+    /**
+     * Cria uma entidade JPA a partir de uma entidade de domínio.
+     *
+     * @param pedido Entidade de domínio
+     * @param cliente Referência ao cliente já persistido
+     * @param produtos Resolve a referência de um produto pelo id
+     * @return Entidade JPA
+     */
+    public static PedidoJpaEntity fromDomainEntity(Pedido pedido, ClienteJpaEntity cliente,
+                                                   Function<Long, ProdutoJpaEntity> produtos) {
+        PedidoJpaEntity jpaEntity = new PedidoJpaEntity();
+        jpaEntity.lojaId = pedido.getLojaId();
+        jpaEntity.cliente = cliente;
+        jpaEntity.criadoEm = pedido.getCriadoEm().truncatedTo(ChronoUnit.MICROS);
+        jpaEntity.updateFromDomainEntity(pedido, produtos);
+        return jpaEntity;
+    }
+
+    /**
+     * Atualiza a entidade JPA com dados da entidade de domínio.
+     * Itens com id são atualizados, itens sem id são incluídos e os que
+     * não estão mais no pedido são removidos.
+     *
+     * @param pedido Entidade de domínio
+     * @param produtos Resolve a referência de um produto pelo id
+     */
+    public void updateFromDomainEntity(Pedido pedido, Function<Long, ProdutoJpaEntity> produtos) {
+        this.status = pedido.getStatus();
+        this.valorTotal = pedido.getValorTotal();
+        this.atualizadoEm = pedido.getAtualizadoEm();
+        this.iniciadoPreparacaoEm = pedido.getIniciadoPreparacaoEm();
+        this.prontoEm = pedido.getProntoEm();
+        this.finalizadoEm = pedido.getFinalizadoEm();
+        atualizarItens(pedido, produtos);
+    }
+
+    /**
+     * Atualiza somente os itens, sem tocar nos dados da linha do pedido.
+     *
+     * @param pedido Entidade de domínio
+     * @param produtos Resolve a referência de um produto pelo id
+     */
+    public void atualizarItens(Pedido pedido, Function<Long, ProdutoJpaEntity> produtos) {
+        Map<Long, ItemPedido> existentes = new HashMap<>();
+        for (ItemPedido item : pedido.getItens()) {
+            if (item.getId() != null) {
+                existentes.put(item.getId(), item);
+            }
+        }
+        Iterator<ItemPedidoJpaEntity> atuais = this.itens.iterator();
+        while (atuais.hasNext()) {
+            ItemPedidoJpaEntity atual = atuais.next();
+            ItemPedido item = existentes.get(atual.getId());
+            if (item == null) {
+                atuais.remove();
+            } else {
+                atual.updateFromDomainEntity(item);
+            }
+        }
+        for (ItemPedido item : pedido.getItens()) {
+            if (item.getId() == null) {
+                this.itens.add(new ItemPedidoJpaEntity(this, produtos.apply(item.getProduto().getId()), item));
+            }
+        }
+    }
+
+    /**
+     * Copia para o domínio os ids gerados para o pedido e para os itens novos.
+     * Com a geração pooled os ids já existem após o persist, antes do flush.
+     *
+     * @param pedido Entidade de domínio gravada
+     */
+    public void atribuirIds(Pedido pedido) {
+        pedido.setId(this.id);
+        Iterator<ItemPedidoJpaEntity> novos = this.itens.stream()
+            .filter(item -> item.getId() != null && !contemId(pedido, item.getId()))
+            .iterator();
+        for (ItemPedido item : pedido.getItens()) {
+            if (item.getId() == null && novos.hasNext()) {
+                item.setId(novos.next().getId());
+            }
+        }
+    }
+
+    private static boolean contemId(Pedido pedido, Long id) {
+        for (ItemPedido item : pedido.getItens()) {
+            if (id.equals(item.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public Long getLojaId() {
+        return lojaId;
+    }
+
+    public ClienteJpaEntity getCliente() {
+        return cliente;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public BigDecimal getValorTotal() {
+        return valorTotal;
+    }
+
+    public LocalDateTime getCriadoEm() {
+        return criadoEm;
+    }
+
+    public List<ItemPedidoJpaEntity> getItens() {
+        return itens;
+    }
+}
@@ -0,0 +1,149 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para pedidos.
+ * As buscas carregam cliente, itens e produtos em uma única consulta.
+ * As buscas por loja filtram pela chave de partição (loja_id) para que o
+ * PostgreSQL leia somente as partições da loja; as gravações e travas de um
+ * pedido usam a chave completa (loja, criação, id) e leem uma partição só.
+ */
+@Repository
+public interface PedidoJpaRepository extends JpaRepository<PedidoJpaEntity, Long> {
+
+    String SELECT_COMPLETO = "SELECT DISTINCT p FROM PedidoJpaEntity p "
+        + "JOIN FETCH p.cliente "
+        + "LEFT JOIN FETCH p.itens i "
+        + "LEFT JOIN FETCH i.produto ";
+
+    @Query(SELECT_COMPLETO + "WHERE p.id = :id")
+    Optional<PedidoJpaEntity> buscarCompletoPorId(@Param("id") Long id);
+
+    @Query("SELECT p FROM PedidoJpaEntity p WHERE p.lojaId = :lojaId AND p.criadoEm = :criadoEm AND p.id = :id")
+    Optional<PedidoJpaEntity> buscarPorChave(@Param("lojaId") Long lojaId,
+                                             @Param("criadoEm") LocalDateTime criadoEm,
+                                             @Param("id") Long id);
+
+    /**
+     * Trava a linha do pedido (FOR UPDATE SKIP LOCKED): se outra transação já
+     * a travou, retorna vazio em vez de esperar. No H2 a trava espera.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM PedidoJpaEntity p WHERE p.lojaId = :lojaId AND p.criadoEm = :criadoEm AND p.id = :id")
+    Optional<PedidoJpaEntity> travarPorChave(@Param("lojaId") Long lojaId,
+                                             @Param("criadoEm") LocalDateTime criadoEm,
+                                             @Param("id") Long id);
+
+    /**
+     * Grava o estado do pedido pela chave completa, se a versão ainda for a lida,
+     * e incrementa a versão. As mudanças pendentes (itens) vão para o banco antes
+     * e o contexto de persistência é limpo depois, para que nenhuma entidade
+     * fique com a versão antiga.
+     *
+     * @return 1 se gravou, 0 se o pedido foi gravado por outra transação
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PedidoJpaEntity p SET p.status = :status, p.valorTotal = :valorTotal, "
+        + "p.atualizadoEm = :atualizadoEm, p.iniciadoPreparacaoEm = :iniciadoPreparacaoEm, "
+        + "p.prontoEm = :prontoEm, p.finalizadoEm = :finalizadoEm, p.versao = p.versao + 1 "
+        + "WHERE p.lojaId = :lojaId AND p.criadoEm = :criadoEm AND p.id = :id AND p.versao = :versao")
+    int atualizarEstado(@Param("lojaId") Long lojaId,
+                        @Param("criadoEm") LocalDateTime criadoEm,
+                        @Param("id") Long id,
+                        @Param("versao") Long versao,
+                        @Param("status") StatusPedido status,
+                        @Param("valorTotal") BigDecimal valorTotal,
+                        @Param("atualizadoEm") LocalDateTime atualizadoEm,
+                        @Param("iniciadoPreparacaoEm") LocalDateTime iniciadoPreparacaoEm,
+                        @Param("prontoEm") LocalDateTime prontoEm,
+                        @Param("finalizadoEm") LocalDateTime finalizadoEm);
+
+    @Query(SELECT_COMPLETO + "WHERE p.id IN :ids ORDER BY p.id")
+    List<PedidoJpaEntity> buscarCompletosPorIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM PedidoJpaEntity p WHERE p.id > :aposId ORDER BY p.id")
+    List<Long> buscarIdsApos(@Param("aposId") Long aposId, Pageable pagina);
+
+    @Query(SELECT_COMPLETO + "ORDER BY p.criadoEm DESC")
+    List<PedidoJpaEntity> buscarTodosCompletos();
+
+    @Query(SELECT_COMPLETO + "WHERE p.status IN :status ORDER BY p.criadoEm ASC")
+    List<PedidoJpaEntity> buscarCompletosPorStatus(@Param("status") Collection<StatusPedido> status);
+
+    @Query(SELECT_COMPLETO + "WHERE p.lojaId = :lojaId AND p.status IN :status ORDER BY p.criadoEm ASC")
+    List<PedidoJpaEntity> buscarCompletosDaLojaPorStatus(@Param("lojaId") Long lojaId,
+                                                        @Param("status") Collection<StatusPedido> status);
+
+    @Query(SELECT_COMPLETO + "WHERE p.cliente.id = :clienteId ORDER BY p.criadoEm DESC")
+    List<PedidoJpaEntity> buscarCompletosPorCliente(@Param("clienteId") Long clienteId);
+
+    @Query(SELECT_COMPLETO + "WHERE p.criadoEm >= :inicio AND p.criadoEm < :fim ORDER BY p.criadoEm ASC")
+    List<PedidoJpaEntity> buscarCompletosCriadosEntre(@Param("inicio") LocalDateTime inicio,
+                                                     @Param("fim") LocalDateTime fim);
+
+    @Query(SELECT_COMPLETO + "WHERE p.lojaId = :lojaId AND p.criadoEm >= :inicio AND p.criadoEm < :fim "
+        + "ORDER BY p.criadoEm ASC")
+    List<PedidoJpaEntity> buscarCompletosDaLojaCriadosEntre(@Param("lojaId") Long lojaId,
+                                                           @Param("inicio") LocalDateTime inicio,
+                                                           @Param("fim") LocalDateTime fim);
+
+    /**
+     * Trava um lote de pedidos encerrados (finalizados ou cancelados) cuja
+     * última mudança foi antes do limite (FOR UPDATE SKIP LOCKED): pedidos já
+     * travados por outra réplica ficam de fora do lote. Encerrado antes do
+     * limite implica criado antes dele: o filtro em criadoEm usa o índice e
+     * poupa partições. No H2 a trava espera.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM PedidoJpaEntity p WHERE p.status IN :status AND p.criadoEm < :limite "
+        + "AND p.atualizadoEm < :limite ORDER BY p.id")
+    List<PedidoJpaEntity> travarEncerradosAntesDe(@Param("status") Collection<StatusPedido> status,
+                                                  @Param("limite") LocalDateTime limite,
+                                                  Pageable pagina);
+
+    /**
+     * Remove de uma vez os itens dos pedidos, sem carregar as entidades.
+     *
+     * @return Número de itens removidos
+     */
+    @Modifying
+    @Query("DELETE FROM ItemPedidoJpaEntity i WHERE i.pedido.id IN :ids")
+    int removerItens(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Remove de uma vez os pedidos criados antes do limite; o filtro em
+     * criadoEm poupa as partições dos meses seguintes.
+     *
+     * @return Número de pedidos removidos
+     */
+    @Modifying
+    @Query("DELETE FROM PedidoJpaEntity p WHERE p.criadoEm < :limite AND p.id IN :ids")
+    int removerCriadosAntesDe(@Param("ids") Collection<Long> ids, @Param("limite") LocalDateTime limite);
+
+    long countByStatus(StatusPedido status);
+
+    long countByStatusIn(Collection<StatusPedido> status);
+
+    long countByClienteId(Long clienteId);
+
+    long countByCriadoEmGreaterThanEqualAndCriadoEmLessThan(LocalDateTime inicio, LocalDateTime fim);
+}
@@ -0,0 +1,243 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+
+import javax.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Entidade JPA do modelo de leitura de pedidos.
+ * Linha desnormalizada com os dados do cliente e dos itens já resolvidos,
+ * mantida a cada gravação de pedido e lida diretamente nos DTOs de resposta.
+ */
+@Entity
+@Table(name = "pedidos_leitura", indexes = {
+    @Index(name = "idx_pedidos_leitura_status_criado", columnList = "status, criado_em"),
+    @Index(name = "idx_pedidos_leitura_loja_status_prioridade", columnList = "loja_id, status, prioridade, criado_em"),
+    @Index(name = "idx_pedidos_leitura_cliente", columnList = "cliente_id"),
+    @Index(name = "idx_pedidos_leitura_criado", columnList = "criado_em")
+})
+public class PedidoLeituraJpaEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "loja_id", nullable = false)
+    private Long lojaId;
+
+    @Column(name = "cliente_id")
+    private Long clienteId;
+
+    @Column(name = "cliente_nome", length = 100)
+    private String clienteNome;
+
+    @Column(name = "cliente_cpf", length = 14)
+    private String clienteCpf;
+
+    @Column(name = "cliente_email", length = 150)
+    private String clienteEmail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusPedido status;
+
+    @Column(name = "descricao_itens", length = 2000)
+    private String descricaoItens;
+
+    @Column(name = "valor_total", precision = 10, scale = 2)
+    private BigDecimal valorTotal;
+
+    @Column(name = "total_itens", nullable = false)
+    private int totalItens;
+
+    @Column(name = "prioridade", nullable = false)
+    private int prioridade;
+
+    @Column(name = "criado_em")
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em")
+    private LocalDateTime atualizadoEm;
+
+    @Column(name = "projetado_em", nullable = false)
+    private LocalDateTime projetadoEm;
+
+    @ElementCollection
+    @CollectionTable(name = "pedidos_leitura_itens", joinColumns = @JoinColumn(name = "pedido_id"))
+    @OrderColumn(name = "posicao")
+    private List<Item> itens = new ArrayList<>();
+
+    public PedidoLeituraJpaEntity() {
+    }
+
+    /**
+     * Cria a linha de leitura a partir de uma entidade de domínio.
+     *
+     * @param pedido Entidade de domínio
+     * @param projetadoEm Momento da projeção
+     * @return Entidade JPA de leitura
+     */
+    public static PedidoLeituraJpaEntity fromDomainEntity(Pedido pedido, LocalDateTime projetadoEm) {
+        PedidoLeituraJpaEntity entity = new PedidoLeituraJpaEntity();
+        entity.id = pedido.getId();
+        entity.updateFromDomainEntity(pedido, projetadoEm);
+        return entity;
+    }
+
+    /**
+     * Atualiza a linha de leitura com os dados da entidade de domínio, exceto
+     * se a linha já projetou uma alteração mais nova do pedido: projeções que
+     * chegam fora de ordem não sobrescrevem uma mais recente.
+     *
+     * @param pedido Entidade de domínio
+     * @param projetadoEm Momento da projeção
+     * @return false se a linha foi mantida por ser mais nova que o pedido
+     */
+    public boolean updateFromDomainEntity(Pedido pedido, LocalDateTime projetadoEm) {
+        if (this.atualizadoEm != null && pedido.getAtualizadoEm() != null
+                && this.atualizadoEm.isAfter(pedido.getAtualizadoEm())) {
+            return false;
+        }
+        Cliente cliente = pedido.getCliente();
+        this.lojaId = pedido.getLojaId();
+        this.clienteId = cliente != null ? cliente.getId() : null;
+        this.clienteNome = cliente != null ? cliente.getNome() : null;
+        this.clienteCpf = cliente != null && cliente.getCpf() != null ? cliente.getCpf().getValorFormatado() : null;
+        this.clienteEmail = cliente != null && cliente.getEmail() != null ? cliente.getEmail().getValor() : null;
+        this.status = pedido.getStatus();
+        this.valorTotal = pedido.getValorTotal();
+        this.totalItens = pedido.getTotalItens();
+        this.prioridade = pedido.getPrioridadeCozinha();
+        this.criadoEm = pedido.getCriadoEm();
+        this.atualizadoEm = pedido.getAtualizadoEm();
+        this.projetadoEm = projetadoEm;
+
+        this.itens.clear();
+        StringBuilder descricao = new StringBuilder();
+        for (ItemPedido item : pedido.getItens()) {
+            this.itens.add(Item.fromDomainEntity(item));
+            if (descricao.length() > 0) {
+                descricao.append(", ");
+            }
+            descricao.append(item.getQuantidade()).append("x ").append(item.getProduto().getNome());
+        }
+        this.descricaoItens = descricao.toString();
+        return true;
+    }
+
+    /**
+     * Converte a linha de leitura no DTO completo de pedido.
+     *
+     * @return DTO de resposta
+     */
+    public PedidoResponse toPedidoResponse() {
+        return new PedidoResponse(
+            this.id,
+            new PedidoResponse.ClienteResponse(this.clienteId, this.clienteNome, this.clienteCpf, this.clienteEmail),
+            this.itens.stream()
+                .map(Item::toItemPedidoResponse)
+                .collect(Collectors.toList()),
+            this.status.name(),
+            this.valorTotal,
+            this.criadoEm,
+            this.atualizadoEm
+        );
+    }
+
+    /**
+     * Converte a linha de leitura no DTO resumido de pedido.
+     * Não acessa a coleção de itens.
+     *
+     * @return DTO de resposta resumido
+     */
+    public PedidoListaResponse toPedidoListaResponse() {
+        return new PedidoListaResponse(
+            this.id,
+            this.clienteNome,
+            this.status.name(),
+            this.descricaoItens,
+            this.valorTotal,
+            this.totalItens,
+            this.criadoEm,
+            this.prioridade
+        );
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLojaId() {
+        return lojaId;
+    }
+
+    public StatusPedido getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public LocalDateTime getProjetadoEm() {
+        return projetadoEm;
+    }
+
+    public List<Item> getItens() {
+        return itens;
+    }
+
+    /**
+     * Item do pedido já com o nome do produto e o valor total calculado.
+     */
+    @Embeddable
+    public static class Item {
+
+        @Column(name = "item_id")
+        private Long itemId;
+
+        @Column(name = "produto_nome", length = 100)
+        private String produtoNome;
+
+        @Column(name = "quantidade", nullable = false)
+        private int quantidade;
+
+        @Column(name = "preco_unitario", precision = 10, scale = 2)
+        private BigDecimal precoUnitario;
+
+        @Column(name = "valor_total", precision = 10, scale = 2)
+        private BigDecimal valorTotal;
+
+        @Column(name = "observacoes", length = 500)
+        private String observacoes;
+
+        public Item() {
+        }
+
+        static Item fromDomainEntity(ItemPedido item) {
+            Item linha = new Item();
+            linha.itemId = item.getId();
+            linha.produtoNome = item.getProduto().getNome();
+            linha.quantidade = item.getQuantidade();
+            linha.precoUnitario = item.getPrecoUnitario();
+            linha.valorTotal = item.calcularValorTotal();
+            linha.observacoes = item.getObservacoes();
+            return linha;
+        }
+
+        PedidoResponse.ItemPedidoResponse toItemPedidoResponse() {
+            return new PedidoResponse.ItemPedidoResponse(
+                itemId, produtoNome, quantidade, precoUnitario, valorTotal, observacoes);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório JPA do modelo de leitura de pedidos.
+ * As consultas completas carregam os itens no mesmo SELECT (fetch join).
+ */
+@Repository
+public interface PedidoLeituraJpaRepository extends JpaRepository<PedidoLeituraJpaEntity, Long> {
+
+    /**
+     * Busca todos os pedidos com itens.
+     *
+     * @return Pedidos ordenados pela data de criação
+     */
+    @Query("SELECT DISTINCT p FROM PedidoLeituraJpaEntity p LEFT JOIN FETCH p.itens ORDER BY p.criadoEm")
+    List<PedidoLeituraJpaEntity> buscarTodosComItens();
+
+    /**
+     * Busca pedidos com itens pelos status informados.
+     *
+     * @param status Status aceitos
+     * @return Pedidos ordenados pela data de criação
+     */
+    @Query("SELECT DISTINCT p FROM PedidoLeituraJpaEntity p LEFT JOIN FETCH p.itens " +
+           "WHERE p.status IN :status ORDER BY p.criadoEm")
+    List<PedidoLeituraJpaEntity> buscarPorStatusComItens(@Param("status") Collection<StatusPedido> status);
+
+    /**
+     * Busca pedidos de um cliente com itens.
+     *
+     * @param clienteId ID do cliente
+     * @return Pedidos ordenados pela data de criação
+     */
+    @Query("SELECT DISTINCT p FROM PedidoLeituraJpaEntity p LEFT JOIN FETCH p.itens " +
+           "WHERE p.clienteId = :clienteId ORDER BY p.criadoEm")
+    List<PedidoLeituraJpaEntity> buscarDoClienteComItens(@Param("clienteId") Long clienteId);
+
+    /**
+     * Busca pedidos criados em um intervalo com itens.
+     *
+     * @param inicio Início do intervalo (inclusivo)
+     * @param fim Fim do intervalo (exclusivo)
+     * @return Pedidos ordenados pela data de criação
+     */
+    @Query("SELECT DISTINCT p FROM PedidoLeituraJpaEntity p LEFT JOIN FETCH p.itens " +
+           "WHERE p.criadoEm >= :inicio AND p.criadoEm < :fim ORDER BY p.criadoEm")
+    List<PedidoLeituraJpaEntity> buscarCriadosEntreComItens(@Param("inicio") LocalDateTime inicio,
+                                                           @Param("fim") LocalDateTime fim);
+
+    /**
+     * Busca pedidos pelos status informados, sem carregar os itens.
+     *
+     * @param status Status aceitos
+     * @return Pedidos ordenados por prioridade e data de criação
+     */
+    List<PedidoLeituraJpaEntity> findByStatusInOrderByPrioridadeAscCriadoEmAsc(Collection<StatusPedido> status);
+
+    /**
+     * Busca pedidos de uma loja pelos status informados, sem carregar os itens.
+     *
+     * @param lojaId ID da loja
+     * @param status Status aceitos
+     * @return Pedidos ordenados por prioridade e data de criação
+     */
+    List<PedidoLeituraJpaEntity> findByLojaIdAndStatusInOrderByPrioridadeAscCriadoEmAsc(
+        Long lojaId, Collection<StatusPedido> status);
+
+    /**
+     * Trava a linha do pedido (FOR UPDATE), esperando outra projeção do mesmo pedido terminar.
+     *
+     * @param id ID do pedido
+     * @return Linha travada, se existir
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PedidoLeituraJpaEntity p WHERE p.id = :id")
+    Optional<PedidoLeituraJpaEntity> travarPorId(@Param("id") Long id);
+
+    /**
+     * Trava as linhas de um intervalo de IDs (FOR UPDATE), sem carregar os itens.
+     *
+     * @param aposId Início do intervalo (exclusivo)
+     * @param ate Fim do intervalo (inclusivo)
+     * @return Linhas travadas
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PedidoLeituraJpaEntity p WHERE p.id > :aposId AND p.id <= :ate")
+    List<PedidoLeituraJpaEntity> travarEntre(@Param("aposId") Long aposId, @Param("ate") Long ate);
+
+    /**
+     * Remove em um único comando os itens das linhas informadas; a coleção de
+     * itens não acompanha as remoções em lote da própria linha.
+     *
+     * @param ids IDs dos pedidos
+     * @return Número de itens removidos
+     */
+    @Modifying
+    @Query(value = "DELETE FROM pedidos_leitura_itens WHERE pedido_id IN (:ids)", nativeQuery = true)
+    int removerItens(@Param("ids") Collection<Long> ids);
+}
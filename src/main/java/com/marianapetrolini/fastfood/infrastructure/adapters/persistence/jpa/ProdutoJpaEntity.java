@@ -12,11 +12,14 @@ import java.time.LocalDateTime;
  * Adapter entre o domínio e a camada de persistência.
  */
 @Entity
-@Table(name = "produtos")
+@Table(name = "produtos", indexes = {
+    @Index(name = "idx_produtos_categoria_disponivel_nome", columnList = "categoria, disponivel, nome")
+})
 public class ProdutoJpaEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "produtos_seq")
+    @SequenceGenerator(name = "produtos_seq", sequenceName = "produtos_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "nome", nullable = false, length = 100)
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,6 +49,14 @@ public interface ProdutoJpaRepository extends JpaRepository<ProdutoJpaEntity, Lo
     @Query("SELECT p FROM ProdutoJpaEntity p WHERE LOWER(p.nome) LIKE LOWER(CONCAT('%', :nome, '%'))")
     List<ProdutoJpaEntity> findByNomeContainingIgnoreCase(@Param("nome") String nome);
     
+    /**
+     * Busca produtos pelos nomes exatos.
+     * 
+     * @param nomes Nomes dos produtos
+     * @return Produtos com os nomes informados
+     */
+    List<ProdutoJpaEntity> findByNomeIn(Collection<String> nomes);
+    
     /**
      * Verifica se existe um produto com o nome especificado.
      * 
@@ -2,6 +2,7 @@ package com.marianapetrolini.fastfood.infrastructure.adapters.web.controllers;
 
 import com.marianapetrolini.fastfood.application.dtos.cliente.AtualizarClienteRequest;
 import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteResponse;
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteSugestaoResponse;
 import com.marianapetrolini.fastfood.application.dtos.cliente.CriarClienteRequest;
 import com.marianapetrolini.fastfood.application.ports.input.ClienteUseCase;
 import io.swagger.v3.oas.annotations.Operation;
@@ -114,6 +115,19 @@ public class ClienteController {
         return ResponseEntity.ok(clientes);
     }
     
+    @GetMapping("/sugestoes")
+    @Operation(summary = "Sugerir clientes", description = "Autocompletar por início do nome, do CPF ou do telefone")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Sugestões de clientes"),
+        @ApiResponse(responseCode = "400", description = "Termo vazio ou limite inválido")
+    })
+    public ResponseEntity<List<ClienteSugestaoResponse>> sugerirClientes(
+            @Parameter(description = "Início do nome, do CPF ou do telefone") @RequestParam String termo,
+            @Parameter(description = "Quantidade máxima de sugestões (1 a 50)") @RequestParam(defaultValue = "10") int limite) {
+        List<ClienteSugestaoResponse> sugestoes = clienteUseCase.sugerirClientes(termo, limite);
+        return ResponseEntity.ok(sugestoes);
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar cliente", description = "Atualiza os dados de um cliente existente")
     @ApiResponses(value = {
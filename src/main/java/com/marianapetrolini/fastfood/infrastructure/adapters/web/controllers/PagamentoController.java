@@ -4,6 +4,7 @@ import com.marianapetrolini.fastfood.application.dtos.pagamento.StatusPagamentoR
 import com.marianapetrolini.fastfood.application.dtos.pagamento.WebhookPagamentoRequest;
 import com.marianapetrolini.fastfood.application.dtos.pagamento.PagamentoResponse;
 import com.marianapetrolini.fastfood.application.ports.input.PagamentoUseCase;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.MetricasNegocio;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -25,9 +26,11 @@ import java.util.List;
 public class PagamentoController {
     
     private final PagamentoUseCase pagamentoUseCase;
+    private final MetricasNegocio metricasNegocio;
     
-    public PagamentoController(PagamentoUseCase pagamentoUseCase) {
+    public PagamentoController(PagamentoUseCase pagamentoUseCase, MetricasNegocio metricasNegocio) {
         this.pagamentoUseCase = pagamentoUseCase;
+        this.metricasNegocio = metricasNegocio;
     }
     
     @GetMapping("/pedido/{pedidoId}/status")
@@ -53,6 +56,7 @@ public class PagamentoController {
     public ResponseEntity<Void> processarWebhookPagamento(
             @Valid @RequestBody WebhookPagamentoRequest request) {
         pagamentoUseCase.processarWebhookPagamento(request);
+        metricasNegocio.registrarWebhook(request.getDataEvento());
         return ResponseEntity.ok().build();
     }
     
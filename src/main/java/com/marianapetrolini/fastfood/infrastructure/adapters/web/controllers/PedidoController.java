@@ -5,12 +5,16 @@ import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutResponse;
 import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
 import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
 import com.marianapetrolini.fastfood.application.ports.input.PedidoUseCase;
+import com.marianapetrolini.fastfood.infrastructure.adapters.web.conversores.ConversorBinarioRestrito;
+import com.marianapetrolini.fastfood.infrastructure.idempotencia.CheckoutIdempotente;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,22 +31,51 @@ import java.util.List;
 public class PedidoController {
     
     private final PedidoUseCase pedidoUseCase;
+    private final CheckoutIdempotente checkoutIdempotente;
     
-    public PedidoController(PedidoUseCase pedidoUseCase) {
+    public PedidoController(PedidoUseCase pedidoUseCase, CheckoutIdempotente checkoutIdempotente) {
         this.pedidoUseCase = pedidoUseCase;
+        this.checkoutIdempotente = checkoutIdempotente;
     }
     
     @PostMapping("/checkout")
-    @Operation(summary = "Realizar checkout", description = "Realiza o checkout de um pedido com produtos selecionados")
+    @Operation(summary = "Realizar checkout", description = "Realiza o checkout de um pedido com produtos selecionados. "
+                   + "Com o cabeçalho Idempotency-Key, as repetições da mesma requisição recebem a resposta original")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Checkout realizado com sucesso"),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
-        @ApiResponse(responseCode = "404", description = "Produto não encontrado")
+        @ApiResponse(responseCode = "404", description = "Produto não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Checkout com a mesma chave ainda em andamento"),
+        @ApiResponse(responseCode = "422", description = "Chave de idempotência já usada com outro pedido"),
+        @ApiResponse(responseCode = "500", description = "Resultado do checkout com a mesma chave desconhecido; "
+                         + "a chave não executa o checkout de novo")
     })
     public ResponseEntity<CheckoutResponse> realizarCheckout(
-            @Valid @RequestBody CheckoutRequest request) {
-        CheckoutResponse response = pedidoUseCase.realizarCheckout(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            @Valid @RequestBody CheckoutRequest request,
+            @Parameter(description = "Chave de idempotência gerada pelo cliente (ex.: UUID)")
+            @RequestHeader(value = CheckoutIdempotente.CABECALHO, required = false) String chave) {
+        if (chave == null) {
+            CheckoutResponse response = pedidoUseCase.realizarCheckout(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+        CheckoutIdempotente.Resultado resultado =
+            checkoutIdempotente.executar(chave, request, () -> pedidoUseCase.realizarCheckout(request));
+        switch (resultado.getSituacao()) {
+            case REPETIDO:
+                return ResponseEntity.status(HttpStatus.CREATED)
+                    .header("Idempotent-Replayed", "true")
+                    .body(resultado.getResposta());
+            case EM_ANDAMENTO:
+                return ResponseEntity.status(HttpStatus.CONFLICT).header(HttpHeaders.RETRY_AFTER, "1").build();
+            case CONFLITO:
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+            case INDETERMINADO:
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            case CHAVE_INVALIDA:
+                return ResponseEntity.badRequest().build();
+            default:
+                return ResponseEntity.status(HttpStatus.CREATED).body(resultado.getResposta());
+        }
     }
     
     @GetMapping("/{id}")
@@ -65,12 +98,17 @@ public class PedidoController {
         return ResponseEntity.ok(pedidos);
     }
     
-    @GetMapping("/cozinha")
+    @GetMapping(value = "/cozinha", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        ConversorBinarioRestrito.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Lista pedidos para cozinha", 
-               description = "Lista pedidos ordenados por prioridade: Pronto > Em Preparação > Recebido")
+               description = "Lista pedidos ordenados por prioridade: Pronto > Em Preparação > Recebido. "
+                           + "Com o parâmetro loja, lista apenas os pedidos da loja")
     @ApiResponse(responseCode = "200", description = "Lista de pedidos para cozinha")
-    public ResponseEntity<List<PedidoListaResponse>> listarPedidosParaCozinha() {
-        List<PedidoListaResponse> pedidos = pedidoUseCase.listarPedidosParaCozinha();
+    public ResponseEntity<List<PedidoListaResponse>> listarPedidosParaCozinha(
+            @Parameter(description = "ID da loja") @RequestParam(value = "loja", required = false) Long lojaId) {
+        List<PedidoListaResponse> pedidos = lojaId != null
+            ? pedidoUseCase.listarPedidosParaCozinha(lojaId)
+            : pedidoUseCase.listarPedidosParaCozinha();
         return ResponseEntity.ok(pedidos);
     }
     
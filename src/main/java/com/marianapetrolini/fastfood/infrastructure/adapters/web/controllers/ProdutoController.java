@@ -2,19 +2,26 @@ package com.marianapetrolini.fastfood.infrastructure.adapters.web.controllers;
 
 import com.marianapetrolini.fastfood.application.dtos.produto.AtualizarProdutoRequest;
 import com.marianapetrolini.fastfood.application.dtos.produto.CriarProdutoRequest;
+import com.marianapetrolini.fastfood.application.dtos.produto.ImportacaoProdutosResponse;
 import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
 import com.marianapetrolini.fastfood.application.ports.input.ProdutoUseCase;
 import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.infrastructure.adapters.web.conversores.ConversorBinarioRestrito;
+import com.marianapetrolini.fastfood.infrastructure.adapters.web.conversores.LeitorImportacaoProdutos;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -27,9 +34,11 @@ import java.util.List;
 public class ProdutoController {
     
     private final ProdutoUseCase produtoUseCase;
+    private final LeitorImportacaoProdutos leitorImportacao;
     
-    public ProdutoController(ProdutoUseCase produtoUseCase) {
+    public ProdutoController(ProdutoUseCase produtoUseCase, LeitorImportacaoProdutos leitorImportacao) {
         this.produtoUseCase = produtoUseCase;
+        this.leitorImportacao = leitorImportacao;
     }
     
     @PostMapping
@@ -45,7 +54,24 @@ public class ProdutoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(produto);
     }
     
-    @GetMapping("/{id}")
+    @PostMapping(value = "/importacao",
+                 consumes = {LeitorImportacaoProdutos.TEXT_CSV_VALUE, LeitorImportacaoProdutos.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Importar produtos em lote", 
+               description = "Cria ou atualiza produtos pelo nome a partir de CSV ou NDJSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação aplicada"),
+        @ApiResponse(responseCode = "422", description = "Itens inválidos; nenhum produto foi gravado")
+    })
+    public ResponseEntity<ImportacaoProdutosResponse> importarProdutos(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream corpo) throws IOException {
+        List<CriarProdutoRequest> produtos = leitorImportacao.ler(MediaType.parseMediaType(contentType), corpo);
+        ImportacaoProdutosResponse resposta = produtoUseCase.importarProdutos(produtos);
+        HttpStatus status = resposta.isAplicada() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY;
+        return ResponseEntity.status(status).body(resposta);
+    }
+    
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        ConversorBinarioRestrito.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Buscar produto por ID", description = "Busca um produto específico pelo ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Produto encontrado"),
@@ -57,7 +83,8 @@ public class ProdutoController {
         return ResponseEntity.ok(produto);
     }
     
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                 ConversorBinarioRestrito.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar todos os produtos", description = "Lista todos os produtos cadastrados")
     @ApiResponse(responseCode = "200", description = "Lista de produtos")
     public ResponseEntity<List<ProdutoResponse>> listarTodosProdutos() {
@@ -65,7 +92,8 @@ public class ProdutoController {
         return ResponseEntity.ok(produtos);
     }
     
-    @GetMapping("/disponiveis")
+    @GetMapping(value = "/disponiveis", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        ConversorBinarioRestrito.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar produtos disponíveis", description = "Lista apenas produtos disponíveis para venda")
     @ApiResponse(responseCode = "200", description = "Lista de produtos disponíveis")
     public ResponseEntity<List<ProdutoResponse>> listarProdutosDisponiveis() {
@@ -73,7 +101,8 @@ public class ProdutoController {
         return ResponseEntity.ok(produtos);
     }
     
-    @GetMapping("/categoria/{categoria}")
+    @GetMapping(value = "/categoria/{categoria}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        ConversorBinarioRestrito.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar produtos por categoria", description = "Lista produtos de uma categoria específica")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de produtos da categoria"),
@@ -86,7 +115,8 @@ public class ProdutoController {
         return ResponseEntity.ok(produtos);
     }
     
-    @GetMapping("/categoria/{categoria}/disponiveis")
+    @GetMapping(value = "/categoria/{categoria}/disponiveis", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        ConversorBinarioRestrito.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Listar produtos disponíveis por categoria", 
                description = "Lista produtos disponíveis de uma categoria específica")
     @ApiResponses(value = {
@@ -100,7 +130,8 @@ public class ProdutoController {
         return ResponseEntity.ok(produtos);
     }
     
-    @GetMapping("/buscar")
+    @GetMapping(value = "/buscar", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                        ConversorBinarioRestrito.APPLICATION_SMILE_VALUE})
     @Operation(summary = "Buscar produtos por nome", description = "Busca produtos que contenham o nome especificado")
     @ApiResponse(responseCode = "200", description = "Lista de produtos encontrados")
     public ResponseEntity<List<ProdutoResponse>> buscarProdutosPorNome(
@@ -0,0 +1,61 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.web.conversores;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Conversor Jackson para formatos binários (CBOR ou Smile), restrito a uma
+ * lista de DTOs de resposta e às listas desses DTOs.
+ * Os demais tipos, inclusive os corpos de erro, continuam apenas em JSON:
+ * clientes binários devem aceitar JSON como alternativa, por exemplo
+ * {@code Accept: application/cbor, application/json;q=0.5}.
+ * Apenas escrita; requisições continuam em JSON.
+ */
+public class ConversorBinarioRestrito extends AbstractJackson2HttpMessageConverter {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    private final Set<JavaType> tiposPermitidos;
+
+    public ConversorBinarioRestrito(ObjectMapper objectMapper, MediaType mediaType,
+                                    Collection<Class<?>> tiposPermitidos) {
+        super(objectMapper, mediaType);
+        Set<JavaType> permitidos = new HashSet<>();
+        for (Class<?> tipo : tiposPermitidos) {
+            permitidos.add(objectMapper.constructType(tipo));
+            permitidos.add(objectMapper.getTypeFactory().constructCollectionType(List.class, tipo));
+        }
+        this.tiposPermitidos = permitidos;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        JavaType javaType = getJavaType(type != null ? type : clazz, null);
+        return tiposPermitidos.contains(javaType) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return canWrite(null, clazz, mediaType);
+    }
+}
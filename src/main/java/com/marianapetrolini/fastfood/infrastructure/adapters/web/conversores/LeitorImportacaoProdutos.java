@@ -0,0 +1,231 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.web.conversores;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.marianapetrolini.fastfood.application.dtos.produto.CriarProdutoRequest;
+import com.marianapetrolini.fastfood.application.ports.input.ProdutoUseCase;
+import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lê o corpo da importação de produtos em CSV ou NDJSON (um objeto JSON
+ * por linha) direto do stream da requisição, sem montar o corpo inteiro
+ * em memória.
+ * O CSV precisa de cabeçalho com as colunas nome, preco e categoria
+ * (descricao é opcional), separadas por vírgula ou ponto e vírgula;
+ * o preço aceita vírgula ou ponto como separador decimal.
+ */
+@Component
+public class LeitorImportacaoProdutos {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final MediaType TEXT_CSV = MediaType.valueOf(TEXT_CSV_VALUE);
+    private static final List<String> COLUNAS_OBRIGATORIAS = Arrays.asList("nome", "preco", "categoria");
+
+    private final ObjectReader leitorJson;
+
+    public LeitorImportacaoProdutos(ObjectMapper objectMapper) {
+        this.leitorJson = objectMapper.readerFor(CriarProdutoRequest.class);
+    }
+
+    /**
+     * Lê os produtos conforme o tipo do conteúdo.
+     *
+     * @param contentType Tipo do conteúdo (text/csv ou application/x-ndjson)
+     * @param corpo Corpo da requisição
+     * @return Produtos na ordem do arquivo
+     * @throws IOException Erro de leitura do corpo
+     */
+    public List<CriarProdutoRequest> ler(MediaType contentType, InputStream corpo) throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        Reader reader = new BufferedReader(new InputStreamReader(corpo, charset));
+        return TEXT_CSV.includes(contentType) ? lerCsv(reader) : lerNdjson(reader);
+    }
+
+    private List<CriarProdutoRequest> lerNdjson(Reader reader) throws IOException {
+        BufferedReader linhas = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        List<CriarProdutoRequest> produtos = new ArrayList<>();
+        int numeroLinha = 0;
+        String linha;
+        while ((linha = linhas.readLine()) != null) {
+            numeroLinha++;
+            if (linha.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                adicionar(produtos, leitorJson.readValue(linha));
+            } catch (JsonProcessingException e) {
+                throw new DomainException("Linha " + numeroLinha + ": JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+        return produtos;
+    }
+
+    private List<CriarProdutoRequest> lerCsv(Reader reader) throws IOException {
+        LeitorCsv csv = new LeitorCsv(reader);
+        List<String> cabecalho = csv.proximaLinha();
+        if (cabecalho == null) {
+            return new ArrayList<>();
+        }
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            colunas.put(cabecalho.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String coluna : COLUNAS_OBRIGATORIAS) {
+            if (!colunas.containsKey(coluna)) {
+                throw new DomainException("Cabeçalho do CSV sem a coluna obrigatória: " + coluna);
+            }
+        }
+
+        List<CriarProdutoRequest> produtos = new ArrayList<>();
+        List<String> campos;
+        while ((campos = csv.proximaLinha()) != null) {
+            if (campos.size() == 1 && campos.get(0).trim().isEmpty()) {
+                continue;
+            }
+            adicionar(produtos, new CriarProdutoRequest(
+                campo(campos, colunas, "nome"),
+                campo(campos, colunas, "descricao"),
+                preco(campo(campos, colunas, "preco"), csv.getLinha()),
+                campo(campos, colunas, "categoria")
+            ));
+        }
+        return produtos;
+    }
+
+    private static void adicionar(List<CriarProdutoRequest> produtos, CriarProdutoRequest produto) {
+        if (produtos.size() == ProdutoUseCase.MAXIMO_ITENS_IMPORTACAO) {
+            throw new DomainException("Importação limitada a " + ProdutoUseCase.MAXIMO_ITENS_IMPORTACAO + " produtos");
+        }
+        produtos.add(produto);
+    }
+
+    private static String campo(List<String> campos, Map<String, Integer> colunas, String nome) {
+        Integer indice = colunas.get(nome);
+        if (indice == null || indice >= campos.size()) {
+            return null;
+        }
+        String valor = campos.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static BigDecimal preco(String valor, int linha) {
+        if (valor == null) {
+            return null;
+        }
+        String normalizado = valor.indexOf('.') < 0 ? valor.replace(',', '.') : valor;
+        try {
+            return new BigDecimal(normalizado);
+        } catch (NumberFormatException e) {
+            throw new DomainException("Linha " + linha + ": preço inválido: " + valor);
+        }
+    }
+
+    /**
+     * Leitor de CSV (RFC 4180) que consome um registro por vez; aceita campos
+     * entre aspas com separadores, aspas duplicadas e quebras de linha.
+     * O separador (vírgula ou ponto e vírgula) é definido pelo cabeçalho.
+     */
+    private static final class LeitorCsv {
+
+        private final Reader reader;
+        private char separador;
+        private int linha;
+        private int proximo = -2;
+
+        LeitorCsv(Reader reader) {
+            this.reader = reader;
+        }
+
+        int getLinha() {
+            return linha;
+        }
+
+        List<String> proximaLinha() throws IOException {
+            int c = ler();
+            if (c == -1) {
+                return null;
+            }
+            linha++;
+            List<String> campos = new ArrayList<>();
+            StringBuilder campo = new StringBuilder();
+            boolean entreAspas = false;
+            boolean cabecalho = separador == 0;
+            while (c != -1) {
+                if (entreAspas) {
+                    if (c == '"') {
+                        int seguinte = ler();
+                        if (seguinte == '"') {
+                            campo.append('"');
+                        } else {
+                            entreAspas = false;
+                            c = seguinte;
+                            continue;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            linha++;
+                        }
+                        campo.append((char) c);
+                    }
+                } else if (c == '"' && campo.length() == 0) {
+                    entreAspas = true;
+                } else if (c == separador || (cabecalho && (c == ',' || c == ';'))) {
+                    if (cabecalho) {
+                        separador = (char) c;
+                        cabecalho = false;
+                    }
+                    campos.add(campo.toString());
+                    campo.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        int seguinte = ler();
+                        if (seguinte != '\n') {
+                            proximo = seguinte;
+                        }
+                    }
+                    break;
+                } else if (c != '\uFEFF' || linha > 1 || campo.length() > 0 || !campos.isEmpty()) {
+                    campo.append((char) c);
+                }
+                c = ler();
+            }
+            if (entreAspas) {
+                throw new DomainException("Linha " + linha + ": aspas não fechadas no CSV");
+            }
+            campos.add(campo.toString());
+            if (separador == 0) {
+                separador = ',';
+            }
+            return campos;
+        }
+
+        private int ler() throws IOException {
+            if (proximo != -2) {
+                int c = proximo;
+                proximo = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
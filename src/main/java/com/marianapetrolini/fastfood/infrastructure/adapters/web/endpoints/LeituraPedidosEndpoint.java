@@ -0,0 +1,57 @@
+package com.marianapetrolini.fastfood.infrastructure.adapters.web.endpoints;
+
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.PedidoLeituraAdapter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint do Actuator para o modelo de leitura de pedidos.
+ * {@code GET /actuator/leiturapedidos} mostra o estado da projeção e
+ * {@code POST /actuator/leiturapedidos} reconstrói o modelo a partir do banco.
+ */
+@Component
+@Endpoint(id = "leiturapedidos")
+public class LeituraPedidosEndpoint {
+
+    private final PedidoLeituraAdapter leituraAdapter;
+    private final ObjectProvider<PedidoRepository> pedidoRepository;
+
+    public LeituraPedidosEndpoint(PedidoLeituraAdapter leituraAdapter,
+                                  ObjectProvider<PedidoRepository> pedidoRepository) {
+        this.leituraAdapter = leituraAdapter;
+        this.pedidoRepository = pedidoRepository;
+    }
+
+    @ReadOperation
+    public Map<String, Object> estado() {
+        Map<String, Object> estado = new LinkedHashMap<>();
+        estado.put("linhas", leituraAdapter.contarLinhas());
+        estado.put("ultimaDefasagemMs", leituraAdapter.getUltimaDefasagemMs());
+        estado.put("falhas", leituraAdapter.getFalhas());
+        estado.put("ultimaReconstrucao", leituraAdapter.getUltimaReconstrucao());
+        return estado;
+    }
+
+    @WriteOperation
+    public Map<String, Object> reconstruir() {
+        PedidoRepository repository = pedidoRepository.getIfAvailable();
+        if (repository == null) {
+            throw new IllegalStateException("Nenhum repositório de pedidos disponível para reconstrução");
+        }
+        int projetados = leituraAdapter.reconstruir(repository);
+        Map<String, Object> resultado = estado();
+        if (projetados < 0) {
+            resultado.put("reconstrucao", "em andamento em outra réplica");
+        } else {
+            resultado.put("projetados", projetados);
+        }
+        return resultado;
+    }
+}
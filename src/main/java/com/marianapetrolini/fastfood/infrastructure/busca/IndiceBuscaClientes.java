@@ -0,0 +1,833 @@
+package com.marianapetrolini.fastfood.infrastructure.busca;
+
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteSugestaoResponse;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Índice de prefixos em memória para o autocompletar de clientes.
+ * Cada cliente é indexado pelas palavras do nome (sem acentos), pelos
+ * dígitos do CPF e pelos dígitos do telefone, com e sem DDD.
+ * <p>
+ * A estrutura é uma burst trie: as chaves ficam em baldes ordenados de até
+ * {@value #LIMITE_BALDE} entradas que só viram nós (um filho por caractere)
+ * quando enchem. Isso mantém poucos nós mesmo com milhões de CPFs e
+ * telefones, e a busca custa a descida pelo prefixo mais o número de
+ * sugestões pedidas, independente do total de clientes. Cada nó guarda a
+ * quantidade de entradas abaixo dele, usada para começar as consultas de
+ * várias palavras pela mais seletiva.
+ * <p>
+ * Para caber no heap do pod, cada cliente ocupa um registro compacto: CPF e
+ * telefone ficam como números (as chaves de dígitos são lidas deles), as
+ * palavras do nome são compartilhadas entre clientes e o mapa de IDs guarda
+ * {@code long}s sem objetos por entrada. Com um milhão de clientes o índice
+ * ocupa cerca de 235 MB de heap (SugestaoClientesBenchmark).
+ */
+public class IndiceBuscaClientes {
+
+    private static final int LIMITE_BALDE = 64;
+    private static final int ALFABETO = 36;
+    private static final int TAMANHO_DDD = 2;
+    /** Dígitos que cabem em um {@code long}; telefones maiores não são indexados. */
+    private static final int MAXIMO_DIGITOS = 18;
+    /** Máximo de entradas conferidas por consulta de várias palavras. */
+    private static final int MAXIMO_VERIFICACOES = 20_000;
+
+    private static final long[] POTENCIAS = new long[MAXIMO_DIGITOS];
+
+    static {
+        POTENCIAS[0] = 1;
+        for (int i = 1; i < POTENCIAS.length; i++) {
+            POTENCIAS[i] = POTENCIAS[i - 1] * 10;
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object recarga = new Object();
+    private Conteudo conteudo = new Conteudo();
+    /** Alterações feitas durante uma recarga (valor nulo = cliente removido); nulo fora de uma recarga. */
+    private Map<Long, Cliente> alteracoesDuranteRecarga;
+    private volatile boolean carregado;
+
+    /**
+     * Inclui ou atualiza um cliente no índice.
+     *
+     * @param cliente Cliente persistido (com ID)
+     */
+    public void indexar(Cliente cliente) {
+        if (cliente == null || cliente.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            conteudo.indexar(cliente);
+            if (alteracoesDuranteRecarga != null) {
+                alteracoesDuranteRecarga.put(cliente.getId(), cliente);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um cliente do índice.
+     *
+     * @param id ID do cliente
+     */
+    public void remover(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            conteudo.remover(id);
+            if (alteracoesDuranteRecarga != null) {
+                alteracoesDuranteRecarga.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Substitui todo o conteúdo do índice.
+     * O novo índice é montado fora do bloqueio, enquanto as sugestões e as
+     * gravações seguem no anterior, e entra no lugar dele de uma vez. Clientes
+     * salvos ou removidos neste pod durante a montagem são reaplicados sobre o
+     * novo índice.
+     *
+     * @param clientes Todos os clientes (percorridos uma única vez)
+     */
+    public void recarregar(Iterable<Cliente> clientes) {
+        synchronized (recarga) {
+            registrarAlteracoes(new LinkedHashMap<>());
+            Conteudo novo = new Conteudo();
+            try {
+                for (Cliente cliente : clientes) {
+                    if (cliente != null && cliente.getId() != null) {
+                        novo.indexar(cliente);
+                    }
+                }
+            } catch (RuntimeException e) {
+                registrarAlteracoes(null);
+                throw e;
+            }
+            lock.writeLock().lock();
+            try {
+                for (Map.Entry<Long, Cliente> alteracao : alteracoesDuranteRecarga.entrySet()) {
+                    if (alteracao.getValue() == null) {
+                        novo.remover(alteracao.getKey());
+                    } else {
+                        novo.indexar(alteracao.getValue());
+                    }
+                }
+                conteudo = novo;
+                alteracoesDuranteRecarga = null;
+                carregado = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Carrega o índice na primeira utilização. A leitura dos clientes não
+     * segura o bloqueio do índice, apenas impede uma segunda carga simultânea.
+     *
+     * @param clientes Fonte de todos os clientes
+     */
+    public void garantirCarregado(Supplier<? extends Iterable<Cliente>> clientes) {
+        if (carregado) {
+            return;
+        }
+        synchronized (recarga) {
+            if (!carregado) {
+                recarregar(clientes.get());
+            }
+        }
+    }
+
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return conteudo.registros.tamanho;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sugere clientes cujas chaves começam com os termos digitados.
+     * Várias palavras precisam todas casar com alguma chave do cliente.
+     *
+     * @param termo Início do nome, do CPF ou do telefone
+     * @param limite Quantidade máxima de sugestões
+     * @return Clientes em ordem alfabética da chave encontrada
+     */
+    public List<ClienteSugestaoResponse> sugerir(String termo, int limite) {
+        List<String> termos = termosDaConsulta(termo);
+        if (termos.isEmpty() || limite <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            No raiz = conteudo.raiz;
+            String principal = termos.get(0);
+            int menor = contar(raiz, principal);
+            for (String outro : termos) {
+                int quantidade = contar(raiz, outro);
+                if (quantidade < menor) {
+                    principal = outro;
+                    menor = quantidade;
+                }
+            }
+            if (menor == 0) {
+                return Collections.emptyList();
+            }
+
+            List<String> restantes = new ArrayList<>(termos);
+            restantes.remove(principal);
+            Coletor coletor = new Coletor(restantes, limite);
+            visitar(raiz, principal, coletor);
+            return coletor.sugestoes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void registrarAlteracoes(Map<Long, Cliente> alteracoes) {
+        lock.writeLock().lock();
+        try {
+            alteracoesDuranteRecarga = alteracoes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Consultas só com dígitos (e pontuação) são um CPF ou telefone e viram
+     * um único termo; as demais são separadas em palavras normalizadas.
+     */
+    private static List<String> termosDaConsulta(String termo) {
+        List<String> termos = NormalizadorTexto.termos(termo);
+        if (termos.size() > 1) {
+            StringBuilder digitos = new StringBuilder();
+            for (String parte : termos) {
+                if (!somenteDigitos(parte)) {
+                    return termos;
+                }
+                digitos.append(parte);
+            }
+            return Collections.singletonList(digitos.toString());
+        }
+        return termos;
+    }
+
+    /**
+     * Quantidade de entradas com o prefixo informado.
+     */
+    private static int contar(No raiz, String prefixo) {
+        No no = raiz;
+        int profundidade = 0;
+        while (no != null) {
+            if (no.filhos == null) {
+                Balde balde = no.balde;
+                int quantidade = 0;
+                for (int i = balde.primeiroComPrefixo(prefixo, profundidade);
+                     i < balde.tamanho && balde.comecaCom(i, prefixo, profundidade); i++) {
+                    quantidade++;
+                }
+                return quantidade;
+            }
+            if (profundidade == prefixo.length()) {
+                return no.total;
+            }
+            int posicao = posicao(prefixo.charAt(profundidade));
+            no = posicao < 0 ? null : no.filhos[posicao];
+            profundidade++;
+        }
+        return 0;
+    }
+
+    /**
+     * Percorre em ordem alfabética as entradas com o prefixo até o coletor parar.
+     */
+    private static void visitar(No raiz, String prefixo, Coletor coletor) {
+        No no = raiz;
+        int profundidade = 0;
+        while (no != null) {
+            if (no.filhos == null) {
+                Balde balde = no.balde;
+                for (int i = balde.primeiroComPrefixo(prefixo, profundidade);
+                     i < balde.tamanho && balde.comecaCom(i, prefixo, profundidade); i++) {
+                    if (!coletor.aceitar(balde.registros[i])) {
+                        return;
+                    }
+                }
+                return;
+            }
+            if (profundidade == prefixo.length()) {
+                visitarTudo(no, coletor);
+                return;
+            }
+            int posicao = posicao(prefixo.charAt(profundidade));
+            no = posicao < 0 ? null : no.filhos[posicao];
+            profundidade++;
+        }
+    }
+
+    private static boolean visitarTudo(No no, Coletor coletor) {
+        for (int i = 0; i < no.balde.tamanho; i++) {
+            if (!coletor.aceitar(no.balde.registros[i])) {
+                return false;
+            }
+        }
+        if (no.filhos != null) {
+            for (No filho : no.filhos) {
+                if (filho != null && !visitarTudo(filho, coletor)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Posição do caractere entre os filhos: dígitos antes de letras, como na
+     * ordenação de {@link String#compareTo}.
+     */
+    private static int posicao(char caractere) {
+        if (caractere >= '0' && caractere <= '9') {
+            return caractere - '0';
+        }
+        if (caractere >= 'a' && caractere <= 'z') {
+            return 10 + caractere - 'a';
+        }
+        return -1;
+    }
+
+    private static boolean somenteDigitos(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            if (!Character.isDigit(texto.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String apenasDigitos(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        StringBuilder digitos = new StringBuilder(texto.length());
+        for (int i = 0; i < texto.length(); i++) {
+            char caractere = texto.charAt(i);
+            if (caractere >= '0' && caractere <= '9') {
+                digitos.append(caractere);
+            }
+        }
+        return digitos.toString();
+    }
+
+    private static String formatarCpf(String cpf) {
+        if (cpf == null || cpf.length() != 11) {
+            return cpf;
+        }
+        return cpf.substring(0, 3) + "." + cpf.substring(3, 6) + "." + cpf.substring(6, 9) + "-" + cpf.substring(9);
+    }
+
+    private static String formatarTelefone(String telefone) {
+        if (telefone == null || telefone.length() < 10 || telefone.length() > 11) {
+            return telefone;
+        }
+        int hifen = telefone.length() - 4;
+        return "(" + telefone.substring(0, TAMANHO_DDD) + ") " + telefone.substring(TAMANHO_DDD, hifen)
+            + "-" + telefone.substring(hifen);
+    }
+
+    /**
+     * Estrutura do índice: a trie, os registros por ID e as palavras
+     * compartilhadas. Protegida pelo bloqueio do índice, exceto enquanto é
+     * montada na recarga.
+     */
+    private static final class Conteudo {
+
+        private final No raiz = new No();
+        private final MapaRegistros registros = new MapaRegistros();
+        private final Map<String, String> palavras = new HashMap<>();
+
+        void indexar(Cliente cliente) {
+            remover(cliente.getId());
+            Registro registro = criarRegistro(cliente);
+            registros.colocar(registro.id, registro);
+            for (byte chave = 0; chave < registro.quantidadeChaves; chave++) {
+                inserir(registro, chave);
+            }
+        }
+
+        void remover(long id) {
+            Registro anterior = registros.retirar(id);
+            if (anterior == null) {
+                return;
+            }
+            for (byte chave = 0; chave < anterior.quantidadeChaves; chave++) {
+                retirar(anterior, chave);
+            }
+        }
+
+        private Registro criarRegistro(Cliente cliente) {
+            List<String> chaves = new ArrayList<>();
+            for (String palavra : NormalizadorTexto.termos(cliente.getNome())) {
+                String compartilhada = palavras.computeIfAbsent(palavra, p -> p);
+                if (!chaves.contains(compartilhada)) {
+                    chaves.add(compartilhada);
+                }
+            }
+            String cpf = cliente.getCpf() != null ? cliente.getCpf().getValor() : "";
+            String telefone = apenasDigitos(cliente.getTelefone());
+            if (telefone.length() > MAXIMO_DIGITOS) {
+                telefone = "";
+            }
+            return new Registro(cliente.getId(), cliente.getNome(), chaves.toArray(new String[0]),
+                                cpf.isEmpty() ? 0 : Long.parseLong(cpf), (byte) cpf.length(),
+                                telefone.isEmpty() ? 0 : Long.parseLong(telefone), (byte) telefone.length());
+        }
+
+        private void inserir(Registro registro, byte chave) {
+            String texto = registro.chave(chave);
+            No no = raiz;
+            int profundidade = 0;
+            while (true) {
+                no.total++;
+                if (no.filhos == null) {
+                    no.balde.inserirOrdenado(registro, chave, texto, profundidade);
+                    if (no.balde.tamanho > LIMITE_BALDE) {
+                        estourar(no, profundidade);
+                    }
+                    return;
+                }
+                if (profundidade == texto.length()) {
+                    no.balde.adicionar(registro, chave);
+                    return;
+                }
+                int posicao = posicao(texto.charAt(profundidade));
+                if (no.filhos[posicao] == null) {
+                    no.filhos[posicao] = new No();
+                }
+                no = no.filhos[posicao];
+                profundidade++;
+            }
+        }
+
+        /**
+         * Transforma uma folha cheia em nó interno: as chaves que terminam aqui
+         * ficam no balde do nó e as demais descem para o filho do próximo caractere.
+         * Como o balde está ordenado, cada filho recebe as entradas já em ordem.
+         */
+        private static void estourar(No no, int profundidade) {
+            Balde antigo = no.balde;
+            no.balde = new Balde();
+            no.filhos = new No[ALFABETO];
+            for (int i = 0; i < antigo.tamanho; i++) {
+                Registro registro = antigo.registros[i];
+                byte chave = antigo.chaves[i];
+                if (registro.tamanho(chave) == profundidade) {
+                    no.balde.adicionar(registro, chave);
+                } else {
+                    int posicao = posicao(registro.caractere(chave, profundidade));
+                    if (no.filhos[posicao] == null) {
+                        no.filhos[posicao] = new No();
+                    }
+                    no.filhos[posicao].total++;
+                    no.filhos[posicao].balde.adicionar(registro, chave);
+                }
+            }
+            for (No filho : no.filhos) {
+                if (filho != null && filho.balde.tamanho > LIMITE_BALDE) {
+                    estourar(filho, profundidade + 1);
+                }
+            }
+        }
+
+        private void retirar(Registro registro, byte chave) {
+            String texto = registro.chave(chave);
+            No no = raiz;
+            int profundidade = 0;
+            while (no != null) {
+                no.total--;
+                if (no.filhos == null || profundidade == texto.length()) {
+                    no.balde.retirar(registro, chave);
+                    return;
+                }
+                int posicao = posicao(texto.charAt(profundidade));
+                No filho = no.filhos[posicao];
+                if (filho != null && filho.total == 1) {
+                    // Último item do ramo: descarta o ramo inteiro
+                    no.filhos[posicao] = null;
+                    return;
+                }
+                no = filho;
+                profundidade++;
+            }
+        }
+    }
+
+    /**
+     * Dados do cliente mantidos em memória. As chaves são, nesta ordem, as
+     * palavras do nome (compartilhadas entre clientes), o CPF, o telefone e o
+     * telefone sem DDD; as de dígitos são lidas dos números, sem uma String
+     * por chave.
+     */
+    private static final class Registro {
+
+        private final long id;
+        private final String nome;
+        private final String[] palavras;
+        private final long cpf;
+        private final long telefone;
+        private final byte digitosCpf;
+        private final byte digitosTelefone;
+        private final byte quantidadeChaves;
+
+        Registro(long id, String nome, String[] palavras, long cpf, byte digitosCpf,
+                 long telefone, byte digitosTelefone) {
+            this.id = id;
+            this.nome = nome;
+            this.palavras = palavras;
+            this.cpf = cpf;
+            this.digitosCpf = digitosCpf;
+            this.telefone = telefone;
+            this.digitosTelefone = digitosTelefone;
+            int quantidade = palavras.length + (digitosCpf > 0 ? 1 : 0) + (digitosTelefone > 0 ? 1 : 0)
+                + (digitosTelefone >= 10 ? 1 : 0);
+            this.quantidadeChaves = (byte) quantidade;
+        }
+
+        int tamanho(byte chave) {
+            if (chave < palavras.length) {
+                return palavras[chave].length();
+            }
+            switch (tipoNumero(chave)) {
+                case 0:
+                    return digitosCpf;
+                case 1:
+                    return digitosTelefone;
+                default:
+                    return digitosTelefone - TAMANHO_DDD;
+            }
+        }
+
+        char caractere(byte chave, int posicao) {
+            if (chave < palavras.length) {
+                return palavras[chave].charAt(posicao);
+            }
+            switch (tipoNumero(chave)) {
+                case 0:
+                    return digito(cpf, digitosCpf, posicao);
+                case 1:
+                    return digito(telefone, digitosTelefone, posicao);
+                default:
+                    return digito(telefone, digitosTelefone, posicao + TAMANHO_DDD);
+            }
+        }
+
+        /**
+         * Texto da chave; nas de dígitos, montado a cada chamada.
+         */
+        String chave(byte chave) {
+            if (chave < palavras.length) {
+                return palavras[chave];
+            }
+            int tamanho = tamanho(chave);
+            char[] caracteres = new char[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                caracteres[i] = caractere(chave, i);
+            }
+            return new String(caracteres);
+        }
+
+        /**
+         * Compara a chave com o texto a partir de uma posição, como {@link String#compareTo}.
+         */
+        int comparar(byte chave, String texto, int desde) {
+            int tamanho = tamanho(chave);
+            int limite = Math.min(tamanho, texto.length());
+            for (int i = desde; i < limite; i++) {
+                int diferenca = caractere(chave, i) - texto.charAt(i);
+                if (diferenca != 0) {
+                    return diferenca;
+                }
+            }
+            return tamanho - texto.length();
+        }
+
+        boolean comecaCom(byte chave, String prefixo, int desde) {
+            if (tamanho(chave) < prefixo.length()) {
+                return false;
+            }
+            for (int i = desde; i < prefixo.length(); i++) {
+                if (caractere(chave, i) != prefixo.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean temChaveComPrefixo(String prefixo) {
+            for (byte chave = 0; chave < quantidadeChaves; chave++) {
+                if (comecaCom(chave, prefixo, 0)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ClienteSugestaoResponse toResponse() {
+            String cpfTexto = digitosCpf > 0 ? numero(cpf, digitosCpf) : null;
+            String telefoneTexto = digitosTelefone > 0 ? numero(telefone, digitosTelefone) : null;
+            return new ClienteSugestaoResponse(id, nome, formatarCpf(cpfTexto), formatarTelefone(telefoneTexto));
+        }
+
+        /**
+         * 0 para o CPF, 1 para o telefone e 2 para o telefone sem DDD.
+         */
+        private int tipoNumero(byte chave) {
+            int indice = chave - palavras.length;
+            return digitosCpf > 0 ? indice : indice + 1;
+        }
+
+        private static char digito(long numero, int digitos, int posicao) {
+            return (char) ('0' + numero / POTENCIAS[digitos - 1 - posicao] % 10);
+        }
+
+        private static String numero(long numero, int digitos) {
+            char[] caracteres = new char[digitos];
+            for (int i = 0; i < digitos; i++) {
+                caracteres[i] = digito(numero, digitos, i);
+            }
+            return new String(caracteres);
+        }
+    }
+
+    /**
+     * Registros por ID em endereçamento aberto: IDs em um {@code long[]} e
+     * registros no vetor paralelo, sem nó nem {@code Long} por cliente.
+     */
+    private static final class MapaRegistros {
+
+        private static final Registro REMOVIDO = new Registro(0, "", new String[0], 0, (byte) 0, 0, (byte) 0);
+        private static final float CARGA_MAXIMA = 0.6f;
+
+        private long[] ids = new long[16];
+        private Registro[] valores = new Registro[16];
+        private int tamanho;
+        private int ocupadas;
+
+        Registro colocar(long id, Registro registro) {
+            if (ocupadas + 1 > valores.length * CARGA_MAXIMA) {
+                redimensionar(tamanho + 1 > valores.length * CARGA_MAXIMA / 2 ? valores.length * 2 : valores.length);
+            }
+            int livre = -1;
+            for (int i = indice(id, valores.length); ; i = (i + 1) & (valores.length - 1)) {
+                Registro atual = valores[i];
+                if (atual == null) {
+                    int destino = livre >= 0 ? livre : i;
+                    if (livre < 0) {
+                        ocupadas++;
+                    }
+                    ids[destino] = id;
+                    valores[destino] = registro;
+                    tamanho++;
+                    return null;
+                }
+                if (atual == REMOVIDO) {
+                    if (livre < 0) {
+                        livre = i;
+                    }
+                } else if (ids[i] == id) {
+                    valores[i] = registro;
+                    return atual;
+                }
+            }
+        }
+
+        Registro retirar(long id) {
+            for (int i = indice(id, valores.length); ; i = (i + 1) & (valores.length - 1)) {
+                Registro atual = valores[i];
+                if (atual == null) {
+                    return null;
+                }
+                if (atual != REMOVIDO && ids[i] == id) {
+                    valores[i] = REMOVIDO;
+                    tamanho--;
+                    return atual;
+                }
+            }
+        }
+
+        private void redimensionar(int capacidade) {
+            long[] idsAntigos = ids;
+            Registro[] valoresAntigos = valores;
+            ids = new long[capacidade];
+            valores = new Registro[capacidade];
+            for (int i = 0; i < valoresAntigos.length; i++) {
+                Registro registro = valoresAntigos[i];
+                if (registro != null && registro != REMOVIDO) {
+                    int destino = indice(idsAntigos[i], capacidade);
+                    while (valores[destino] != null) {
+                        destino = (destino + 1) & (capacidade - 1);
+                    }
+                    ids[destino] = idsAntigos[i];
+                    valores[destino] = registro;
+                }
+            }
+            ocupadas = tamanho;
+        }
+
+        private static int indice(long id, int capacidade) {
+            long misturado = id * 0x9E3779B97F4A7C15L;
+            return (int) (misturado ^ (misturado >>> 32)) & (capacidade - 1);
+        }
+    }
+
+    private static final class No {
+
+        private No[] filhos;
+        private Balde balde = new Balde();
+        private int total;
+    }
+
+    /**
+     * Entradas (cliente e qual das suas chaves) de um nó. Nas folhas ficam
+     * ordenadas pelo restante da chave a partir da profundidade do nó.
+     */
+    private static final class Balde {
+
+        private Registro[] registros = new Registro[4];
+        private byte[] chaves = new byte[4];
+        private int tamanho;
+
+        void adicionar(Registro registro, byte chave) {
+            inserirEm(tamanho, registro, chave);
+        }
+
+        void inserirOrdenado(Registro registro, byte chave, String texto, int profundidade) {
+            int posicao = primeiroComPrefixo(texto, profundidade);
+            // Chaves iguais mantêm a ordem de inclusão
+            while (posicao < tamanho && registros[posicao].comparar(chaves[posicao], texto, profundidade) == 0) {
+                posicao++;
+            }
+            inserirEm(posicao, registro, chave);
+        }
+
+        void retirar(Registro registro, byte chave) {
+            for (int i = 0; i < tamanho; i++) {
+                if (registros[i] == registro && chaves[i] == chave) {
+                    System.arraycopy(registros, i + 1, registros, i, tamanho - i - 1);
+                    System.arraycopy(chaves, i + 1, chaves, i, tamanho - i - 1);
+                    registros[--tamanho] = null;
+                    encolher();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Primeira posição cuja chave, a partir da profundidade, não é menor que o texto.
+         */
+        int primeiroComPrefixo(String texto, int profundidade) {
+            int inicio = 0;
+            int fim = tamanho;
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (registros[meio].comparar(chaves[meio], texto, profundidade) < 0) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+            return inicio;
+        }
+
+        boolean comecaCom(int posicao, String prefixo, int profundidade) {
+            return registros[posicao].comecaCom(chaves[posicao], prefixo, profundidade);
+        }
+
+        private void inserirEm(int posicao, Registro registro, byte chave) {
+            if (tamanho == registros.length) {
+                // Crescimento de 50%: os baldes cheios não passam muito de LIMITE_BALDE
+                redimensionar(tamanho + Math.max(2, tamanho >> 1));
+            }
+            System.arraycopy(registros, posicao, registros, posicao + 1, tamanho - posicao);
+            System.arraycopy(chaves, posicao, chaves, posicao + 1, tamanho - posicao);
+            registros[posicao] = registro;
+            chaves[posicao] = chave;
+            tamanho++;
+        }
+
+        /**
+         * Devolve a sobra dos baldes que estouraram e ficaram só com as chaves que terminam no nó.
+         */
+        private void encolher() {
+            if (registros.length > 8 && tamanho < registros.length / 4) {
+                redimensionar(Math.max(4, tamanho * 2));
+            }
+        }
+
+        private void redimensionar(int capacidade) {
+            registros = Arrays.copyOf(registros, capacidade);
+            chaves = Arrays.copyOf(chaves, capacidade);
+        }
+    }
+
+    /**
+     * Junta as sugestões sem repetir clientes, conferindo os demais termos
+     * da consulta, até o limite de sugestões ou de verificações.
+     */
+    private static final class Coletor {
+
+        private final List<String> restantes;
+        private final int limite;
+        private final List<ClienteSugestaoResponse> sugestoes = new ArrayList<>();
+        private final Set<Long> vistos = new HashSet<>();
+        private int verificacoes;
+
+        Coletor(List<String> restantes, int limite) {
+            this.restantes = restantes;
+            this.limite = limite;
+        }
+
+        boolean aceitar(Registro registro) {
+            if (++verificacoes > MAXIMO_VERIFICACOES) {
+                return false;
+            }
+            if (vistos.contains(registro.id)) {
+                return true;
+            }
+            for (String termo : restantes) {
+                if (!registro.temChaveComPrefixo(termo)) {
+                    return true;
+                }
+            }
+            vistos.add(registro.id);
+            sugestoes.add(registro.toResponse());
+            return sugestoes.size() < limite;
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.marianapetrolini.fastfood.infrastructure.busca;
+
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Índice de busca em memória sobre nome e descrição dos produtos.
+ * Termos com três ou mais caracteres usam listas invertidas de trigramas
+ * (equivalente a um LIKE '%termo%' sem varrer a tabela); termos menores
+ * usam os prefixos de uma e duas letras de cada palavra. A comparação
+ * ignora acentos e maiúsculas ("mac" encontra "Maçã") e os resultados
+ * são ordenados por relevância: nome antes de descrição, palavra exata
+ * antes de prefixo e prefixo antes de trecho.
+ * Cada produto recebe uma posição interna e as listas invertidas são
+ * {@link BitSet}s sobre essas posições, de modo que a interseção dos
+ * termos é um AND de palavras de 64 bits, sem objetos por candidato.
+ */
+public class IndiceBuscaProdutos {
+
+    private static final int TAMANHO_NGRAMA = 3;
+
+    private static final int PONTOS_NOME_EXATO = 100;
+    private static final int PONTOS_NOME_PREFIXO = 60;
+    private static final int PONTOS_PRIMEIRA_PALAVRA = 15;
+    private static final int PONTOS_NOME_TRECHO = 30;
+    private static final int PONTOS_DESCRICAO_PREFIXO = 10;
+    private static final int PONTOS_DESCRICAO_TRECHO = 5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object recarga = new Object();
+    private Conteudo conteudo = new Conteudo();
+    /** Alterações feitas durante uma recarga (valor nulo = produto removido); nulo fora de uma recarga. */
+    private Map<Long, Produto> alteracoesDuranteRecarga;
+    private volatile boolean carregado;
+
+    /**
+     * Inclui ou atualiza um produto no índice.
+     *
+     * @param produto Produto persistido (com ID)
+     */
+    public void indexar(Produto produto) {
+        if (produto == null || produto.getId() == null) {
+            return;
+        }
+        Produto copia = copiar(produto);
+        Documento documento = new Documento(copia);
+        lock.writeLock().lock();
+        try {
+            conteudo.indexar(produto.getId(), documento);
+            if (alteracoesDuranteRecarga != null) {
+                alteracoesDuranteRecarga.put(produto.getId(), copia);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um produto do índice.
+     *
+     * @param id ID do produto
+     */
+    public void remover(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            conteudo.remover(id);
+            if (alteracoesDuranteRecarga != null) {
+                alteracoesDuranteRecarga.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Substitui todo o conteúdo do índice.
+     *
+     * @param produtos Catálogo completo
+     */
+    public void recarregar(List<Produto> produtos) {
+        recarregar(() -> produtos);
+    }
+
+    /**
+     * Substitui todo o conteúdo do índice pelo catálogo lido agora.
+     * O novo índice é montado fora do bloqueio, enquanto as buscas seguem no
+     * anterior, e entra no lugar dele de uma vez. Produtos salvos ou removidos
+     * neste pod durante a leitura são reaplicados sobre o novo índice.
+     *
+     * @param catalogo Fonte do catálogo completo
+     */
+    public void recarregar(Supplier<List<Produto>> catalogo) {
+        synchronized (recarga) {
+            lock.writeLock().lock();
+            try {
+                alteracoesDuranteRecarga = new LinkedHashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Conteudo novo = new Conteudo();
+            try {
+                for (Produto produto : catalogo.get()) {
+                    if (produto != null && produto.getId() != null) {
+                        novo.indexar(produto.getId(), new Documento(copiar(produto)));
+                    }
+                }
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    alteracoesDuranteRecarga = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+            lock.writeLock().lock();
+            try {
+                for (Map.Entry<Long, Produto> alteracao : alteracoesDuranteRecarga.entrySet()) {
+                    if (alteracao.getValue() == null) {
+                        novo.remover(alteracao.getKey());
+                    } else {
+                        novo.indexar(alteracao.getKey(), new Documento(alteracao.getValue()));
+                    }
+                }
+                conteudo = novo;
+                alteracoesDuranteRecarga = null;
+                carregado = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Carrega o índice na primeira utilização.
+     *
+     * @param catalogo Fonte do catálogo completo
+     */
+    public void garantirCarregado(Supplier<List<Produto>> catalogo) {
+        if (carregado) {
+            return;
+        }
+        synchronized (recarga) {
+            if (!carregado) {
+                recarregar(catalogo);
+            }
+        }
+    }
+
+    /**
+     * Marca o índice para ser recarregado na próxima busca.
+     */
+    public void invalidar() {
+        carregado = false;
+    }
+
+    public boolean isCarregado() {
+        return carregado;
+    }
+
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return conteudo.posicoes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca produtos cujo nome ou descrição contenham todos os termos da consulta.
+     *
+     * @param consulta Texto digitado
+     * @return Produtos encontrados, do mais para o menos relevante
+     */
+    public List<Produto> buscar(String consulta) {
+        List<String> termos = NormalizadorTexto.termos(consulta);
+        if (termos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Conteudo atual = conteudo;
+            BitSet candidatos = null;
+            for (String termo : termos) {
+                candidatos = atual.candidatosDoTermo(termo, candidatos);
+                if (candidatos.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<Resultado> resultados = new ArrayList<>(candidatos.cardinality());
+            for (int posicao = candidatos.nextSetBit(0); posicao >= 0; posicao = candidatos.nextSetBit(posicao + 1)) {
+                Documento documento = atual.documentos.get(posicao);
+                int pontos = documento.pontuar(termos);
+                if (pontos > 0) {
+                    resultados.add(new Resultado(documento, pontos));
+                }
+            }
+            resultados.sort(Comparator.comparingInt((Resultado r) -> -r.pontos)
+                .thenComparing(r -> r.documento.nome));
+
+            List<Produto> produtos = new ArrayList<>(resultados.size());
+            for (Resultado resultado : resultados) {
+                produtos.add(copiar(resultado.documento.produto));
+            }
+            return produtos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static BitSet intersecao(BitSet atual, BitSet lista) {
+        if (lista == null) {
+            return new BitSet();
+        }
+        if (atual == null) {
+            return (BitSet) lista.clone();
+        }
+        atual.and(lista);
+        return atual;
+    }
+
+    private static void removerDasListas(Map<String, BitSet> listas, Set<String> chaves, int posicao) {
+        for (String chave : chaves) {
+            BitSet lista = listas.get(chave);
+            if (lista != null) {
+                lista.clear(posicao);
+                if (lista.isEmpty()) {
+                    listas.remove(chave);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cópia defensiva: o índice não compartilha instâncias com quem o consulta.
+     */
+    private static Produto copiar(Produto produto) {
+        return new Produto(produto.getId(), produto.getNome(), produto.getDescricao(), produto.getPreco(),
+                           produto.getCategoria(), produto.isDisponivel(),
+                           produto.getCriadoEm(), produto.getAtualizadoEm());
+    }
+
+    /**
+     * Estrutura do índice: posições internas dos produtos e listas invertidas.
+     * Protegida pelo bloqueio do índice, exceto enquanto é montada na recarga.
+     */
+    private static final class Conteudo {
+
+        private final Map<Long, Integer> posicoes = new HashMap<>();
+        private final List<Documento> documentos = new ArrayList<>();
+        private final Deque<Integer> posicoesLivres = new ArrayDeque<>();
+        private final Map<String, BitSet> trigramas = new HashMap<>();
+        private final Map<String, BitSet> prefixos = new HashMap<>();
+
+        void indexar(Long id, Documento documento) {
+            remover(id);
+            int posicao;
+            if (posicoesLivres.isEmpty()) {
+                posicao = documentos.size();
+                documentos.add(documento);
+            } else {
+                posicao = posicoesLivres.pop();
+                documentos.set(posicao, documento);
+            }
+            posicoes.put(id, posicao);
+            for (String chave : documento.trigramas) {
+                trigramas.computeIfAbsent(chave, k -> new BitSet()).set(posicao);
+            }
+            for (String chave : documento.prefixos) {
+                prefixos.computeIfAbsent(chave, k -> new BitSet()).set(posicao);
+            }
+        }
+
+        void remover(Long id) {
+            Integer posicao = posicoes.remove(id);
+            if (posicao == null) {
+                return;
+            }
+            Documento anterior = documentos.set(posicao, null);
+            posicoesLivres.push(posicao);
+            removerDasListas(trigramas, anterior.trigramas, posicao);
+            removerDasListas(prefixos, anterior.prefixos, posicao);
+        }
+
+        /**
+         * Restringe os candidatos aos documentos que contêm o termo.
+         *
+         * @param termo Termo normalizado
+         * @param candidatos Candidatos dos termos anteriores (nulo no primeiro termo)
+         * @return Candidatos restantes
+         */
+        private BitSet candidatosDoTermo(String termo, BitSet candidatos) {
+            if (termo.length() < TAMANHO_NGRAMA) {
+                return intersecao(candidatos, prefixos.get(termo));
+            }
+            BitSet resultado = candidatos;
+            for (int i = 0; i + TAMANHO_NGRAMA <= termo.length(); i++) {
+                resultado = intersecao(resultado, trigramas.get(termo.substring(i, i + TAMANHO_NGRAMA)));
+                if (resultado.isEmpty()) {
+                    break;
+                }
+            }
+            return resultado;
+        }
+    }
+
+    private static final class Documento {
+
+        private final Produto produto;
+        private final String nome;
+        private final String descricao;
+        private final List<String> palavrasNome;
+        private final List<String> palavrasDescricao;
+        private final Set<String> trigramas = new HashSet<>();
+        private final Set<String> prefixos = new HashSet<>();
+
+        Documento(Produto produto) {
+            this.produto = produto;
+            this.nome = NormalizadorTexto.normalizar(produto.getNome());
+            this.descricao = NormalizadorTexto.normalizar(produto.getDescricao());
+            this.palavrasNome = NormalizadorTexto.termos(produto.getNome());
+            this.palavrasDescricao = NormalizadorTexto.termos(produto.getDescricao());
+            extrairChaves(nome);
+            extrairChaves(descricao);
+        }
+
+        private void extrairChaves(String texto) {
+            for (int i = 0; i + TAMANHO_NGRAMA <= texto.length(); i++) {
+                trigramas.add(texto.substring(i, i + TAMANHO_NGRAMA));
+            }
+            for (String palavra : texto.isEmpty() ? new String[0] : texto.split(" ")) {
+                for (int tamanho = 1; tamanho < TAMANHO_NGRAMA && tamanho <= palavra.length(); tamanho++) {
+                    prefixos.add(palavra.substring(0, tamanho));
+                }
+            }
+        }
+
+        /**
+         * Soma a relevância de cada termo; zero se algum termo não ocorrer
+         * (os trigramas podem coincidir sem que o trecho exista no texto).
+         */
+        int pontuar(List<String> termos) {
+            int total = 0;
+            for (String termo : termos) {
+                int pontos = pontuarTermo(termo);
+                if (pontos == 0) {
+                    return 0;
+                }
+                total += pontos;
+            }
+            return total;
+        }
+
+        private int pontuarTermo(String termo) {
+            for (int i = 0; i < palavrasNome.size(); i++) {
+                String palavra = palavrasNome.get(i);
+                int bonus = i == 0 ? PONTOS_PRIMEIRA_PALAVRA : 0;
+                if (palavra.equals(termo)) {
+                    return PONTOS_NOME_EXATO + bonus;
+                }
+                if (palavra.startsWith(termo)) {
+                    return PONTOS_NOME_PREFIXO + bonus;
+                }
+            }
+            if (termo.length() >= TAMANHO_NGRAMA && nome.contains(termo)) {
+                return PONTOS_NOME_TRECHO;
+            }
+            for (String palavra : palavrasDescricao) {
+                if (palavra.startsWith(termo)) {
+                    return PONTOS_DESCRICAO_PREFIXO;
+                }
+            }
+            if (termo.length() >= TAMANHO_NGRAMA && descricao.contains(termo)) {
+                return PONTOS_DESCRICAO_TRECHO;
+            }
+            return 0;
+        }
+    }
+
+    private static final class Resultado {
+
+        private final Documento documento;
+        private final int pontos;
+
+        Resultado(Documento documento, int pontos) {
+            this.documento = documento;
+            this.pontos = pontos;
+        }
+    }
+}
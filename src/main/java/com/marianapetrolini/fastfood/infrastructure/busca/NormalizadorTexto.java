@@ -0,0 +1,54 @@
+package com.marianapetrolini.fastfood.infrastructure.busca;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto para os índices de busca em memória.
+ * Remove acentos e cedilha, converte para minúsculas e separa em termos
+ * alfanuméricos, de modo que "Maçã" e "maca" sejam equivalentes.
+ */
+public final class NormalizadorTexto {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+
+    private NormalizadorTexto() {
+    }
+
+    /**
+     * Normaliza o texto, mantendo apenas letras sem acento, dígitos e espaços simples.
+     *
+     * @param texto Texto original (pode ser nulo)
+     * @return Texto normalizado, vazio se nulo
+     */
+    public static String normalizar(String texto) {
+        if (texto == null || texto.isEmpty()) {
+            return "";
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Separa o texto normalizado em termos.
+     *
+     * @param texto Texto original (pode ser nulo)
+     * @return Termos normalizados, na ordem em que aparecem
+     */
+    public static List<String> termos(String texto) {
+        String normalizado = normalizar(texto);
+        if (normalizado.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> termos = new ArrayList<>();
+        for (String termo : normalizado.split(" ")) {
+            termos.add(termo);
+        }
+        return termos;
+    }
+}
@@ -0,0 +1,46 @@
+package com.marianapetrolini.fastfood.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Camada de cache compartilhada entre os pods (grid embarcado ou servidor
+ * compatível com Redis). Os valores trafegam como bytes, e o canal de
+ * mensagens leva as invalidações de um pod para os caches próximos dos demais.
+ * {@link CacheCompartilhadoLocal} é a implementação em processo usada em
+ * desenvolvimento e nos testes; outra implementação registrada como bean a substitui.
+ */
+public interface CacheCompartilhado {
+
+    /**
+     * @param chave Chave do valor
+     * @return Valor gravado, ou null se ausente ou expirado
+     */
+    byte[] obter(String chave);
+
+    /**
+     * @param chave Chave do valor
+     * @param valor Valor serializado
+     * @param ttl Tempo de vida do valor
+     */
+    void gravar(String chave, byte[] valor, Duration ttl);
+
+    /**
+     * @param chave Chave a remover
+     */
+    void remover(String chave);
+
+    /**
+     * Publica uma mensagem para todos os assinantes do canal, inclusive os deste pod.
+     *
+     * @param canal Nome do canal
+     * @param mensagem Conteúdo da mensagem
+     */
+    void publicar(String canal, String mensagem);
+
+    /**
+     * @param canal Nome do canal
+     * @param ouvinte Chamado a cada mensagem publicada no canal
+     */
+    void assinar(String canal, Consumer<String> ouvinte);
+}
@@ -0,0 +1,74 @@
+package com.marianapetrolini.fastfood.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Cache compartilhado em processo, no lugar do servidor de cache quando não há
+ * um configurado. Copia os valores na entrada e na saída, como faria a rede,
+ * e entrega as mensagens de forma síncrona. Vários caches de dois níveis
+ * ligados à mesma instância simulam pods diferentes nos testes.
+ */
+public class CacheCompartilhadoLocal implements CacheCompartilhado {
+
+    private final Map<String, Entrada> valores = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> ouvintes = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] obter(String chave) {
+        Entrada entrada = valores.get(chave);
+        if (entrada == null) {
+            return null;
+        }
+        if (System.nanoTime() - entrada.expiraEmNanos > 0) {
+            valores.remove(chave, entrada);
+            return null;
+        }
+        return entrada.valor.clone();
+    }
+
+    @Override
+    public void gravar(String chave, byte[] valor, Duration ttl) {
+        valores.put(chave, new Entrada(valor.clone(), System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void remover(String chave) {
+        valores.remove(chave);
+    }
+
+    @Override
+    public void publicar(String canal, String mensagem) {
+        for (Consumer<String> ouvinte : ouvintes.getOrDefault(canal, Collections.emptyList())) {
+            ouvinte.accept(mensagem);
+        }
+    }
+
+    @Override
+    public void assinar(String canal, Consumer<String> ouvinte) {
+        ouvintes.computeIfAbsent(canal, c -> new CopyOnWriteArrayList<>()).add(ouvinte);
+    }
+
+    /**
+     * @return Número de valores gravados (inclui os expirados ainda não removidos)
+     */
+    public int tamanho() {
+        return valores.size();
+    }
+
+    private static final class Entrada {
+
+        private final byte[] valor;
+        private final long expiraEmNanos;
+
+        private Entrada(byte[] valor, long expiraEmNanos) {
+            this.valor = valor;
+            this.expiraEmNanos = expiraEmNanos;
+        }
+    }
+}
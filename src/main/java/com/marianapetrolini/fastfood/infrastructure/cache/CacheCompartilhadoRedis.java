@@ -0,0 +1,95 @@
+package com.marianapetrolini.fastfood.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Cache compartilhado em um servidor Redis, único para todos os pods.
+ * Os valores são gravados como bytes com expiração (SET com PX) e as
+ * mensagens usam o pub/sub do Redis, entregue a todos os pods conectados,
+ * inclusive o que publicou. As mensagens chegam na thread do container de
+ * assinaturas; um pod desconectado perde as publicadas nesse intervalo, e o
+ * TTL do cache próximo limita a desatualização.
+ * As assinaturas começam em {@link #iniciarAssinaturas()}, repetido até dar
+ * certo: sem o Redis na subida, o pod sobe e segue pelo banco. Depois de
+ * assinadas, o cliente as refaz sozinho quando a conexão volta.
+ */
+public class CacheCompartilhadoRedis implements CacheCompartilhado {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheCompartilhadoRedis.class);
+
+    private final RedisTemplate<String, byte[]> template;
+    private final RedisMessageListenerContainer assinaturas;
+    private volatile boolean assinado;
+
+    /**
+     * @param conexoes Conexões com o servidor Redis
+     * @param assinaturas Container das assinaturas de canais, sem início automático
+     */
+    public CacheCompartilhadoRedis(RedisConnectionFactory conexoes, RedisMessageListenerContainer assinaturas) {
+        this.template = new RedisTemplate<>();
+        this.template.setConnectionFactory(conexoes);
+        this.template.setKeySerializer(RedisSerializer.string());
+        this.template.setValueSerializer(RedisSerializer.byteArray());
+        this.template.afterPropertiesSet();
+        this.assinaturas = assinaturas;
+    }
+
+    @Override
+    public byte[] obter(String chave) {
+        return template.opsForValue().get(chave);
+    }
+
+    @Override
+    public void gravar(String chave, byte[] valor, Duration ttl) {
+        template.opsForValue().set(chave, valor, ttl);
+    }
+
+    @Override
+    public void remover(String chave) {
+        template.delete(chave);
+    }
+
+    @Override
+    public void publicar(String canal, String mensagem) {
+        template.convertAndSend(canal, mensagem.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void assinar(String canal, Consumer<String> ouvinte) {
+        assinaturas.addMessageListener(
+            (mensagem, padrao) -> ouvinte.accept(new String(mensagem.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(canal));
+    }
+
+    /**
+     * Inicia as assinaturas dos canais, se ainda não foram iniciadas.
+     *
+     * @return true se os canais estão assinados
+     */
+    public synchronized boolean iniciarAssinaturas() {
+        if (assinado) {
+            return true;
+        }
+        try {
+            // Um início que falhou deixa o container marcado como iniciado, sem assinaturas
+            assinaturas.stop();
+            assinaturas.start();
+            assinado = true;
+            logger.info("Canais do cache compartilhado assinados no Redis");
+        } catch (RuntimeException e) {
+            assinaturas.stop();
+            logger.warn("Falha ao assinar os canais do cache compartilhado no Redis: {}", e.getMessage());
+        }
+        return assinado;
+    }
+}
@@ -0,0 +1,256 @@
+package com.marianapetrolini.fastfood.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache de dois níveis: um cache próximo, em memória no pod, na frente do
+ * {@link CacheCompartilhado}. Uma consulta tenta o próximo, depois o
+ * compartilhado (guardando o valor no próximo) e só então o banco.
+ * Ao invalidar uma chave, o pod a remove dos dois níveis e publica a chave em
+ * {@value #CANAL_INVALIDACOES}, para que os outros pods a retirem do cache
+ * próximo. O TTL curto do cache próximo limita a desatualização caso uma
+ * mensagem se perca.
+ * Métricas (tag {@code cache}): {@code fastfood.cache.consultas} por
+ * {@code resultado} (proximo, compartilhado, falta), {@code fastfood.cache.taxa.acerto}
+ * e {@code fastfood.cache.invalidacoes} por {@code origem} (local, remota).
+ */
+public class CacheDoisNiveis {
+
+    public static final String CANAL_INVALIDACOES = "fastfood.cache.invalidacoes";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheDoisNiveis.class);
+    private static final String SEPARADOR = " ";
+
+    private final String nome;
+    private final CacheCompartilhado compartilhado;
+    private final Duration ttlCompartilhado;
+    private final long ttlProximoNanos;
+    private final Map<String, Entrada> proximo;
+    private final String origem = UUID.randomUUID().toString();
+    private final LongAdder acertosProximo = new LongAdder();
+    private final LongAdder acertosCompartilhado = new LongAdder();
+    private final LongAdder faltas = new LongAdder();
+    private final Counter invalidacoesLocais;
+    private final Counter invalidacoesRemotas;
+
+    /**
+     * @param nome Nome do cache (tag das métricas e prefixo das chaves)
+     * @param compartilhado Camada compartilhada entre os pods
+     * @param maximoProximo Entradas mantidas no cache próximo (as menos usadas saem primeiro)
+     * @param ttlProximo Tempo de vida no cache próximo
+     * @param ttlCompartilhado Tempo de vida no cache compartilhado
+     * @param registry Registro de métricas
+     */
+    public CacheDoisNiveis(String nome, CacheCompartilhado compartilhado, int maximoProximo,
+                           Duration ttlProximo, Duration ttlCompartilhado, MeterRegistry registry) {
+        this.nome = nome;
+        this.compartilhado = compartilhado;
+        this.ttlCompartilhado = ttlCompartilhado;
+        this.ttlProximoNanos = ttlProximo.toNanos();
+        this.proximo = new LinkedHashMap<String, Entrada>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> maisAntiga) {
+                return size() > maximoProximo;
+            }
+        };
+        registrarConsultas(registry, "proximo", acertosProximo);
+        registrarConsultas(registry, "compartilhado", acertosCompartilhado);
+        registrarConsultas(registry, "falta", faltas);
+        Gauge.builder("fastfood.cache.taxa.acerto", this, CacheDoisNiveis::getTaxaAcerto)
+            .description("Fração das consultas atendidas pelo cache próximo ou compartilhado")
+            .tag("cache", nome)
+            .register(registry);
+        this.invalidacoesLocais = contadorInvalidacoes(registry, "local");
+        this.invalidacoesRemotas = contadorInvalidacoes(registry, "remota");
+        compartilhado.assinar(CANAL_INVALIDACOES, this::receberInvalidacao);
+    }
+
+    /**
+     * Busca o valor nos dois níveis e, na falta, no banco.
+     *
+     * @param chave Chave do valor (sem o prefixo do cache)
+     * @param codificador Serialização do valor
+     * @param banco Consulta ao banco na falta
+     * @param guardar Se um valor vindo do banco pode ser guardado no cache
+     * @param <T> Tipo do valor
+     * @return Valor encontrado
+     */
+    public <T> Optional<T> obter(String chave, Codificador<T> codificador, Supplier<Optional<T>> banco,
+                                 boolean guardar) {
+        String chaveCompleta = chaveCompleta(chave);
+        byte[] bytes = obterProximo(chaveCompleta);
+        if (bytes != null) {
+            acertosProximo.increment();
+            return Optional.of(codificador.decodificar(bytes));
+        }
+
+        bytes = obterCompartilhado(chaveCompleta);
+        if (bytes != null) {
+            acertosCompartilhado.increment();
+            guardarProximo(chaveCompleta, bytes);
+            return Optional.of(codificador.decodificar(bytes));
+        }
+
+        faltas.increment();
+        Optional<T> valor = banco.get();
+        if (guardar && valor.isPresent()) {
+            gravar(chave, codificador.codificar(valor.get()));
+        }
+        return valor;
+    }
+
+    /**
+     * Grava o valor nos dois níveis.
+     *
+     * @param chave Chave do valor (sem o prefixo do cache)
+     * @param bytes Valor serializado
+     */
+    public void gravar(String chave, byte[] bytes) {
+        String chaveCompleta = chaveCompleta(chave);
+        guardarProximo(chaveCompleta, bytes);
+        try {
+            compartilhado.gravar(chaveCompleta, bytes, ttlCompartilhado);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao gravar {} no cache compartilhado: {}", chaveCompleta, e.getMessage());
+        }
+    }
+
+    /**
+     * Remove a chave dos dois níveis neste pod e avisa os demais pods.
+     * Dentro de uma transação, repete a invalidação ao fim dela: uma leitura
+     * concorrente feita antes do commit pode ter guardado o valor antigo.
+     *
+     * @param chave Chave do valor (sem o prefixo do cache)
+     */
+    public void invalidar(String chave) {
+        invalidarAgora(chave);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidarAgora(chave);
+                }
+            });
+        }
+    }
+
+    private void invalidarAgora(String chave) {
+        String chaveCompleta = chaveCompleta(chave);
+        removerProximo(chaveCompleta);
+        invalidacoesLocais.increment();
+        try {
+            compartilhado.remover(chaveCompleta);
+            compartilhado.publicar(CANAL_INVALIDACOES, origem + SEPARADOR + chaveCompleta);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao invalidar {} no cache compartilhado: {}", chaveCompleta, e.getMessage());
+        }
+    }
+
+    /**
+     * @return Fração das consultas atendidas por um dos níveis do cache
+     */
+    public double getTaxaAcerto() {
+        long acertos = acertosProximo.sum() + acertosCompartilhado.sum();
+        long total = acertos + faltas.sum();
+        return total == 0 ? 0 : (double) acertos / total;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    private void receberInvalidacao(String mensagem) {
+        int separador = mensagem.indexOf(SEPARADOR);
+        if (separador < 0 || mensagem.startsWith(origem + SEPARADOR)) {
+            return;
+        }
+        String chaveCompleta = mensagem.substring(separador + 1);
+        if (chaveCompleta.startsWith(nome + ":")) {
+            removerProximo(chaveCompleta);
+            invalidacoesRemotas.increment();
+        }
+    }
+
+    private String chaveCompleta(String chave) {
+        return nome + ":" + chave;
+    }
+
+    private byte[] obterCompartilhado(String chaveCompleta) {
+        try {
+            return compartilhado.obter(chaveCompleta);
+        } catch (RuntimeException e) {
+            // Cache compartilhado fora do ar: segue para o banco
+            logger.debug("Falha ao ler {} do cache compartilhado: {}", chaveCompleta, e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] obterProximo(String chaveCompleta) {
+        synchronized (proximo) {
+            Entrada entrada = proximo.get(chaveCompleta);
+            if (entrada == null) {
+                return null;
+            }
+            if (System.nanoTime() - entrada.expiraEmNanos > 0) {
+                proximo.remove(chaveCompleta);
+                return null;
+            }
+            return entrada.valor;
+        }
+    }
+
+    private void guardarProximo(String chaveCompleta, byte[] bytes) {
+        Entrada entrada = new Entrada(bytes, System.nanoTime() + ttlProximoNanos);
+        synchronized (proximo) {
+            proximo.put(chaveCompleta, entrada);
+        }
+    }
+
+    private void removerProximo(String chaveCompleta) {
+        synchronized (proximo) {
+            proximo.remove(chaveCompleta);
+        }
+    }
+
+    private void registrarConsultas(MeterRegistry registry, String resultado, LongAdder contagem) {
+        FunctionCounter.builder("fastfood.cache.consultas", contagem, LongAdder::sum)
+            .description("Consultas ao cache por nível que respondeu")
+            .tag("cache", nome)
+            .tag("resultado", resultado)
+            .register(registry);
+    }
+
+    private Counter contadorInvalidacoes(MeterRegistry registry, String origemInvalidacao) {
+        return Counter.builder("fastfood.cache.invalidacoes")
+            .description("Chaves invalidadas no cache próximo")
+            .tag("cache", nome)
+            .tag("origem", origemInvalidacao)
+            .register(registry);
+    }
+
+    private static final class Entrada {
+
+        private final byte[] valor;
+        private final long expiraEmNanos;
+
+        private Entrada(byte[] valor, long expiraEmNanos) {
+            this.valor = valor;
+            this.expiraEmNanos = expiraEmNanos;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.marianapetrolini.fastfood.infrastructure.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Serialização binária compacta dos valores do cache.
+ * Cada leitura do cache decodifica uma instância nova, então uma entidade
+ * alterada por um caso de uso nunca contamina o valor guardado.
+ *
+ * @param <T> Tipo do valor
+ */
+public abstract class Codificador<T> {
+
+    /**
+     * @param valor Valor a serializar
+     * @return Bytes do valor
+     */
+    public byte[] codificar(T valor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream saida = new DataOutputStream(bytes)) {
+            escrever(valor, saida);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param bytes Bytes produzidos por {@link #codificar(Object)}
+     * @return Nova instância do valor
+     */
+    public T decodificar(byte[] bytes) {
+        try (DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return ler(entrada);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void escrever(T valor, DataOutputStream saida) throws IOException;
+
+    protected abstract T ler(DataInputStream entrada) throws IOException;
+
+    protected static void escreverTexto(String texto, DataOutputStream saida) throws IOException {
+        saida.writeBoolean(texto != null);
+        if (texto != null) {
+            saida.writeUTF(texto);
+        }
+    }
+
+    protected static String lerTexto(DataInputStream entrada) throws IOException {
+        return entrada.readBoolean() ? entrada.readUTF() : null;
+    }
+
+    protected static void escreverDataHora(LocalDateTime dataHora, DataOutputStream saida) throws IOException {
+        saida.writeBoolean(dataHora != null);
+        if (dataHora != null) {
+            saida.writeLong(dataHora.toEpochSecond(ZoneOffset.UTC));
+            saida.writeInt(dataHora.getNano());
+        }
+    }
+
+    protected static LocalDateTime lerDataHora(DataInputStream entrada) throws IOException {
+        return entrada.readBoolean()
+            ? LocalDateTime.ofEpochSecond(entrada.readLong(), entrada.readInt(), ZoneOffset.UTC)
+            : null;
+    }
+
+    protected static void escreverDecimal(BigDecimal valor, DataOutputStream saida) throws IOException {
+        byte[] semEscala = valor.unscaledValue().toByteArray();
+        saida.writeInt(valor.scale());
+        saida.writeByte(semEscala.length);
+        saida.write(semEscala);
+    }
+
+    protected static BigDecimal lerDecimal(DataInputStream entrada) throws IOException {
+        int escala = entrada.readInt();
+        byte[] semEscala = new byte[entrada.readUnsignedByte()];
+        entrada.readFully(semEscala);
+        return new BigDecimal(new BigInteger(semEscala), escala);
+    }
+}
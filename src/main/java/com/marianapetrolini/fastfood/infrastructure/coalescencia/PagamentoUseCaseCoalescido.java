@@ -0,0 +1,112 @@
+package com.marianapetrolini.fastfood.infrastructure.coalescencia;
+
+import com.marianapetrolini.fastfood.application.dtos.pagamento.PagamentoResponse;
+import com.marianapetrolini.fastfood.application.dtos.pagamento.StatusPagamentoResponse;
+import com.marianapetrolini.fastfood.application.dtos.pagamento.WebhookPagamentoRequest;
+import com.marianapetrolini.fastfood.application.ports.input.PagamentoUseCase;
+import com.marianapetrolini.fastfood.infrastructure.replica.ContextoRoteamento;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorator do caso de uso de pagamentos que coalesce listagens idênticas
+ * simultâneas em uma única consulta. As listas retornadas são compartilhadas
+ * e, por isso, imutáveis. Comandos e buscas individuais seguem direto para o
+ * caso de uso original.
+ */
+public class PagamentoUseCaseCoalescido implements PagamentoUseCase {
+
+    private final PagamentoUseCase delegate;
+    private final VooUnico vooUnico;
+
+    public PagamentoUseCaseCoalescido(PagamentoUseCase delegate, VooUnico vooUnico) {
+        this.delegate = delegate;
+        this.vooUnico = vooUnico;
+    }
+
+    @Override
+    public StatusPagamentoResponse consultarStatusPagamento(Long pedidoId) {
+        return delegate.consultarStatusPagamento(pedidoId);
+    }
+
+    @Override
+    public void processarWebhookPagamento(WebhookPagamentoRequest request) {
+        delegate.processarWebhookPagamento(request);
+    }
+
+    @Override
+    public PagamentoResponse buscarPagamentoPorId(Long id) {
+        return delegate.buscarPagamentoPorId(id);
+    }
+
+    @Override
+    public PagamentoResponse buscarPagamentoPorPedidoId(Long pedidoId) {
+        return delegate.buscarPagamentoPorPedidoId(pedidoId);
+    }
+
+    @Override
+    public PagamentoResponse buscarPagamentoPorTransacaoId(String transacaoId) {
+        return delegate.buscarPagamentoPorTransacaoId(transacaoId);
+    }
+
+    @Override
+    public List<PagamentoResponse> listarTodosPagamentos() {
+        return coalescer("todos", delegate::listarTodosPagamentos);
+    }
+
+    @Override
+    public List<PagamentoResponse> listarPagamentosPorStatus(String status) {
+        return coalescer("status:" + status, () -> delegate.listarPagamentosPorStatus(status));
+    }
+
+    @Override
+    public List<PagamentoResponse> listarPagamentosPorMetodo(String metodo) {
+        return coalescer("metodo:" + metodo, () -> delegate.listarPagamentosPorMetodo(metodo));
+    }
+
+    @Override
+    public List<PagamentoResponse> listarPagamentosAprovados() {
+        return coalescer("aprovados", delegate::listarPagamentosAprovados);
+    }
+
+    @Override
+    public List<PagamentoResponse> listarPagamentosPendentes() {
+        return coalescer("pendentes", delegate::listarPagamentosPendentes);
+    }
+
+    @Override
+    public List<PagamentoResponse> listarPagamentosDeHoje() {
+        return coalescer("hoje", delegate::listarPagamentosDeHoje);
+    }
+
+    @Override
+    public PagamentoResponse aprovarPagamento(Long id, String transacaoId) {
+        return delegate.aprovarPagamento(id, transacaoId);
+    }
+
+    @Override
+    public PagamentoResponse recusarPagamento(Long id, String motivo) {
+        return delegate.recusarPagamento(id, motivo);
+    }
+
+    @Override
+    public PagamentoResponse cancelarPagamento(Long id, String motivo) {
+        return delegate.cancelarPagamento(id, motivo);
+    }
+
+    @Override
+    public PagamentoResponse estornarPagamento(Long id, String motivo) {
+        return delegate.estornarPagamento(id, motivo);
+    }
+
+    /**
+     * Quem acabou de escrever lê do primário e não pode receber o resultado
+     * de uma consulta feita na réplica, então a chave separa os dois casos.
+     */
+    private <T> List<T> coalescer(String chave, Supplier<List<T>> consulta) {
+        String chaveCompleta = ContextoRoteamento.isPrimarioForcado() ? chave + "@primario" : chave;
+        return vooUnico.executar(chaveCompleta, () -> Collections.unmodifiableList(consulta.get()));
+    }
+}
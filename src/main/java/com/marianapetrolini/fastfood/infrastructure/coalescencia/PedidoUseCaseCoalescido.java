@@ -0,0 +1,103 @@
+package com.marianapetrolini.fastfood.infrastructure.coalescencia;
+
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutRequest;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.application.ports.input.PedidoUseCase;
+import com.marianapetrolini.fastfood.infrastructure.replica.ContextoRoteamento;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decorator do caso de uso de pedidos que coalesce listagens idênticas
+ * simultâneas (telas da cozinha e gerentes na troca de turno) em uma única
+ * consulta. As listas retornadas são compartilhadas e, por isso, imutáveis.
+ * Comandos e a busca por ID seguem direto para o caso de uso original.
+ */
+public class PedidoUseCaseCoalescido implements PedidoUseCase {
+
+    private final PedidoUseCase delegate;
+    private final VooUnico vooUnico;
+
+    public PedidoUseCaseCoalescido(PedidoUseCase delegate, VooUnico vooUnico) {
+        this.delegate = delegate;
+        this.vooUnico = vooUnico;
+    }
+
+    @Override
+    public CheckoutResponse realizarCheckout(CheckoutRequest request) {
+        return delegate.realizarCheckout(request);
+    }
+
+    @Override
+    public PedidoResponse buscarPedidoPorId(Long id) {
+        return delegate.buscarPedidoPorId(id);
+    }
+
+    @Override
+    public List<PedidoResponse> listarTodosPedidos() {
+        return coalescer("todos", delegate::listarTodosPedidos);
+    }
+
+    @Override
+    public List<PedidoListaResponse> listarPedidosParaCozinha() {
+        return coalescer("cozinha", delegate::listarPedidosParaCozinha);
+    }
+
+    @Override
+    public List<PedidoListaResponse> listarPedidosParaCozinha(Long lojaId) {
+        return coalescer("cozinha:" + lojaId, () -> delegate.listarPedidosParaCozinha(lojaId));
+    }
+
+    @Override
+    public List<PedidoResponse> listarPedidosPorStatus(String status) {
+        return coalescer("status:" + status, () -> delegate.listarPedidosPorStatus(status));
+    }
+
+    @Override
+    public List<PedidoResponse> listarPedidosDoCliente(Long clienteId) {
+        return coalescer("cliente:" + clienteId, () -> delegate.listarPedidosDoCliente(clienteId));
+    }
+
+    @Override
+    public List<PedidoResponse> listarPedidosAtivos() {
+        return coalescer("ativos", delegate::listarPedidosAtivos);
+    }
+
+    @Override
+    public List<PedidoResponse> listarPedidosDeHoje() {
+        return coalescer("hoje", delegate::listarPedidosDeHoje);
+    }
+
+    @Override
+    public PedidoResponse iniciarPreparacaoPedido(Long id) {
+        return delegate.iniciarPreparacaoPedido(id);
+    }
+
+    @Override
+    public PedidoResponse marcarPedidoComoPronto(Long id) {
+        return delegate.marcarPedidoComoPronto(id);
+    }
+
+    @Override
+    public PedidoResponse finalizarPedido(Long id) {
+        return delegate.finalizarPedido(id);
+    }
+
+    @Override
+    public PedidoResponse atualizarStatusPedido(Long id, String novoStatus) {
+        return delegate.atualizarStatusPedido(id, novoStatus);
+    }
+
+    /**
+     * Quem acabou de escrever lê do primário e não pode receber o resultado
+     * de uma consulta feita na réplica, então a chave separa os dois casos.
+     */
+    private <T> List<T> coalescer(String chave, Supplier<List<T>> consulta) {
+        String chaveCompleta = ContextoRoteamento.isPrimarioForcado() ? chave + "@primario" : chave;
+        return vooUnico.executar(chaveCompleta, () -> Collections.unmodifiableList(consulta.get()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.marianapetrolini.fastfood.infrastructure.coalescencia;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de consultas idênticas simultâneas (single-flight).
+ * A primeira chamada com uma chave executa a consulta; as que chegam com a
+ * mesma chave enquanto ela está em andamento esperam e recebem o mesmo
+ * resultado (ou a mesma exceção), sem nova ida ao banco. Nada fica guardado
+ * depois que a consulta termina: a chamada seguinte consulta de novo.
+ * Métricas (tag {@code grupo}): {@code fastfood.coalescencia.chamadas} por
+ * {@code resultado} (executada, compartilhada) e
+ * {@code fastfood.coalescencia.taxa}, a fração de chamadas atendidas pela
+ * consulta de outra.
+ */
+public class VooUnico {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> emAndamento = new ConcurrentHashMap<>();
+    private final LongAdder executadas = new LongAdder();
+    private final LongAdder compartilhadas = new LongAdder();
+
+    /**
+     * @param grupo Nome do grupo de consultas (tag das métricas)
+     * @param registry Registro de métricas
+     */
+    public VooUnico(String grupo, MeterRegistry registry) {
+        registrarChamadas(registry, grupo, "executada", executadas);
+        registrarChamadas(registry, grupo, "compartilhada", compartilhadas);
+        Gauge.builder("fastfood.coalescencia.taxa", this, VooUnico::getTaxaCompartilhadas)
+            .description("Fração das consultas atendidas pela execução de uma consulta idêntica simultânea")
+            .tag("grupo", grupo)
+            .register(registry);
+    }
+
+    /**
+     * Executa a consulta ou se junta à consulta idêntica em andamento.
+     *
+     * @param chave Identificação da consulta (método e argumentos)
+     * @param consulta Consulta a executar
+     * @param <T> Tipo do resultado
+     * @return Resultado da consulta, compartilhado entre as chamadas coalescidas
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T executar(String chave, Supplier<T> consulta) {
+        CompletableFuture<Object> nova = new CompletableFuture<>();
+        CompletableFuture<Object> existente = emAndamento.putIfAbsent(chave, nova);
+        if (existente != null) {
+            compartilhadas.increment();
+            return (T) aguardar(existente);
+        }
+
+        executadas.increment();
+        try {
+            T resultado = consulta.get();
+            nova.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            nova.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    public double getTaxaCompartilhadas() {
+        double total = executadas.sum() + compartilhadas.sum();
+        return total == 0 ? 0 : compartilhadas.sum() / total;
+    }
+
+    private static Object aguardar(CompletableFuture<Object> consulta) {
+        try {
+            return consulta.join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw e;
+        }
+    }
+
+    private void registrarChamadas(MeterRegistry registry, String grupo, String resultado, LongAdder contador) {
+        FunctionCounter.builder("fastfood.coalescencia.chamadas", contador, LongAdder::sum)
+            .description("Consultas coalescíveis por resultado")
+            .tags("grupo", grupo, "resultado", resultado)
+            .register(registry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Configuração de segurança dos endpoints do Actuator.
+ * Libera health, info e prometheus para as probes do Kubernetes e o scrape
+ * do Prometheus; as demais rotas mantêm o comportamento padrão do Spring Boot.
+ */
+@Configuration
+public class ActuatorSecurityConfig {
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorPublicoFilterChain(HttpSecurity http) throws Exception {
+        http.requestMatcher(EndpointRequest.to("health", "info", "prometheus"))
+            .authorizeRequests().anyRequest().permitAll()
+            .and()
+            .csrf().disable();
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
+    public SecurityFilterChain padraoFilterChain(HttpSecurity http) throws Exception {
+        http.authorizeRequests().anyRequest().authenticated()
+            .and()
+            .formLogin()
+            .and()
+            .httpBasic();
+        return http.build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.infrastructure.isolamento.AdmissaoFilter;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.CompartimentosFilter;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.LimitadorTaxa;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.LimiteConcorrencia;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Configuração do controle de admissão da API: limite de taxa por cliente
+ * no checkout ({@code app.admissao.taxa}) e limite de concorrência
+ * adaptativo em todas as rotas ({@code app.admissao.concorrencia}), com a
+ * latência de referência separada por compartimento.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.admissao.habilitado", havingValue = "true", matchIfMissing = true)
+public class AdmissaoConfig {
+
+    @Bean
+    public LimitadorTaxa limitadorTaxa(@Value("${app.admissao.taxa.capacidade:10}") int capacidade,
+                                       @Value("${app.admissao.taxa.por-minuto:30}") int porMinuto,
+                                       @Value("${app.admissao.taxa.maximo-clientes:100000}") int maximoClientes) {
+        return new LimitadorTaxa(capacidade, porMinuto, maximoClientes);
+    }
+
+    @Bean
+    public LimiteConcorrencia limiteConcorrencia(@Value("${app.admissao.concorrencia.inicial:50}") int inicial,
+                                                 @Value("${app.admissao.concorrencia.minimo:10}") int minimo,
+                                                 @Value("${app.admissao.concorrencia.maximo:200}") int maximo,
+                                                 @Value("${app.admissao.concorrencia.tolerancia:1.5}") double tolerancia) {
+        return new LimiteConcorrencia(inicial, minimo, maximo, tolerancia);
+    }
+
+    @Bean
+    public AdmissaoFilter admissaoFilter(LimitadorTaxa limitadorTaxa, LimiteConcorrencia limiteConcorrencia,
+                                         @Value("${app.admissao.taxa.rotas:POST /api/pedidos/checkout}") List<String> rotas,
+                                         ObjectProvider<CompartimentosFilter> compartimentos,
+                                         MeterRegistry registry) {
+        return new AdmissaoFilter(limitadorTaxa, rotas, limiteConcorrencia, compartimentos.getIfAvailable(), registry);
+    }
+}
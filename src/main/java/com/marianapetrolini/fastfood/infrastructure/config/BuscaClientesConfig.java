@@ -0,0 +1,137 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ClientesRemovidosAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ClienteRepositoryIndexado;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.SugestaoClientesAdapter;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaClientes;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Configuração do índice de sugestões de clientes em memória.
+ * Decora o repositório de clientes para manter o índice atualizado e o
+ * carrega em segundo plano quando a aplicação sobe. Clientes gravados ou
+ * removidos por outros pods entram na atualização incremental periódica.
+ */
+@Configuration
+public class BuscaClientesConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuscaClientesConfig.class);
+
+    private final ObjectProvider<SugestaoClientesAdapter> sugestoes;
+    private final ObjectProvider<ClientesRemovidosAdapter> removidos;
+    private final ObjectProvider<TaskExecutor> executor;
+    private final boolean carregarNaSubida;
+    private final Duration retencaoRemovidos;
+
+    public BuscaClientesConfig(ObjectProvider<SugestaoClientesAdapter> sugestoes,
+                               ObjectProvider<ClientesRemovidosAdapter> removidos,
+                               @Qualifier("applicationTaskExecutor") ObjectProvider<TaskExecutor> executor,
+                               @Value("${app.clientes.sugestoes.carregar-na-subida:true}") boolean carregarNaSubida,
+                               @Value("${app.clientes.sugestoes.retencao-removidos:1d}") Duration retencaoRemovidos) {
+        this.sugestoes = sugestoes;
+        this.removidos = removidos;
+        this.executor = executor;
+        this.carregarNaSubida = carregarNaSubida;
+        this.retencaoRemovidos = retencaoRemovidos;
+    }
+
+    @Bean
+    public IndiceBuscaClientes indiceBuscaClientes() {
+        return new IndiceBuscaClientes();
+    }
+
+    /**
+     * Envolve qualquer implementação de {@link ClienteRepository} com o decorator indexado.
+     *
+     * @param indice Índice de sugestões de clientes
+     * @return Post processor que aplica o decorator
+     */
+    @Bean
+    public static BeanPostProcessor clienteRepositoryIndexadoPostProcessor(ObjectProvider<IndiceBuscaClientes> indice) {
+        return new DecoradorBeanPostProcessor<>(ClienteRepository.class, ClienteRepositoryIndexado.class,
+            repository -> new ClienteRepositoryIndexado(repository, indice.getObject()));
+    }
+
+    /**
+     * Expõe o número de clientes no índice como gauge.
+     *
+     * @param indice Índice de sugestões de clientes
+     * @return Binder das métricas
+     */
+    @Bean
+    public MeterBinder indiceBuscaClientesMetricas(IndiceBuscaClientes indice) {
+        return registry -> Gauge.builder("fastfood.clientes.sugestoes.indice", indice, IndiceBuscaClientes::tamanho)
+            .description("Clientes no índice de sugestões em memória")
+            .register(registry);
+    }
+
+    /**
+     * Carrega o índice fora da thread principal para não atrasar a subida.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarIndice() {
+        SugestaoClientesAdapter adapter = sugestoes.getIfAvailable();
+        TaskExecutor taskExecutor = executor.getIfAvailable();
+        if (!carregarNaSubida || adapter == null || taskExecutor == null) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                adapter.carregar();
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao carregar o índice de sugestões de clientes: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Traz para o índice os clientes criados ou alterados em qualquer pod.
+     */
+    @Scheduled(fixedDelayString = "${app.clientes.sugestoes.atualizacao-ms:30000}",
+               initialDelayString = "${app.clientes.sugestoes.atualizacao-ms:30000}")
+    public void atualizarIndice() {
+        SugestaoClientesAdapter adapter = sugestoes.getIfAvailable();
+        if (adapter == null) {
+            return;
+        }
+        try {
+            adapter.atualizar();
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao atualizar o índice de sugestões de clientes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Apaga os registros de clientes removidos mais antigos que a retenção,
+     * já vistos por todos os pods com o índice carregado.
+     */
+    @Scheduled(cron = "${app.clientes.sugestoes.limpeza.cron:0 50 3 * * *}")
+    public void removerRegistrosDeRemocaoAntigos() {
+        ClientesRemovidosAdapter adapter = removidos.getIfAvailable();
+        if (adapter == null) {
+            return;
+        }
+        try {
+            adapter.removerAnteriores(LocalDateTime.now().minus(retencaoRemovidos));
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao limpar os registros de clientes removidos: {}", e.getMessage());
+        }
+    }
+}
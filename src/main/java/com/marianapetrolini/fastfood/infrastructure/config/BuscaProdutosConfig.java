@@ -0,0 +1,93 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.domain.repositories.ProdutoRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ProdutoRepositoryIndexado;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaProdutos;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Configuração do índice de busca de produtos em memória.
+ * Decora o repositório de produtos para que a busca por nome use o índice
+ * de trigramas em vez do LIKE no banco.
+ * Cada pod só vê as próprias gravações (inclusive a importação em lote), então
+ * o índice é recarregado periodicamente para trazer as alterações feitas
+ * pelos demais pods.
+ */
+@Configuration
+public class BuscaProdutosConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuscaProdutosConfig.class);
+
+    private final ObjectProvider<IndiceBuscaProdutos> indice;
+    private final ObjectProvider<ProdutoRepository> produtoRepository;
+    private final boolean habilitado;
+
+    public BuscaProdutosConfig(ObjectProvider<IndiceBuscaProdutos> indice,
+                               ObjectProvider<ProdutoRepository> produtoRepository,
+                               @Value("${app.produtos.busca.indice-habilitado:true}") boolean habilitado) {
+        this.indice = indice;
+        this.produtoRepository = produtoRepository;
+        this.habilitado = habilitado;
+    }
+
+    @Bean
+    public IndiceBuscaProdutos indiceBuscaProdutos() {
+        return new IndiceBuscaProdutos();
+    }
+
+    /**
+     * Envolve qualquer implementação de {@link ProdutoRepository} com o decorator indexado.
+     *
+     * @param indice Índice de busca de produtos
+     * @param habilitado Se a busca usa o índice (false volta ao LIKE no banco)
+     * @return Post processor que aplica o decorator
+     */
+    @Bean
+    public static BeanPostProcessor produtoRepositoryIndexadoPostProcessor(
+            ObjectProvider<IndiceBuscaProdutos> indice,
+            @Value("${app.produtos.busca.indice-habilitado:true}") boolean habilitado) {
+        return new DecoradorBeanPostProcessor<>(ProdutoRepository.class, ProdutoRepositoryIndexado.class,
+            repository -> habilitado ? new ProdutoRepositoryIndexado(repository, indice.getObject()) : repository);
+    }
+
+    /**
+     * Expõe o tamanho do índice como gauge.
+     *
+     * @param indice Índice de busca de produtos
+     * @return Binder das métricas
+     */
+    @Bean
+    public MeterBinder indiceBuscaProdutosMetricas(IndiceBuscaProdutos indice) {
+        return registry -> Gauge.builder("fastfood.produtos.busca.indice", indice, IndiceBuscaProdutos::tamanho)
+            .description("Produtos no índice de busca em memória")
+            .register(registry);
+    }
+
+    /**
+     * Recarrega o índice já carregado com o catálogo do banco. O catálogo é
+     * pequeno: a recarga completa também traz as remoções feitas em outros pods.
+     */
+    @Scheduled(fixedDelayString = "${app.produtos.busca.recarga-ms:60000}",
+               initialDelayString = "${app.produtos.busca.recarga-ms:60000}")
+    public void recarregarIndice() {
+        IndiceBuscaProdutos indiceBusca = indice.getIfAvailable();
+        ProdutoRepository repository = produtoRepository.getIfAvailable();
+        if (!habilitado || indiceBusca == null || repository == null || !indiceBusca.isCarregado()) {
+            return;
+        }
+        try {
+            indiceBusca.recarregar(repository::buscarTodos);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao recarregar o índice de busca de produtos: {}", e.getMessage());
+        }
+    }
+}
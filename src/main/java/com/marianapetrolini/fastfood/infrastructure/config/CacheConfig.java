@@ -0,0 +1,139 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
+import com.marianapetrolini.fastfood.domain.repositories.ProdutoRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ClienteRepositoryCache;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ProdutoRepositoryCache;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheCompartilhado;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheCompartilhadoLocal;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheCompartilhadoRedis;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheDoisNiveis;
+import io.lettuce.core.ClientOptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache de dois níveis de produtos e clientes.
+ * Cada pod mantém um cache próximo em memória na frente do cache
+ * compartilhado, escolhido por {@code app.cache.compartilhado.tipo}:
+ * {@code redis} ({@link CacheCompartilhadoRedis}, com a conexão de
+ * {@code spring.redis.*}) para várias réplicas, como no perfil prod, ou
+ * {@code local} ({@link CacheCompartilhadoLocal}, em processo, o padrão),
+ * que só serve a um pod.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.habilitado", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    private final int maximoProximo;
+    private final Duration ttlProximo;
+    private final Duration ttlCompartilhado;
+
+    public CacheConfig(@Value("${app.cache.proximo.maximo:10000}") int maximoProximo,
+                       @Value("${app.cache.proximo.ttl:30s}") Duration ttlProximo,
+                       @Value("${app.cache.compartilhado.ttl:10m}") Duration ttlCompartilhado) {
+        this.maximoProximo = maximoProximo;
+        this.ttlProximo = ttlProximo;
+        this.ttlCompartilhado = ttlCompartilhado;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.compartilhado.tipo", havingValue = "local", matchIfMissing = true)
+    public CacheCompartilhadoLocal cacheCompartilhado() {
+        return new CacheCompartilhadoLocal();
+    }
+
+    @Bean
+    public CacheDoisNiveis cacheProdutos(CacheCompartilhado compartilhado, MeterRegistry registry) {
+        return new CacheDoisNiveis("produtos", compartilhado, maximoProximo, ttlProximo, ttlCompartilhado, registry);
+    }
+
+    @Bean
+    public CacheDoisNiveis cacheClientes(CacheCompartilhado compartilhado, MeterRegistry registry) {
+        return new CacheDoisNiveis("clientes", compartilhado, maximoProximo, ttlProximo, ttlCompartilhado, registry);
+    }
+
+    /**
+     * Envolve qualquer implementação de {@link ProdutoRepository} com o decorator de cache.
+     *
+     * @param cache Cache de produtos
+     * @return Post processor que aplica o decorator
+     */
+    @Bean
+    public static BeanPostProcessor produtoRepositoryCachePostProcessor(
+            @Qualifier("cacheProdutos") ObjectProvider<CacheDoisNiveis> cache) {
+        return new DecoradorBeanPostProcessor<>(ProdutoRepository.class, ProdutoRepositoryCache.class,
+            repository -> new ProdutoRepositoryCache(repository, cache.getObject()));
+    }
+
+    /**
+     * Envolve qualquer implementação de {@link ClienteRepository} com o decorator de cache.
+     *
+     * @param cache Cache de clientes
+     * @return Post processor que aplica o decorator
+     */
+    @Bean
+    public static BeanPostProcessor clienteRepositoryCachePostProcessor(
+            @Qualifier("cacheClientes") ObjectProvider<CacheDoisNiveis> cache) {
+        return new DecoradorBeanPostProcessor<>(ClienteRepository.class, ClienteRepositoryCache.class,
+            repository -> new ClienteRepositoryCache(repository, cache.getObject()));
+    }
+
+    /**
+     * Cache compartilhado no Redis. Com o Redis fora do ar, os comandos falham
+     * na hora em vez de esperar a reconexão, e o cache segue para o banco; as
+     * assinaturas de canais são tentadas de novo até o Redis responder.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "app.cache.compartilhado.tipo", havingValue = "redis")
+    static class Redis {
+
+        private CacheCompartilhadoRedis cache;
+
+        @Bean
+        public LettuceClientConfigurationBuilderCustomizer cacheFalhaRapidaSemConexao() {
+            return builder -> builder.clientOptions(ClientOptions.builder()
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build());
+        }
+
+        @Bean
+        public RedisMessageListenerContainer assinaturasCache(RedisConnectionFactory conexoes) {
+            // Iniciado por iniciarAssinaturas: sem o Redis, o início falharia a subida do pod
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+                @Override
+                public boolean isAutoStartup() {
+                    return false;
+                }
+            };
+            container.setConnectionFactory(conexoes);
+            return container;
+        }
+
+        @Bean
+        public CacheCompartilhadoRedis cacheCompartilhado(RedisConnectionFactory conexoes,
+                                                          RedisMessageListenerContainer assinaturasCache) {
+            cache = new CacheCompartilhadoRedis(conexoes, assinaturasCache);
+            return cache;
+        }
+
+        @Scheduled(fixedDelayString = "${app.cache.compartilhado.assinaturas-ms:5000}")
+        public void iniciarAssinaturas() {
+            if (cache != null) {
+                cache.iniciarAssinaturas();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.application.ports.input.PagamentoUseCase;
+import com.marianapetrolini.fastfood.application.ports.input.PedidoUseCase;
+import com.marianapetrolini.fastfood.infrastructure.coalescencia.PagamentoUseCaseCoalescido;
+import com.marianapetrolini.fastfood.infrastructure.coalescencia.PedidoUseCaseCoalescido;
+import com.marianapetrolini.fastfood.infrastructure.coalescencia.VooUnico;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da coalescência das listagens de pedidos e pagamentos.
+ * Os decorators ficam por fora dos demais da mesma porta (como o do modelo
+ * de leitura, que atende as listagens sem chamar o caso de uso original).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.coalescencia.habilitada", havingValue = "true", matchIfMissing = true)
+public class CoalescenciaConfig {
+
+    @Bean
+    public VooUnico vooUnicoPedidos(MeterRegistry registry) {
+        return new VooUnico("pedidos", registry);
+    }
+
+    @Bean
+    public VooUnico vooUnicoPagamentos(MeterRegistry registry) {
+        return new VooUnico("pagamentos", registry);
+    }
+
+    /**
+     * Envolve qualquer implementação de {@link PedidoUseCase} com o decorator de coalescência.
+     *
+     * @param vooUnico Coalescência das listagens de pedidos
+     * @return Post processor que aplica o decorator
+     */
+    @Bean
+    public static BeanPostProcessor pedidoUseCaseCoalescidoPostProcessor(
+            @Qualifier("vooUnicoPedidos") ObjectProvider<VooUnico> vooUnico) {
+        return new DecoradorBeanPostProcessor<>(PedidoUseCase.class, PedidoUseCaseCoalescido.class,
+            DecoradorBeanPostProcessor.ORDEM_EXTERNA,
+            useCase -> new PedidoUseCaseCoalescido(useCase, vooUnico.getObject()));
+    }
+
+    /**
+     * Envolve qualquer implementação de {@link PagamentoUseCase} com o decorator de coalescência.
+     *
+     * @param vooUnico Coalescência das listagens de pagamentos
+     * @return Post processor que aplica o decorator
+     */
+    @Bean
+    public static BeanPostProcessor pagamentoUseCaseCoalescidoPostProcessor(
+            @Qualifier("vooUnicoPagamentos") ObjectProvider<VooUnico> vooUnico) {
+        return new DecoradorBeanPostProcessor<>(PagamentoUseCase.class, PagamentoUseCaseCoalescido.class,
+            DecoradorBeanPostProcessor.ORDEM_EXTERNA,
+            useCase -> new PagamentoUseCaseCoalescido(useCase, vooUnico.getObject()));
+    }
+}
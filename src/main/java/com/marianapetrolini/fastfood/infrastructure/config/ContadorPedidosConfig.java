@@ -0,0 +1,122 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ContadorPedidos;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.GravacaoPedidos;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.PedidoRepositoryObservavel;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.PortaInstrumentada;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Configuração dos contadores de pedidos em memória.
+ * Decora o repositório de pedidos para publicar eventos e responder às
+ * contagens sem consultas, expõe os contadores como métricas e os
+ * reconcilia periodicamente com o banco.
+ */
+@Configuration
+@EnableScheduling
+public class ContadorPedidosConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContadorPedidosConfig.class);
+
+    private final ObjectProvider<PedidoRepository> pedidoRepository;
+
+    public ContadorPedidosConfig(ObjectProvider<PedidoRepository> pedidoRepository) {
+        this.pedidoRepository = pedidoRepository;
+    }
+
+    @Bean
+    public ContadorPedidos contadorPedidos() {
+        return new ContadorPedidos();
+    }
+
+    /**
+     * Envolve o repositório de pedidos ({@link GravacaoPedidos}) com o decorator observável.
+     *
+     * @param contador Contadores de pedidos
+     * @param ouvintes Ouvintes de eventos de pedido
+     * @return Post processor que aplica o decorator
+     */
+    @Bean
+    public static BeanPostProcessor pedidoRepositoryObservavelPostProcessor(
+            ObjectProvider<ContadorPedidos> contador, ObjectProvider<OuvintePedidoPort> ouvintes) {
+        Supplier<List<OuvintePedidoPort>> ouvintesResolvidos = new Supplier<List<OuvintePedidoPort>>() {
+            private volatile List<OuvintePedidoPort> resolvidos;
+
+            @Override
+            public List<OuvintePedidoPort> get() {
+                List<OuvintePedidoPort> atual = resolvidos;
+                if (atual == null) {
+                    atual = ouvintes.orderedStream().collect(Collectors.toList());
+                    resolvidos = atual;
+                }
+                return atual;
+            }
+        };
+        return new DecoradorBeanPostProcessor<>(GravacaoPedidos.class, PedidoRepositoryObservavel.class,
+            repository -> new PedidoRepositoryObservavel(repository, contador.getObject(), ouvintesResolvidos));
+    }
+
+    /**
+     * Expõe os contadores de pedidos como gauges. Os gauges de escala (ativos e
+     * cozinha) são publicados pelas métricas de negócio a partir do banco.
+     *
+     * @param contador Contadores de pedidos
+     * @return Binder das métricas
+     */
+    @Bean
+    public MeterBinder contadorPedidosMetricas(ContadorPedidos contador) {
+        return registry -> {
+            for (StatusPedido status : StatusPedido.values()) {
+                Gauge.builder("fastfood.pedidos.status", contador, c -> c.contarPorStatus(status))
+                    .description("Pedidos por status")
+                    .tag("status", status.name())
+                    .register(registry);
+            }
+            Gauge.builder("fastfood.pedidos.hoje", contador, ContadorPedidos::contarDeHoje)
+                .description("Pedidos criados hoje")
+                .register(registry);
+        };
+    }
+
+    /**
+     * Carrega os contadores a partir do banco quando a aplicação sobe.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarContadores() {
+        reconciliarContadores();
+    }
+
+    /**
+     * Reconcilia periodicamente os contadores com as contagens reais do banco.
+     */
+    @Scheduled(fixedDelayString = "${app.pedidos.contadores.reconciliacao-ms:60000}",
+               initialDelayString = "${app.pedidos.contadores.reconciliacao-ms:60000}")
+    public void reconciliarContadores() {
+        Object repository = PortaInstrumentada.desembrulhar(pedidoRepository.getIfAvailable());
+        if (repository instanceof PedidoRepositoryObservavel) {
+            try {
+                ((PedidoRepositoryObservavel) repository).reconciliarContadores();
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao reconciliar contadores de pedidos: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import java.util.function.Function;
+
+/**
+ * Post processor que envolve os beans de uma porta com um decorator.
+ * Os decorators de porta rodam antes dos post processors sem ordem
+ * (como a instrumentação), que assim envolvem o bean já decorado. Entre
+ * decorators da mesma porta, o de ordem maior é aplicado depois e fica por fora.
+ *
+ * @param <T> Tipo da porta decorada
+ */
+public class DecoradorBeanPostProcessor<T> implements BeanPostProcessor, Ordered {
+
+    /** Ordem dos decorators que precisam envolver todos os outros da porta */
+    public static final int ORDEM_EXTERNA = Ordered.LOWEST_PRECEDENCE;
+
+    private static final int ORDEM_PADRAO = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private final Class<T> tipoPorta;
+    private final Class<? extends T> tipoDecorator;
+    private final int ordem;
+    private final Function<T, T> decorar;
+
+    public DecoradorBeanPostProcessor(Class<T> tipoPorta, Class<? extends T> tipoDecorator, Function<T, T> decorar) {
+        this(tipoPorta, tipoDecorator, ORDEM_PADRAO, decorar);
+    }
+
+    public DecoradorBeanPostProcessor(Class<T> tipoPorta, Class<? extends T> tipoDecorator, int ordem,
+                                      Function<T, T> decorar) {
+        this.tipoPorta = tipoPorta;
+        this.tipoDecorator = tipoDecorator;
+        this.ordem = ordem;
+        this.decorar = decorar;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (tipoPorta.isInstance(bean) && !tipoDecorator.isInstance(bean)) {
+            return decorar.apply(tipoPorta.cast(bean));
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return ordem;
+    }
+}
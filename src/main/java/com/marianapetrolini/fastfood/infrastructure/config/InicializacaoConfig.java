@@ -0,0 +1,110 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuração da subida da aplicação.
+ * Marca como lazy os beans não críticos listados em
+ * {@code app.startup.inicializacao-tardia} (perfil prod) e, com
+ * {@code app.startup.encerrar-apos-subida}, encerra a aplicação assim que ela
+ * fica pronta - usado no treino do arquivo AppCDS e no benchmark de subida.
+ */
+@Configuration
+public class InicializacaoConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(InicializacaoConfig.class);
+
+    /**
+     * Marca como lazy os beans cuja classe (ou a classe da configuração que os declara)
+     * começa com um dos prefixos configurados. Post processors nunca são alterados.
+     *
+     * @param environment Ambiente com a lista de prefixos
+     * @return Post processor das definições de beans
+     */
+    @Bean
+    public static BeanFactoryPostProcessor inicializacaoTardiaPostProcessor(Environment environment) {
+        List<String> prefixos = Binder.get(environment)
+            .bind("app.startup.inicializacao-tardia", Bindable.listOf(String.class))
+            .orElse(Collections.emptyList());
+        return beanFactory -> {
+            if (prefixos.isEmpty()) {
+                return;
+            }
+            int marcados = 0;
+            for (String nome : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definicao = beanFactory.getBeanDefinition(nome);
+                if (definicao.isLazyInit() || definicao.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE
+                        || !corresponde(prefixos, classeDeclarante(beanFactory, definicao))
+                        || isPostProcessor(beanFactory, nome)) {
+                    continue;
+                }
+                definicao.setLazyInit(true);
+                marcados++;
+            }
+            logger.info("{} beans não críticos com inicialização tardia", marcados);
+        };
+    }
+
+    /**
+     * Encerra a aplicação logo após a subida quando solicitado.
+     *
+     * @param event Evento de aplicação pronta
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void encerrarAposSubida(ApplicationReadyEvent event) {
+        boolean encerrar = event.getApplicationContext().getEnvironment()
+            .getProperty("app.startup.encerrar-apos-subida", Boolean.class, false);
+        if (!encerrar) {
+            return;
+        }
+        long desdeJvm = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        logger.info("Subida concluída em {} ms desde o início da JVM; encerrando", desdeJvm);
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+
+    private static String classeDeclarante(ConfigurableListableBeanFactory beanFactory, BeanDefinition definicao) {
+        if (definicao.getBeanClassName() != null) {
+            return definicao.getBeanClassName();
+        }
+        String fabrica = definicao.getFactoryBeanName();
+        if (fabrica != null && beanFactory.containsBeanDefinition(fabrica)) {
+            return beanFactory.getBeanDefinition(fabrica).getBeanClassName();
+        }
+        return null;
+    }
+
+    private static boolean corresponde(List<String> prefixos, String classe) {
+        if (classe == null) {
+            return false;
+        }
+        for (String prefixo : prefixos) {
+            if (classe.startsWith(prefixo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPostProcessor(ConfigurableListableBeanFactory beanFactory, String nome) {
+        Class<?> tipo = beanFactory.getType(nome, false);
+        return tipo != null && (BeanPostProcessor.class.isAssignableFrom(tipo)
+            || BeanFactoryPostProcessor.class.isAssignableFrom(tipo));
+    }
+}
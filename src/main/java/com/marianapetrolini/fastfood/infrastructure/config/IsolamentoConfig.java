@@ -0,0 +1,92 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.infrastructure.isolamento.Compartimento;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.CompartimentosFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuração dos compartimentos (bulkheads) da API.
+ * Cada entrada de {@code app.isolamento.compartimentos} define as rotas, as
+ * vagas simultâneas e a espera máxima de um compartimento. A soma das vagas
+ * que usam o banco deve caber em {@code spring.datasource.hikari.maximum-pool-size},
+ * para que uma rajada de webhooks não tome as conexões do checkout e da cozinha.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.isolamento.habilitado", havingValue = "true", matchIfMissing = true)
+public class IsolamentoConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(IsolamentoConfig.class);
+
+    /**
+     * Filtro que aplica os compartimentos configurados.
+     *
+     * @param environment Ambiente com {@code app.isolamento.compartimentos}
+     * @param registry Registro de métricas
+     * @return Filtro dos compartimentos
+     */
+    @Bean
+    public CompartimentosFilter compartimentosFilter(Environment environment, MeterRegistry registry) {
+        Map<String, Definicao> definicoes = Binder.get(environment)
+            .bind("app.isolamento.compartimentos", Bindable.mapOf(String.class, Definicao.class))
+            .orElse(Collections.emptyMap());
+        CompartimentosFilter filtro = new CompartimentosFilter();
+        for (Map.Entry<String, Definicao> entrada : definicoes.entrySet()) {
+            Definicao definicao = entrada.getValue();
+            Compartimento compartimento = new Compartimento(entrada.getKey(), definicao.getMaximo(),
+                                                            definicao.getEsperaMs(), registry);
+            for (String rota : definicao.getRotas()) {
+                filtro.registrar(rota, compartimento);
+            }
+            logger.info("Compartimento {}: {} vagas, espera de {} ms, rotas {}", entrada.getKey(),
+                        definicao.getMaximo(), definicao.getEsperaMs(), definicao.getRotas());
+        }
+        return filtro;
+    }
+
+    /**
+     * Definição de um compartimento em {@code app.isolamento.compartimentos.<nome>}.
+     */
+    public static class Definicao {
+
+        private List<String> rotas = new ArrayList<>();
+        private int maximo = 10;
+        private long esperaMs;
+
+        public List<String> getRotas() {
+            return rotas;
+        }
+
+        public void setRotas(List<String> rotas) {
+            this.rotas = rotas;
+        }
+
+        public int getMaximo() {
+            return maximo;
+        }
+
+        public void setMaximo(int maximo) {
+            this.maximo = maximo;
+        }
+
+        public long getEsperaMs() {
+            return esperaMs;
+        }
+
+        public void setEsperaMs(long esperaMs) {
+            this.esperaMs = esperaMs;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da camada JPA.
+ * Restringe a varredura de entidades ao pacote de persistência, em vez de
+ * percorrer todo o pacote da aplicação na subida. Os repositórios continuam
+ * auto-configurados pelo Spring Boot para respeitar
+ * {@code spring.data.jpa.repositories.bootstrap-mode}.
+ */
+@Configuration
+@EntityScan(basePackages = "com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa")
+public class JpaConfig {
+}
@@ -0,0 +1,70 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.application.ports.input.PedidoUseCase;
+import com.marianapetrolini.fastfood.application.ports.output.ConsultaPedidosPort;
+import com.marianapetrolini.fastfood.application.usecases.pedido.PedidoUseCaseLeitura;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.PedidoLeituraAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Configuração do modelo de leitura de pedidos (CQRS).
+ * Direciona as listagens do caso de uso de pedidos para o modelo de leitura
+ * e o reconstrói na subida quando estiver vazio.
+ */
+@Configuration
+public class LeituraPedidosConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeituraPedidosConfig.class);
+
+    private final PedidoLeituraAdapter leituraAdapter;
+    private final ObjectProvider<PedidoRepository> pedidoRepository;
+    private final boolean reconstruirNaSubida;
+
+    public LeituraPedidosConfig(PedidoLeituraAdapter leituraAdapter,
+                                ObjectProvider<PedidoRepository> pedidoRepository,
+                                @Value("${app.pedidos.leitura.reconstruir-na-subida:true}") boolean reconstruirNaSubida) {
+        this.leituraAdapter = leituraAdapter;
+        this.pedidoRepository = pedidoRepository;
+        this.reconstruirNaSubida = reconstruirNaSubida;
+    }
+
+    /**
+     * Envolve qualquer implementação de {@link PedidoUseCase} com o decorator de leitura.
+     *
+     * @param consultaPedidos Modelo de leitura de pedidos
+     * @return Post processor que aplica o decorator
+     */
+    @Bean
+    public static BeanPostProcessor pedidoUseCaseLeituraPostProcessor(ObjectProvider<ConsultaPedidosPort> consultaPedidos) {
+        return new DecoradorBeanPostProcessor<>(PedidoUseCase.class, PedidoUseCaseLeitura.class,
+            useCase -> new PedidoUseCaseLeitura(useCase, consultaPedidos.getObject()));
+    }
+
+    /**
+     * Reconstrói o modelo de leitura quando ele está vazio ao subir a aplicação.
+     * Com várias réplicas subindo juntas, só a que obtém a trava reconstrói.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirSeVazio() {
+        PedidoRepository repository = pedidoRepository.getIfAvailable();
+        if (!reconstruirNaSubida || repository == null) {
+            return;
+        }
+        try {
+            if (leituraAdapter.contarLinhas() == 0) {
+                leituraAdapter.reconstruir(repository, true);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao reconstruir o modelo de leitura de pedidos: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.application.ports.output.MercadoPagoPort;
+import com.marianapetrolini.fastfood.application.ports.output.NotificacaoPort;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.InstrumentacaoPortas;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.PortaInstrumentada;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.Rastreamento;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Configuração da instrumentação das portas da aplicação.
+ * Mede casos de uso, repositórios de domínio e integrações externas
+ * (Mercado Pago e notificações) com timers e spans de rastreamento.
+ * Os buckets de SLO dos timers ficam em
+ * {@code management.metrics.distribution.slo.fastfood.operacao}.
+ */
+@Configuration
+public class ObservabilidadeConfig {
+
+    private static final String PACOTE_CASOS_DE_USO = "com.marianapetrolini.fastfood.application.ports.input";
+    private static final String PACOTE_REPOSITORIOS = "com.marianapetrolini.fastfood.domain.repositories";
+
+    @Bean
+    public Rastreamento rastreamento(@Value("${app.observabilidade.rastreamento.amostragem:0.01}") double amostragem) {
+        return new Rastreamento(amostragem);
+    }
+
+    @Bean
+    public InstrumentacaoPortas instrumentacaoPortas(MeterRegistry registry, Rastreamento rastreamento) {
+        return new InstrumentacaoPortas(registry, rastreamento);
+    }
+
+    /**
+     * Envolve os beans das portas com o proxy de instrumentação.
+     * Por não ter ordem, roda depois dos decorators de porta e mede o bean já decorado.
+     *
+     * @param instrumentacao Instrumentação das portas
+     * @param habilitada Se a instrumentação está habilitada
+     * @return Post processor que aplica a instrumentação
+     */
+    @Bean
+    public static BeanPostProcessor instrumentacaoPortasPostProcessor(
+            ObjectProvider<InstrumentacaoPortas> instrumentacao,
+            @Value("${app.observabilidade.instrumentacao.habilitada:true}") boolean habilitada) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!habilitada || bean instanceof PortaInstrumentada) {
+                    return bean;
+                }
+                String camada = camadaDe(bean);
+                return camada != null ? instrumentacao.getObject().instrumentar(bean, camada) : bean;
+            }
+        };
+    }
+
+    private static String camadaDe(Object bean) {
+        for (Class<?> porta : ClassUtils.getAllInterfacesForClass(ClassUtils.getUserClass(bean))) {
+            String pacote = porta.getPackage() != null ? porta.getPackage().getName() : "";
+            if (pacote.equals(PACOTE_CASOS_DE_USO) && porta.getSimpleName().endsWith("UseCase")) {
+                return "caso_de_uso";
+            }
+            if (pacote.equals(PACOTE_REPOSITORIOS) && porta.getSimpleName().endsWith("Repository")) {
+                return "repositorio";
+            }
+            if (porta == MercadoPagoPort.class || porta == NotificacaoPort.class) {
+                return "integracao";
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,152 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.infrastructure.replica.LeituraEmReplica;
+import com.marianapetrolini.fastfood.infrastructure.replica.LeituraPropriaFilter;
+import com.marianapetrolini.fastfood.infrastructure.replica.RoteamentoDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Configuração da réplica de leitura.
+ * Ativa quando {@code app.datasource.replica.url} está preenchida: o
+ * DataSource da aplicação passa a rotear as consultas dos casos de uso
+ * (listagens, buscas, estatísticas) para a réplica e todo o resto para o
+ * primário ({@code spring.datasource}). Cada destino tem seu próprio pool
+ * Hikari, publicado nas métricas {@code hikaricp.connections{pool=...}}.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.url:}'.isEmpty()")
+public class ReplicaLeituraConfig {
+
+    private static final String PACOTE_CASOS_DE_USO = "com.marianapetrolini.fastfood.application.ports.input";
+
+    /**
+     * Pool do primário, configurado por {@code spring.datasource} e {@code spring.datasource.hikari}.
+     *
+     * @param properties Propriedades do DataSource do Spring Boot
+     * @return Pool do primário
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+        HikariDataSource primario = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primario.setPoolName("primario");
+        return primario;
+    }
+
+    /**
+     * Pool da réplica; conexões somente leitura.
+     *
+     * @param properties Propriedades do DataSource do primário (driver)
+     * @param url URL JDBC da réplica
+     * @param usuario Usuário da réplica (padrão: o do primário)
+     * @param senha Senha da réplica (padrão: a do primário)
+     * @param tamanhoMaximo Tamanho máximo do pool da réplica
+     * @return Pool da réplica
+     */
+    @Bean
+    public HikariDataSource dataSourceReplica(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String usuario,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String senha,
+                                              @Value("${app.datasource.replica.pool-maximo:10}") int tamanhoMaximo) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(url);
+        replica.setUsername(usuario);
+        replica.setPassword(senha);
+        replica.setDriverClassName(properties.determineDriverClassName());
+        replica.setMaximumPoolSize(tamanhoMaximo);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    /**
+     * Roteamento entre os pools; também publica {@code fastfood.datasource.conexoes}.
+     *
+     * @param primario Pool do primário
+     * @param replica Pool da réplica
+     * @return DataSource roteado
+     */
+    @Bean
+    public RoteamentoDataSource roteamentoDataSource(@Qualifier("dataSourcePrimario") HikariDataSource primario,
+                                                     @Qualifier("dataSourceReplica") HikariDataSource replica) {
+        return new RoteamentoDataSource(primario, replica);
+    }
+
+    /**
+     * DataSource usado por JPA, Flyway e JdbcTemplate.
+     * O proxy preguiçoso adia a obtenção da conexão até o primeiro statement,
+     * quando a transação já sabe se é somente leitura.
+     *
+     * @param roteamento Roteamento entre primário e réplica
+     * @return DataSource roteado com conexões preguiçosas
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteamentoDataSource roteamento) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(roteamento);
+        // Padrões informados para o proxy não abrir uma conexão na subida só para descobri-los
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    /**
+     * Leitura das próprias escritas: consultas do cliente vão para o primário
+     * logo após uma escrita dele.
+     *
+     * @param janela Tempo após a escrita coberto (maior que o atraso típico da réplica)
+     * @return Filtro de leitura das próprias escritas
+     */
+    @Bean
+    public LeituraPropriaFilter leituraPropriaFilter(
+            @Value("${app.datasource.replica.janela-leitura-propria:5s}") Duration janela) {
+        return new LeituraPropriaFilter(janela);
+    }
+
+    /**
+     * Envolve os casos de uso com o proxy que marca as consultas para a réplica.
+     * Por não ter ordem, roda depois dos decorators de porta.
+     *
+     * @return Post processor que aplica o proxy
+     */
+    @Bean
+    public static BeanPostProcessor leituraEmReplicaPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (isCasoDeUso(bean) && !LeituraEmReplica.isEnvolvido(bean)) {
+                    return LeituraEmReplica.envolver(bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static boolean isCasoDeUso(Object bean) {
+        for (Class<?> porta : ClassUtils.getAllInterfacesForClass(ClassUtils.getUserClass(bean))) {
+            String pacote = porta.getPackage() != null ? porta.getPackage().getName() : "";
+            if (pacote.equals(PACOTE_CASOS_DE_USO) && porta.getSimpleName().endsWith("UseCase")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.marianapetrolini.fastfood.infrastructure.scheduling.RodaTemporizadora;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuração da roda de temporização compartilhada pelos prazos de pedidos.
+ */
+@Configuration
+public class RodaTemporizadoraConfig {
+
+    /**
+     * Configura a roda de temporização.
+     *
+     * @param tickMs Duração de cada tick em milissegundos
+     * @param tamanho Número de posições por nível da roda
+     * @param niveis Número de níveis da roda hierárquica
+     * @return Roda de temporização iniciada com a aplicação
+     */
+    @Bean(initMethod = "iniciar", destroyMethod = "parar")
+    public RodaTemporizadora rodaTemporizadora(
+            @Value("${app.scheduling.roda.tick-ms:1000}") long tickMs,
+            @Value("${app.scheduling.roda.tamanho:64}") int tamanho,
+            @Value("${app.scheduling.roda.niveis:4}") int niveis) {
+        return new RodaTemporizadora(tickMs, TimeUnit.MILLISECONDS, tamanho, niveis);
+    }
+}
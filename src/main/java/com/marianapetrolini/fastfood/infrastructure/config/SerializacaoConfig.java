@@ -0,0 +1,61 @@
+package com.marianapetrolini.fastfood.infrastructure.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
+import com.marianapetrolini.fastfood.infrastructure.adapters.web.conversores.ConversorBinarioRestrito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Configuração da serialização das respostas.
+ * Oferece CBOR e Smile, por negociação de conteúdo, para as listas da
+ * cozinha e o cardápio (telas da cozinha e totens); o JSON continua sendo o
+ * formato padrão, com o conversor do Spring Boot.
+ * A compressão e o HTTP/2 ficam em {@code server.*} no application.yml.
+ */
+@Configuration
+public class SerializacaoConfig implements WebMvcConfigurer {
+
+    private static final List<Class<?>> TIPOS_BINARIOS = Arrays.asList(
+        PedidoListaResponse.class,
+        ProdutoResponse.class
+    );
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+    private final boolean formatosBinarios;
+
+    public SerializacaoConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders,
+                              @Value("${app.web.formatos-binarios.habilitado:true}") boolean formatosBinarios) {
+        this.builders = builders;
+        this.formatosBinarios = formatosBinarios;
+    }
+
+    /**
+     * Adiciona os conversores CBOR e Smile ao final da lista, para que o JSON
+     * continue sendo escolhido quando o cliente aceita qualquer formato.
+     * Os mappers saem do builder do Spring Boot, com os mesmos módulos e
+     * configurações do JSON.
+     *
+     * @param converters Conversores do Spring MVC
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!formatosBinarios) {
+            return;
+        }
+        converters.add(new ConversorBinarioRestrito(builders.getObject().factory(new CBORFactory()).build(),
+                                                    MediaType.APPLICATION_CBOR, TIPOS_BINARIOS));
+        converters.add(new ConversorBinarioRestrito(builders.getObject().factory(new SmileFactory()).build(),
+                                                    ConversorBinarioRestrito.APPLICATION_SMILE, TIPOS_BINARIOS));
+    }
+}
@@ -0,0 +1,345 @@
+package com.marianapetrolini.fastfood.infrastructure.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutRequest;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutResponse;
+import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ChavesIdempotenciaAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ChaveIdempotenciaJpaEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import javax.validation.ValidationException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Checkout idempotente pelo cabeçalho {@value #CABECALHO}.
+ * A primeira requisição com uma chave reserva a chave no banco (a chave
+ * primária garante um único executor entre os pods), executa o checkout e
+ * grava a resposta; as repetições com o mesmo corpo recebem a resposta
+ * gravada sem executar nada. As respostas concluídas também ficam em memória
+ * (LRU com TTL), então a repetição no mesmo pod nem vai ao banco.
+ * Uma repetição enquanto o checkout original ainda executa é recusada como
+ * {@link Situacao#EM_ANDAMENTO}; a mesma chave com outro corpo, como
+ * {@link Situacao#CONFLITO}. Se o checkout é recusado por uma regra de
+ * domínio ou validação, que falham antes de gravar algo (a transação do
+ * checkout é desfeita), a reserva é liberada para a próxima tentativa; qualquer
+ * outra falha (banco, tempo esgotado...) pode ter acontecido depois de o pedido
+ * ser gravado, e a reserva é marcada como {@link Situacao#INDETERMINADO}.
+ * A gravação da resposta é tentada de novo se falhar; uma reserva que
+ * continua sem resposta depois de
+ * {@code app.idempotencia.reserva-maxima} (pod que caiu no meio do checkout ou
+ * que não gravou a resposta) tem resultado desconhecido e nunca é executada
+ * de novo: as repetições recebem {@link Situacao#INDETERMINADO} até a chave
+ * expirar. Conclusão e liberação só alteram a reserva da própria requisição.
+ * Métrica: {@code fastfood.idempotencia.checkout} por {@code resultado}.
+ */
+@Component
+public class CheckoutIdempotente {
+
+    public static final String CABECALHO = "Idempotency-Key";
+
+    private static final Logger logger = LoggerFactory.getLogger(CheckoutIdempotente.class);
+    private static final int TAMANHO_MAXIMO_CHAVE = 100;
+    private static final int TENTATIVAS_CONCLUSAO = 3;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Situação de uma requisição com chave de idempotência.
+     */
+    public enum Situacao {
+        /** Checkout executado nesta requisição */
+        EXECUTADO,
+        /** Resposta de um checkout anterior com a mesma chave */
+        REPETIDO,
+        /** Outra requisição com a mesma chave ainda está executando */
+        EM_ANDAMENTO,
+        /** Chave já usada com outro corpo de requisição */
+        CONFLITO,
+        /** Checkout original falhou sem resultado conhecido, ou reserva sem resposta há mais que a reserva máxima */
+        INDETERMINADO,
+        /** Chave vazia ou longa demais */
+        CHAVE_INVALIDA
+    }
+
+    /**
+     * Resultado de uma requisição com chave de idempotência.
+     */
+    public static final class Resultado {
+
+        private final Situacao situacao;
+        private final CheckoutResponse resposta;
+
+        private Resultado(Situacao situacao, CheckoutResponse resposta) {
+            this.situacao = situacao;
+            this.resposta = resposta;
+        }
+
+        public Situacao getSituacao() {
+            return situacao;
+        }
+
+        /**
+         * @return Resposta do checkout, em {@link Situacao#EXECUTADO} e {@link Situacao#REPETIDO}
+         */
+        public CheckoutResponse getResposta() {
+            return resposta;
+        }
+    }
+
+    private final ChavesIdempotenciaAdapter chaves;
+    private final ObjectWriter escritorResposta;
+    private final ObjectReader leitorResposta;
+    private final ObjectWriter escritorRequisicao;
+    private final Duration ttl;
+    private final Duration reservaMaxima;
+    private final Map<String, Concluida> memoria;
+    private final Map<Situacao, Counter> resultados = new LinkedHashMap<>();
+
+    public CheckoutIdempotente(ChavesIdempotenciaAdapter chaves, ObjectMapper objectMapper, MeterRegistry registry,
+                               @Value("${app.idempotencia.ttl:24h}") Duration ttl,
+                               @Value("${app.idempotencia.reserva-maxima:60s}") Duration reservaMaxima,
+                               @Value("${app.idempotencia.memoria.maximo:10000}") int maximoMemoria) {
+        this.chaves = chaves;
+        this.escritorResposta = objectMapper.writerFor(CheckoutResponse.class);
+        this.leitorResposta = objectMapper.readerFor(CheckoutResponse.class);
+        this.escritorRequisicao = objectMapper.writerFor(CheckoutRequest.class);
+        this.ttl = ttl;
+        this.reservaMaxima = reservaMaxima;
+        this.memoria = new LinkedHashMap<String, Concluida>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Concluida> maisAntiga) {
+                return size() > maximoMemoria;
+            }
+        };
+        for (Situacao situacao : Situacao.values()) {
+            resultados.put(situacao, Counter.builder("fastfood.idempotencia.checkout")
+                .description("Checkouts com chave de idempotência por resultado")
+                .tag("resultado", situacao.name().toLowerCase())
+                .register(registry));
+        }
+    }
+
+    /**
+     * Executa o checkout uma única vez por chave.
+     *
+     * @param chave Valor do cabeçalho {@value #CABECALHO}
+     * @param request Corpo do checkout
+     * @param checkout Execução do checkout
+     * @return Resultado da requisição
+     */
+    public Resultado executar(String chave, CheckoutRequest request, Supplier<CheckoutResponse> checkout) {
+        Resultado resultado = resolver(chave, request, checkout);
+        resultados.get(resultado.getSituacao()).increment();
+        return resultado;
+    }
+
+    private Resultado resolver(String chave, CheckoutRequest request, Supplier<CheckoutResponse> checkout) {
+        if (chave == null || chave.trim().isEmpty() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            return new Resultado(Situacao.CHAVE_INVALIDA, null);
+        }
+        String impressao = impressao(request);
+
+        Concluida concluida = obterMemoria(chave);
+        if (concluida != null) {
+            return repeticao(concluida.impressao, concluida.resposta, impressao);
+        }
+
+        // Repetições são o caso comum: consulta antes de reservar, sem passar pela violação de chave.
+        // O momento da reserva a identifica no banco: mesma precisão da coluna TIMESTAMP
+        LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Resultado existente = existente(chave, impressao, agora);
+        if (existente != null) {
+            return existente;
+        }
+        if (!reservar(chave, impressao, agora)) {
+            existente = existente(chave, impressao, agora);
+            return existente != null ? existente : new Resultado(Situacao.EM_ANDAMENTO, null);
+        }
+
+        CheckoutResponse resposta;
+        try {
+            resposta = checkout.get();
+        } catch (RuntimeException e) {
+            if (isRecusaAntesDeGravar(e)) {
+                liberar(chave, agora);
+            } else {
+                marcarIndeterminada(chave, agora);
+            }
+            throw e;
+        }
+        byte[] bytes = serializar(resposta);
+        concluir(chave, agora, bytes);
+        // Mesmo sem a resposta no banco, as repetições neste pod a recebem da memória
+        guardarMemoria(chave, impressao, bytes, agora.plus(ttl));
+        return new Resultado(Situacao.EXECUTADO, resposta);
+    }
+
+    /**
+     * Grava a resposta na reserva, tentando de novo se a gravação falhar.
+     * Sem a resposta gravada, as repetições em outros pods recebem
+     * {@link Situacao#EM_ANDAMENTO} e, depois, {@link Situacao#INDETERMINADO}.
+     */
+    private void concluir(String chave, LocalDateTime reservadaEm, byte[] resposta) {
+        for (int tentativa = 1; tentativa <= TENTATIVAS_CONCLUSAO; tentativa++) {
+            try {
+                if (!chaves.concluir(chave, reservadaEm, resposta)) {
+                    logger.warn("Reserva da chave de idempotência {} não existe mais; resposta não gravada", chave);
+                }
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Falha ao gravar a resposta da chave de idempotência {} (tentativa {} de {}): {}",
+                            chave, tentativa, TENTATIVAS_CONCLUSAO, e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isRecusaAntesDeGravar(RuntimeException e) {
+        return e instanceof DomainException || e instanceof ValidationException;
+    }
+
+    private void marcarIndeterminada(String chave, LocalDateTime reservadaEm) {
+        try {
+            chaves.marcarIndeterminada(chave, reservadaEm);
+        } catch (RuntimeException e) {
+            // A reserva fica sem resposta e vira indeterminada depois da reserva máxima
+            logger.warn("Falha ao marcar a chave de idempotência {} como indeterminada: {}", chave, e.getMessage());
+        }
+    }
+
+    private void liberar(String chave, LocalDateTime reservadaEm) {
+        try {
+            chaves.liberar(chave, reservadaEm);
+        } catch (RuntimeException e) {
+            // A reserva fica sem resposta: as repetições não executam o checkout de novo
+            logger.warn("Falha ao liberar a chave de idempotência {}: {}", chave, e.getMessage());
+        }
+    }
+
+    /**
+     * Resultado de uma chave já registrada no banco, ou null se a chave está livre
+     * (ausente ou expirada, que é removida).
+     */
+    private Resultado existente(String chave, String impressao, LocalDateTime agora) {
+        Optional<ChaveIdempotenciaJpaEntity> existente = chaves.buscar(chave);
+        if (!existente.isPresent()) {
+            return null;
+        }
+        ChaveIdempotenciaJpaEntity registro = existente.get();
+        if (registro.getExpiraEm().isBefore(agora)) {
+            chaves.liberar(chave, registro.getCriadoEm());
+            return null;
+        }
+        if (registro.isConcluida()) {
+            guardarMemoria(chave, registro.getImpressao(), registro.getResposta(), registro.getExpiraEm());
+            return repeticao(registro.getImpressao(), registro.getResposta(), impressao);
+        }
+        if (!registro.getImpressao().equals(impressao)) {
+            return new Resultado(Situacao.CONFLITO, null);
+        }
+        boolean abandonada = registro.isIndeterminada() || registro.getCriadoEm().plus(reservaMaxima).isBefore(agora);
+        return new Resultado(abandonada ? Situacao.INDETERMINADO : Situacao.EM_ANDAMENTO, null);
+    }
+
+    private boolean reservar(String chave, String impressao, LocalDateTime agora) {
+        try {
+            chaves.reservar(chave, impressao, agora, agora.plus(ttl));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private Resultado repeticao(String impressaoOriginal, byte[] resposta, String impressao) {
+        if (!impressaoOriginal.equals(impressao)) {
+            return new Resultado(Situacao.CONFLITO, null);
+        }
+        return new Resultado(Situacao.REPETIDO, desserializar(resposta));
+    }
+
+    private Concluida obterMemoria(String chave) {
+        synchronized (memoria) {
+            Concluida concluida = memoria.get(chave);
+            if (concluida != null && concluida.expiraEmNanos - System.nanoTime() <= 0) {
+                memoria.remove(chave);
+                return null;
+            }
+            return concluida;
+        }
+    }
+
+    private void guardarMemoria(String chave, String impressao, byte[] resposta, LocalDateTime expiraEm) {
+        long restanteNanos = Duration.between(LocalDateTime.now(), expiraEm).toNanos();
+        if (restanteNanos <= 0) {
+            return;
+        }
+        synchronized (memoria) {
+            memoria.put(chave, new Concluida(impressao, resposta, System.nanoTime() + restanteNanos));
+        }
+    }
+
+    private String impressao(CheckoutRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(escritorRequisicao.writeValueAsBytes(request));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xf];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xf];
+            }
+            return new String(hex);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] serializar(CheckoutResponse resposta) {
+        try {
+            return escritorResposta.writeValueAsBytes(resposta);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CheckoutResponse desserializar(byte[] resposta) {
+        try {
+            return leitorResposta.readValue(resposta);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Resposta concluída guardada em memória.
+     */
+    private static final class Concluida {
+
+        private final String impressao;
+        private final byte[] resposta;
+        private final long expiraEmNanos;
+
+        private Concluida(String impressao, byte[] resposta, long expiraEmNanos) {
+            this.impressao = impressao;
+            this.resposta = resposta;
+            this.expiraEmNanos = expiraEmNanos;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.marianapetrolini.fastfood.infrastructure.inicializacao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marianapetrolini.fastfood.application.dtos.pagamento.PagamentoResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutRequest;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
+import com.marianapetrolini.fastfood.application.ports.input.ProdutoUseCase;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pagamento;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
+import com.marianapetrolini.fastfood.domain.valueobjects.CPF;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.MetodoPagamento;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.InstrumentacaoPortas;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aquecimento da aplicação antes de receber tráfego.
+ * Roda como {@link ApplicationRunner}, ou seja, antes do Spring Boot marcar a
+ * aplicação como pronta: publica {@link ReadinessState#REFUSING_TRAFFIC},
+ * abre as conexões mínimas do pool, lê o cardápio pelo {@link ProdutoUseCase}
+ * (o que também popula os caches do catálogo e o índice de busca), valida CPFs e e-mails,
+ * executa checkouts sintéticos apenas em memória (sem persistir nem chamar
+ * o gateway) e serializa os DTOs de resposta. Só as primeiras iterações leem
+ * o cardápio pelo caso de uso; as demais, que existem para o JIT, reutilizam
+ * o cardápio já lido, para que cada pod novo não faça centenas de consultas
+ * ao banco. As chamadas às portas não entram no timer {@code fastfood.operacao}
+ * ({@link InstrumentacaoPortas#suprimirMetricas()}). A aplicação só passa a
+ * {@link ReadinessState#ACCEPTING_TRAFFIC} quando o próprio Spring Boot a
+ * marca como pronta, depois de todos os runners e do contexto completo.
+ * Falhas no aquecimento são registradas em log e nunca impedem a subida.
+ */
+@Component
+public class AquecimentoAplicacao implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AquecimentoAplicacao.class);
+
+    private static final List<String> CPFS = Arrays.asList("11144477735", "529.982.247-25", "12345678900");
+    private static final List<String> EMAILS = Arrays.asList("cliente@fastfood.com", "a.b+c@exemplo.com.br", "invalido@");
+    private static final List<String> BUSCAS = Arrays.asList("x", "bur", "batata frita", "maca");
+
+    private final ApplicationEventPublisher publisher;
+    private final ObjectProvider<ProdutoUseCase> produtoUseCase;
+    private final ObjectProvider<DataSource> dataSource;
+    private final ObjectMapper objectMapper;
+    private final Timer duracao;
+    private final boolean habilitado;
+    private final int iteracoes;
+    private final int leiturasCardapio;
+    private final int conexoes;
+    private final long tempoMaximoMs;
+
+    public AquecimentoAplicacao(ApplicationEventPublisher publisher,
+                                ObjectProvider<ProdutoUseCase> produtoUseCase,
+                                ObjectProvider<DataSource> dataSource,
+                                ObjectProvider<ObjectMapper> objectMapper,
+                                MeterRegistry registry,
+                                @Value("${app.startup.aquecimento.habilitado:true}") boolean habilitado,
+                                @Value("${app.startup.aquecimento.iteracoes:200}") int iteracoes,
+                                @Value("${app.startup.aquecimento.leituras-cardapio:3}") int leiturasCardapio,
+                                @Value("${app.startup.aquecimento.conexoes:5}") int conexoes,
+                                @Value("${app.startup.aquecimento.tempo-maximo-ms:30000}") long tempoMaximoMs) {
+        this.publisher = publisher;
+        this.produtoUseCase = produtoUseCase;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper.getIfAvailable(() -> new ObjectMapper().findAndRegisterModules());
+        this.duracao = Timer.builder("fastfood.aquecimento.duracao")
+            .description("Duração do aquecimento antes da aplicação aceitar tráfego")
+            .register(registry);
+        this.habilitado = habilitado;
+        this.iteracoes = Math.max(1, iteracoes);
+        this.leiturasCardapio = Math.max(1, leiturasCardapio);
+        this.conexoes = Math.max(0, conexoes);
+        this.tempoMaximoMs = tempoMaximoMs;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!habilitado) {
+            return;
+        }
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        duracao.record(this::aquecer);
+    }
+
+    /**
+     * Executa as etapas do aquecimento até o número de iterações ou o tempo máximo.
+     *
+     * @return Número de iterações completas executadas
+     */
+    int aquecer() {
+        try (InstrumentacaoPortas.Supressao supressao = InstrumentacaoPortas.suprimirMetricas()) {
+            return aquecerSemMetricas();
+        }
+    }
+
+    private int aquecerSemMetricas() {
+        long inicio = System.nanoTime();
+        long limite = inicio + tempoMaximoMs * 1_000_000L;
+        aquecerConexoes();
+
+        List<ProdutoResponse> cardapio = Collections.emptyList();
+        int executadas = 0;
+        for (int i = 0; i < iteracoes && System.nanoTime() < limite; i++) {
+            try {
+                if (i < leiturasCardapio) {
+                    cardapio = lerCardapio();
+                } else {
+                    objectMapper.writeValueAsBytes(cardapio);
+                }
+                validarDocumentos();
+                checkoutSintetico(cardapio, i);
+                executadas++;
+            } catch (RuntimeException | IOException e) {
+                logger.warn("Aquecimento interrompido na iteração {}: {}", i, e.getMessage());
+                break;
+            }
+        }
+        logger.info("Aquecimento concluído em {} ms: {} iterações, {} produtos no cardápio",
+                    (System.nanoTime() - inicio) / 1_000_000, executadas, cardapio.size());
+        return executadas;
+    }
+
+    private void aquecerConexoes() {
+        DataSource ds = dataSource.getIfAvailable();
+        if (ds == null || conexoes == 0) {
+            return;
+        }
+        // Abre as conexões ao mesmo tempo para que o pool crie todas, e não reutilize a primeira
+        List<Connection> abertas = new ArrayList<>(conexoes);
+        try {
+            for (int i = 0; i < conexoes; i++) {
+                Connection conexao = ds.getConnection();
+                abertas.add(conexao);
+                conexao.isValid(2);
+            }
+        } catch (SQLException e) {
+            logger.warn("Falha ao aquecer o pool de conexões: {}", e.getMessage());
+        } finally {
+            for (Connection conexao : abertas) {
+                try {
+                    conexao.close();
+                } catch (SQLException e) {
+                    logger.debug("Falha ao devolver conexão ao pool: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private List<ProdutoResponse> lerCardapio() throws IOException {
+        ProdutoUseCase useCase = produtoUseCase.getIfAvailable();
+        if (useCase == null) {
+            return Collections.emptyList();
+        }
+        List<ProdutoResponse> disponiveis = useCase.listarProdutosDisponiveis();
+        for (CategoriaProduto categoria : CategoriaProduto.values()) {
+            useCase.listarProdutosDisponiveisPorCategoria(categoria);
+        }
+        useCase.listarCategorias();
+        for (String termo : BUSCAS) {
+            useCase.buscarProdutosPorNome(termo);
+        }
+        objectMapper.writeValueAsBytes(disponiveis);
+        return disponiveis;
+    }
+
+    private void validarDocumentos() {
+        for (String cpf : CPFS) {
+            try {
+                new CPF(cpf).getValorFormatado();
+            } catch (DomainException e) {
+                // CPF inválido de propósito: aquece também o caminho de erro
+            }
+        }
+        for (String email : EMAILS) {
+            try {
+                new Email(email);
+            } catch (DomainException e) {
+                // E-mail inválido de propósito
+            }
+        }
+    }
+
+    private void checkoutSintetico(List<ProdutoResponse> cardapio, int iteracao) throws IOException {
+        CheckoutRequest request = new CheckoutRequest(
+            new CheckoutRequest.ClienteRequest("Cliente Aquecimento", CPFS.get(0), EMAILS.get(0)),
+            Collections.singletonList(new CheckoutRequest.ItemPedidoRequest(1L, 2, "sem cebola")),
+            MetodoPagamento.values()[iteracao % MetodoPagamento.values().length].name());
+        request.setLojaId(Pedido.LOJA_PADRAO);
+        CheckoutRequest lido = objectMapper.readValue(objectMapper.writeValueAsBytes(request), CheckoutRequest.class);
+
+        LocalDateTime agora = LocalDateTime.now();
+        Cliente cliente = new Cliente(-1L, lido.getCliente().getNome(), new CPF(lido.getCliente().getCpf()),
+                                      new Email(lido.getCliente().getEmail()), agora, agora);
+        List<ItemPedido> itens = new ArrayList<>();
+        for (Produto produto : produtosSinteticos(cardapio)) {
+            itens.add(new ItemPedido(produto, lido.getItens().get(0).getQuantidade(),
+                                     lido.getItens().get(0).getObservacoes()));
+        }
+        Pedido pedido = lido.criarPedido(cliente, itens);
+        pedido.setId(-1L - iteracao);
+        Pagamento pagamento = new Pagamento(pedido, MetodoPagamento.fromString(lido.getMetodoPagamento()),
+                                            pedido.getValorTotal());
+        pagamento.setId(pedido.getId());
+        pagamento.iniciarProcessamento("aquecimento-" + iteracao);
+        pagamento.aprovar(pagamento.getTransacaoId());
+
+        CheckoutResponse response = new CheckoutResponse(pedido.getId(), pedido.getStatus().name(),
+                                                         pedido.getValorTotal(), pagamento.getMetodo().name(),
+                                                         "Pedido sintético de aquecimento");
+        objectMapper.writeValueAsBytes(response);
+        objectMapper.writeValueAsBytes(PagamentoResponse.fromEntity(pagamento));
+
+        pedido.iniciarPreparacao();
+        pedido.marcarComoPronto();
+        objectMapper.writeValueAsBytes(PedidoResponse.fromEntity(pedido));
+        objectMapper.writeValueAsBytes(PedidoListaResponse.fromEntity(pedido));
+        pedido.finalizar();
+    }
+
+    private static List<Produto> produtosSinteticos(List<ProdutoResponse> cardapio) {
+        List<Produto> produtos = new ArrayList<>(3);
+        for (ProdutoResponse response : cardapio) {
+            if (produtos.size() == 3) {
+                break;
+            }
+            produtos.add(new Produto(response.getId(), response.getNome(), response.getDescricao(),
+                                     response.getPreco(), CategoriaProduto.valueOf(response.getCategoria()),
+                                     true, response.getCriadoEm(), response.getAtualizadoEm()));
+        }
+        if (produtos.isEmpty()) {
+            produtos.add(new Produto("X-Aquecimento", "Produto sintético", new BigDecimal("25.90"),
+                                     CategoriaProduto.LANCHE));
+        }
+        return produtos;
+    }
+}
@@ -0,0 +1,95 @@
+package com.marianapetrolini.fastfood.infrastructure.inicializacao;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mede a latência das requisições da API na primeira janela após a aplicação
+ * passar a aceitar tráfego (um minuto por padrão), no timer
+ * {@code fastfood.http.primeiro.minuto} com p50/p99 publicados.
+ * Ao fim da janela o p99 é registrado em log e o filtro deixa de medir,
+ * permitindo comparar subidas com e sem aquecimento.
+ */
+@Component
+public class LatenciaPrimeiroMinutoFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatenciaPrimeiroMinutoFilter.class);
+
+    private final Timer latencia;
+    private final long janelaNanos;
+    private final AtomicBoolean encerrada = new AtomicBoolean();
+    private volatile long inicioNanos = -1;
+
+    public LatenciaPrimeiroMinutoFilter(MeterRegistry registry,
+                                        @Value("${app.startup.aquecimento.janela-medicao:60s}") Duration janela) {
+        this.latencia = Timer.builder("fastfood.http.primeiro.minuto")
+            .description("Latência das requisições na primeira janela após a aplicação ficar pronta")
+            .publishPercentiles(0.5, 0.99)
+            .distributionStatisticExpiry(janela.multipliedBy(2))
+            .register(registry);
+        this.janelaNanos = janela.toNanos();
+    }
+
+    /**
+     * Inicia a janela de medição quando a aplicação passa a aceitar tráfego.
+     *
+     * @param event Mudança de prontidão
+     */
+    @EventListener
+    public void prontidaoAlterada(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC && inicioNanos < 0) {
+            inicioNanos = System.nanoTime();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return inicioNanos < 0 || encerrada.get() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long inicio = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long fim = System.nanoTime();
+            if (fim - inicioNanos <= janelaNanos) {
+                latencia.record(fim - inicio, TimeUnit.NANOSECONDS);
+            } else if (encerrada.compareAndSet(false, true)) {
+                registrarResumo();
+            }
+        }
+    }
+
+    private void registrarResumo() {
+        double p99 = 0;
+        for (ValueAtPercentile percentil : latencia.takeSnapshot().percentileValues()) {
+            if (percentil.percentile() == 0.99) {
+                p99 = percentil.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        logger.info("Primeira janela após a subida: {} requisições, p99 {} ms, máximo {} ms",
+                    latencia.count(), String.format("%.1f", p99),
+                    String.format("%.1f", latencia.max(TimeUnit.MILLISECONDS)));
+    }
+}
@@ -0,0 +1,138 @@
+package com.marianapetrolini.fastfood.infrastructure.isolamento;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Controle de admissão da API, antes dos compartimentos.
+ * As rotas limitadas por cliente (checkout) consomem uma ficha do
+ * {@link LimitadorTaxa} e, sem ficha, recebem 429 com {@code Retry-After}.
+ * Todas as rotas da API passam pelo {@link LimiteConcorrencia} adaptativo e,
+ * acima do limite, recebem 503; a latência de cada requisição é comparada com
+ * a do seu compartimento ({@link CompartimentosFilter}), e as rotas sem
+ * compartimento formam um grupo só. O cliente é o endereço remoto da requisição:
+ * atrás do ingress, o Tomcat o resolve pelo {@code X-Forwarded-For} pulando
+ * apenas os proxies confiáveis ({@code server.forward-headers-strategy}), então
+ * endereços forjados pelo cliente no cabeçalho não mudam o balde usado.
+ * Métricas: {@code fastfood.admissao.recusadas} por {@code motivo} (taxa,
+ * concorrencia), {@code fastfood.admissao.limite} e {@code fastfood.admissao.em.voo}.
+ */
+public class AdmissaoFilter extends OncePerRequestFilter implements Ordered {
+
+    /**
+     * Depois da segurança e antes do filtro dos compartimentos.
+     */
+    public static final int ORDEM = 0;
+
+    private static final AntPathMatcher ROTAS = new AntPathMatcher();
+    private static final String SEM_COMPARTIMENTO = "outras";
+
+    private final LimitadorTaxa limitadorTaxa;
+    private final List<String[]> rotasLimitadas = new ArrayList<>();
+    private final LimiteConcorrencia limiteConcorrencia;
+    private final CompartimentosFilter compartimentos;
+    private final Counter recusadasTaxa;
+    private final Counter recusadasConcorrencia;
+
+    /**
+     * @param limitadorTaxa Limite de taxa por cliente
+     * @param rotasLimitadas Rotas com limite de taxa ("MÉTODO /padrão")
+     * @param limiteConcorrencia Limite de concorrência adaptativo
+     * @param compartimentos Compartimentos que agrupam as rotas no limite de concorrência (opcional)
+     * @param registry Registro de métricas
+     */
+    public AdmissaoFilter(LimitadorTaxa limitadorTaxa, List<String> rotasLimitadas,
+                          LimiteConcorrencia limiteConcorrencia, CompartimentosFilter compartimentos,
+                          MeterRegistry registry) {
+        this.limitadorTaxa = limitadorTaxa;
+        for (String rota : rotasLimitadas) {
+            String[] partes = rota.trim().split("\\s+", 2);
+            this.rotasLimitadas.add(partes.length == 2
+                ? new String[] {partes[0].toUpperCase(), partes[1]}
+                : new String[] {null, partes[0]});
+        }
+        this.limiteConcorrencia = limiteConcorrencia;
+        this.compartimentos = compartimentos;
+        this.recusadasTaxa = recusadas(registry, "taxa");
+        this.recusadasConcorrencia = recusadas(registry, "concorrencia");
+        Gauge.builder("fastfood.admissao.limite", limiteConcorrencia, LimiteConcorrencia::getLimite)
+            .description("Limite atual de requisições simultâneas da API")
+            .register(registry);
+        Gauge.builder("fastfood.admissao.em.voo", limiteConcorrencia, LimiteConcorrencia::getEmVoo)
+            .description("Requisições da API em execução")
+            .register(registry);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDEM;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isLimitada(request)) {
+            long esperaMs = limitadorTaxa.consumir(request.getRemoteAddr());
+            if (esperaMs > 0) {
+                recusadasTaxa.increment();
+                response.setStatus(429);
+                response.setHeader("Retry-After", Long.toString((esperaMs + 999) / 1000));
+                return;
+            }
+        }
+
+        if (!limiteConcorrencia.admitir()) {
+            recusadasConcorrencia.increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            return;
+        }
+        long inicio = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiteConcorrencia.concluir(grupo(request), System.nanoTime() - inicio);
+        }
+    }
+
+    private String grupo(HttpServletRequest request) {
+        Compartimento compartimento = compartimentos != null
+            ? compartimentos.resolver(request.getMethod(), request.getRequestURI())
+            : null;
+        return compartimento != null ? compartimento.getNome() : SEM_COMPARTIMENTO;
+    }
+
+    private boolean isLimitada(HttpServletRequest request) {
+        for (String[] rota : rotasLimitadas) {
+            if ((rota[0] == null || rota[0].equals(request.getMethod()))
+                    && ROTAS.match(rota[1], request.getRequestURI())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Counter recusadas(MeterRegistry registry, String motivo) {
+        return Counter.builder("fastfood.admissao.recusadas")
+            .description("Requisições recusadas pelo controle de admissão")
+            .tag("motivo", motivo)
+            .register(registry);
+    }
+}
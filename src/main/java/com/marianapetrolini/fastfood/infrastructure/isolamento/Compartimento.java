@@ -0,0 +1,101 @@
+package com.marianapetrolini.fastfood.infrastructure.isolamento;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compartimento (bulkhead) com um número fixo de requisições simultâneas.
+ * Uma rajada em um compartimento espera no máximo {@code esperaMs} por uma
+ * vaga e depois é recusada, sem ocupar threads do Tomcat nem conexões do
+ * pool que pertencem aos outros compartimentos.
+ * Métricas (tag {@code compartimento}): {@code fastfood.compartimento.ativas},
+ * {@code fastfood.compartimento.espera} e {@code fastfood.compartimento.rejeitadas}.
+ */
+public class Compartimento {
+
+    private final String nome;
+    private final int maximo;
+    private final long esperaMs;
+    private final Semaphore vagas;
+    private final Timer espera;
+    private final Counter rejeitadas;
+
+    /**
+     * @param nome Nome do compartimento (tag das métricas)
+     * @param maximo Requisições simultâneas permitidas
+     * @param esperaMs Espera máxima por uma vaga antes de recusar (0 recusa na hora)
+     * @param registry Registro de métricas
+     */
+    public Compartimento(String nome, int maximo, long esperaMs, MeterRegistry registry) {
+        if (maximo <= 0) {
+            throw new IllegalArgumentException("Compartimento " + nome + " precisa de ao menos uma vaga");
+        }
+        this.nome = nome;
+        this.maximo = maximo;
+        this.esperaMs = Math.max(0, esperaMs);
+        this.vagas = new Semaphore(maximo, true);
+        Gauge.builder("fastfood.compartimento.ativas", this, Compartimento::getEmUso)
+            .description("Requisições em execução no compartimento")
+            .tag("compartimento", nome)
+            .register(registry);
+        Gauge.builder("fastfood.compartimento.maximo", this, Compartimento::getMaximo)
+            .description("Vagas configuradas no compartimento")
+            .tag("compartimento", nome)
+            .register(registry);
+        this.espera = Timer.builder("fastfood.compartimento.espera")
+            .description("Espera por uma vaga no compartimento")
+            .tag("compartimento", nome)
+            .register(registry);
+        this.rejeitadas = Counter.builder("fastfood.compartimento.rejeitadas")
+            .description("Requisições recusadas com o compartimento lotado")
+            .tag("compartimento", nome)
+            .register(registry);
+    }
+
+    /**
+     * Ocupa uma vaga, esperando até {@code esperaMs}.
+     *
+     * @return Se a vaga foi obtida; em caso positivo, {@link #sair()} deve ser chamado
+     */
+    public boolean entrar() {
+        if (vagas.tryAcquire()) {
+            return true;
+        }
+        long inicio = System.nanoTime();
+        boolean obtida = false;
+        try {
+            obtida = esperaMs > 0 && vagas.tryAcquire(esperaMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        espera.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        if (!obtida) {
+            rejeitadas.increment();
+        }
+        return obtida;
+    }
+
+    /**
+     * Libera a vaga obtida em {@link #entrar()}.
+     */
+    public void sair() {
+        vagas.release();
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public int getMaximo() {
+        return maximo;
+    }
+
+    public int getEmUso() {
+        return maximo - vagas.availablePermits();
+    }
+}
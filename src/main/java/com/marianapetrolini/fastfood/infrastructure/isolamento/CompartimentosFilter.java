@@ -0,0 +1,105 @@
+package com.marianapetrolini.fastfood.infrastructure.isolamento;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Encaminha cada requisição da API ao seu compartimento (webhook, checkout,
+ * cozinha, relatórios...) e recusa com 503 e {@code Retry-After} quando ele
+ * está lotado. Requisições que não casam com nenhuma rota seguem sem limite.
+ */
+public class CompartimentosFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher ROTAS = new AntPathMatcher();
+
+    private final List<Rota> rotas = new ArrayList<>();
+
+    /**
+     * Associa uma rota a um compartimento; a primeira rota registrada que casar vence.
+     *
+     * @param rota Método HTTP opcional seguido do padrão Ant (p.ex. "POST /api/pedidos/checkout")
+     * @param compartimento Compartimento da rota
+     */
+    public void registrar(String rota, Compartimento compartimento) {
+        String[] partes = rota.trim().split("\\s+", 2);
+        if (partes.length == 2) {
+            rotas.add(new Rota(partes[0].toUpperCase(), partes[1], compartimento));
+        } else {
+            rotas.add(new Rota(null, partes[0], compartimento));
+        }
+    }
+
+    /**
+     * @return Compartimentos na ordem das rotas, sem repetição
+     */
+    public List<Compartimento> getCompartimentos() {
+        List<Compartimento> compartimentos = new ArrayList<>();
+        for (Rota rota : rotas) {
+            if (!compartimentos.contains(rota.compartimento)) {
+                compartimentos.add(rota.compartimento);
+            }
+        }
+        return Collections.unmodifiableList(compartimentos);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Compartimento compartimento = resolver(request.getMethod(), request.getRequestURI());
+        if (compartimento == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!compartimento.entrar()) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            compartimento.sair();
+        }
+    }
+
+    /**
+     * @param metodo Método HTTP
+     * @param caminho URI da requisição
+     * @return Compartimento da primeira rota que casar, ou null
+     */
+    public Compartimento resolver(String metodo, String caminho) {
+        for (Rota rota : rotas) {
+            if ((rota.metodo == null || rota.metodo.equals(metodo)) && ROTAS.match(rota.padrao, caminho)) {
+                return rota.compartimento;
+            }
+        }
+        return null;
+    }
+
+    private static final class Rota {
+
+        private final String metodo;
+        private final String padrao;
+        private final Compartimento compartimento;
+
+        private Rota(String metodo, String padrao, Compartimento compartimento) {
+            this.metodo = metodo;
+            this.padrao = padrao;
+            this.compartimento = compartimento;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.marianapetrolini.fastfood.infrastructure.isolamento;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite de taxa por cliente com baldes de fichas (token bucket).
+ * Cada cliente tem um balde de {@code capacidade} fichas, reposto a
+ * {@code porMinuto} fichas por minuto; cada requisição consome uma ficha.
+ * Os baldes ficam em um mapa em ordem de acesso limitado a
+ * {@code maximoClientes}: acima disso, sai o balde usado há mais tempo, que
+ * normalmente já está cheio e não guarda estado útil (custo constante, sem
+ * varrer os baldes).
+ */
+public class LimitadorTaxa {
+
+    private final double capacidade;
+    private final double fichasPorNano;
+    private final Map<String, Balde> baldes;
+
+    /**
+     * @param capacidade Rajada máxima por cliente
+     * @param porMinuto Requisições sustentadas por minuto por cliente
+     * @param maximoClientes Clientes acompanhados antes de descartar os baldes usados há mais tempo
+     */
+    public LimitadorTaxa(int capacidade, int porMinuto, int maximoClientes) {
+        if (capacidade <= 0 || porMinuto <= 0) {
+            throw new IllegalArgumentException("Capacidade e reposição do limite de taxa devem ser positivas");
+        }
+        this.capacidade = capacidade;
+        this.fichasPorNano = porMinuto / (double) TimeUnit.MINUTES.toNanos(1);
+        this.baldes = new LinkedHashMap<String, Balde>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Balde> maisAntigo) {
+                return size() > maximoClientes;
+            }
+        };
+    }
+
+    /**
+     * Consome uma ficha do balde do cliente.
+     *
+     * @param cliente Identificação do cliente (IP ou identificador do totem)
+     * @return 0 se a requisição foi aceita; senão, milissegundos até a próxima ficha
+     */
+    public long consumir(String cliente) {
+        long agora = System.nanoTime();
+        Balde balde;
+        synchronized (baldes) {
+            balde = baldes.get(cliente);
+            if (balde == null) {
+                balde = new Balde(capacidade, agora);
+                baldes.put(cliente, balde);
+            }
+        }
+        return balde.consumir(agora);
+    }
+
+    /**
+     * @return Clientes com balde em memória
+     */
+    public int clientes() {
+        synchronized (baldes) {
+            return baldes.size();
+        }
+    }
+
+    private final class Balde {
+
+        private double fichas;
+        private long atualizadoEm;
+
+        private Balde(double fichas, long atualizadoEm) {
+            this.fichas = fichas;
+            this.atualizadoEm = atualizadoEm;
+        }
+
+        private synchronized long consumir(long agora) {
+            repor(agora);
+            if (fichas >= 1) {
+                fichas -= 1;
+                return 0;
+            }
+            return Math.max(1, TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - fichas) / fichasPorNano)));
+        }
+
+        private void repor(long agora) {
+            fichas = Math.min(capacidade, fichas + (agora - atualizadoEm) * fichasPorNano);
+            atualizadoEm = agora;
+        }
+    }
+}
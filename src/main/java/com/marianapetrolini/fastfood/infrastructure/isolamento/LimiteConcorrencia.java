@@ -0,0 +1,154 @@
+package com.marianapetrolini.fastfood.infrastructure.isolamento;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite de concorrência adaptativo guiado pela latência (algoritmo de gradiente).
+ * Cada grupo de rotas (compartimento) tem a sua latência de referência, sem
+ * fila: a menor observada no grupo, que sobe devagar enquanto nenhuma amostra
+ * fica abaixo dela, para acompanhar um banco que ficou mais lento de forma
+ * duradoura sem precisar baixar o limite para remedi-la. A cada lote, a razão
+ * média entre a latência de cada requisição e a referência do seu grupo é
+ * comparada com a {@code tolerancia}: dentro dela, o limite cresce com uma
+ * folga de raiz quadrada do limite; quando as requisições começam a esperar
+ * por conexões ou o banco fica lento, o limite encolhe na mesma proporção.
+ * Assim, rotas rápidas e lentas misturadas não parecem fila uma para a outra.
+ * O mínimo deve ficar abaixo do ponto em que o banco satura. As requisições
+ * acima do limite são recusadas na hora, em vez de formar fila no Tomcat e
+ * atrasar as que já foram aceitas.
+ */
+public class LimiteConcorrencia {
+
+    private static final double SUAVIZACAO = 0.2;
+    private static final int LOTE = 10;
+    /**
+     * Quanto a referência de um grupo sobe por segundo sem amostras abaixo dela (dobra em cerca de 70s).
+     */
+    private static final double DERIVA_REFERENCIA_POR_SEGUNDO = 0.01;
+
+    private final int minimo;
+    private final int maximo;
+    private final double tolerancia;
+    private final AtomicInteger emVoo = new AtomicInteger();
+    private final Map<String, Referencia> referencias = new HashMap<>();
+    private volatile double limite;
+    private double somaRazoesLote;
+    private int amostrasLote;
+    private int maximoConcorrentesLote;
+
+    /**
+     * @param inicial Limite inicial
+     * @param minimo Limite mínimo
+     * @param maximo Limite máximo
+     * @param tolerancia Quanto a latência recente pode passar da referência antes de o limite encolher
+     */
+    public LimiteConcorrencia(int inicial, int minimo, int maximo, double tolerancia) {
+        if (minimo <= 0 || minimo > maximo) {
+            throw new IllegalArgumentException("Limites de concorrência inválidos: " + minimo + " a " + maximo);
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.tolerancia = Math.max(1, tolerancia);
+        this.limite = Math.max(minimo, Math.min(maximo, inicial));
+    }
+
+    /**
+     * Tenta admitir uma requisição.
+     *
+     * @return Se a requisição foi admitida; em caso positivo, {@link #concluir(String, long)} deve ser chamado
+     */
+    public boolean admitir() {
+        while (true) {
+            int atual = emVoo.get();
+            if (atual >= (int) limite) {
+                return false;
+            }
+            if (emVoo.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Registra o fim de uma requisição admitida e ajusta o limite.
+     *
+     * @param grupo Grupo de rotas da requisição (poucos valores fixos, como os compartimentos)
+     * @param latenciaNanos Duração da requisição
+     */
+    public void concluir(String grupo, long latenciaNanos) {
+        int concorrentes = emVoo.getAndDecrement();
+        ajustar(grupo, latenciaNanos, concorrentes);
+    }
+
+    public int getLimite() {
+        return (int) limite;
+    }
+
+    public int getEmVoo() {
+        return emVoo.get();
+    }
+
+    private synchronized void ajustar(String grupo, long latenciaNanos, int concorrentes) {
+        Referencia referencia = referencias.computeIfAbsent(grupo, g -> new Referencia());
+        double latencia = Math.max(1, latenciaNanos);
+        long agora = System.nanoTime();
+        if (referencia.latencia == 0) {
+            referencia.latencia = latencia;
+        } else {
+            double deriva = 1 + (agora - referencia.atualizadaEm) / 1e9 * DERIVA_REFERENCIA_POR_SEGUNDO;
+            referencia.latencia = Math.min(latencia, referencia.latencia * deriva);
+        }
+        referencia.atualizadaEm = agora;
+        referencia.minimaLote = Math.min(referencia.minimaLote, latencia);
+        somaRazoesLote += latencia / referencia.latencia;
+        maximoConcorrentesLote = Math.max(maximoConcorrentesLote, concorrentes);
+        if (++amostrasLote < LOTE) {
+            return;
+        }
+        // O limite é ajustado uma vez por lote, com a razão média do lote
+        double razao = somaRazoesLote / amostrasLote;
+        int ocupacao = maximoConcorrentesLote;
+        somaRazoesLote = 0;
+        amostrasLote = 0;
+        maximoConcorrentesLote = 0;
+
+        double atual = limite;
+        double gradiente = Math.max(0.5, Math.min(1.0, tolerancia / razao));
+        boolean lentoNoMinimo = gradiente < 1.0 && atual <= minimo;
+        for (Referencia r : referencias.values()) {
+            if (lentoNoMinimo && r.minimaLote < Double.MAX_VALUE) {
+                // Lento mesmo no limite mínimo: o banco ficou mais lento, não há fila a cortar
+                r.latencia = r.minimaLote;
+            }
+            r.minimaLote = Double.MAX_VALUE;
+        }
+        if (lentoNoMinimo) {
+            return;
+        }
+        double novo;
+        if (gradiente < 1.0) {
+            // A folga só entra com a latência dentro da tolerância: somada sempre, manteria
+            // o limite em equilíbrio com a fila acima da tolerância
+            novo = atual * gradiente;
+        } else if (ocupacao < atual / 2) {
+            // Com pouca ocupação o limite não cresce
+            return;
+        } else {
+            novo = atual + Math.sqrt(atual);
+        }
+        novo = atual * (1 - SUAVIZACAO) + novo * SUAVIZACAO;
+        limite = Math.max(minimo, Math.min(maximo, novo));
+    }
+
+    /**
+     * Latência sem fila de um grupo de rotas e a menor latência do grupo no lote atual.
+     */
+    private static final class Referencia {
+
+        private double latencia;
+        private long atualizadaEm;
+        private double minimaLote = Double.MAX_VALUE;
+    }
+}
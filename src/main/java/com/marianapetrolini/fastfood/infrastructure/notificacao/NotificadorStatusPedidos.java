@@ -0,0 +1,236 @@
+package com.marianapetrolini.fastfood.infrastructure.notificacao;
+
+import com.marianapetrolini.fastfood.application.ports.output.NotificacaoPort;
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.scheduling.RodaTemporizadora;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notificações de mudança de status dos pedidos, fora da requisição que muda o status.
+ * Cada mudança gravada (após o commit, quando há transação) entra na fila do
+ * seu pedido e é enviada depois de {@code app.notificacoes.status.janela-ms}
+ * pelo executor da aplicação. As mudanças que chegam nesse intervalo, ou
+ * enquanto o envio anterior do mesmo pedido está em andamento, são
+ * coalescidas em uma única mensagem do primeiro status anterior para o
+ * último status: EM_PREPARACAO seguido de PRONTO vira só o aviso de pedido
+ * pronto. As filas ficam em memória, no pod que gravou a mudança: a ordem só
+ * é garantida dentro de um pod, onde um pedido tem no máximo um envio em
+ * andamento e as mensagens chegam na ordem das mudanças. Mudanças do mesmo
+ * pedido gravadas em pods diferentes seguem por filas independentes e podem
+ * chegar fora de ordem.
+ * Métricas: {@code fastfood.notificacoes.status} por {@code resultado}
+ * (enviada, coalescida, falha) e {@code fastfood.notificacoes.status.pendentes}.
+ */
+@Component
+public class NotificadorStatusPedidos implements OuvintePedidoPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificadorStatusPedidos.class);
+
+    private final RodaTemporizadora roda;
+    private final NotificacaoPort notificacaoPort;
+    private final TaskExecutor executor;
+    private final long janelaMs;
+    private final Map<Long, Fila> filas = new ConcurrentHashMap<>();
+    private final Counter enviadas;
+    private final Counter coalescidas;
+    private final Counter falhas;
+
+    public NotificadorStatusPedidos(RodaTemporizadora roda, NotificacaoPort notificacaoPort,
+                                    @Qualifier("applicationTaskExecutor") TaskExecutor executor,
+                                    MeterRegistry registry,
+                                    @Value("${app.notificacoes.status.janela-ms:2000}") long janelaMs) {
+        this.roda = roda;
+        this.notificacaoPort = notificacaoPort;
+        this.executor = executor;
+        this.janelaMs = janelaMs;
+        this.enviadas = contador(registry, "enviada");
+        this.coalescidas = contador(registry, "coalescida");
+        this.falhas = contador(registry, "falha");
+        Gauge.builder("fastfood.notificacoes.status.pendentes", filas, Map::size)
+            .description("Pedidos com notificação de status aguardando envio")
+            .register(registry);
+    }
+
+    @Override
+    public void statusAlterado(Pedido pedido, StatusPedido statusAnterior) {
+        if (pedido.getId() == null) {
+            return;
+        }
+        Mudanca mudanca = new Mudanca(statusAnterior, pedido.getStatus(),
+            pedido.getCliente() != null && pedido.getCliente().getEmail() != null
+                ? pedido.getCliente().getEmail().getValor() : null,
+            String.valueOf(pedido.getId()));
+        Long pedidoId = pedido.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Só notifica mudanças que de fato foram gravadas
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registrar(pedidoId, mudanca);
+                }
+            });
+        } else {
+            registrar(pedidoId, mudanca);
+        }
+    }
+
+    /**
+     * Retorna o número de pedidos com notificação aguardando envio ou em envio.
+     *
+     * @return Pedidos com notificação pendente
+     */
+    public int getPendentes() {
+        return filas.size();
+    }
+
+    /**
+     * Envia na hora, na thread que encerra a aplicação, as mudanças ainda na janela.
+     */
+    @PreDestroy
+    public void descarregar() {
+        List<Fila> aguardando = new ArrayList<>(filas.values());
+        for (Fila fila : aguardando) {
+            synchronized (fila) {
+                if (fila.enviando || fila.pendente == null) {
+                    continue;
+                }
+                fila.temporizador.cancelar();
+            }
+            enviar(fila);
+        }
+    }
+
+    private void registrar(Long pedidoId, Mudanca mudanca) {
+        // Fila deste pod: as mudanças do pedido gravadas em outros pods não passam por ela
+        while (true) {
+            Fila fila = filas.computeIfAbsent(pedidoId, Fila::new);
+            synchronized (fila) {
+                if (fila.encerrada) {
+                    continue;
+                }
+                if (fila.pendente == null) {
+                    fila.pendente = mudanca;
+                    if (!fila.enviando) {
+                        agendar(fila);
+                    }
+                } else {
+                    fila.pendente = fila.pendente.seguidaDe(mudanca);
+                    coalescidas.increment();
+                }
+                return;
+            }
+        }
+    }
+
+    private void agendar(Fila fila) {
+        // A roda só dispara; o envio roda fora da thread da roda
+        fila.temporizador = roda.agendar(() -> executor.execute(() -> enviar(fila)), janelaMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void enviar(Fila fila) {
+        Mudanca mudanca;
+        synchronized (fila) {
+            if (fila.enviando || fila.pendente == null) {
+                return;
+            }
+            mudanca = fila.pendente;
+            fila.pendente = null;
+            fila.enviando = true;
+        }
+
+        try {
+            if (mudanca.anterior == mudanca.novo) {
+                // Ida e volta dentro da janela: não há o que avisar
+                coalescidas.increment();
+            } else if (mudanca.novo == StatusPedido.PRONTO) {
+                notificacaoPort.notificarPedidoPronto(fila.pedidoId, mudanca.clienteEmail, mudanca.numeroPedido);
+                enviadas.increment();
+            } else {
+                notificacaoPort.notificarMudancaStatus(fila.pedidoId, mudanca.clienteEmail, mudanca.anterior,
+                                                       mudanca.novo, mudanca.numeroPedido);
+                enviadas.increment();
+            }
+        } catch (RuntimeException e) {
+            falhas.increment();
+            logger.error("Erro ao notificar mudança de status do pedido {}: {}", fila.pedidoId, e.getMessage(), e);
+        }
+
+        synchronized (fila) {
+            fila.enviando = false;
+            if (fila.pendente != null) {
+                // Mudanças que chegaram durante o envio já esperaram o bastante
+                executor.execute(() -> enviar(fila));
+            } else {
+                fila.encerrada = true;
+                filas.remove(fila.pedidoId, fila);
+            }
+        }
+    }
+
+    private static Counter contador(MeterRegistry registry, String resultado) {
+        return Counter.builder("fastfood.notificacoes.status")
+            .description("Mudanças de status de pedidos por resultado da notificação")
+            .tag("resultado", resultado)
+            .register(registry);
+    }
+
+    /**
+     * Notificações de um pedido: a mudança aguardando envio e o envio em andamento.
+     */
+    private static final class Fila {
+
+        private final Long pedidoId;
+        private Mudanca pendente;
+        private RodaTemporizadora.Temporizador temporizador;
+        private boolean enviando;
+        private boolean encerrada;
+
+        private Fila(Long pedidoId) {
+            this.pedidoId = pedidoId;
+        }
+    }
+
+    /**
+     * Mudança de status a notificar.
+     */
+    private static final class Mudanca {
+
+        private final StatusPedido anterior;
+        private final StatusPedido novo;
+        private final String clienteEmail;
+        private final String numeroPedido;
+
+        private Mudanca(StatusPedido anterior, StatusPedido novo, String clienteEmail, String numeroPedido) {
+            this.anterior = anterior;
+            this.novo = novo;
+            this.clienteEmail = clienteEmail;
+            this.numeroPedido = numeroPedido;
+        }
+
+        /**
+         * Coalesce esta mudança com a seguinte: do status anterior desta para o novo da seguinte.
+         */
+        private Mudanca seguidaDe(Mudanca seguinte) {
+            return new Mudanca(anterior, seguinte.novo, seguinte.clienteEmail, seguinte.numeroPedido);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.marianapetrolini.fastfood.infrastructure.observabilidade;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instrumentação das portas da aplicação (casos de uso, repositórios e integrações).
+ * Envolve o bean em um proxy dinâmico que mede cada chamada no timer
+ * {@code fastfood.operacao} e abre um span de {@link Rastreamento}.
+ * Tags: {@code camada}, {@code porta}, {@code metodo}, {@code origem}
+ * (operação raiz, p.ex. PedidoUseCase.realizarCheckout) e {@code resultado}.
+ * Os timers são resolvidos uma vez por método e origem. Chamadas feitas
+ * dentro de {@link #suprimirMetricas()} (p.ex. o aquecimento na subida) não
+ * entram no timer, para não misturar amostras sintéticas às do SLO.
+ */
+public class InstrumentacaoPortas {
+
+    public static final String METRICA = "fastfood.operacao";
+
+    private static final ThreadLocal<Boolean> SUPRIMIDA = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final MeterRegistry registry;
+    private final Rastreamento rastreamento;
+
+    public InstrumentacaoPortas(MeterRegistry registry, Rastreamento rastreamento) {
+        this.registry = registry;
+        this.rastreamento = rastreamento;
+    }
+
+    /**
+     * Cria o proxy instrumentado para o bean.
+     *
+     * @param bean Bean que implementa a porta
+     * @param camada Camada da porta (caso_de_uso, repositorio, integracao)
+     * @return Proxy com todas as interfaces do bean
+     */
+    public Object instrumentar(Object bean, String camada) {
+        Set<Class<?>> interfaces = new LinkedHashSet<>(
+            Arrays.asList(ClassUtils.getAllInterfacesForClass(ClassUtils.getUserClass(bean))));
+        interfaces.add(PortaInstrumentada.class);
+        return Proxy.newProxyInstance(bean.getClass().getClassLoader(),
+                                      interfaces.toArray(new Class<?>[0]),
+                                      new Manipulador(bean, camada));
+    }
+
+    /**
+     * Deixa de registrar no timer as chamadas feitas pela thread corrente até o
+     * fechamento do retorno. Os spans continuam sendo abertos.
+     *
+     * @return Supressão a fechar (try-with-resources)
+     */
+    public static Supressao suprimirMetricas() {
+        SUPRIMIDA.set(Boolean.TRUE);
+        return new Supressao();
+    }
+
+    /**
+     * Supressão das métricas da thread corrente, encerrada no {@link #close()}.
+     */
+    public static final class Supressao implements AutoCloseable {
+
+        private Supressao() {
+        }
+
+        @Override
+        public void close() {
+            SUPRIMIDA.remove();
+        }
+    }
+
+    private final class Manipulador implements InvocationHandler {
+
+        private final Object alvo;
+        private final String camada;
+        private final Map<Method, MetricasMetodo> metricas = new ConcurrentHashMap<>();
+
+        private Manipulador(Object alvo, String camada) {
+            this.alvo = alvo;
+            this.camada = camada;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invocarObject(proxy, method, args);
+            }
+            if (method.getDeclaringClass() == PortaInstrumentada.class) {
+                return alvo;
+            }
+
+            MetricasMetodo metricasMetodo = metricas.computeIfAbsent(method, MetricasMetodo::new);
+            Rastreamento.Span span = rastreamento.iniciar(metricasMetodo.nome);
+            Throwable erro = null;
+            try {
+                return method.invoke(alvo, args);
+            } catch (InvocationTargetException e) {
+                erro = e.getTargetException();
+                throw erro;
+            } finally {
+                long duracao = System.nanoTime() - span.getInicioNanos();
+                rastreamento.encerrar(span, erro);
+                if (!SUPRIMIDA.get()) {
+                    metricasMetodo.registrar(span.getOrigem(), erro, duracao);
+                }
+            }
+        }
+
+        private Object invocarObject(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return method.invoke(alvo, args);
+            }
+        }
+
+        private final class MetricasMetodo {
+
+            private final String porta;
+            private final String metodo;
+            private final String nome;
+            private final Map<String, Timer> sucessoPorOrigem = new ConcurrentHashMap<>();
+
+            private MetricasMetodo(Method method) {
+                ReflectionUtils.makeAccessible(method);
+                this.porta = method.getDeclaringClass().getSimpleName();
+                this.metodo = method.getName();
+                this.nome = porta + "." + metodo;
+            }
+
+            private void registrar(String origem, Throwable erro, long duracaoNanos) {
+                Timer timer = erro == null
+                    ? sucessoPorOrigem.computeIfAbsent(origem, o -> timer(o, "sucesso"))
+                    : timer(origem, erro.getClass().getSimpleName());
+                timer.record(duracaoNanos, TimeUnit.NANOSECONDS);
+            }
+
+            private Timer timer(String origem, String resultado) {
+                return Timer.builder(METRICA)
+                    .description("Duração das chamadas às portas da aplicação")
+                    .tag("camada", camada)
+                    .tag("porta", porta)
+                    .tag("metodo", metodo)
+                    .tag("origem", origem)
+                    .tag("resultado", resultado)
+                    .register(registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.marianapetrolini.fastfood.infrastructure.observabilidade;
+
+import com.marianapetrolini.fastfood.application.ports.output.NotificacaoPort;
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.repositories.PagamentoRepository;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.PedidoRepositoryObservavel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Métricas de negócio usadas como sinais de escala (HPA via Prometheus Adapter):
+ * <ul>
+ *   <li>{@code fastfood.checkouts} - checkouts realizados (taxa via rate());</li>
+ *   <li>{@code fastfood.pedidos.ativos} - pedidos não encerrados;</li>
+ *   <li>{@code fastfood.pedidos.cozinha} - pedidos visíveis na cozinha;</li>
+ *   <li>{@code fastfood.pagamentos.pendentes} - pagamentos aguardando confirmação;</li>
+ *   <li>{@code fastfood.webhook.defasagem} - atraso entre o evento no provedor e o processamento;</li>
+ *   <li>{@code fastfood.notificacoes.fila} - notificações aguardando ou em envio no
+ *   {@link NotificacaoPort} (as mudanças de status ainda na janela de coalescência têm a
+ *   própria métrica, {@code fastfood.notificacoes.status.pendentes}).</li>
+ * </ul>
+ * As contagens de pedidos e de pagamentos pendentes vêm do banco e são
+ * atualizadas em segundo plano, para que o scrape não dispare consultas.
+ * Assim todos os pods publicam o mesmo valor global; os contadores de pedidos
+ * em memória só enxergam as transições do próprio pod entre reconciliações.
+ */
+@Component
+public class MetricasNegocio implements OuvintePedidoPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricasNegocio.class);
+
+    private final ObjectProvider<PedidoRepository> pedidoRepository;
+    private final ObjectProvider<PagamentoRepository> pagamentoRepository;
+    private final Counter checkouts;
+    private final Timer defasagemWebhook;
+    private final AtomicLong pedidosAtivos = new AtomicLong();
+    private final AtomicLong pedidosCozinha = new AtomicLong();
+    private final AtomicLong pagamentosPendentes = new AtomicLong();
+
+    public MetricasNegocio(MeterRegistry registry,
+                           ObjectProvider<PedidoRepository> pedidoRepository,
+                           ObjectProvider<PagamentoRepository> pagamentoRepository,
+                           ObjectProvider<NotificacaoPort> notificacaoPort) {
+        this.pedidoRepository = pedidoRepository;
+        this.pagamentoRepository = pagamentoRepository;
+        this.checkouts = Counter.builder("fastfood.checkouts")
+            .description("Checkouts realizados")
+            .register(registry);
+        this.defasagemWebhook = Timer.builder("fastfood.webhook.defasagem")
+            .description("Atraso entre o evento de pagamento no provedor e o processamento do webhook")
+            .serviceLevelObjectives(Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(15),
+                                    Duration.ofSeconds(30), Duration.ofMinutes(1))
+            .register(registry);
+        Gauge.builder("fastfood.pedidos.ativos", pedidosAtivos, AtomicLong::get)
+            .description("Pedidos não finalizados")
+            .register(registry);
+        Gauge.builder("fastfood.pedidos.cozinha", pedidosCozinha, AtomicLong::get)
+            .description("Pedidos visíveis na cozinha")
+            .register(registry);
+        Gauge.builder("fastfood.pagamentos.pendentes", pagamentosPendentes, AtomicLong::get)
+            .description("Pagamentos aguardando confirmação")
+            .register(registry);
+        Gauge.builder("fastfood.notificacoes.fila", notificacaoPort, MetricasNegocio::tamanhoFila)
+            .description("Notificações aguardando ou em envio")
+            .register(registry);
+    }
+
+    @Override
+    public void pedidoCriado(Pedido pedido) {
+        checkouts.increment();
+    }
+
+    /**
+     * Registra o processamento de um webhook de pagamento.
+     *
+     * @param dataEvento Momento do evento no provedor (ignorado se nulo)
+     */
+    public void registrarWebhook(LocalDateTime dataEvento) {
+        if (dataEvento == null) {
+            return;
+        }
+        Duration atraso = Duration.between(dataEvento, LocalDateTime.now());
+        defasagemWebhook.record(atraso.isNegative() ? Duration.ZERO : atraso);
+    }
+
+    /**
+     * Atualiza as contagens de pedidos e de pagamentos pendentes a partir do banco.
+     */
+    @Scheduled(fixedDelayString = "${app.metricas.negocio.atualizacao-ms:15000}")
+    public void atualizarContagens() {
+        atualizarPedidos();
+        atualizarPagamentosPendentes();
+    }
+
+    private void atualizarPedidos() {
+        Object repository = PortaInstrumentada.desembrulhar(pedidoRepository.getIfAvailable());
+        if (repository == null) {
+            return;
+        }
+        try {
+            if (repository instanceof PedidoRepositoryObservavel) {
+                // Sem os contadores em memória, que só veem as transições deste pod
+                PedidoRepositoryObservavel observavel = (PedidoRepositoryObservavel) repository;
+                pedidosAtivos.set(observavel.contarAtivosNoBanco());
+                pedidosCozinha.set(observavel.contarNaCozinhaNoBanco());
+            } else {
+                pedidosAtivos.set(((PedidoRepository) repository).contarAtivos());
+                pedidosCozinha.set(((PedidoRepository) repository).contarNaCozinha());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao atualizar métricas de pedidos ativos e na cozinha: {}", e.getMessage());
+        }
+    }
+
+    private void atualizarPagamentosPendentes() {
+        PagamentoRepository repository = pagamentoRepository.getIfAvailable();
+        if (repository == null) {
+            return;
+        }
+        try {
+            pagamentosPendentes.set(repository.contarPendentes());
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao atualizar métrica de pagamentos pendentes: {}", e.getMessage());
+        }
+    }
+
+    private static double tamanhoFila(ObjectProvider<NotificacaoPort> notificacaoPort) {
+        NotificacaoPort port = notificacaoPort.getIfAvailable();
+        return port != null ? port.getNotificacoesPendentes() : 0;
+    }
+}
@@ -0,0 +1,25 @@
+package com.marianapetrolini.fastfood.infrastructure.observabilidade;
+
+/**
+ * Interface implementada pelos proxies de instrumentação das portas.
+ * Permite recuperar o bean original quando o tipo concreto importa.
+ */
+public interface PortaInstrumentada {
+
+    /**
+     * Retorna o objeto instrumentado.
+     *
+     * @return Bean original por trás do proxy
+     */
+    Object getAlvoInstrumentado();
+
+    /**
+     * Remove a camada de instrumentação, se houver.
+     *
+     * @param bean Bean possivelmente instrumentado
+     * @return Bean original
+     */
+    static Object desembrulhar(Object bean) {
+        return bean instanceof PortaInstrumentada ? ((PortaInstrumentada) bean).getAlvoInstrumentado() : bean;
+    }
+}
@@ -0,0 +1,137 @@
+package com.marianapetrolini.fastfood.infrastructure.observabilidade;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rastreamento leve das chamadas entre camadas.
+ * Cada chamada instrumentada abre um span na thread atual; o primeiro span
+ * da thread é a raiz e dá nome à operação de origem usada nas métricas.
+ * O identificador do rastreamento vai para o MDC ({@code traceId}) em todas
+ * as chamadas, mas a árvore de spans só é montada e registrada em log para
+ * a fração amostrada das operações.
+ */
+public class Rastreamento {
+
+    private static final Logger logger = LoggerFactory.getLogger(Rastreamento.class);
+    private static final String MDC_TRACE_ID = "traceId";
+    private static final ThreadLocal<Span> ATUAL = new ThreadLocal<>();
+
+    private final double taxaAmostragem;
+
+    /**
+     * @param taxaAmostragem Fração das operações raiz registradas em detalhe (0 a 1)
+     */
+    public Rastreamento(double taxaAmostragem) {
+        this.taxaAmostragem = Math.max(0, Math.min(1, taxaAmostragem));
+    }
+
+    /**
+     * Abre um span filho do span atual ou uma nova raiz.
+     *
+     * @param nome Nome da operação (Porta.metodo)
+     * @return Span aberto; deve ser encerrado na mesma thread
+     */
+    public Span iniciar(String nome) {
+        Span pai = ATUAL.get();
+        Span span;
+        if (pai == null) {
+            boolean amostrado = taxaAmostragem > 0 && ThreadLocalRandom.current().nextDouble() < taxaAmostragem;
+            span = new Span(Long.toHexString(ThreadLocalRandom.current().nextLong()), nome, null, amostrado);
+            MDC.put(MDC_TRACE_ID, span.traceId);
+        } else {
+            span = new Span(pai.traceId, nome, pai, pai.amostrado);
+            if (pai.amostrado) {
+                pai.filhos.add(span);
+            }
+        }
+        ATUAL.set(span);
+        return span;
+    }
+
+    /**
+     * Encerra o span e restaura o span pai como atual.
+     *
+     * @param span Span aberto por {@link #iniciar(String)}
+     * @param erro Exceção lançada pela operação, ou null
+     */
+    public void encerrar(Span span, Throwable erro) {
+        span.duracaoNanos = System.nanoTime() - span.inicioNanos;
+        span.erro = erro != null ? erro.getClass().getSimpleName() : null;
+        if (span.pai != null) {
+            ATUAL.set(span.pai);
+            return;
+        }
+
+        ATUAL.remove();
+        MDC.remove(MDC_TRACE_ID);
+        if (span.amostrado && logger.isInfoEnabled()) {
+            StringBuilder arvore = new StringBuilder();
+            span.descrever(arvore, 0);
+            logger.info("Rastreamento {}:{}", span.traceId, arvore);
+        }
+    }
+
+    /**
+     * Span de uma chamada instrumentada.
+     */
+    public static final class Span {
+
+        private final String traceId;
+        private final String nome;
+        private final Span pai;
+        private final Span raiz;
+        private final boolean amostrado;
+        private final long inicioNanos = System.nanoTime();
+        private final List<Span> filhos;
+        private long duracaoNanos;
+        private String erro;
+
+        private Span(String traceId, String nome, Span pai, boolean amostrado) {
+            this.traceId = traceId;
+            this.nome = nome;
+            this.pai = pai;
+            this.raiz = pai != null ? pai.raiz : this;
+            this.amostrado = amostrado;
+            this.filhos = amostrado ? new ArrayList<>(4) : null;
+        }
+
+        /**
+         * Retorna o nome da operação raiz deste rastreamento.
+         *
+         * @return Nome da raiz (Porta.metodo)
+         */
+        public String getOrigem() {
+            return raiz.nome;
+        }
+
+        public String getTraceId() {
+            return traceId;
+        }
+
+        public long getInicioNanos() {
+            return inicioNanos;
+        }
+
+        private void descrever(StringBuilder destino, int nivel) {
+            destino.append('\n');
+            for (int i = 0; i < nivel; i++) {
+                destino.append("  ");
+            }
+            destino.append(nome).append(' ')
+                .append(TimeUnit.NANOSECONDS.toMicros(duracaoNanos) / 1000.0).append("ms");
+            if (erro != null) {
+                destino.append(" [").append(erro).append(']');
+            }
+            for (Span filho : filhos) {
+                filho.descrever(destino, nivel + 1);
+            }
+        }
+    }
+}
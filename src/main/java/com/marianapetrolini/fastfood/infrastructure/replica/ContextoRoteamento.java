@@ -0,0 +1,60 @@
+package com.marianapetrolini.fastfood.infrastructure.replica;
+
+/**
+ * Estado de roteamento de conexões da thread atual.
+ * Uma chamada de consulta dos casos de uso marca a thread como leitura; a
+ * requisição de um cliente que acabou de escrever força o primário, para que
+ * ele veja a própria escrita mesmo com a réplica atrasada.
+ */
+public final class ContextoRoteamento {
+
+    private static final ThreadLocal<Boolean> LEITURA = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARIO_FORCADO = new ThreadLocal<>();
+
+    private ContextoRoteamento() {
+    }
+
+    /**
+     * Marca a thread como executando uma consulta.
+     *
+     * @return Se a thread já estava marcada (chamada aninhada)
+     */
+    public static boolean iniciarLeitura() {
+        boolean anterior = LEITURA.get() != null;
+        LEITURA.set(Boolean.TRUE);
+        return anterior;
+    }
+
+    /**
+     * Encerra a consulta iniciada por {@link #iniciarLeitura()}.
+     *
+     * @param anterior Valor retornado por {@link #iniciarLeitura()}
+     */
+    public static void encerrarLeitura(boolean anterior) {
+        if (!anterior) {
+            LEITURA.remove();
+        }
+    }
+
+    /**
+     * Envia todas as conexões da thread para o primário até {@link #liberarPrimario()}.
+     */
+    public static void forcarPrimario() {
+        PRIMARIO_FORCADO.set(Boolean.TRUE);
+    }
+
+    public static void liberarPrimario() {
+        PRIMARIO_FORCADO.remove();
+    }
+
+    public static boolean isPrimarioForcado() {
+        return PRIMARIO_FORCADO.get() != null;
+    }
+
+    /**
+     * @return Se a thread está em uma consulta e pode usar a réplica
+     */
+    public static boolean isReplicaPermitida() {
+        return LEITURA.get() != null && PRIMARIO_FORCADO.get() == null;
+    }
+}
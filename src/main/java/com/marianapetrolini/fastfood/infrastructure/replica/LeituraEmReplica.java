@@ -0,0 +1,96 @@
+package com.marianapetrolini.fastfood.infrastructure.replica;
+
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Proxy dos casos de uso que marca as consultas para leitura na réplica.
+ * São consultas os métodos cujo nome começa com um dos {@link #PREFIXOS_CONSULTA}
+ * (listar, buscar, obter...) ou termina com "Existe"; os demais métodos
+ * (checkout, webhooks, mudanças de status, cadastros) seguem sem marcação e
+ * usam o primário.
+ */
+public final class LeituraEmReplica implements InvocationHandler {
+
+    public static final List<String> PREFIXOS_CONSULTA =
+        Arrays.asList("listar", "buscar", "obter", "consultar", "contar", "sugerir");
+
+    private final Object alvo;
+    private final Map<Method, Boolean> consultas = new ConcurrentHashMap<>();
+
+    private LeituraEmReplica(Object alvo) {
+        this.alvo = alvo;
+    }
+
+    /**
+     * Cria o proxy com todas as interfaces do bean.
+     *
+     * @param bean Caso de uso (possivelmente já decorado ou instrumentado)
+     * @return Proxy que roteia as consultas para a réplica
+     */
+    public static Object envolver(Object bean) {
+        return Proxy.newProxyInstance(bean.getClass().getClassLoader(),
+                                      ClassUtils.getAllInterfacesForClass(ClassUtils.getUserClass(bean)),
+                                      new LeituraEmReplica(bean));
+    }
+
+    /**
+     * @param bean Bean qualquer
+     * @return Se o bean já é um proxy de leitura em réplica
+     */
+    public static boolean isEnvolvido(Object bean) {
+        return Proxy.isProxyClass(bean.getClass()) && Proxy.getInvocationHandler(bean) instanceof LeituraEmReplica;
+    }
+
+    static boolean isConsulta(Method method) {
+        String nome = method.getName();
+        if (nome.endsWith("Existe")) {
+            return true;
+        }
+        for (String prefixo : PREFIXOS_CONSULTA) {
+            if (nome.startsWith(prefixo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return invocar(method, args);
+            }
+        }
+        if (!consultas.computeIfAbsent(method, LeituraEmReplica::isConsulta)) {
+            return invocar(method, args);
+        }
+        boolean aninhada = ContextoRoteamento.iniciarLeitura();
+        try {
+            return invocar(method, args);
+        } finally {
+            ContextoRoteamento.encerrarLeitura(aninhada);
+        }
+    }
+
+    private Object invocar(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.marianapetrolini.fastfood.infrastructure.replica;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Garante que o cliente leia as próprias escritas mesmo com a réplica atrasada.
+ * Toda requisição de escrita da API (checkout, webhook, mudança de status...)
+ * devolve o cookie {@value #COOKIE} com o momento da escrita; enquanto ele
+ * estiver dentro da janela, as consultas desse cliente vão para o primário,
+ * assim como as da própria requisição de escrita.
+ * O estado fica no cliente, então vale para qualquer pod que atender a próxima
+ * requisição.
+ */
+public class LeituraPropriaFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "fastfood-escrita";
+
+    private final long janelaMillis;
+    private final int janelaSegundos;
+
+    /**
+     * @param janela Tempo, após uma escrita, em que as consultas do cliente usam o primário
+     */
+    public LeituraPropriaFilter(Duration janela) {
+        this.janelaMillis = janela.toMillis();
+        this.janelaSegundos = (int) Math.max(1, (janelaMillis + 999) / 1000);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long agora = System.currentTimeMillis();
+        boolean escrita = isEscrita(request);
+        if (escrita) {
+            // Gravado antes da resposta ser confirmada; uma escrita que falhe só custa leituras no primário
+            Cookie cookie = new Cookie(COOKIE, Long.toString(agora));
+            cookie.setPath("/");
+            cookie.setMaxAge(janelaSegundos);
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+
+        if (!escrita && !escreveuNaJanela(request, agora)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ContextoRoteamento.forcarPrimario();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ContextoRoteamento.liberarPrimario();
+        }
+    }
+
+    private static boolean isEscrita(HttpServletRequest request) {
+        String metodo = request.getMethod();
+        return !"GET".equals(metodo) && !"HEAD".equals(metodo) && !"OPTIONS".equals(metodo);
+    }
+
+    private boolean escreveuNaJanela(HttpServletRequest request, long agora) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return agora - Long.parseLong(cookie.getValue()) < janelaMillis;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
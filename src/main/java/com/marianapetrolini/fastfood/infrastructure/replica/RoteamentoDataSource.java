@@ -0,0 +1,84 @@
+package com.marianapetrolini.fastfood.infrastructure.replica;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource que escolhe, a cada conexão, entre o primário e a réplica de leitura.
+ * A réplica só é usada quando a thread está em uma consulta de caso de uso
+ * ({@link ContextoRoteamento}) e não há transação de escrita aberta; todo o
+ * resto (escritas, migrações, tarefas agendadas) vai para o primário.
+ * Deve ficar atrás de um {@code LazyConnectionDataSourceProxy}, para que a
+ * escolha aconteça no primeiro statement, depois que a transação já marcou
+ * se é somente leitura.
+ * As conexões entregues por destino são contadas em {@code fastfood.datasource.conexoes}.
+ */
+public class RoteamentoDataSource extends AbstractRoutingDataSource implements MeterBinder {
+
+    public static final String METRICA = "fastfood.datasource.conexoes";
+
+    /**
+     * Destinos possíveis de uma conexão.
+     */
+    public enum Destino {
+        PRIMARIO,
+        REPLICA
+    }
+
+    private final Map<Destino, LongAdder> conexoes = new EnumMap<>(Destino.class);
+
+    public RoteamentoDataSource(DataSource primario, DataSource replica) {
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(Destino.PRIMARIO, primario);
+        destinos.put(Destino.REPLICA, replica);
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        for (Destino destino : Destino.values()) {
+            conexoes.put(destino, new LongAdder());
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Destino destino : Destino.values()) {
+            FunctionCounter.builder(METRICA, conexoes.get(destino), LongAdder::sum)
+                .description("Conexões obtidas por destino do roteamento de leitura")
+                .tag("destino", destino.name().toLowerCase())
+                .register(registry);
+        }
+    }
+
+    /**
+     * @param destino Destino do roteamento
+     * @return Conexões obtidas no destino desde a subida
+     */
+    public long getConexoes(Destino destino) {
+        return conexoes.get(destino).sum();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Destino destino = isLeituraEmReplica() ? Destino.REPLICA : Destino.PRIMARIO;
+        conexoes.get(destino).increment();
+        return destino;
+    }
+
+    private static boolean isLeituraEmReplica() {
+        if (!ContextoRoteamento.isReplicaPermitida()) {
+            return false;
+        }
+        // Transação de escrita aberta dentro da consulta continua no primário
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,119 @@
+package com.marianapetrolini.fastfood.infrastructure.scheduling;
+
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ArquivoPedidosAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ParticoesPedidos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manutenção diária das tabelas quentes de pedidos e pagamentos.
+ * Garante as partições mensais dos próximos meses antes de eles começarem e
+ * move para o arquivo os pedidos finalizados ou cancelados há mais de
+ * {@code app.pedidos.arquivamento.dias}, em lotes de
+ * {@code app.pedidos.arquivamento.lote} (uma transação por lote).
+ * Todas as réplicas executam o agendamento; cada lote trava os seus pedidos
+ * (SKIP LOCKED), então as réplicas dividem o arquivamento sem repetir pedidos.
+ */
+@Component
+public class ArquivadorPedidos {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArquivadorPedidos.class);
+
+    private final ArquivoPedidosAdapter arquivo;
+    private final ParticoesPedidos particoes;
+    private final boolean habilitado;
+    private final int dias;
+    private final int lote;
+    private final int mesesAFrente;
+    private final Counter arquivados;
+    private final Timer duracao;
+
+    public ArquivadorPedidos(ArquivoPedidosAdapter arquivo, ParticoesPedidos particoes, MeterRegistry registry,
+                             @Value("${app.pedidos.arquivamento.habilitado:true}") boolean habilitado,
+                             @Value("${app.pedidos.arquivamento.dias:90}") int dias,
+                             @Value("${app.pedidos.arquivamento.lote:500}") int lote,
+                             @Value("${app.pedidos.particoes.meses-a-frente:2}") int mesesAFrente) {
+        this.arquivo = arquivo;
+        this.particoes = particoes;
+        this.habilitado = habilitado;
+        this.dias = dias;
+        this.lote = lote;
+        this.mesesAFrente = mesesAFrente;
+        this.arquivados = Counter.builder("fastfood.pedidos.arquivados")
+            .description("Pedidos encerrados (finalizados ou cancelados) movidos para o arquivo")
+            .register(registry);
+        this.duracao = Timer.builder("fastfood.pedidos.arquivamento")
+            .description("Duração de cada execução do arquivamento de pedidos")
+            .register(registry);
+    }
+
+    /**
+     * Garante as partições quando a aplicação sobe, para não depender da
+     * primeira execução agendada após um período fora do ar.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepararParticoes() {
+        garantirParticoes();
+    }
+
+    /**
+     * Execução diária: partições dos próximos meses e arquivamento.
+     */
+    @Scheduled(cron = "${app.pedidos.arquivamento.cron:0 30 3 * * *}")
+    public void executar() {
+        garantirParticoes();
+        if (habilitado) {
+            arquivar(LocalDateTime.now().minusDays(dias));
+        }
+    }
+
+    /**
+     * Arquiva, lote a lote, os pedidos encerrados antes do limite.
+     *
+     * @param limite Pedidos finalizados ou cancelados antes deste momento são arquivados
+     * @return Número de pedidos arquivados
+     */
+    public int arquivar(LocalDateTime limite) {
+        long inicio = System.nanoTime();
+        int total = 0;
+        try {
+            int arquivadosNoLote;
+            do {
+                arquivadosNoLote = arquivo.arquivarLote(limite, lote);
+                total += arquivadosNoLote;
+                arquivados.increment(arquivadosNoLote);
+            } while (arquivadosNoLote == lote);
+        } catch (RuntimeException e) {
+            // Os lotes já gravados ficam arquivados; o restante segue na próxima execução
+            logger.warn("Falha no arquivamento de pedidos após {} pedidos: {}", total, e.getMessage());
+        } finally {
+            duracao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+        if (total > 0) {
+            logger.info("{} pedidos encerrados antes de {} movidos para o arquivo", total, limite);
+        }
+        return total;
+    }
+
+    private void garantirParticoes() {
+        try {
+            if (particoes.garantir(YearMonth.now(), mesesAFrente) > 0) {
+                logger.info("Partições de pedidos e pagamentos garantidas até {}", YearMonth.now().plusMonths(mesesAFrente));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao criar partições de pedidos e pagamentos: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.marianapetrolini.fastfood.infrastructure.scheduling;
+
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ChavesIdempotenciaAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Remove do banco as chaves de idempotência do checkout com validade vencida.
+ */
+@Component
+public class ExpiradorChavesIdempotencia {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpiradorChavesIdempotencia.class);
+
+    private final ChavesIdempotenciaAdapter chaves;
+
+    public ExpiradorChavesIdempotencia(ChavesIdempotenciaAdapter chaves) {
+        this.chaves = chaves;
+    }
+
+    @Scheduled(cron = "${app.idempotencia.limpeza.cron:0 15 * * * *}")
+    public void executar() {
+        try {
+            int removidas = chaves.removerExpiradas(LocalDateTime.now());
+            if (removidas > 0) {
+                logger.info("{} chaves de idempotência expiradas removidas", removidas);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao remover chaves de idempotência expiradas: {}", e.getMessage());
+        }
+    }
+}
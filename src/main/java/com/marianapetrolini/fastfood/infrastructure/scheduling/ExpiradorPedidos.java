@@ -0,0 +1,290 @@
+package com.marianapetrolini.fastfood.infrastructure.scheduling;
+
+import com.marianapetrolini.fastfood.application.ports.output.MercadoPagoPort;
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.entities.Pagamento;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.repositories.PagamentoRepository;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.MetodoPagamento;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ChavePedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.TravasPedidosAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cancela automaticamente pedidos não pagos e pagamentos PIX expirados.
+ * Cada pedido recebido é registrado na roda de temporização no checkout com
+ * o prazo de {@code app.business.order-timeout-minutes} e o PIX com o prazo de
+ * {@code app.business.pix-expiration-minutes}. Os prazos pendentes são
+ * recarregados do banco quando a aplicação sobe, em todas as réplicas.
+ * No vencimento, o estado é conferido em uma transação curta que começa
+ * travando o pedido pela chave completa (SKIP LOCKED): a réplica que não obtém a trava desiste, e
+ * a que obtém cancela na hora o que não depende do gateway. Um pagamento
+ * criado no gateway é cancelado lá fora da trava (um provedor lento não
+ * segura a linha nem bloqueia o webhook do pedido); com a confirmação, uma
+ * segunda transação trava o pedido de novo, confere o estado e aplica o
+ * cancelamento. Sem a confirmação (ou com falha), pedido e pagamento ficam
+ * como estão e a expiração é reagendada com espera crescente, até
+ * {@value #ESPERA_MAXIMA_MINUTOS} minutos. As versões das linhas fazem a
+ * transação falhar se um webhook gravou o pedido ou o pagamento depois da leitura.
+ */
+@Component
+public class ExpiradorPedidos implements OuvintePedidoPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpiradorPedidos.class);
+    private static final long ESPERA_MAXIMA_MINUTOS = 30;
+
+    private final RodaTemporizadora roda;
+    private final ObjectProvider<PedidoRepository> pedidoRepository;
+    private final ObjectProvider<PagamentoRepository> pagamentoRepository;
+    private final ObjectProvider<MercadoPagoPort> mercadoPagoPort;
+    private final TravasPedidosAdapter travas;
+    private final TransactionTemplate transacao;
+    private final TaskExecutor executor;
+    private final long timeoutPedidoMinutos;
+    private final long expiracaoPixMinutos;
+    private final Map<Long, RodaTemporizadora.Temporizador> prazosPedidos = new ConcurrentHashMap<>();
+
+    public ExpiradorPedidos(RodaTemporizadora roda,
+                            ObjectProvider<PedidoRepository> pedidoRepository,
+                            ObjectProvider<PagamentoRepository> pagamentoRepository,
+                            ObjectProvider<MercadoPagoPort> mercadoPagoPort,
+                            TravasPedidosAdapter travas,
+                            PlatformTransactionManager transactionManager,
+                            @Qualifier("applicationTaskExecutor") TaskExecutor executor,
+                            @Value("${app.business.order-timeout-minutes:15}") long timeoutPedidoMinutos,
+                            @Value("${app.business.pix-expiration-minutes:30}") long expiracaoPixMinutos) {
+        this.roda = roda;
+        this.pedidoRepository = pedidoRepository;
+        this.pagamentoRepository = pagamentoRepository;
+        this.mercadoPagoPort = mercadoPagoPort;
+        this.travas = travas;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.timeoutPedidoMinutos = timeoutPedidoMinutos;
+        this.expiracaoPixMinutos = expiracaoPixMinutos;
+    }
+
+    @Override
+    public void pedidoCriado(Pedido pedido) {
+        if (pedido.getStatus() == StatusPedido.RECEBIDO) {
+            ChavePedido chave = ChavePedido.de(pedido);
+            registrarPrazoPedido(chave);
+            agendar(pedido.getCriadoEm(), expiracaoPixMinutos, () -> expirarPix(chave, 0));
+        }
+    }
+
+    @Override
+    public void statusAlterado(Pedido pedido, StatusPedido statusAnterior) {
+        if (pedido.getStatus() != StatusPedido.RECEBIDO) {
+            cancelarPrazoPedido(pedido.getId());
+        }
+    }
+
+    @Override
+    public void pedidoRemovido(Pedido pedido) {
+        cancelarPrazoPedido(pedido.getId());
+    }
+
+    /**
+     * Recarrega os prazos de pedidos recebidos e de pagamentos PIX pendentes.
+     * Prazos já vencidos durante a indisponibilidade expiram no próximo tick.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recarregarPrazos() {
+        PedidoRepository pedidos = pedidoRepository.getIfAvailable();
+        PagamentoRepository pagamentos = pagamentoRepository.getIfAvailable();
+        if (pedidos == null || pagamentos == null) {
+            return;
+        }
+        try {
+            List<Pedido> recebidos = pedidos.buscarRecebidos();
+            recebidos.forEach(pedido -> registrarPrazoPedido(ChavePedido.de(pedido)));
+
+            long pixPendentes = pagamentos.buscarPendentes().stream()
+                .filter(pagamento -> pagamento.getMetodo() == MetodoPagamento.PIX)
+                .peek(pagamento -> agendar(pagamento.getCriadoEm(), expiracaoPixMinutos,
+                                           () -> expirarPix(ChavePedido.de(pagamento.getPedido()), 0)))
+                .count();
+
+            logger.info("Prazos recarregados: {} pedidos recebidos, {} pagamentos PIX pendentes",
+                        recebidos.size(), pixPendentes);
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao recarregar prazos de pedidos e pagamentos: {}", e.getMessage());
+        }
+    }
+
+    private void registrarPrazoPedido(ChavePedido chave) {
+        if (chave.getId() == null) {
+            return;
+        }
+        RodaTemporizadora.Temporizador anterior = prazosPedidos.put(chave.getId(),
+            agendar(chave.getCriadoEm(), timeoutPedidoMinutos, () -> expirarPedido(chave, 0)));
+        if (anterior != null) {
+            anterior.cancelar();
+        }
+    }
+
+    private void cancelarPrazoPedido(Long pedidoId) {
+        RodaTemporizadora.Temporizador temporizador = prazosPedidos.remove(pedidoId);
+        if (temporizador != null) {
+            temporizador.cancelar();
+        }
+    }
+
+    private RodaTemporizadora.Temporizador agendar(LocalDateTime inicio, long minutos, Runnable acao) {
+        LocalDateTime base = inicio != null ? inicio : LocalDateTime.now();
+        long atrasoMs = Duration.between(LocalDateTime.now(), base.plusMinutes(minutos)).toMillis();
+        // A roda só dispara; o acesso ao banco e ao gateway roda fora da thread da roda
+        return roda.agendar(() -> executor.execute(acao), atrasoMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancela o pedido se ele ainda estiver aguardando pagamento.
+     *
+     * @param chave Chave do pedido
+     * @param tentativa Tentativas anteriores sem confirmação do gateway
+     */
+    private void expirarPedido(ChavePedido chave, int tentativa) {
+        prazosPedidos.remove(chave.getId());
+        if (pedidoRepository.getIfAvailable() == null) {
+            return;
+        }
+        expirar(chave, true, "Pedido expirado sem pagamento", tentativa);
+    }
+
+    /**
+     * Cancela o pagamento PIX do pedido se ele ainda estiver pendente.
+     *
+     * @param chave Chave do pedido
+     * @param tentativa Tentativas anteriores sem confirmação do gateway
+     */
+    private void expirarPix(ChavePedido chave, int tentativa) {
+        expirar(chave, false, "PIX expirado", tentativa);
+    }
+
+    /**
+     * Confere e aplica a expiração sob a trava; o cancelamento no gateway,
+     * quando necessário, fica entre duas transações.
+     */
+    private void expirar(ChavePedido chave, boolean cancelarPedido, String motivo, int tentativa) {
+        if (!chave.isCompleta()) {
+            return;
+        }
+        Long pedidoId = chave.getId();
+        try {
+            String transacaoGateway = travado(chave, () -> aplicar(pedidoId, cancelarPedido, motivo, null));
+            if (transacaoGateway == null) {
+                return;
+            }
+            // O cliente pode ter pago: sem a confirmação do gateway o pagamento segue pendente
+            MercadoPagoPort gateway = mercadoPagoPort.getIfAvailable();
+            if (gateway == null || !gateway.cancelarPagamento(transacaoGateway)) {
+                logger.warn("Gateway não confirmou cancelamento da transação {} do pedido {}; nova tentativa agendada",
+                            transacaoGateway, pedidoId);
+                reagendar(chave, cancelarPedido, tentativa);
+                return;
+            }
+            travado(chave, () -> aplicar(pedidoId, cancelarPedido, motivo, transacaoGateway));
+        } catch (OptimisticLockingFailureException e) {
+            logger.info("Pedido {} alterado durante a expiração; conferido de novo na próxima tentativa", pedidoId);
+            reagendar(chave, cancelarPedido, tentativa);
+        } catch (RuntimeException e) {
+            logger.error("Erro ao expirar o pedido {}: {}", pedidoId, e.getMessage(), e);
+            reagendar(chave, cancelarPedido, tentativa);
+        }
+    }
+
+    /**
+     * Executa em uma transação, se esta réplica conseguir travar o pedido.
+     *
+     * @return Resultado da ação, ou null se o pedido está travado por outra réplica
+     */
+    private String travado(ChavePedido chave, Supplier<String> acao) {
+        return transacao.execute(status -> travas.travarPedido(chave) ? acao.get() : null);
+    }
+
+    /**
+     * Aplica a expiração sob a trava. Um pagamento pendente criado no gateway
+     * só é cancelado aqui se o cancelamento da sua transação já foi confirmado.
+     *
+     * @param canceladaNoGateway Transação do gateway com cancelamento confirmado, ou null
+     * @return Transação do gateway que ainda precisa ser cancelada, ou null se não há mais nada a fazer
+     */
+    private String aplicar(Long pedidoId, boolean cancelarPedido, String motivo, String canceladaNoGateway) {
+        Optional<Pedido> recebido = Optional.empty();
+        if (cancelarPedido) {
+            recebido = pedidoRepository.getObject().buscarPorId(pedidoId)
+                .filter(pedido -> pedido.getStatus() == StatusPedido.RECEBIDO);
+            if (!recebido.isPresent()) {
+                return null;
+            }
+        }
+        Optional<Pagamento> pendente = buscarPagamentoPendente(pedidoId)
+            .filter(pagamento -> cancelarPedido || pagamento.getMetodo() == MetodoPagamento.PIX);
+        if (pendente.isPresent()) {
+            Pagamento pagamento = pendente.get();
+            if (pagamento.requerIntegracao() && pagamento.getTransacaoId() != null
+                    && !pagamento.getTransacaoId().equals(canceladaNoGateway)) {
+                return pagamento.getTransacaoId();
+            }
+            pagamento.cancelar(motivo);
+            pagamentoRepository.getObject().salvar(pagamento);
+            logger.info("Pagamento {} cancelado: {}", pagamento.getId(), motivo);
+        }
+        if (recebido.isPresent()) {
+            Pedido pedido = recebido.get();
+            pedido.cancelar();
+            pedidoRepository.getObject().salvar(pedido);
+            logger.info("Pedido {} cancelado por falta de pagamento após {} minutos",
+                        pedidoId, timeoutPedidoMinutos);
+        }
+        return null;
+    }
+
+    /**
+     * Agenda uma nova tentativa com espera crescente (1, 2, 4... minutos, até o máximo).
+     */
+    private void reagendar(ChavePedido chave, boolean cancelarPedido, int tentativa) {
+        long esperaMinutos = Math.min(ESPERA_MAXIMA_MINUTOS, 1L << Math.min(tentativa, 5));
+        int proxima = tentativa + 1;
+        Runnable acao = cancelarPedido ? () -> expirarPedido(chave, proxima) : () -> expirarPix(chave, proxima);
+        RodaTemporizadora.Temporizador temporizador =
+            roda.agendar(() -> executor.execute(acao), esperaMinutos, TimeUnit.MINUTES);
+        if (cancelarPedido) {
+            RodaTemporizadora.Temporizador anterior = prazosPedidos.put(chave.getId(), temporizador);
+            if (anterior != null) {
+                anterior.cancelar();
+            }
+        }
+    }
+
+    private Optional<Pagamento> buscarPagamentoPendente(Long pedidoId) {
+        PagamentoRepository pagamentos = pagamentoRepository.getIfAvailable();
+        if (pagamentos == null) {
+            return Optional.empty();
+        }
+        return pagamentos.buscarPorPedidoId(pedidoId).filter(Pagamento::isPendente);
+    }
+}
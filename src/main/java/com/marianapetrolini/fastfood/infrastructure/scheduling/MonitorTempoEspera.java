@@ -0,0 +1,184 @@
+package com.marianapetrolini.fastfood.infrastructure.scheduling;
+
+import com.marianapetrolini.fastfood.application.ports.output.NotificacaoPort;
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.AlertasTempoEsperaAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monitor de SLA dos pedidos ativos.
+ * Agenda, para cada pedido, um temporizador por limite de tempo de espera
+ * (30 e 45 minutos por padrão) e dispara o alerta no momento em que o limite
+ * é cruzado. Os temporizadores são cancelados quando o pedido é encerrado
+ * neste pod.
+ * Todas as réplicas agendam os pedidos ativos, e um pedido pode ser encerrado
+ * em outro pod: no vencimento, o pedido é relido e o alerta só sai se ele
+ * continua ativo e se este pod reivindica o limite no banco
+ * ({@link AlertasTempoEsperaAdapter}), então cada limite alerta uma única vez.
+ * O alerta é enviado pelo executor da aplicação, para um envio lento não
+ * atrasar os demais temporizadores da roda.
+ */
+@Component
+public class MonitorTempoEspera implements OuvintePedidoPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitorTempoEspera.class);
+
+    private final RodaTemporizadora roda;
+    private final NotificacaoPort notificacaoPort;
+    private final ObjectProvider<PedidoRepository> pedidoRepository;
+    private final AlertasTempoEsperaAdapter alertas;
+    private final TaskExecutor executor;
+    private final int[] limitesMinutos;
+    private final Map<Long, List<RodaTemporizadora.Temporizador>> monitorados = new ConcurrentHashMap<>();
+
+    public MonitorTempoEspera(RodaTemporizadora roda, NotificacaoPort notificacaoPort,
+                              ObjectProvider<PedidoRepository> pedidoRepository,
+                              AlertasTempoEsperaAdapter alertas,
+                              @Qualifier("applicationTaskExecutor") TaskExecutor executor,
+                              @Value("${app.business.sla.alerta-minutos:30,45}") int[] limitesMinutos) {
+        this.roda = roda;
+        this.notificacaoPort = notificacaoPort;
+        this.pedidoRepository = pedidoRepository;
+        this.alertas = alertas;
+        this.executor = executor;
+        this.limitesMinutos = limitesMinutos.clone();
+    }
+
+    @Override
+    public void pedidoCriado(Pedido pedido) {
+        monitorar(pedido);
+    }
+
+    @Override
+    public void statusAlterado(Pedido pedido, StatusPedido statusAnterior) {
+        if (pedido.isEncerrado()) {
+            pararMonitoramento(pedido.getId());
+        }
+    }
+
+    @Override
+    public void pedidoRemovido(Pedido pedido) {
+        pararMonitoramento(pedido.getId());
+    }
+
+    /**
+     * Recarrega os pedidos ativos ao subir a aplicação, agendando apenas os
+     * limites que ainda não foram cruzados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregarPedidosAtivos() {
+        PedidoRepository repository = pedidoRepository.getIfAvailable();
+        if (repository == null) {
+            return;
+        }
+        try {
+            List<Pedido> ativos = repository.buscarAtivos();
+            ativos.forEach(this::monitorar);
+            logger.info("Monitor de tempo de espera carregado com {} pedidos ativos", ativos.size());
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao carregar pedidos ativos para o monitor de tempo de espera: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Remove os registros de alertas com mais de um dia. Os limites já
+     * cruzados não são reagendados, então o registro só importa enquanto os
+     * temporizadores do pedido estão pendentes.
+     */
+    @Scheduled(cron = "${app.business.sla.limpeza.cron:0 45 3 * * *}")
+    public void removerAlertasAntigos() {
+        try {
+            int removidos = alertas.removerAnteriores(LocalDateTime.now().minusDays(1));
+            if (removidos > 0) {
+                logger.info("{} registros de alertas de tempo de espera removidos", removidos);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao remover alertas de tempo de espera antigos: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Retorna o número de pedidos com alertas ainda pendentes.
+     *
+     * @return Pedidos monitorados
+     */
+    public int getPedidosMonitorados() {
+        return monitorados.size();
+    }
+
+    private void monitorar(Pedido pedido) {
+        if (pedido.getId() == null || pedido.getCriadoEm() == null || pedido.isEncerrado()) {
+            return;
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<RodaTemporizadora.Temporizador> temporizadores = new ArrayList<>(limitesMinutos.length);
+        for (int limite : limitesMinutos) {
+            long atrasoMs = Duration.between(agora, pedido.getCriadoEm().plusMinutes(limite)).toMillis();
+            if (atrasoMs < 0) {
+                continue;
+            }
+            Long pedidoId = pedido.getId();
+            // A roda só dispara; o envio do alerta roda fora da thread da roda
+            temporizadores.add(roda.agendar(() -> executor.execute(() -> alertar(pedidoId, limite)),
+                                            atrasoMs, TimeUnit.MILLISECONDS));
+        }
+
+        if (temporizadores.isEmpty()) {
+            return;
+        }
+        List<RodaTemporizadora.Temporizador> anteriores = monitorados.put(pedido.getId(), temporizadores);
+        if (anteriores != null) {
+            anteriores.forEach(RodaTemporizadora.Temporizador::cancelar);
+        }
+    }
+
+    private void pararMonitoramento(Long pedidoId) {
+        List<RodaTemporizadora.Temporizador> temporizadores = monitorados.remove(pedidoId);
+        if (temporizadores != null) {
+            temporizadores.forEach(RodaTemporizadora.Temporizador::cancelar);
+        }
+    }
+
+    private void alertar(Long pedidoId, int limiteMinutos) {
+        try {
+            // Encerrado em outro pod depois do agendamento: nada a alertar
+            Optional<Pedido> pedido = pedidoRepository.getObject().buscarPorId(pedidoId);
+            if (!pedido.isPresent() || pedido.get().isEncerrado()) {
+                pararMonitoramento(pedidoId);
+                return;
+            }
+            if (alertas.reivindicar(pedidoId, limiteMinutos, LocalDateTime.now())) {
+                notificacaoPort.alertarTempoEsperaElevado(pedidoId, String.valueOf(pedidoId), limiteMinutos);
+            }
+        } catch (RuntimeException e) {
+            logger.error("Erro ao alertar tempo de espera do pedido {}: {}", pedidoId, e.getMessage(), e);
+        }
+
+        List<RodaTemporizadora.Temporizador> temporizadores = monitorados.get(pedidoId);
+        if (temporizadores != null && temporizadores.stream().allMatch(RodaTemporizadora.Temporizador::isVencido)) {
+            monitorados.remove(pedidoId, temporizadores);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.marianapetrolini.fastfood.infrastructure.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Roda de temporização hierárquica para agendar muitos prazos com custo O(1)
+ * por agendamento e por tick, sem varrer todos os itens pendentes.
+ * O nível 0 tem uma posição por tick; cada nível acima cobre uma volta
+ * completa do nível anterior por posição. Quando um nível inferior completa
+ * a volta, a posição correspondente do nível superior é redistribuída
+ * (cascata) para os níveis inferiores.
+ * As tarefas vencidas executam na thread da roda e devem ser rápidas.
+ */
+public class RodaTemporizadora {
+
+    private static final Logger logger = LoggerFactory.getLogger(RodaTemporizadora.class);
+
+    private static final int NIVEIS_PADRAO = 4;
+
+    private final long tickNanos;
+    private final int bitsPorNivel;
+    private final int mascara;
+    private final List<List<List<Temporizador>>> niveis;
+    private final long capacidadeTicks;
+    private final Queue<Temporizador> novos = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendentes = new AtomicInteger();
+    private final LongSupplier relogioNanos;
+    private final long inicioNanos;
+
+    private long tickAtual;
+    private volatile Thread worker;
+
+    /**
+     * Cria uma roda com o relógio do sistema e quatro níveis.
+     *
+     * @param tick Duração de cada tick
+     * @param unidade Unidade da duração do tick
+     * @param tamanho Número de posições por nível (arredondado para potência de 2)
+     */
+    public RodaTemporizadora(long tick, TimeUnit unidade, int tamanho) {
+        this(tick, unidade, tamanho, NIVEIS_PADRAO);
+    }
+
+    /**
+     * Cria uma roda com o relógio do sistema.
+     *
+     * @param tick Duração de cada tick
+     * @param unidade Unidade da duração do tick
+     * @param tamanho Número de posições por nível (arredondado para potência de 2)
+     * @param quantidadeNiveis Número de níveis da hierarquia
+     */
+    public RodaTemporizadora(long tick, TimeUnit unidade, int tamanho, int quantidadeNiveis) {
+        this(tick, unidade, tamanho, quantidadeNiveis, System::nanoTime);
+    }
+
+    /**
+     * Cria uma roda com um relógio customizado (usado em testes).
+     *
+     * @param tick Duração de cada tick
+     * @param unidade Unidade da duração do tick
+     * @param tamanho Número de posições por nível (arredondado para potência de 2)
+     * @param quantidadeNiveis Número de níveis da hierarquia
+     * @param relogioNanos Fonte de tempo em nanossegundos
+     */
+    public RodaTemporizadora(long tick, TimeUnit unidade, int tamanho, int quantidadeNiveis,
+                             LongSupplier relogioNanos) {
+        if (tick <= 0 || tamanho <= 1 || quantidadeNiveis <= 0) {
+            throw new IllegalArgumentException("Tick, tamanho e níveis da roda devem ser positivos");
+        }
+        int tamanhoNormalizado = Integer.highestOneBit(tamanho - 1) << 1;
+        this.bitsPorNivel = Integer.numberOfTrailingZeros(tamanhoNormalizado);
+        if ((long) bitsPorNivel * quantidadeNiveis > 62) {
+            throw new IllegalArgumentException("Capacidade da roda excede o limite suportado");
+        }
+        this.tickNanos = unidade.toNanos(tick);
+        this.mascara = tamanhoNormalizado - 1;
+        this.capacidadeTicks = 1L << (bitsPorNivel * quantidadeNiveis);
+        this.niveis = new ArrayList<>(quantidadeNiveis);
+        for (int n = 0; n < quantidadeNiveis; n++) {
+            List<List<Temporizador>> posicoes = new ArrayList<>(tamanhoNormalizado);
+            for (int i = 0; i < tamanhoNormalizado; i++) {
+                posicoes.add(new ArrayList<>());
+            }
+            this.niveis.add(posicoes);
+        }
+        this.relogioNanos = relogioNanos;
+        this.inicioNanos = relogioNanos.getAsLong();
+    }
+
+    /**
+     * Agenda uma tarefa para executar após o atraso informado.
+     *
+     * @param tarefa Tarefa a executar no vencimento
+     * @param atraso Atraso até o vencimento (valores negativos vencem no próximo tick)
+     * @param unidade Unidade do atraso
+     * @return Temporizador que permite cancelar a tarefa
+     */
+    public Temporizador agendar(Runnable tarefa, long atraso, TimeUnit unidade) {
+        long prazo = relogioNanos.getAsLong() + Math.max(0, unidade.toNanos(atraso)) - inicioNanos;
+        Temporizador temporizador = new Temporizador(tarefa, (prazo + tickNanos - 1) / tickNanos);
+        novos.add(temporizador);
+        pendentes.incrementAndGet();
+        return temporizador;
+    }
+
+    /**
+     * Processa todos os ticks decorridos até o instante atual do relógio.
+     */
+    public synchronized void avancar() {
+        long ultimoTick = (relogioNanos.getAsLong() - inicioNanos) / tickNanos;
+        while (tickAtual <= ultimoTick) {
+            transferirNovos();
+            cascatear();
+            expirar(niveis.get(0).get((int) (tickAtual & mascara)));
+            tickAtual++;
+        }
+    }
+
+    /**
+     * Retorna o número de temporizadores ainda não vencidos nem cancelados.
+     *
+     * @return Temporizadores pendentes
+     */
+    public int getPendentes() {
+        return pendentes.get();
+    }
+
+    /**
+     * Inicia a thread que avança a roda a cada tick.
+     */
+    public synchronized void iniciar() {
+        if (worker != null) {
+            return;
+        }
+        Thread thread = new Thread(this::executar, "roda-temporizadora");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * Interrompe a thread da roda. Temporizadores pendentes não são executados.
+     */
+    public void parar() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void executar() {
+        long intervaloMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(tickNanos));
+        while (worker == Thread.currentThread()) {
+            try {
+                Thread.sleep(intervaloMs);
+                avancar();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Erro ao avançar roda temporizadora: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void transferirNovos() {
+        Temporizador temporizador;
+        while ((temporizador = novos.poll()) != null) {
+            if (!temporizador.isCancelado()) {
+                posicionar(temporizador);
+            }
+        }
+    }
+
+    /**
+     * Coloca o temporizador no nível mais baixo cuja volta ainda alcança o vencimento.
+     * Prazos além da capacidade ficam na última posição alcançável e são reposicionados
+     * quando descem na cascata.
+     */
+    private void posicionar(Temporizador temporizador) {
+        long tickAlvo = Math.max(temporizador.tickVencimento, tickAtual);
+        long distancia = tickAlvo - tickAtual;
+        if (distancia >= capacidadeTicks) {
+            tickAlvo = tickAtual + capacidadeTicks - 1;
+            distancia = capacidadeTicks - 1;
+        }
+
+        int nivel = 0;
+        while (nivel < niveis.size() - 1 && distancia >= (1L << (bitsPorNivel * (nivel + 1)))) {
+            nivel++;
+        }
+        int posicao = (int) ((tickAlvo >>> (bitsPorNivel * nivel)) & mascara);
+        niveis.get(nivel).get(posicao).add(temporizador);
+    }
+
+    /**
+     * Redistribui, do nível mais alto para o mais baixo, as posições cujo início
+     * coincide com o tick atual.
+     */
+    private void cascatear() {
+        for (int nivel = niveis.size() - 1; nivel > 0; nivel--) {
+            long bitsInferiores = (1L << (bitsPorNivel * nivel)) - 1;
+            if ((tickAtual & bitsInferiores) != 0) {
+                continue;
+            }
+            List<Temporizador> posicao = niveis.get(nivel).get((int) ((tickAtual >>> (bitsPorNivel * nivel)) & mascara));
+            if (posicao.isEmpty()) {
+                continue;
+            }
+            List<Temporizador> redistribuir = new ArrayList<>(posicao);
+            posicao.clear();
+            for (Temporizador temporizador : redistribuir) {
+                if (!temporizador.isCancelado()) {
+                    posicionar(temporizador);
+                }
+            }
+        }
+    }
+
+    private void expirar(List<Temporizador> posicao) {
+        if (posicao.isEmpty()) {
+            return;
+        }
+        List<Temporizador> vencidos = new ArrayList<>(posicao);
+        posicao.clear();
+        for (Temporizador temporizador : vencidos) {
+            if (temporizador.marcarVencido()) {
+                pendentes.decrementAndGet();
+                executarTarefa(temporizador);
+            }
+        }
+    }
+
+    private void executarTarefa(Temporizador temporizador) {
+        try {
+            temporizador.tarefa.run();
+        } catch (RuntimeException e) {
+            logger.error("Erro ao executar tarefa agendada: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Handle de uma tarefa agendada na roda.
+     */
+    public final class Temporizador {
+
+        private static final int PENDENTE = 0;
+        private static final int VENCIDO = 1;
+        private static final int CANCELADO = 2;
+
+        private final Runnable tarefa;
+        private final long tickVencimento;
+        private final AtomicInteger estado = new AtomicInteger(PENDENTE);
+
+        private Temporizador(Runnable tarefa, long tickVencimento) {
+            this.tarefa = tarefa;
+            this.tickVencimento = tickVencimento;
+        }
+
+        /**
+         * Cancela a tarefa se ela ainda não venceu.
+         *
+         * @return true se foi cancelada por esta chamada
+         */
+        public boolean cancelar() {
+            if (estado.compareAndSet(PENDENTE, CANCELADO)) {
+                pendentes.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelado() {
+            return estado.get() == CANCELADO;
+        }
+
+        public boolean isVencido() {
+            return estado.get() == VENCIDO;
+        }
+
+        private boolean marcarVencido() {
+            return estado.compareAndSet(PENDENTE, VENCIDO);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+-- Dados de exemplo para desenvolvimento (fora do perfil prod).
+-- Cada tabela é carregada em um único INSERT com várias linhas.
+
+INSERT INTO produtos (nome, descricao, preco, categoria, disponivel, criado_em, atualizado_em) VALUES
+('Big Mac', 'Dois hambúrgueres, alface, queijo, molho especial, cebola, picles em um pão com gergelim', 25.90, 'LANCHE', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Quarter Pounder', 'Hambúrguer de carne bovina, queijo, cebola, picles, ketchup e mostarda', 28.50, 'LANCHE', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('McChicken', 'Frango empanado, alface e maionese em pão com gergelim', 22.90, 'LANCHE', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Cheeseburger', 'Hambúrguer, queijo, cebola, picles, ketchup e mostarda', 12.90, 'LANCHE', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Batata Frita Pequena', 'Batatas fritas crocantes - tamanho pequeno', 8.90, 'ACOMPANHAMENTO', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Batata Frita Média', 'Batatas fritas crocantes - tamanho médio', 10.90, 'ACOMPANHAMENTO', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Batata Frita Grande', 'Batatas fritas crocantes - tamanho grande', 12.90, 'ACOMPANHAMENTO', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('McNuggets 10 unidades', 'Nuggets de frango crocantes - 10 unidades', 18.90, 'ACOMPANHAMENTO', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Coca-Cola 300ml', 'Refrigerante Coca-Cola - 300ml', 6.90, 'BEBIDA', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Coca-Cola 500ml', 'Refrigerante Coca-Cola - 500ml', 8.90, 'BEBIDA', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Suco de Laranja', 'Suco natural de laranja - 300ml', 7.90, 'BEBIDA', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Água Mineral', 'Água mineral sem gás - 500ml', 3.90, 'BEBIDA', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Sundae Chocolate', 'Sorvete de baunilha com calda de chocolate', 9.90, 'SOBREMESA', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+('Torta de Maçã', 'Torta de maçã quentinha com canela', 8.90, 'SOBREMESA', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO clientes (nome, cpf, email, telefone, ativo, aceita_campanhas, total_pedidos, ultimo_pedido, criado_em, atualizado_em) VALUES
+('João Silva', '52998224725', 'joao.silva@email.com', '(11) 99999-1111', TRUE, TRUE, 1, '2024-01-15 10:30:00', '2024-01-10 09:00:00', '2024-01-15 10:30:00'),
+('Maria Santos', '98765432100', 'maria.santos@email.com', '(11) 99999-2222', TRUE, TRUE, 1, '2024-01-15 11:15:00', '2024-01-10 09:00:00', '2024-01-15 11:15:00'),
+('Pedro Oliveira', '39053344705', 'pedro.oliveira@email.com', '(11) 99999-3333', TRUE, FALSE, 1, '2024-01-15 12:00:00', '2024-01-10 09:00:00', '2024-01-15 12:00:00');
+
+INSERT INTO pedidos (cliente_id, status, valor_total, criado_em, atualizado_em, iniciado_preparacao_em, pronto_em) VALUES
+(1, 'RECEBIDO', 34.80, '2024-01-15 10:30:00', '2024-01-15 10:30:00', NULL, NULL),
+(2, 'EM_PREPARACAO', 58.20, '2024-01-15 11:15:00', '2024-01-15 11:20:00', '2024-01-15 11:20:00', NULL),
+(3, 'PRONTO', 31.80, '2024-01-15 12:00:00', '2024-01-15 12:10:00', '2024-01-15 12:02:00', '2024-01-15 12:10:00');
+
+INSERT INTO itens_pedido (pedido_id, produto_id, quantidade, preco_unitario, observacoes) VALUES
+(1, 1, 1, 25.90, 'Sem cebola'),
+(1, 10, 1, 8.90, NULL),
+(2, 2, 1, 28.50, NULL),
+(2, 6, 1, 10.90, 'Bem passada'),
+(2, 10, 1, 8.90, NULL),
+(2, 13, 1, 9.90, NULL),
+(3, 3, 1, 22.90, NULL),
+(3, 5, 1, 8.90, NULL);
+
+INSERT INTO pagamentos (pedido_id, metodo, status, valor, transacao_id, qr_code, criado_em, atualizado_em, processado_em) VALUES
+(1, 'PIX', 'PENDENTE', 34.80, 'TXN-ABC12345', '00020126580014BR.GOV.BCB.PIX0136123e4567-e89b-12d3-a456-426614174000520400005303986540534.805802BR6009SAO PAULO62070503***6304', '2024-01-15 10:30:30', '2024-01-15 10:30:30', NULL),
+(2, 'PIX', 'APROVADO', 58.20, 'TXN-DEF67890', '00020126580014BR.GOV.BCB.PIX0136987f6543-e21c-43d2-b567-537725285111520400005303986540558.205802BR6009SAO PAULO62070503***6304', '2024-01-15 11:15:30', '2024-01-15 11:16:10', '2024-01-15 11:16:10'),
+(3, 'CARTAO_CREDITO', 'APROVADO', 31.80, 'TXN-GHI11111', NULL, '2024-01-15 12:00:30', '2024-01-15 12:00:45', '2024-01-15 12:00:45');
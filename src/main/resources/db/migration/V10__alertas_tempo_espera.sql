@@ -0,0 +1,13 @@
+-- Alertas de tempo de espera já enviados. SQL compatível com H2 e PostgreSQL.
+-- Todas as réplicas agendam os limites de cada pedido ativo; a chave primária
+-- garante que só uma delas envia o alerta de cada limite.
+
+CREATE TABLE alertas_tempo_espera (
+    pedido_id       BIGINT     NOT NULL,
+    limite_minutos  INTEGER    NOT NULL,
+    alertado_em     TIMESTAMP  NOT NULL,
+    PRIMARY KEY (pedido_id, limite_minutos)
+);
+
+-- Limpeza periódica dos alertas antigos
+CREATE INDEX idx_alertas_tempo_espera_alertado ON alertas_tempo_espera (alertado_em);
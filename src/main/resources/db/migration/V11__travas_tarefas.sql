@@ -0,0 +1,10 @@
+-- Travas de tarefas que só uma réplica deve executar por vez, como a
+-- reconstrução do modelo de leitura. SQL compatível com H2 e PostgreSQL.
+-- A trava é um arrendamento: vale até valida_ate e o dono a renova enquanto
+-- trabalha; se o pod morrer, outra réplica a assume depois do vencimento.
+
+CREATE TABLE travas_tarefas (
+    nome        VARCHAR(100)  NOT NULL PRIMARY KEY,
+    dono        VARCHAR(64),
+    valida_ate  TIMESTAMP     NOT NULL
+);
@@ -0,0 +1,11 @@
+-- Clientes removidos, para que os demais pods os tirem do índice de
+-- sugestões em memória. SQL compatível com H2 e PostgreSQL. A linha é gravada
+-- na mesma transação da remoção e apagada pela limpeza periódica.
+
+CREATE TABLE clientes_removidos (
+    cliente_id   BIGINT     NOT NULL PRIMARY KEY,
+    removido_em  TIMESTAMP  NOT NULL
+);
+
+-- Atualização incremental e limpeza por data de remoção
+CREATE INDEX idx_clientes_removidos_removido ON clientes_removidos (removido_em);
@@ -0,0 +1,5 @@
+-- Reserva cujo checkout falhou depois de poder ter gravado algo (falha de
+-- banco, tempo esgotado...). SQL compatível com H2 e PostgreSQL. As repetições
+-- da chave recebem resultado desconhecido em vez de executar o checkout de novo.
+
+ALTER TABLE chaves_idempotencia ADD COLUMN indeterminada BOOLEAN NOT NULL DEFAULT FALSE;
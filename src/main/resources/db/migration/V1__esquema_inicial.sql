@@ -0,0 +1,114 @@
+-- Esquema inicial da aplicação.
+-- SQL compatível com H2 (desenvolvimento) e PostgreSQL (produção).
+
+CREATE TABLE produtos (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome            VARCHAR(100)   NOT NULL,
+    descricao       VARCHAR(500),
+    preco           NUMERIC(10, 2) NOT NULL,
+    categoria       VARCHAR(20)    NOT NULL,
+    disponivel      BOOLEAN        NOT NULL,
+    criado_em       TIMESTAMP      NOT NULL,
+    atualizado_em   TIMESTAMP      NOT NULL
+);
+
+-- Cardápio: listagem por categoria e disponibilidade, ordenada por nome
+CREATE INDEX idx_produtos_categoria_disponivel_nome ON produtos (categoria, disponivel, nome);
+
+CREATE TABLE clientes (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome              VARCHAR(100) NOT NULL,
+    cpf               VARCHAR(11),
+    email             VARCHAR(150) NOT NULL,
+    telefone          VARCHAR(20),
+    ativo             BOOLEAN      NOT NULL,
+    aceita_campanhas  BOOLEAN      NOT NULL,
+    total_pedidos     INTEGER      NOT NULL,
+    ultimo_pedido     TIMESTAMP,
+    criado_em         TIMESTAMP    NOT NULL,
+    atualizado_em     TIMESTAMP    NOT NULL
+);
+
+-- Identificação no checkout por CPF ou e-mail
+CREATE UNIQUE INDEX uk_clientes_cpf ON clientes (cpf);
+CREATE UNIQUE INDEX uk_clientes_email ON clientes (email);
+
+CREATE TABLE pedidos (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    cliente_id              BIGINT         NOT NULL REFERENCES clientes (id),
+    status                  VARCHAR(20)    NOT NULL,
+    valor_total             NUMERIC(10, 2) NOT NULL,
+    criado_em               TIMESTAMP      NOT NULL,
+    atualizado_em           TIMESTAMP      NOT NULL,
+    iniciado_preparacao_em  TIMESTAMP,
+    pronto_em               TIMESTAMP,
+    finalizado_em           TIMESTAMP
+);
+
+-- Fila da cozinha, pedidos ativos e do dia
+CREATE INDEX idx_pedidos_status_criado ON pedidos (status, criado_em);
+CREATE INDEX idx_pedidos_cliente ON pedidos (cliente_id);
+
+CREATE TABLE itens_pedido (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pedido_id       BIGINT         NOT NULL REFERENCES pedidos (id),
+    produto_id      BIGINT         NOT NULL REFERENCES produtos (id),
+    quantidade      INTEGER        NOT NULL,
+    preco_unitario  NUMERIC(10, 2) NOT NULL,
+    observacoes     VARCHAR(500)
+);
+
+CREATE INDEX idx_itens_pedido_pedido ON itens_pedido (pedido_id);
+
+CREATE TABLE pagamentos (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pedido_id       BIGINT         NOT NULL REFERENCES pedidos (id),
+    metodo          VARCHAR(20)    NOT NULL,
+    status          VARCHAR(20)    NOT NULL,
+    valor           NUMERIC(10, 2) NOT NULL,
+    transacao_id    VARCHAR(100),
+    qr_code         VARCHAR(1000),
+    link_pagamento  VARCHAR(500),
+    motivo_recusa   VARCHAR(500),
+    criado_em       TIMESTAMP      NOT NULL,
+    atualizado_em   TIMESTAMP      NOT NULL,
+    processado_em   TIMESTAMP
+);
+
+-- Webhook do gateway localiza o pagamento pela transação
+CREATE INDEX idx_pagamentos_transacao ON pagamentos (transacao_id);
+CREATE INDEX idx_pagamentos_pedido ON pagamentos (pedido_id);
+CREATE INDEX idx_pagamentos_status ON pagamentos (status);
+
+-- Modelo de leitura (CQRS) das listagens de pedidos
+CREATE TABLE pedidos_leitura (
+    id               BIGINT         NOT NULL PRIMARY KEY,
+    cliente_id       BIGINT,
+    cliente_nome     VARCHAR(100),
+    cliente_cpf      VARCHAR(14),
+    cliente_email    VARCHAR(150),
+    status           VARCHAR(20)    NOT NULL,
+    descricao_itens  VARCHAR(2000),
+    valor_total      NUMERIC(10, 2),
+    total_itens      INTEGER        NOT NULL,
+    prioridade       INTEGER        NOT NULL,
+    criado_em        TIMESTAMP,
+    atualizado_em    TIMESTAMP,
+    projetado_em     TIMESTAMP      NOT NULL
+);
+
+CREATE INDEX idx_pedidos_leitura_status_criado ON pedidos_leitura (status, criado_em);
+CREATE INDEX idx_pedidos_leitura_cliente ON pedidos_leitura (cliente_id);
+CREATE INDEX idx_pedidos_leitura_criado ON pedidos_leitura (criado_em);
+
+CREATE TABLE pedidos_leitura_itens (
+    pedido_id       BIGINT         NOT NULL REFERENCES pedidos_leitura (id),
+    posicao         INTEGER        NOT NULL,
+    item_id         BIGINT,
+    produto_nome    VARCHAR(100),
+    quantidade      INTEGER        NOT NULL,
+    preco_unitario  NUMERIC(10, 2),
+    valor_total     NUMERIC(10, 2),
+    observacoes     VARCHAR(500),
+    PRIMARY KEY (pedido_id, posicao)
+);
@@ -0,0 +1,11 @@
+-- Sequências dos ids com alocação em bloco (pooled, 50 ids por chamada).
+-- Com IDENTITY o Hibernate precisa executar cada INSERT na hora para obter o
+-- id, o que desliga o batch de JDBC; com sequência os ids são reservados em
+-- memória e os INSERTs de um checkout seguem agrupados.
+-- O valor inicial fica acima dos ids dos dados de exemplo.
+
+CREATE SEQUENCE produtos_seq START WITH 100 INCREMENT BY 50;
+CREATE SEQUENCE clientes_seq START WITH 100 INCREMENT BY 50;
+CREATE SEQUENCE pedidos_seq START WITH 100 INCREMENT BY 50;
+CREATE SEQUENCE itens_pedido_seq START WITH 100 INCREMENT BY 50;
+CREATE SEQUENCE pagamentos_seq START WITH 100 INCREMENT BY 50;
@@ -0,0 +1,23 @@
+-- Lojas: pedidos, pagamentos e o modelo de leitura passam a pertencer a uma loja.
+-- SQL compatível com H2 e PostgreSQL. Os registros existentes ficam na loja 1,
+-- que atende as implantações de uma loja só.
+
+CREATE TABLE lojas (
+    id              BIGINT         NOT NULL PRIMARY KEY,
+    nome            VARCHAR(100)   NOT NULL,
+    ativa           BOOLEAN        NOT NULL
+);
+
+INSERT INTO lojas (id, nome, ativa) VALUES (1, 'Loja principal', TRUE);
+
+ALTER TABLE pedidos ADD COLUMN loja_id BIGINT DEFAULT 1 NOT NULL;
+ALTER TABLE pedidos ADD CONSTRAINT fk_pedidos_loja FOREIGN KEY (loja_id) REFERENCES lojas (id);
+
+ALTER TABLE pagamentos ADD COLUMN loja_id BIGINT DEFAULT 1 NOT NULL;
+ALTER TABLE pagamentos ADD CONSTRAINT fk_pagamentos_loja FOREIGN KEY (loja_id) REFERENCES lojas (id);
+
+ALTER TABLE pedidos_leitura ADD COLUMN loja_id BIGINT DEFAULT 1 NOT NULL;
+
+-- Fila da cozinha de cada loja, já na ordem de exibição
+CREATE INDEX idx_pedidos_leitura_loja_status_prioridade
+    ON pedidos_leitura (loja_id, status, prioridade, criado_em);
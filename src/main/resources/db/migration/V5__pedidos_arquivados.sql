@@ -0,0 +1,19 @@
+-- Arquivo (armazenamento frio) dos pedidos finalizados há mais de N dias.
+-- SQL compatível com H2 e PostgreSQL. O pedido sai das tabelas quentes
+-- (pedidos, itens_pedido, pagamentos e modelo de leitura) e fica aqui em uma
+-- linha só, com o pedido, os itens e os pagamentos em JSON comprimido (gzip).
+
+CREATE TABLE pedidos_arquivados (
+    id              BIGINT         NOT NULL PRIMARY KEY,
+    loja_id         BIGINT         NOT NULL,
+    cliente_id      BIGINT         NOT NULL,
+    valor_total     NUMERIC(10, 2) NOT NULL,
+    criado_em       TIMESTAMP      NOT NULL,
+    finalizado_em   TIMESTAMP,
+    arquivado_em    TIMESTAMP      NOT NULL,
+    conteudo        BYTEA          NOT NULL
+);
+
+-- Relatórios por loja e período no arquivo
+CREATE INDEX idx_pedidos_arquivados_loja_criado ON pedidos_arquivados (loja_id, criado_em);
+CREATE INDEX idx_pedidos_arquivados_cliente ON pedidos_arquivados (cliente_id);
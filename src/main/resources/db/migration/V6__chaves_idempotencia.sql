@@ -0,0 +1,15 @@
+-- Chaves de idempotência do checkout (cabeçalho Idempotency-Key).
+-- SQL compatível com H2 e PostgreSQL. A linha é reservada antes do checkout
+-- (resposta nula) e recebe a resposta serializada ao fim dele; a chave
+-- primária garante que só um pod executa o checkout de cada chave.
+
+CREATE TABLE chaves_idempotencia (
+    chave       VARCHAR(100)  NOT NULL PRIMARY KEY,
+    impressao   VARCHAR(64)   NOT NULL,
+    resposta    BYTEA,
+    criado_em   TIMESTAMP     NOT NULL,
+    expira_em   TIMESTAMP     NOT NULL
+);
+
+-- Limpeza periódica das chaves expiradas
+CREATE INDEX idx_chaves_idempotencia_expira ON chaves_idempotencia (expira_em);
@@ -0,0 +1,6 @@
+-- Versão para bloqueio otimista dos pedidos. SQL compatível com H2 e
+-- PostgreSQL (em tabela particionada a coluna vale para todas as partições).
+-- Cada UPDATE do Hibernate confere e incrementa a versão, então duas
+-- gravações que partiram do mesmo status não passam as duas.
+
+ALTER TABLE pedidos ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,5 @@
+-- Versão para bloqueio otimista dos pagamentos. SQL compatível com H2 e
+-- PostgreSQL. Uma aprovação pelo webhook e o cancelamento por expiração
+-- que partiram da mesma leitura não gravam os dois.
+
+ALTER TABLE pagamentos ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
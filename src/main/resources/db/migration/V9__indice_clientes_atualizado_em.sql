@@ -0,0 +1,4 @@
+-- Índice para a atualização incremental do índice de sugestões de clientes.
+-- SQL compatível com H2 e PostgreSQL. Cada pod consulta periodicamente os
+-- clientes alterados desde a última leitura, sem varrer a tabela.
+CREATE INDEX idx_clientes_atualizado_em ON clientes (atualizado_em);
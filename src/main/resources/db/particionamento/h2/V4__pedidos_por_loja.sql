@@ -0,0 +1,7 @@
+-- H2 não tem particionamento: as consultas por loja usam índices iniciados
+-- pela loja. No PostgreSQL a mesma versão particiona as tabelas
+-- (db/particionamento/postgresql).
+
+CREATE INDEX idx_pedidos_loja_status_criado ON pedidos (loja_id, status, criado_em);
+CREATE INDEX idx_pedidos_loja_criado ON pedidos (loja_id, criado_em);
+CREATE INDEX idx_pagamentos_loja_criado ON pagamentos (loja_id, criado_em);
@@ -0,0 +1,110 @@
+-- Pedidos e pagamentos particionados por loja (LIST em loja_id) e, dentro de
+-- cada loja, por mês de criação (RANGE em criado_em). As consultas por loja e
+-- período leem só as partições envolvidas, e a fila de uma loja usa índices
+-- do tamanho do movimento da própria loja.
+-- A chave primária de uma tabela particionada precisa conter as chaves de
+-- partição, então id deixa de ser único sozinho no banco: as FKs que apontavam
+-- para pedidos(id) são removidas e a integridade fica com a aplicação, que
+-- grava pedido, itens e pagamento na mesma transação.
+-- Requer PostgreSQL 11 ou superior.
+
+-- Cria, se ainda não existirem, a partição da loja e a do mês informado em
+-- pedidos e pagamentos. Cada loja tem uma partição DEFAULT para os meses sem
+-- partição própria; a partição de um mês deve ser criada antes de o mês
+-- começar, senão a DEFAULT já terá linhas desse intervalo.
+CREATE FUNCTION criar_particoes_loja(p_loja BIGINT, p_mes DATE) RETURNS void AS $$
+DECLARE
+    v_tabela  TEXT;
+    v_loja    TEXT;
+    v_inicio  DATE := date_trunc('month', p_mes)::date;
+BEGIN
+    FOREACH v_tabela IN ARRAY ARRAY['pedidos', 'pagamentos'] LOOP
+        v_loja := v_tabela || '_loja_' || p_loja;
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES IN (%s) '
+                       || 'PARTITION BY RANGE (criado_em)', v_loja, v_tabela, p_loja);
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I DEFAULT', v_loja || '_outros', v_loja);
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                       v_loja || '_' || to_char(v_inicio, 'YYYYMM'), v_loja,
+                       v_inicio, (v_inicio + INTERVAL '1 month')::date);
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE itens_pedido DROP CONSTRAINT itens_pedido_pedido_id_fkey;
+
+ALTER TABLE pedidos RENAME TO pedidos_sem_particao;
+ALTER TABLE pagamentos RENAME TO pagamentos_sem_particao;
+
+CREATE TABLE pedidos (
+    id                      BIGINT         NOT NULL,
+    loja_id                 BIGINT         DEFAULT 1 NOT NULL REFERENCES lojas (id),
+    cliente_id              BIGINT         NOT NULL REFERENCES clientes (id),
+    status                  VARCHAR(20)    NOT NULL,
+    valor_total             NUMERIC(10, 2) NOT NULL,
+    criado_em               TIMESTAMP      NOT NULL,
+    atualizado_em           TIMESTAMP      NOT NULL,
+    iniciado_preparacao_em  TIMESTAMP,
+    pronto_em               TIMESTAMP,
+    finalizado_em           TIMESTAMP,
+    CONSTRAINT pk_pedidos_loja_criado_id PRIMARY KEY (loja_id, criado_em, id)
+) PARTITION BY LIST (loja_id);
+
+CREATE TABLE pagamentos (
+    id              BIGINT         NOT NULL,
+    loja_id         BIGINT         DEFAULT 1 NOT NULL REFERENCES lojas (id),
+    pedido_id       BIGINT         NOT NULL,
+    metodo          VARCHAR(20)    NOT NULL,
+    status          VARCHAR(20)    NOT NULL,
+    valor           NUMERIC(10, 2) NOT NULL,
+    transacao_id    VARCHAR(100),
+    qr_code         VARCHAR(1000),
+    link_pagamento  VARCHAR(500),
+    motivo_recusa   VARCHAR(500),
+    criado_em       TIMESTAMP      NOT NULL,
+    atualizado_em   TIMESTAMP      NOT NULL,
+    processado_em   TIMESTAMP,
+    CONSTRAINT pk_pagamentos_loja_criado_id PRIMARY KEY (loja_id, criado_em, id)
+) PARTITION BY LIST (loja_id);
+
+-- Partições das lojas existentes para o mês atual e o próximo
+SELECT criar_particoes_loja(id, CURRENT_DATE) FROM lojas;
+SELECT criar_particoes_loja(id, (CURRENT_DATE + INTERVAL '1 month')::date) FROM lojas;
+
+INSERT INTO pedidos (id, loja_id, cliente_id, status, valor_total, criado_em, atualizado_em,
+                     iniciado_preparacao_em, pronto_em, finalizado_em)
+SELECT id, loja_id, cliente_id, status, valor_total, criado_em, atualizado_em,
+       iniciado_preparacao_em, pronto_em, finalizado_em
+FROM pedidos_sem_particao;
+
+INSERT INTO pagamentos (id, loja_id, pedido_id, metodo, status, valor, transacao_id, qr_code,
+                        link_pagamento, motivo_recusa, criado_em, atualizado_em, processado_em)
+SELECT id, loja_id, pedido_id, metodo, status, valor, transacao_id, qr_code,
+       link_pagamento, motivo_recusa, criado_em, atualizado_em, processado_em
+FROM pagamentos_sem_particao;
+
+DROP TABLE pagamentos_sem_particao;
+DROP TABLE pedidos_sem_particao;
+
+-- Índices criados na tabela pai valem para todas as partições.
+-- Buscas e UPDATEs do Hibernate por id consultam o índice de cada partição.
+CREATE INDEX idx_pedidos_id ON pedidos (id);
+CREATE INDEX idx_pedidos_loja_status_criado ON pedidos (loja_id, status, criado_em);
+CREATE INDEX idx_pedidos_status_criado ON pedidos (status, criado_em);
+CREATE INDEX idx_pedidos_cliente ON pedidos (cliente_id);
+
+CREATE INDEX idx_pagamentos_id ON pagamentos (id);
+CREATE INDEX idx_pagamentos_transacao ON pagamentos (transacao_id);
+CREATE INDEX idx_pagamentos_pedido ON pagamentos (pedido_id);
+CREATE INDEX idx_pagamentos_status ON pagamentos (status);
+
+-- Loja nova já nasce com as partições do mês atual e do próximo
+CREATE FUNCTION lojas_criar_particoes() RETURNS trigger AS $$
+BEGIN
+    PERFORM criar_particoes_loja(NEW.id, CURRENT_DATE);
+    PERFORM criar_particoes_loja(NEW.id, (CURRENT_DATE + INTERVAL '1 month')::date);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_lojas_criar_particoes AFTER INSERT ON lojas
+    FOR EACH ROW EXECUTE FUNCTION lojas_criar_particoes();
@@ -0,0 +1,141 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.infrastructure.isolamento.AdmissaoFilter;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.LimitadorTaxa;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.LimiteConcorrencia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga do limite de concorrência adaptativo: 64 clientes em laço
+ * fechado contra um banco simulado (semáforo de 16 conexões) que passa de
+ * 5ms para 20ms por consulta no meio da execução. Compara, na fase lenta, o
+ * p99 das requisições aceitas sem controle de admissão e com o limite
+ * adaptativo (as recusadas com 503 esperam 5ms antes de tentar de novo).
+ * Executar com: mvn test -Dtest=AdmissaoBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AdmissaoBenchmark {
+
+    private static final int CONEXOES = 16;
+    private static final int CLIENTES = 64;
+    private static final long CONSULTA_NORMAL_MS = 5;
+    private static final long CONSULTA_LENTA_MS = 20;
+    private static final long FASE_NORMAL_MS = 1500;
+    private static final long FASE_LENTA_MS = 3000;
+
+    @Test
+    void compararP99ComBancoLento() throws Exception {
+        // Given
+        executar(false);
+
+        // When
+        double[] semLimite = executar(false);
+        double[] comLimite = executar(true);
+
+        // Then
+        System.out.printf("banco lento | sem limite: p99 %6.1fms, %5.0f aceitas/s"
+                          + " | limite adaptativo: p99 %6.1fms, %5.0f aceitas/s, %5.0f recusadas/s, limite final %.0f%n",
+                          semLimite[0], semLimite[1], comLimite[0], comLimite[1], comLimite[2], comLimite[3]);
+        assertTrue(comLimite[0] < semLimite[0] / 2);
+    }
+
+    /**
+     * Executa a carga e retorna, da fase lenta, {p99 das aceitas em ms, aceitas/s, recusadas/s, limite final}.
+     */
+    private static double[] executar(boolean limitar) throws Exception {
+        LimiteConcorrencia limite = limitar
+            ? new LimiteConcorrencia(50, 10, 200, 1.5)
+            : new LimiteConcorrencia(10_000, 10_000, 10_000, 1.5);
+        AdmissaoFilter filtro = new AdmissaoFilter(new LimitadorTaxa(10, 30, 100),
+            Collections.emptyList(), limite, null, new SimpleMeterRegistry());
+        Semaphore pool = new Semaphore(CONEXOES, true);
+        AtomicLong consultaMs = new AtomicLong(CONSULTA_NORMAL_MS);
+        AtomicBoolean medindo = new AtomicBoolean();
+        AtomicBoolean ativo = new AtomicBoolean(true);
+        AtomicInteger recusadas = new AtomicInteger();
+        List<Long> latencias = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService clientes = Executors.newFixedThreadPool(CLIENTES);
+        for (int i = 0; i < CLIENTES; i++) {
+            clientes.submit(() -> {
+                while (ativo.get()) {
+                    long inicio = System.nanoTime();
+                    int status = requisicao(filtro, pool, consultaMs.get());
+                    if (status == 503) {
+                        if (medindo.get()) {
+                            recusadas.incrementAndGet();
+                        }
+                        dormir(5);
+                    } else if (medindo.get()) {
+                        latencias.add(System.nanoTime() - inicio);
+                    }
+                }
+                return null;
+            });
+        }
+        dormir(FASE_NORMAL_MS);
+        consultaMs.set(CONSULTA_LENTA_MS);
+        medindo.set(true);
+        dormir(FASE_LENTA_MS);
+        ativo.set(false);
+        clientes.shutdown();
+        assertTrue(clientes.awaitTermination(1, TimeUnit.MINUTES));
+
+        List<Long> ordenadas = new ArrayList<>(latencias);
+        Collections.sort(ordenadas);
+        long p99 = ordenadas.get((int) Math.ceil(ordenadas.size() * 0.99) - 1);
+        double segundos = FASE_LENTA_MS / 1000.0;
+        return new double[] {p99 / 1e6, ordenadas.size() / segundos, recusadas.get() / segundos, limite.getLimite()};
+    }
+
+    /**
+     * Passa a requisição pelo filtro; o "controller" ocupa uma conexão do pool pelo tempo informado.
+     */
+    private static int requisicao(AdmissaoFilter filtro, Semaphore pool, long ms) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain controller = (req, res) -> {
+            try {
+                if (!pool.tryAcquire(2, TimeUnit.SECONDS)) {
+                    ((MockHttpServletResponse) res).setStatus(500);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                dormir(ms);
+            } finally {
+                pool.release();
+            }
+        };
+        filtro.doFilter(new MockHttpServletRequest("GET", "/api/pedidos/cozinha"), response, controller);
+        return response.getStatus();
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
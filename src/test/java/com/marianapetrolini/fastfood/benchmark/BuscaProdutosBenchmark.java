@@ -0,0 +1,144 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaProdutos;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a busca de produtos por nome no índice em memória com o LIKE
+ * gerado por findByNomeContainingIgnoreCase no H2.
+ * Executar com: mvn test -Dtest=BuscaProdutosBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BuscaProdutosBenchmark {
+
+    private static final int PRODUTOS = 5_000;
+    private static final int AQUECIMENTO = 2_000;
+    private static final int MEDICOES = 5_000;
+    /** Consultas amplas: cada uma retorna de 10% a 20% do catálogo. */
+    private static final List<String> AMPLAS = Arrays.asList("mac", "batata", "x-b", "suco lar", "torta");
+    /** Consultas seletivas, como as digitadas no totem: poucas dezenas de resultados. */
+    private static final List<String> SELETIVAS = Arrays.asList("big mac duplo", "batata premium",
+        "milk shake 42", "torta kids", "nuggets 1");
+
+    private static final String[] NOMES = {"Big Mac", "X-Burguer", "Batata Frita", "Suco de Laranja",
+        "Torta de Maçã", "Milk Shake", "Cheddar McMelt", "Água com Gás", "Casquinha", "Nuggets"};
+    private static final String[] COMPLEMENTOS = {"Pequeno", "Médio", "Grande", "Duplo", "Especial",
+        "Light", "Tradicional", "da Casa", "Kids", "Premium"};
+
+    @Test
+    void compararIndiceComLike() throws SQLException {
+        // Given
+        List<Produto> produtos = gerarCatalogo();
+        IndiceBuscaProdutos indice = new IndiceBuscaProdutos();
+        indice.recarregar(produtos);
+
+        try (Connection conexao = DriverManager.getConnection("jdbc:h2:mem:benchmark_busca", "sa", "")) {
+            carregarTabela(conexao, produtos);
+            PreparedStatement like = conexao.prepareStatement(
+                "SELECT id, nome, descricao, preco, categoria FROM produtos WHERE UPPER(nome) LIKE UPPER(?)");
+
+            // When
+            medir("amplas", AMPLAS, like, indice);
+            double indiceSeletivas = medir("seletivas", SELETIVAS, like, indice);
+
+            // Then
+            assertTrue(indiceSeletivas < 1_000, "busca seletiva no índice deve ficar abaixo de 1 ms (p50)");
+        }
+    }
+
+    /**
+     * Mede as consultas no LIKE e no índice, intercaladas, e imprime p50/p99.
+     *
+     * @return p50 do índice em microssegundos
+     */
+    private static double medir(String cenario, List<String> consultas, PreparedStatement like,
+                                IndiceBuscaProdutos indice) throws SQLException {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            String consulta = consultas.get(i % consultas.size());
+            executarLike(like, consulta);
+            indice.buscar(consulta);
+        }
+        long[] temposLike = new long[MEDICOES];
+        long[] temposIndice = new long[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            String consulta = consultas.get(i % consultas.size());
+            long inicio = System.nanoTime();
+            executarLike(like, consulta);
+            temposLike[i] = System.nanoTime() - inicio;
+            inicio = System.nanoTime();
+            indice.buscar(consulta);
+            temposIndice[i] = System.nanoTime() - inicio;
+        }
+        System.out.printf("%-9s LIKE:   p50=%.1fus p99=%.1fus%n",
+                          cenario, percentil(temposLike, 0.5), percentil(temposLike, 0.99));
+        System.out.printf("%-9s índice: p50=%.1fus p99=%.1fus%n",
+                          cenario, percentil(temposIndice, 0.5), percentil(temposIndice, 0.99));
+        return percentil(temposIndice, 0.5);
+    }
+
+    private static List<Produto> gerarCatalogo() {
+        List<Produto> produtos = new ArrayList<>(PRODUTOS);
+        CategoriaProduto[] categorias = CategoriaProduto.values();
+        LocalDateTime agora = LocalDateTime.now();
+        for (int i = 0; i < PRODUTOS; i++) {
+            String nome = NOMES[i % NOMES.length] + " " + COMPLEMENTOS[(i / NOMES.length) % COMPLEMENTOS.length] + " " + i;
+            String descricao = "Item " + i + " do cardápio, " + COMPLEMENTOS[i % COMPLEMENTOS.length].toLowerCase();
+            produtos.add(new Produto((long) i + 1, nome, descricao, new BigDecimal("19.90"),
+                                     categorias[i % categorias.length], true, agora, agora));
+        }
+        return produtos;
+    }
+
+    private static void carregarTabela(Connection conexao, List<Produto> produtos) throws SQLException {
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("CREATE TABLE produtos (id BIGINT PRIMARY KEY, nome VARCHAR(100), descricao VARCHAR(500), "
+                        + "preco DECIMAL(10,2), categoria VARCHAR(20))");
+        }
+        try (PreparedStatement insert = conexao.prepareStatement("INSERT INTO produtos VALUES (?, ?, ?, ?, ?)")) {
+            for (Produto produto : produtos) {
+                insert.setLong(1, produto.getId());
+                insert.setString(2, produto.getNome());
+                insert.setString(3, produto.getDescricao());
+                insert.setBigDecimal(4, produto.getPreco());
+                insert.setString(5, produto.getCategoria().name());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private static int executarLike(PreparedStatement like, String consulta) throws SQLException {
+        like.setString(1, "%" + consulta + "%");
+        int linhas = 0;
+        try (ResultSet resultado = like.executeQuery()) {
+            while (resultado.next()) {
+                resultado.getString(2);
+                linhas++;
+            }
+        }
+        return linhas;
+    }
+
+    private static double percentil(long[] tempos, double percentil) {
+        long[] ordenados = tempos.clone();
+        Arrays.sort(ordenados);
+        return ordenados[(int) Math.min(ordenados.length - 1, Math.round(percentil * ordenados.length))] / 1_000.0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.ports.input.PedidoUseCase;
+import com.marianapetrolini.fastfood.infrastructure.coalescencia.PedidoUseCaseCoalescido;
+import com.marianapetrolini.fastfood.infrastructure.coalescencia.VooUnico;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Teste de carga da coalescência na troca de turno: 48 telas pedem a fila da
+ * cozinha ao mesmo tempo, em 30 rodadas, contra um banco simulado (8 conexões,
+ * 15ms por consulta). Compara consultas ao banco e p99 das telas sem e com a
+ * coalescência.
+ * Executar com: mvn test -Dtest=CoalescenciaBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CoalescenciaBenchmark {
+
+    private static final int TELAS = 48;
+    private static final int RODADAS = 30;
+    private static final int CONEXOES = 8;
+    private static final long CONSULTA_MS = 15;
+
+    @Test
+    void compararTrocaDeTurnoSemEComCoalescencia() throws Exception {
+        // Given
+        executar(false);
+
+        // When
+        double[] sem = executar(false);
+        double[] com = executar(true);
+
+        // Then
+        System.out.printf("troca de turno | sem coalescência: %4.0f consultas, p99 %6.1fms"
+                          + " | com coalescência: %4.0f consultas, p99 %6.1fms, %.1f%% das chamadas compartilhadas%n",
+                          sem[0], sem[1], com[0], com[1], com[2] * 100);
+        assertTrue(com[0] * 4 < sem[0]);
+        assertTrue(com[1] < sem[1]);
+    }
+
+    /**
+     * Executa a carga e retorna {consultas ao banco, p99 em ms, taxa de compartilhamento}.
+     */
+    private static double[] executar(boolean coalescer) throws Exception {
+        Semaphore pool = new Semaphore(CONEXOES, true);
+        AtomicInteger consultas = new AtomicInteger();
+        PedidoUseCase banco = mock(PedidoUseCase.class);
+        when(banco.listarPedidosParaCozinha()).thenAnswer(invocacao -> {
+            consultas.incrementAndGet();
+            pool.acquire();
+            try {
+                Thread.sleep(CONSULTA_MS);
+            } finally {
+                pool.release();
+            }
+            return Collections.<PedidoListaResponse>emptyList();
+        });
+        VooUnico vooUnico = new VooUnico("pedidos", new SimpleMeterRegistry());
+        PedidoUseCase useCase = coalescer ? new PedidoUseCaseCoalescido(banco, vooUnico) : banco;
+
+        List<Long> latencias = Collections.synchronizedList(new ArrayList<>());
+        CyclicBarrier trocaDeTurno = new CyclicBarrier(TELAS);
+        ExecutorService telas = Executors.newFixedThreadPool(TELAS);
+        for (int i = 0; i < TELAS; i++) {
+            telas.submit(() -> {
+                for (int rodada = 0; rodada < RODADAS; rodada++) {
+                    trocaDeTurno.await();
+                    long inicio = System.nanoTime();
+                    useCase.listarPedidosParaCozinha();
+                    latencias.add(System.nanoTime() - inicio);
+                }
+                return null;
+            });
+        }
+        telas.shutdown();
+        assertTrue(telas.awaitTermination(5, TimeUnit.MINUTES));
+
+        List<Long> ordenadas = new ArrayList<>(latencias);
+        Collections.sort(ordenadas);
+        long p99 = ordenadas.get((int) Math.ceil(ordenadas.size() * 0.99) - 1);
+        return new double[] {consultas.get(), p99 / 1e6, vooUnico.getTaxaCompartilhadas()};
+    }
+}
@@ -0,0 +1,146 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.infrastructure.isolamento.Compartimento;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.CompartimentosFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de carga dos compartimentos: checkouts contínuos durante uma
+ * tempestade de webhooks, com um pool de conexões compartilhado simulado
+ * (semáforo de 16 conexões, espera máxima de 2s como o Hikari configurado).
+ * Compara o p99 do checkout sem tempestade, com tempestade e sem
+ * compartimentos, e com tempestade e compartimentos (webhook com 4 vagas).
+ * Executar com: mvn test -Dtest=CompartimentosBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CompartimentosBenchmark {
+
+    private static final int CONEXOES = 16;
+    private static final int THREADS_WEBHOOK = 64;
+    private static final int THREADS_CHECKOUT = 8;
+    private static final int CHECKOUTS_POR_THREAD = 150;
+    private static final long WEBHOOK_MS = 15;
+    private static final long CHECKOUT_MS = 4;
+
+    @Test
+    void compararP99DoCheckoutDuranteTempestadeDeWebhooks() throws Exception {
+        // Given
+        executar(false, false);
+        double base = executar(false, false)[0];
+
+        // When
+        double[] semCompartimentos = executar(true, false);
+        double[] comCompartimentos = executar(true, true);
+
+        // Then
+        System.out.printf("checkout p99: sem tempestade %6.1fms | tempestade sem compartimentos %6.1fms"
+                          + " | tempestade com compartimentos %6.1fms (%d webhooks recusados com 503)%n",
+                          base, semCompartimentos[0], comCompartimentos[0], (long) comCompartimentos[1]);
+        assertTrue(comCompartimentos[0] < semCompartimentos[0] / 2);
+    }
+
+    /**
+     * Executa a carga e retorna {p99 do checkout em ms, webhooks recusados}.
+     */
+    private static double[] executar(boolean tempestade, boolean compartimentos) throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CompartimentosFilter filtro = new CompartimentosFilter();
+        if (compartimentos) {
+            filtro.registrar("POST /api/pagamentos/webhook", new Compartimento("webhook", 4, 20, registry));
+            filtro.registrar("POST /api/pedidos/checkout", new Compartimento("checkout", 12, 200, registry));
+        }
+        Semaphore pool = new Semaphore(CONEXOES, true);
+        AtomicBoolean ativo = new AtomicBoolean(true);
+        AtomicInteger recusados = new AtomicInteger();
+        List<Long> latencias = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService webhooks = Executors.newFixedThreadPool(THREADS_WEBHOOK);
+        if (tempestade) {
+            for (int i = 0; i < THREADS_WEBHOOK; i++) {
+                webhooks.submit(() -> {
+                    while (ativo.get()) {
+                        if (requisicao(filtro, "/api/pagamentos/webhook", pool, WEBHOOK_MS) == 503) {
+                            recusados.incrementAndGet();
+                            dormir(1);
+                        }
+                    }
+                    return null;
+                });
+            }
+            dormir(200);
+        }
+
+        ExecutorService checkouts = Executors.newFixedThreadPool(THREADS_CHECKOUT);
+        for (int i = 0; i < THREADS_CHECKOUT; i++) {
+            checkouts.submit(() -> {
+                for (int j = 0; j < CHECKOUTS_POR_THREAD; j++) {
+                    long inicio = System.nanoTime();
+                    requisicao(filtro, "/api/pedidos/checkout", pool, CHECKOUT_MS);
+                    latencias.add(System.nanoTime() - inicio);
+                }
+                return null;
+            });
+        }
+        checkouts.shutdown();
+        assertTrue(checkouts.awaitTermination(5, TimeUnit.MINUTES));
+        ativo.set(false);
+        webhooks.shutdown();
+        assertTrue(webhooks.awaitTermination(1, TimeUnit.MINUTES));
+
+        List<Long> ordenadas = new ArrayList<>(latencias);
+        Collections.sort(ordenadas);
+        long p99 = ordenadas.get((int) Math.ceil(ordenadas.size() * 0.99) - 1);
+        return new double[] {p99 / 1e6, recusados.get()};
+    }
+
+    /**
+     * Passa a requisição pelo filtro; o "controller" ocupa uma conexão do pool pelo tempo informado.
+     */
+    private static int requisicao(CompartimentosFilter filtro, String caminho, Semaphore pool, long ms)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain controller = (req, res) -> {
+            try {
+                if (!pool.tryAcquire(2, TimeUnit.SECONDS)) {
+                    ((MockHttpServletResponse) res).setStatus(500);
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                dormir(ms);
+            } finally {
+                pool.release();
+            }
+        };
+        filtro.doFilter(new MockHttpServletRequest("POST", caminho), response, controller);
+        return response.getStatus();
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara JSON, CBOR e Smile nas respostas das telas da cozinha
+ * (fila de pedidos) e dos totens (cardápio): tamanho com e sem gzip e
+ * tempo de codificação e decodificação por resposta.
+ * Executar com: mvn test -Dtest=FormatosBinariosBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FormatosBinariosBenchmark {
+
+    private static final int PEDIDOS = 100;
+    private static final int PRODUTOS = 80;
+    private static final int AQUECIMENTO = 5_000;
+    private static final int MEDICOES = 5_000;
+
+    @Test
+    void medirFormatos() throws IOException {
+        // Given
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        ObjectMapper smile = Jackson2ObjectMapperBuilder.smile()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        List<PedidoListaResponse> fila = gerarFila();
+        List<ProdutoResponse> cardapio = gerarCardapio();
+        TypeReference<List<PedidoListaResponse>> tipoFila = new TypeReference<List<PedidoListaResponse>>() { };
+        TypeReference<List<ProdutoResponse>> tipoCardapio = new TypeReference<List<ProdutoResponse>>() { };
+
+        // When / Then
+        for (ObjectMapper mapper : new ObjectMapper[] {json, cbor, smile}) {
+            medir("GET /api/pedidos/cozinha", mapper, json, fila, tipoFila);
+        }
+        for (ObjectMapper mapper : new ObjectMapper[] {json, cbor, smile}) {
+            medir("GET /api/produtos", mapper, json, cardapio, tipoCardapio);
+        }
+    }
+
+    private <T> void medir(String endpoint, ObjectMapper mapper, ObjectMapper json, List<T> lista,
+                           TypeReference<List<T>> tipo) throws IOException {
+        JavaType javaType = mapper.getTypeFactory().constructType(tipo);
+        ObjectWriter writer = mapper.writerFor(javaType);
+        ObjectReader reader = mapper.readerFor(javaType);
+        byte[] corpo = writer.writeValueAsBytes(lista);
+        assertEquals(json.writeValueAsString(lista), json.writeValueAsString(reader.readValue(corpo)));
+
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            reader.readValue(writer.writeValueAsBytes(lista));
+        }
+        long codificacao = 0;
+        long decodificacao = 0;
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = System.nanoTime();
+            byte[] saida = writer.writeValueAsBytes(lista);
+            long meio = System.nanoTime();
+            reader.readValue(saida);
+            decodificacao += System.nanoTime() - meio;
+            codificacao += meio - inicio;
+        }
+
+        System.out.printf("%-25s %-5s %3d itens | %6d B, gzip %5d B | codificação %5.0fus, decodificação %5.0fus%n",
+                          endpoint, formato(mapper), lista.size(), corpo.length, gzip(corpo).length,
+                          codificacao / 1_000.0 / MEDICOES, decodificacao / 1_000.0 / MEDICOES);
+    }
+
+    private static String formato(ObjectMapper mapper) {
+        return mapper.getFactory().getFormatName().toUpperCase();
+    }
+
+    private static byte[] gzip(byte[] dados) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(dados.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(dados);
+        }
+        return saida.toByteArray();
+    }
+
+    private static List<PedidoListaResponse> gerarFila() {
+        String[] status = {"PRONTO", "EM_PREPARACAO", "RECEBIDO"};
+        String[] itens = {"2x Big Mac, 1x Batata Frita Média, 2x Refrigerante 500ml", "1x McChicken, 1x Torta de Maçã",
+            "3x Cheeseburger, 3x Refrigerante 500ml", "1x Salada Caesar"};
+        LocalDateTime agora = LocalDateTime.now();
+        List<PedidoListaResponse> fila = new ArrayList<>(PEDIDOS);
+        for (int i = 0; i < PEDIDOS; i++) {
+            fila.add(new PedidoListaResponse((long) 10_000 + i, "Cliente Número " + i, status[i % status.length],
+                                             itens[i % itens.length], new BigDecimal("38.70").add(BigDecimal.valueOf(i)),
+                                             1 + i % 5, agora.minusMinutes(i), 1 + i % status.length));
+        }
+        return fila;
+    }
+
+    private static List<ProdutoResponse> gerarCardapio() {
+        CategoriaProduto[] categorias = CategoriaProduto.values();
+        LocalDateTime agora = LocalDateTime.now();
+        List<ProdutoResponse> cardapio = new ArrayList<>(PRODUTOS);
+        for (int i = 0; i < PRODUTOS; i++) {
+            CategoriaProduto categoria = categorias[i % categorias.length];
+            cardapio.add(new ProdutoResponse((long) i + 1, "Produto " + i + " " + categoria.getDescricao(),
+                                             "Descrição do produto " + i + " com ingredientes selecionados",
+                                             new BigDecimal("9.90").add(BigDecimal.valueOf(i)), categoria.name(),
+                                             true, agora, agora));
+        }
+        return cardapio;
+    }
+}
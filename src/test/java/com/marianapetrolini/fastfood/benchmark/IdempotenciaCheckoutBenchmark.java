@@ -0,0 +1,129 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutRequest;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutResponse;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ChavesIdempotenciaAdapter;
+import com.marianapetrolini.fastfood.infrastructure.idempotencia.CheckoutIdempotente;
+import com.marianapetrolini.fastfood.infrastructure.idempotencia.CheckoutIdempotente.Situacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede o custo do checkout idempotente no H2 (esquema das migrações):
+ * primeira requisição (reserva e conclusão da chave), repetição no mesmo pod
+ * (memória) e repetição em outro pod (banco), além de 16 repetições
+ * simultâneas da mesma chave. O checkout em si é simulado e só conta as
+ * execuções; o tempo medido é o que a idempotência acrescenta ou economiza.
+ * Executar com: mvn test -Dtest=IdempotenciaCheckoutBenchmark -Dbenchmark=true
+ */
+@DataJpaTest
+@Import(ChavesIdempotenciaAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "logging.level.org.hibernate.SQL=WARN",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+    "logging.level.org.hibernate.engine.jdbc=OFF"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdempotenciaCheckoutBenchmark {
+
+    private static final int CHAVES = 2000;
+    private static final int SIMULTANEAS = 16;
+
+    @Autowired
+    private ChavesIdempotenciaAdapter chaves;
+
+    @Test
+    void medirPrimeiraRequisicaoERepeticoes() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper();
+        CheckoutIdempotente pod = new CheckoutIdempotente(chaves, objectMapper, new SimpleMeterRegistry(),
+            Duration.ofHours(24), Duration.ofSeconds(60), CHAVES);
+        CheckoutIdempotente outroPod = new CheckoutIdempotente(chaves, objectMapper, new SimpleMeterRegistry(),
+            Duration.ofHours(24), Duration.ofSeconds(60), CHAVES);
+        AtomicInteger execucoes = new AtomicInteger();
+        CheckoutRequest request = new CheckoutRequest(
+            new CheckoutRequest.ClienteRequest("Maria Santos", "52998224725", "maria@email.com"),
+            Collections.singletonList(new CheckoutRequest.ItemPedidoRequest(1L, 2)), "PIX");
+        Supplier<CheckoutResponse> checkout = () -> new CheckoutResponse((long) execucoes.incrementAndGet(),
+            "RECEBIDO", new BigDecimal("25.90"), "PIX", "Pedido realizado");
+        medir(pod, "aquecimento-", request, checkout, Situacao.EXECUTADO);
+        medir(pod, "aquecimento-", request, checkout, Situacao.REPETIDO);
+        execucoes.set(0);
+
+        // When
+        double primeira = medir(pod, "chave-", request, checkout, Situacao.EXECUTADO);
+        double mesmoPod = medir(pod, "chave-", request, checkout, Situacao.REPETIDO);
+        double outroPodBanco = medir(outroPod, "chave-", request, checkout, Situacao.REPETIDO);
+        double outroPodMemoria = medir(outroPod, "chave-", request, checkout, Situacao.REPETIDO);
+
+        ExecutorService totens = Executors.newFixedThreadPool(SIMULTANEAS);
+        List<Callable<Situacao>> tentativas = new ArrayList<>();
+        for (int i = 0; i < SIMULTANEAS; i++) {
+            CheckoutIdempotente alvo = i % 2 == 0 ? pod : outroPod;
+            tentativas.add(() -> alvo.executar("simultanea", request, () -> {
+                CheckoutResponse resposta = checkout.get();
+                dormir(50);
+                return resposta;
+            }).getSituacao());
+        }
+        List<Situacao> situacoes = new ArrayList<>();
+        for (Future<Situacao> situacao : totens.invokeAll(tentativas)) {
+            situacoes.add(situacao.get());
+        }
+        totens.shutdown();
+
+        // Then
+        System.out.printf("por requisição: primeira %7.1fµs | repetição no mesmo pod %5.1fµs"
+                          + " | em outro pod: banco %6.1fµs, depois memória %5.1fµs%n",
+                          primeira, mesmoPod, outroPodBanco, outroPodMemoria);
+        System.out.printf("%d repetições simultâneas: %d executada, %d em andamento (409)%n", SIMULTANEAS,
+                          Collections.frequency(situacoes, Situacao.EXECUTADO),
+                          Collections.frequency(situacoes, Situacao.EM_ANDAMENTO));
+        assertEquals(CHAVES + 1, execucoes.get());
+        assertEquals(1, Collections.frequency(situacoes, Situacao.EXECUTADO));
+        assertTrue(mesmoPod * 10 < primeira);
+    }
+
+    /**
+     * Executa uma requisição por chave e retorna o tempo médio em microssegundos.
+     */
+    private static double medir(CheckoutIdempotente idempotente, String prefixo, CheckoutRequest request,
+                                Supplier<CheckoutResponse> checkout, Situacao esperada) {
+        long inicio = System.nanoTime();
+        for (int i = 0; i < CHAVES; i++) {
+            assertEquals(esperada, idempotente.executar(prefixo + i, request, checkout).getSituacao());
+        }
+        return (System.nanoTime() - inicio) / 1e3 / CHAVES;
+    }
+
+    private static void dormir(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
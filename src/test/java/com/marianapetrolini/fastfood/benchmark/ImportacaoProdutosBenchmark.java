@@ -0,0 +1,122 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.application.dtos.produto.AtualizarProdutoRequest;
+import com.marianapetrolini.fastfood.application.dtos.produto.CriarProdutoRequest;
+import com.marianapetrolini.fastfood.application.dtos.produto.ImportacaoProdutosResponse;
+import com.marianapetrolini.fastfood.application.usecases.produto.ProdutoUseCaseImpl;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ProdutoRepositoryAdapter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a carga e o reajuste de preços de um cardápio de 500 itens pelo
+ * caminho item a item (criarProduto/atualizarProduto) com a importação em lote,
+ * contando statements JDBC e tempo no H2.
+ * Executar com: mvn test -Dtest=ImportacaoProdutosBenchmark -Dbenchmark=true
+ */
+@DataJpaTest
+@Import(ProdutoRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ImportacaoProdutosBenchmark {
+
+    private static final int ITENS = 500;
+    private static final int RODADAS = 5;
+
+    @Autowired
+    private ProdutoRepositoryAdapter produtoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void compararItemAItemComImportacao() {
+        // Given
+        ProdutoUseCaseImpl useCase = new ProdutoUseCaseImpl(produtoRepository);
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int rodada = 0; rodada <= RODADAS; rodada++) {
+            boolean aquecimento = rodada == 0;
+
+            // When - item a item
+            String itemAItem = "Item " + rodada + " ";
+            List<Long> ids = new ArrayList<>(ITENS);
+            long[] cargaItemAItem = medir(estatisticas, () -> {
+                for (CriarProdutoRequest item : cardapio(itemAItem, BigDecimal.ZERO)) {
+                    ids.add(useCase.criarProduto(item).getId());
+                }
+            });
+            long[] reajusteItemAItem = medir(estatisticas, () -> {
+                List<CriarProdutoRequest> reajustados = cardapio(itemAItem, BigDecimal.ONE);
+                for (int i = 0; i < ITENS; i++) {
+                    CriarProdutoRequest item = reajustados.get(i);
+                    useCase.atualizarProduto(ids.get(i), new AtualizarProdutoRequest(
+                        item.getNome(), item.getDescricao(), item.getPreco(), item.getCategoria()));
+                }
+            });
+
+            // When - importação em lote
+            String lote = "Lote " + rodada + " ";
+            ImportacaoProdutosResponse[] respostas = new ImportacaoProdutosResponse[2];
+            long[] cargaLote = medir(estatisticas,
+                () -> respostas[0] = useCase.importarProdutos(cardapio(lote, BigDecimal.ZERO)));
+            long[] reajusteLote = medir(estatisticas,
+                () -> respostas[1] = useCase.importarProdutos(cardapio(lote, BigDecimal.ONE)));
+
+            // Then
+            assertEquals(ITENS, respostas[0].getCriados());
+            assertEquals(ITENS, respostas[1].getAtualizados());
+            assertEquals(new BigDecimal("11.90"),
+                         produtoRepository.buscarPorNomes(Collections.singletonList(lote + "1")).get(0).getPreco());
+            if (!aquecimento) {
+                System.out.printf("rodada %d | carga: item a item %4d statements %5.1fms, lote %4d statements %5.1fms"
+                                  + " | reajuste: item a item %4d statements %5.1fms, lote %4d statements %5.1fms%n",
+                                  rodada, cargaItemAItem[0], cargaItemAItem[1] / 1e6, cargaLote[0], cargaLote[1] / 1e6,
+                                  reajusteItemAItem[0], reajusteItemAItem[1] / 1e6,
+                                  reajusteLote[0], reajusteLote[1] / 1e6);
+            }
+        }
+    }
+
+    /**
+     * Executa a operação e retorna {statements preparados, nanossegundos}.
+     */
+    private static long[] medir(Statistics estatisticas, Runnable operacao) {
+        estatisticas.clear();
+        long inicio = System.nanoTime();
+        operacao.run();
+        long tempo = System.nanoTime() - inicio;
+        return new long[] {estatisticas.getPrepareStatementCount(), tempo};
+    }
+
+    private static List<CriarProdutoRequest> cardapio(String prefixo, BigDecimal reajuste) {
+        CategoriaProduto[] categorias = CategoriaProduto.values();
+        Function<Integer, BigDecimal> preco = i -> new BigDecimal("9.90").add(BigDecimal.valueOf(i % 40)).add(reajuste);
+        List<CriarProdutoRequest> itens = new ArrayList<>(ITENS);
+        for (int i = 0; i < ITENS; i++) {
+            CategoriaProduto categoria = categorias[i % categorias.length];
+            itens.add(new CriarProdutoRequest(prefixo + i, "Descrição do produto " + i, preco.apply(i),
+                                              categoria.name()));
+        }
+        return itens;
+    }
+}
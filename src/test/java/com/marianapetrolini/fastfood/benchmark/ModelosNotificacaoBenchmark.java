@@ -0,0 +1,126 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.infrastructure.adapters.external.ModeloNotificacao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede CPU e bytes alocados por mensagem na montagem dos textos de
+ * notificação: String.format com o padrão a cada chamada contra o modelo
+ * pré-compilado, para os tipos fixos e para uma campanha com variáveis por
+ * destinatário, e o id da notificação com UUID.randomUUID contra
+ * ThreadLocalRandom.
+ * Executar com: mvn test -Dtest=ModelosNotificacaoBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ModelosNotificacaoBenchmark {
+
+    private static final int AQUECIMENTO = 200_000;
+    private static final int MEDICOES = 1_000_000;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compararStringFormatComModelos() {
+        ModeloNotificacao pronto = ModeloNotificacao.compilar(
+            "Olá! Seu pedido #{numeroPedido} está pronto para retirada. "
+            + "Dirija-se ao balcão de retirada com este número. Obrigado pela preferência!", "numeroPedido");
+        medir("PEDIDO_PRONTO",
+              () -> String.format("Olá! Seu pedido #%s está pronto para retirada. "
+                                  + "Dirija-se ao balcão de retirada com este número. Obrigado pela preferência!",
+                                  numero()),
+              () -> pronto.renderizar(numero()));
+
+        ModeloNotificacao status = ModeloNotificacao.compilar(
+            "Seu pedido #{numeroPedido} teve o status atualizado para: {status}. "
+            + "Acompanhe o progresso pelo painel de pedidos.", "numeroPedido", "status");
+        medir("MUDANCA_STATUS",
+              () -> String.format("Seu pedido #%s teve o status atualizado para: %s. "
+                                  + "Acompanhe o progresso pelo painel de pedidos.", numero(), "Em preparação"),
+              () -> status.renderizar(numero(), "Em preparação"));
+
+        ModeloNotificacao aprovado = ModeloNotificacao.compilar(
+            "Seu pagamento de R$ {valorPago} foi aprovado com sucesso! Pedido #{numeroPedido} confirmado e enviado "
+            + "para a cozinha. Tempo estimado: 15-20 minutos.", "numeroPedido", "valorPago");
+        medir("PAGAMENTO_APROVADO",
+              () -> String.format("Seu pagamento de R$ %s foi aprovado com sucesso! Pedido #%s confirmado e enviado "
+                                  + "para a cozinha. Tempo estimado: 15-20 minutos.", "25.90", numero()),
+              () -> aprovado.renderizar(numero(), "25.90"));
+
+        ModeloNotificacao alerta = ModeloNotificacao.compilar(
+            "ATENÇÃO: Pedido #{numeroPedido} está com tempo de espera de {tempoEspera} minutos. "
+            + "Verificar status na cozinha e priorizar se necessário.", "numeroPedido", "tempoEspera");
+        medir("ALERTA_TEMPO_ESPERA",
+              () -> String.format("ATENÇÃO: Pedido #%s está com tempo de espera de %d minutos. "
+                                  + "Verificar status na cozinha e priorizar se necessário.", numero(), 45),
+              () -> alerta.renderizar(numero(), 45));
+
+        ModeloNotificacao campanha = ModeloNotificacao.compilarLivre(
+            "Oi {destinatario}! Só hoje: {produto} com {desconto}% de desconto usando o cupom {cupom}.");
+        medir("CAMPANHA_PROMOCIONAL",
+              () -> String.format("Oi %s! Só hoje: %s com %s%% de desconto usando o cupom %s.",
+                                  email(), "Big Mac", "30", "BIGMAC30"),
+              () -> campanha.renderizar(nome -> "destinatario".equals(nome) ? email()
+                  : "produto".equals(nome) ? "Big Mac" : "desconto".equals(nome) ? "30" : "BIGMAC30"));
+
+        medir("id (UUID)",
+              () -> UUID.randomUUID().toString(),
+              () -> {
+                  ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                  return new UUID((aleatorio.nextLong() & ~0xF000L) | 0x4000L,
+                                  (aleatorio.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L).toString();
+              });
+    }
+
+    private void medir(String tipo, Supplier<String> atual, Supplier<String> novo) {
+        if (!tipo.startsWith("id")) {
+            assertEquals(atual.get(), novo.get());
+        }
+
+        int tamanho = 0;
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            tamanho += atual.get().length() + novo.get().length();
+        }
+        long[] cpuAtual = executar(atual);
+        long[] cpuNovo = executar(novo);
+
+        System.out.printf("%-22s | atual %6.0fns %5d B/msg | pré-compilado %5.0fns %4d B/msg (%.1fx)%n",
+                          tipo, (double) cpuAtual[0] / MEDICOES, cpuAtual[1] / MEDICOES,
+                          (double) cpuNovo[0] / MEDICOES, cpuNovo[1] / MEDICOES,
+                          (double) cpuAtual[0] / cpuNovo[0]);
+        assertTrue(tamanho > 0);
+    }
+
+    /**
+     * Executa a montagem e retorna {nanossegundos de CPU, bytes alocados}.
+     */
+    private long[] executar(Supplier<String> montagem) {
+        long id = Thread.currentThread().getId();
+        long bytes = threads.getThreadAllocatedBytes(id);
+        long inicio = threads.getCurrentThreadCpuTime();
+        int tamanho = 0;
+        for (int i = 0; i < MEDICOES; i++) {
+            tamanho += montagem.get().length();
+        }
+        long cpu = threads.getCurrentThreadCpuTime() - inicio;
+        long alocados = threads.getThreadAllocatedBytes(id) - bytes;
+        assertTrue(tamanho > 0);
+        return new long[] {cpu, alocados};
+    }
+
+    private String numero() {
+        return "1234";
+    }
+
+    private String email() {
+        return "cliente@email.com";
+    }
+}
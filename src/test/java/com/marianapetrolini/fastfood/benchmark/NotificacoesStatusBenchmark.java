@@ -0,0 +1,143 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.application.ports.output.NotificacaoPort;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.notificacao.NotificadorStatusPedidos;
+import com.marianapetrolini.fastfood.infrastructure.scheduling.RodaTemporizadora;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Compara o envio das notificações de status dentro da mudança de status com
+ * o envio pelo notificador: 200 pedidos passam por EM_PREPARACAO, PRONTO logo
+ * em seguida (cozinha marca os dois no mesmo toque) e FINALIZADO depois da
+ * janela, contra um provedor simulado de 5ms por mensagem. Mede o tempo
+ * gasto na mudança de status e as mensagens enviadas.
+ * Executar com: mvn test -Dtest=NotificacoesStatusBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NotificacoesStatusBenchmark {
+
+    private static final int PEDIDOS = 200;
+    private static final long PROVEDOR_MS = 5;
+
+    @Test
+    void compararEnvioNaMudancaComNotificador() throws Exception {
+        // Given
+        executar(false);
+
+        // When
+        double[] naMudanca = executar(false);
+        double[] notificador = executar(true);
+
+        // Then
+        System.out.printf("mudanças de status | envio na mudança: %3.0f mensagens, p50 %6.3fms, p99 %6.3fms"
+                          + " | notificador: %3.0f mensagens, p50 %6.3fms, p99 %6.3fms%n",
+                          naMudanca[0], naMudanca[1], naMudanca[2], notificador[0], notificador[1], notificador[2]);
+        assertEquals(PEDIDOS * 3, naMudanca[0]);
+        assertEquals(PEDIDOS * 2, notificador[0]);
+        assertTrue(notificador[2] < naMudanca[1]);
+    }
+
+    /**
+     * Executa as mudanças e retorna {mensagens enviadas, p50 em ms, p99 em ms} do tempo na mudança de status.
+     */
+    private static double[] executar(boolean comNotificador) throws Exception {
+        AtomicInteger mensagens = new AtomicInteger();
+        Answer<Object> provedor = invocacao -> {
+            Thread.sleep(PROVEDOR_MS);
+            mensagens.incrementAndGet();
+            return null;
+        };
+        NotificacaoPort notificacaoPort = mock(NotificacaoPort.class);
+        when(notificacaoPort.notificarPedidoPronto(anyLong(), any(), any())).thenAnswer(provedor);
+        when(notificacaoPort.notificarMudancaStatus(anyLong(), any(), any(), any(), any())).thenAnswer(provedor);
+
+        AtomicLong agora = new AtomicLong();
+        RodaTemporizadora roda = new RodaTemporizadora(1, TimeUnit.SECONDS, 8, 2, agora::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        NotificadorStatusPedidos notificador = new NotificadorStatusPedidos(
+            roda, notificacaoPort, executor::execute, new SimpleMeterRegistry(), 2000);
+
+        List<Pedido> pedidos = new ArrayList<>(PEDIDOS);
+        for (int i = 0; i < PEDIDOS; i++) {
+            pedidos.add(novoPedido(i + 1L));
+        }
+        List<Long> tempos = new ArrayList<>(PEDIDOS * 3);
+        try {
+            for (Pedido pedido : pedidos) {
+                pedido.iniciarPreparacao();
+                tempos.add(mudar(pedido, StatusPedido.RECEBIDO, comNotificador, notificador, notificacaoPort));
+                pedido.marcarComoPronto();
+                tempos.add(mudar(pedido, StatusPedido.EM_PREPARACAO, comNotificador, notificador, notificacaoPort));
+            }
+            esperarJanela(roda, agora, notificador);
+            for (Pedido pedido : pedidos) {
+                pedido.finalizar();
+                tempos.add(mudar(pedido, StatusPedido.PRONTO, comNotificador, notificador, notificacaoPort));
+            }
+            esperarJanela(roda, agora, notificador);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        Collections.sort(tempos);
+        return new double[] {mensagens.get(), tempos.get(tempos.size() / 2) / 1e6,
+                             tempos.get((int) (tempos.size() * 0.99)) / 1e6};
+    }
+
+    private static long mudar(Pedido pedido, StatusPedido anterior, boolean comNotificador,
+                              NotificadorStatusPedidos notificador, NotificacaoPort notificacaoPort) {
+        long inicio = System.nanoTime();
+        if (comNotificador) {
+            notificador.statusAlterado(pedido, anterior);
+        } else if (pedido.getStatus() == StatusPedido.PRONTO) {
+            notificacaoPort.notificarPedidoPronto(pedido.getId(), "cliente@email.com", String.valueOf(pedido.getId()));
+        } else {
+            notificacaoPort.notificarMudancaStatus(pedido.getId(), "cliente@email.com", anterior,
+                                                   pedido.getStatus(), String.valueOf(pedido.getId()));
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    private static void esperarJanela(RodaTemporizadora roda, AtomicLong agora,
+                                      NotificadorStatusPedidos notificador) throws InterruptedException {
+        agora.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        roda.avancar();
+        while (notificador.getPendentes() > 0) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static Pedido novoPedido(long id) {
+        Cliente cliente = new Cliente("Cliente " + id, new Email("cliente@email.com"));
+        Produto produto = new Produto("Big Mac", "Hambúrguer", new BigDecimal("25.90"), CategoriaProduto.LANCHE);
+        Pedido pedido = new Pedido(cliente, Collections.singletonList(new ItemPedido(produto, 1)));
+        pedido.setId(id);
+        return pedido;
+    }
+}
@@ -0,0 +1,131 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.application.dtos.produto.AtualizarProdutoRequest;
+import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
+import com.marianapetrolini.fastfood.application.ports.input.ClienteUseCase;
+import com.marianapetrolini.fastfood.application.ports.input.ProdutoUseCase;
+import com.marianapetrolini.fastfood.application.usecases.cliente.ClienteUseCaseImpl;
+import com.marianapetrolini.fastfood.application.usecases.produto.ProdutoUseCaseImpl;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ClienteRepositoryAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ClientesRemovidosAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ProdutoRepositoryAdapter;
+import com.marianapetrolini.fastfood.infrastructure.config.ReplicaLeituraConfig;
+import com.marianapetrolini.fastfood.infrastructure.replica.ContextoRoteamento;
+import com.marianapetrolini.fastfood.infrastructure.replica.LeituraEmReplica;
+import com.marianapetrolini.fastfood.infrastructure.replica.RoteamentoDataSource;
+import com.marianapetrolini.fastfood.infrastructure.replica.RoteamentoDataSource.Destino;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede quantas conexões do primário uma carga típica de balcão consome com e
+ * sem o roteamento de consultas para a réplica: para cada alteração de
+ * produto, 9 consultas ao cardápio e 1 listagem de clientes.
+ * A réplica é um segundo pool no mesmo banco H2 (app.datasource.replica.url).
+ * Executar com: mvn test -Dtest=ReplicaLeituraBenchmark -Dbenchmark=true
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaLeituraConfig.class, ProdutoRepositoryAdapter.class, ClienteRepositoryAdapter.class,
+         ClientesRemovidosAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReplicaLeituraBenchmark {
+
+    private static final int CICLOS = 500;
+    private static final int RODADAS = 5;
+
+    @Autowired
+    private RoteamentoDataSource roteamento;
+
+    @Autowired
+    private ProdutoRepositoryAdapter produtoRepository;
+
+    @Autowired
+    private ClienteRepositoryAdapter clienteRepository;
+
+    @Test
+    void compararCargaNoPrimario() {
+        // Given
+        ProdutoUseCase produtos = new ProdutoUseCaseImpl(produtoRepository);
+        ClienteUseCase clientes = new ClienteUseCaseImpl(clienteRepository, null);
+        ProdutoUseCase produtosRoteados = (ProdutoUseCase) LeituraEmReplica.envolver(produtos);
+        ClienteUseCase clientesRoteados = (ClienteUseCase) LeituraEmReplica.envolver(clientes);
+
+        for (int rodada = 0; rodada <= RODADAS; rodada++) {
+            // When
+            long[] semReplica = medir(() -> carga(produtos, clientes));
+            long[] comReplica = medir(() -> carga(produtosRoteados, clientesRoteados));
+
+            // Then
+            assertEquals(0, semReplica[1]);
+            assertEquals(semReplica[0], comReplica[0] + comReplica[1]);
+            assertTrue(comReplica[0] < semReplica[0] / 2);
+            if (rodada > 0) {
+                System.out.printf("rodada %d | sem réplica: primário %5d conexões %6.1fms"
+                                  + " | com réplica: primário %5d, réplica %5d conexões %6.1fms%n",
+                                  rodada, semReplica[0], semReplica[2] / 1e6,
+                                  comReplica[0], comReplica[1], comReplica[2] / 1e6);
+            }
+        }
+    }
+
+    @Test
+    void deveLerAsPropriasEscritasNoPrimario() {
+        // Given
+        ProdutoUseCase produtosRoteados =
+            (ProdutoUseCase) LeituraEmReplica.envolver(new ProdutoUseCaseImpl(produtoRepository));
+
+        // When
+        ContextoRoteamento.forcarPrimario();
+        long[] conexoes;
+        try {
+            conexoes = medir(() -> produtosRoteados.listarProdutosDisponiveis());
+        } finally {
+            ContextoRoteamento.liberarPrimario();
+        }
+
+        // Then
+        assertEquals(1, conexoes[0]);
+        assertEquals(0, conexoes[1]);
+    }
+
+    private static void carga(ProdutoUseCase produtos, ClienteUseCase clientes) {
+        List<ProdutoResponse> cardapio = produtos.listarProdutosDisponiveis();
+        for (int i = 0; i < CICLOS; i++) {
+            ProdutoResponse produto = cardapio.get(i % cardapio.size());
+            for (int consulta = 0; consulta < 3; consulta++) {
+                produtos.listarProdutosDisponiveis();
+                produtos.listarProdutosDisponiveisPorCategoria(CategoriaProduto.LANCHE);
+                produtos.buscarProdutoPorId(produto.getId());
+            }
+            clientes.listarTodosClientes();
+            produtos.atualizarProduto(produto.getId(), new AtualizarProdutoRequest(
+                produto.getNome(), produto.getDescricao(), produto.getPreco(), produto.getCategoria()));
+        }
+    }
+
+    /**
+     * Executa a carga e retorna {conexões no primário, conexões na réplica, nanossegundos}.
+     */
+    private long[] medir(Runnable carga) {
+        long primario = roteamento.getConexoes(Destino.PRIMARIO);
+        long replica = roteamento.getConexoes(Destino.REPLICA);
+        long inicio = System.nanoTime();
+        carga.run();
+        long tempo = System.nanoTime() - inicio;
+        return new long[] {roteamento.getConexoes(Destino.PRIMARIO) - primario,
+                           roteamento.getConexoes(Destino.REPLICA) - replica, tempo};
+    }
+}
@@ -0,0 +1,138 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteResponse;
+import com.marianapetrolini.fastfood.application.dtos.pagamento.PagamentoResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pagamento;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CPF;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.MetodoPagamento;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede bytes trafegados e CPU por requisição das listagens de pedidos,
+ * pagamentos e clientes: serialização JSON pelo caminho padrão do Spring MVC
+ * (writer criado a cada resposta) e o custo e o tamanho com gzip.
+ * Executar com: mvn test -Dtest=SerializacaoBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SerializacaoBenchmark {
+
+    private static final int PEDIDOS = 200;
+    private static final int CLIENTES = 500;
+    private static final int AQUECIMENTO = 3_000;
+    private static final int MEDICOES = 3_000;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void medirSerializacao() throws IOException {
+        // Given
+        ObjectMapper padrao = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        List<Pedido> pedidos = gerarPedidos();
+        List<PedidoResponse> listaPedidos = new ArrayList<>();
+        List<PagamentoResponse> listaPagamentos = new ArrayList<>();
+        List<ClienteResponse> listaClientes = new ArrayList<>();
+        for (Pedido pedido : pedidos) {
+            listaPedidos.add(PedidoResponse.fromEntity(pedido));
+            Pagamento pagamento = new Pagamento(pedido, MetodoPagamento.PIX, pedido.getValorTotal());
+            pagamento.setId(pedido.getId());
+            listaPagamentos.add(PagamentoResponse.fromEntity(pagamento));
+        }
+        for (int i = 0; i < CLIENTES; i++) {
+            listaClientes.add(ClienteResponse.fromEntity(pedidos.get(i % pedidos.size()).getCliente()));
+        }
+
+        // When / Then
+        medir("GET /api/pedidos", padrao, listaPedidos, PedidoResponse.class);
+        medir("GET /api/pagamentos", padrao, listaPagamentos, PagamentoResponse.class);
+        medir("GET /api/clientes", padrao, listaClientes, ClienteResponse.class);
+    }
+
+    private void medir(String endpoint, ObjectMapper padrao, List<?> lista, Class<?> tipo) throws IOException {
+        JavaType javaType = padrao.getTypeFactory().constructCollectionType(List.class, tipo);
+
+        byte[] json = padrao.writer().forType(javaType).writeValueAsBytes(lista);
+        byte[] gzip = gzip(json);
+        assertTrue(gzip.length < json.length);
+
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            gzip(padrao.writer().forType(javaType).writeValueAsBytes(lista));
+        }
+        long cpuJson = 0;
+        long cpuGzip = 0;
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = threads.getCurrentThreadCpuTime();
+            byte[] saida = padrao.writer().forType(javaType).writeValueAsBytes(lista);
+            long meio = threads.getCurrentThreadCpuTime();
+            gzip(saida);
+            cpuGzip += threads.getCurrentThreadCpuTime() - meio;
+            cpuJson += meio - inicio;
+        }
+
+        System.out.printf("%-20s %4d itens | JSON %7d B, gzip %6d B (%.0f%%) | CPU/req JSON %.0fus, gzip +%.0fus%n",
+                          endpoint, lista.size(), json.length, gzip.length, 100.0 * gzip.length / json.length,
+                          cpuJson / 1_000.0 / MEDICOES, cpuGzip / 1_000.0 / MEDICOES);
+    }
+
+    private static byte[] gzip(byte[] dados) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(dados.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(dados);
+        }
+        return saida.toByteArray();
+    }
+
+    private static List<Pedido> gerarPedidos() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Produto> cardapio = Arrays.asList(
+            new Produto(1L, "Big Mac", "Dois hambúrgueres, alface, queijo e molho especial",
+                        new BigDecimal("25.90"), CategoriaProduto.LANCHE, true, agora, agora),
+            new Produto(2L, "Batata Frita Média", "Porção média de batatas fritas",
+                        new BigDecimal("9.90"), CategoriaProduto.ACOMPANHAMENTO, true, agora, agora),
+            new Produto(3L, "Refrigerante 500ml", "Coca-Cola, Guaraná ou Fanta",
+                        new BigDecimal("7.50"), CategoriaProduto.BEBIDA, true, agora, agora),
+            new Produto(4L, "Torta de Maçã", "Massa crocante com recheio de maçã e canela",
+                        new BigDecimal("6.90"), CategoriaProduto.SOBREMESA, true, agora, agora));
+        List<String> cpfs = Arrays.asList("52998224725", "11144477735", "39053344705");
+        List<Pedido> pedidos = new ArrayList<>(PEDIDOS);
+        for (int i = 0; i < PEDIDOS; i++) {
+            Cliente cliente = new Cliente((long) i + 1, "Cliente Número " + i, new CPF(cpfs.get(i % cpfs.size())),
+                                          new Email("cliente" + i + "@email.com"), "(11) 98765-" + (1000 + i),
+                                          true, true, i % 7, agora, agora, agora);
+            List<ItemPedido> itens = new ArrayList<>();
+            for (int j = 0; j <= i % cardapio.size(); j++) {
+                itens.add(new ItemPedido((long) i * 10 + j, cardapio.get(j), 1 + j, cardapio.get(j).getPreco(),
+                                         j == 0 ? "Sem cebola" : null));
+            }
+            Pedido pedido = new Pedido(cliente, itens);
+            pedido.setId((long) i + 1);
+            pedidos.add(pedido);
+        }
+        return pedidos;
+    }
+}
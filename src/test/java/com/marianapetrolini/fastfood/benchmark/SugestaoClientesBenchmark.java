@@ -0,0 +1,109 @@
+package com.marianapetrolini.fastfood.benchmark;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.valueobjects.CPF;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaClientes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede o autocompletar de clientes no índice de prefixos com um milhão de clientes.
+ * Executar com: mvn test -Dtest=SugestaoClientesBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SugestaoClientesBenchmark {
+
+    private static final int CLIENTES = 1_000_000;
+    private static final int AQUECIMENTO = 20_000;
+    private static final int MEDICOES = 20_000;
+    private static final int LIMITE = 10;
+
+    private static final String[] NOMES = {"Maria", "José", "Ana", "João", "Antônio", "Francisca", "Carlos",
+        "Paulo", "Pedro", "Lucas", "Luiz", "Marcos", "Luís", "Gabriel", "Rafael", "Márcia", "Daniel", "Marcelo",
+        "Bruno", "Eduardo", "Juliana", "Fernanda", "Patrícia", "Aline", "Sandra", "Camila", "Amanda", "Bruna",
+        "Jéssica", "Letícia", "Júlia", "Luciana", "Vanessa", "Mariana", "Gabriela", "Vera", "Vitória", "Larissa"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira",
+        "Alves", "Pereira", "Lima", "Gomes", "Costa", "Ribeiro", "Martins", "Carvalho", "Almeida", "Lopes",
+        "Soares", "Fernandes", "Vieira", "Barbosa", "Rocha", "Dias", "Nascimento", "Andrade", "Moreira", "Nunes",
+        "Marques", "Machado", "Mendes", "Freitas", "Cardoso", "Ramos", "Gonçalves", "Santana", "Teixeira"};
+    private static final List<String> CONSULTAS = Arrays.asList("mar", "maria sil", "jo", "ana paula",
+        "fernanda roch", "529", "123.456", "(11) 98", "9876", "lucas m", "gabriel nascimento", "x");
+
+    @Test
+    void medirSugestoes() {
+        // Given
+        IndiceBuscaClientes indice = new IndiceBuscaClientes();
+        Random random = new Random(42);
+        LocalDateTime agora = LocalDateTime.now();
+        Email email = new Email("cliente@email.com");
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long memoriaInicial = runtime.totalMemory() - runtime.freeMemory();
+        long inicioCarga = System.nanoTime();
+        // Clientes gerados sob demanda, como os lotes lidos do banco: o heap medido é só o do índice
+        indice.recarregar(() -> LongStream.rangeClosed(1, CLIENTES).mapToObj(id -> {
+            String nome = NOMES[random.nextInt(NOMES.length)] + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)]
+                + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+            String telefone = String.format("(%02d) 9%04d-%04d", 11 + random.nextInt(80),
+                                            random.nextInt(10_000), random.nextInt(10_000));
+            return new Cliente(id, nome, new CPF(gerarCpf(random)), email, telefone, true, true, 0, null, agora, agora);
+        }).iterator());
+        long cargaMs = (System.nanoTime() - inicioCarga) / 1_000_000;
+        System.gc();
+        long memoriaMb = (runtime.totalMemory() - runtime.freeMemory() - memoriaInicial) / (1024 * 1024);
+
+        // When
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            indice.sugerir(CONSULTAS.get(i % CONSULTAS.size()), LIMITE);
+        }
+        long[] tempos = new long[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            String consulta = CONSULTAS.get(i % CONSULTAS.size());
+            long inicio = System.nanoTime();
+            indice.sugerir(consulta, LIMITE);
+            tempos[i] = System.nanoTime() - inicio;
+        }
+
+        // Then
+        Arrays.sort(tempos);
+        double p50 = tempos[MEDICOES / 2] / 1_000.0;
+        double p99 = tempos[MEDICOES * 99 / 100] / 1_000.0;
+        System.out.printf("%d clientes: carga=%dms heap=%dMB p50=%.1fus p99=%.1fus máx=%.1fus%n",
+                          CLIENTES, cargaMs, memoriaMb, p50, p99, tempos[MEDICOES - 1] / 1_000.0);
+        assertEquals(LIMITE, indice.sugerir("maria", LIMITE).size());
+        assertTrue(p99 < 1_000, "sugestões devem responder abaixo de 1 ms (p99)");
+        assertTrue(memoriaMb < 256, "índice de um milhão de clientes deve caber em 256 MB de heap");
+    }
+
+    private static String gerarCpf(Random random) {
+        int[] digitos = new int[11];
+        for (int i = 0; i < 9; i++) {
+            digitos[i] = random.nextInt(10);
+        }
+        digitos[9] = digitoVerificador(digitos, 9);
+        digitos[10] = digitoVerificador(digitos, 10);
+        StringBuilder cpf = new StringBuilder(11);
+        for (int digito : digitos) {
+            cpf.append(digito);
+        }
+        return cpf.toString();
+    }
+
+    private static int digitoVerificador(int[] digitos, int quantidade) {
+        int soma = 0;
+        for (int i = 0; i < quantidade; i++) {
+            soma += digitos[i] * (quantidade + 1 - i);
+        }
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+}
@@ -0,0 +1,62 @@
+package com.marianapetrolini.fastfood.unit.application.dtos.pedido;
+
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutRequest;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a criação do pedido a partir da requisição de checkout.
+ */
+class CheckoutRequestTest {
+
+    private final Cliente cliente = new Cliente("João Silva", new Email("joao@email.com"));
+    private final List<ItemPedido> itens = Collections.singletonList(new ItemPedido(
+        new Produto("Cheeseburger", "Hambúrguer com queijo", new BigDecimal("12.90"), CategoriaProduto.LANCHE), 2));
+
+    @Test
+    void deveCriarPedidoNaLojaDaRequisicao() {
+        // Given
+        CheckoutRequest request = new CheckoutRequest();
+        request.setLojaId(7L);
+
+        // When
+        Pedido pedido = request.criarPedido(cliente, itens);
+
+        // Then
+        assertEquals(7L, pedido.getLojaId());
+    }
+
+    @Test
+    void deveCriarPedidoNaLojaPadraoQuandoALojaForOmitida() {
+        // Given
+        CheckoutRequest request = new CheckoutRequest();
+
+        // When
+        Pedido pedido = request.criarPedido(cliente, itens);
+
+        // Then
+        assertEquals(Pedido.LOJA_PADRAO, pedido.getLojaId());
+    }
+
+    @Test
+    void deveRejeitarLojaInvalida() {
+        // Given
+        CheckoutRequest request = new CheckoutRequest();
+        request.setLojaId(0L);
+
+        // When / Then
+        assertThrows(DomainException.class, () -> request.criarPedido(cliente, itens));
+    }
+}
@@ -1,6 +1,7 @@
 package com.marianapetrolini.fastfood.unit.application.usecases.produto;
 
 import com.marianapetrolini.fastfood.application.dtos.produto.CriarProdutoRequest;
+import com.marianapetrolini.fastfood.application.dtos.produto.ImportacaoProdutosResponse;
 import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
 import com.marianapetrolini.fastfood.application.usecases.produto.ProdutoUseCaseImpl;
 import com.marianapetrolini.fastfood.domain.entities.Produto;
@@ -10,6 +11,7 @@ import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -21,6 +23,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -298,5 +301,66 @@ class ProdutoUseCaseTest {
         assertTrue(categorias.contains("BEBIDA"));
         assertTrue(categorias.contains("SOBREMESA"));
     }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveImportarProdutosCriandoAtualizandoEIgnorandoInalterados() {
+        // Given
+        LocalDateTime agora = LocalDateTime.now();
+        Produto bigMac = new Produto(1L, "Big Mac", "Hambúrguer duplo", new BigDecimal("25.90"),
+                                     CategoriaProduto.LANCHE, true, agora, agora);
+        Produto agua = new Produto(2L, "Água", null, new BigDecimal("4.00"),
+                                   CategoriaProduto.BEBIDA, false, agora, agora);
+        List<CriarProdutoRequest> itens = Arrays.asList(
+            new CriarProdutoRequest("Big Mac", "Hambúrguer duplo", new BigDecimal("24.90"), "LANCHE"),
+            new CriarProdutoRequest("Água", null, new BigDecimal("4.0"), "bebida"),
+            new CriarProdutoRequest("Sundae", "Sorvete", new BigDecimal("8.00"), "SOBREMESA"),
+            new CriarProdutoRequest(" Sundae ", "Sorvete com calda", new BigDecimal("9.00"), "SOBREMESA")
+        );
+        when(produtoRepository.buscarPorNomes(any())).thenReturn(Arrays.asList(bigMac, agua));
+        
+        // When
+        ImportacaoProdutosResponse resposta = produtoUseCase.importarProdutos(itens);
+        
+        // Then
+        assertTrue(resposta.isAplicada());
+        assertEquals(4, resposta.getRecebidos());
+        assertEquals(1, resposta.getCriados());
+        assertEquals(1, resposta.getAtualizados());
+        assertEquals(1, resposta.getInalterados());
+        assertEquals(1, resposta.getDuplicados());
+        
+        ArgumentCaptor<List<Produto>> gravados = ArgumentCaptor.forClass(List.class);
+        verify(produtoRepository).salvarTodos(gravados.capture());
+        assertEquals(2, gravados.getValue().size());
+        assertEquals(new BigDecimal("24.90"), gravados.getValue().get(0).getPreco());
+        assertEquals(1L, gravados.getValue().get(0).getId());
+        assertEquals("Sorvete com calda", gravados.getValue().get(1).getDescricao());
+        assertNull(gravados.getValue().get(1).getId());
+        verify(produtoRepository, never()).existePorNome(anyString());
+        verify(produtoRepository, never()).salvar(any(Produto.class));
+    }
+    
+    @Test
+    void deveRejeitarImportacaoInteiraQuandoHouverItemInvalido() {
+        // Given
+        List<CriarProdutoRequest> itens = Arrays.asList(
+            new CriarProdutoRequest("Big Mac", "Hambúrguer duplo", new BigDecimal("24.90"), "LANCHE"),
+            new CriarProdutoRequest("Combo", null, new BigDecimal("30.00"), "COMBO"),
+            new CriarProdutoRequest("Sundae", null, new BigDecimal("-1"), "SOBREMESA")
+        );
+        
+        // When
+        ImportacaoProdutosResponse resposta = produtoUseCase.importarProdutos(itens);
+        
+        // Then
+        assertFalse(resposta.isAplicada());
+        assertEquals(2, resposta.getErros().size());
+        assertEquals(2, resposta.getErros().get(0).getItem());
+        assertEquals("Categoria inválida: COMBO", resposta.getErros().get(0).getMensagem());
+        assertEquals(3, resposta.getErros().get(1).getItem());
+        assertEquals("Sundae", resposta.getErros().get(1).getNome());
+        verify(produtoRepository, never()).buscarPorNomes(any());
+        verify(produtoRepository, never()).salvarTodos(anyList());
+    }
 }
-
@@ -0,0 +1,89 @@
+package com.marianapetrolini.fastfood.unit.domain.entities;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a entidade Pedido.
+ */
+class PedidoTest {
+
+    private Pedido novoPedido() {
+        Cliente cliente = new Cliente("João Silva", new Email("joao@email.com"));
+        Produto produto = new Produto("Cheeseburger", "Hambúrguer com queijo", new BigDecimal("12.90"), CategoriaProduto.LANCHE);
+        return new Pedido(cliente, Collections.singletonList(new ItemPedido(produto, 2)));
+    }
+
+    @Test
+    void deveRegistrarHorarioDeCadaEtapa() {
+        // Given
+        Pedido pedido = novoPedido();
+
+        // When
+        pedido.iniciarPreparacao();
+        pedido.marcarComoPronto();
+        pedido.finalizar();
+
+        // Then
+        assertEquals(StatusPedido.FINALIZADO, pedido.getStatus());
+        assertNotNull(pedido.getIniciadoPreparacaoEm());
+        assertNotNull(pedido.getProntoEm());
+        assertNotNull(pedido.getFinalizadoEm());
+        assertFalse(pedido.getProntoEm().isBefore(pedido.getIniciadoPreparacaoEm()));
+    }
+
+    @Test
+    void deveCalcularTemposDeEsperaAPartirDosHorarios() {
+        // Given
+        LocalDateTime criadoEm = LocalDateTime.of(2024, 1, 15, 12, 0);
+        Pedido pedido = new Pedido(1L, novoPedido().getCliente(), novoPedido().getItens(),
+                                   StatusPedido.PRONTO, new BigDecimal("25.80"), criadoEm, criadoEm,
+                                   criadoEm.plusMinutes(10), criadoEm.plusMinutes(25), null);
+
+        // When
+        LocalDateTime agora = criadoEm.plusMinutes(40);
+
+        // Then
+        assertEquals(10, pedido.getTempoEsperaMinutos(agora));
+        assertEquals(15, pedido.getTempoPreparacaoMinutos(agora));
+        assertEquals(40, pedido.getTempoTotalMinutos(agora));
+    }
+
+    @Test
+    void deveLancarExcecaoEmTransicaoInvalida() {
+        // Given
+        Pedido pedido = novoPedido();
+
+        // When & Then
+        assertThrows(DomainException.class, pedido::finalizar);
+        assertNull(pedido.getFinalizadoEm());
+    }
+
+    @Test
+    void deveAssociarOPedidoALoja() {
+        // Given
+        Pedido padrao = novoPedido();
+
+        // When
+        Pedido daLoja = new Pedido(7L, padrao.getCliente(), padrao.getItens());
+
+        // Then
+        assertEquals(Pedido.LOJA_PADRAO, padrao.getLojaId());
+        assertEquals(7L, daLoja.getLojaId());
+        assertThrows(DomainException.class, () -> new Pedido(0L, padrao.getCliente(), padrao.getItens()));
+        assertThrows(DomainException.class, () -> daLoja.setLojaId(null));
+    }
+}
@@ -0,0 +1,71 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.external;
+
+import com.marianapetrolini.fastfood.application.dtos.notificacao.NotificacaoResponse;
+import com.marianapetrolini.fastfood.infrastructure.adapters.external.ModeloNotificacao;
+import com.marianapetrolini.fastfood.infrastructure.adapters.external.NotificacaoAdapter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para os modelos pré-compilados de notificação.
+ */
+class ModeloNotificacaoTest {
+
+    @Test
+    void deveRenderizarIgualAoStringFormat() {
+        // Given
+        ModeloNotificacao modelo = ModeloNotificacao.compilar(
+            "Seu pagamento de R$ {valorPago} foi aprovado! Pedido #{numeroPedido} confirmado.",
+            "numeroPedido", "valorPago");
+
+        // When
+        String mensagem = modelo.renderizar("123", "25.90");
+
+        // Then
+        assertEquals(String.format("Seu pagamento de R$ %s foi aprovado! Pedido #%s confirmado.", "25.90", "123"),
+                     mensagem);
+        assertEquals("Tempo: 45 minutos",
+                     ModeloNotificacao.compilar("Tempo: {minutos} minutos", "minutos").renderizar(45));
+    }
+
+    @Test
+    void deveManterChavesQueNaoSaoVariaveis() {
+        // Given
+        ModeloNotificacao modelo = ModeloNotificacao.compilarLivre("Combo {1} por { } R$ 10 {cupom} {sem fim");
+
+        // When
+        String mensagem = modelo.renderizar(nome -> null);
+
+        // Then
+        assertEquals("Combo {1} por { } R$ 10 {cupom} {sem fim", mensagem);
+        assertTrue(ModeloNotificacao.compilarLivre("Sem variáveis {").isConstante());
+    }
+
+    @Test
+    void deveRecusarVariavelNaoDeclarada() {
+        // When / Then
+        assertThrows(IllegalArgumentException.class,
+                     () -> ModeloNotificacao.compilar("Pedido #{numeroPedido} de {cliente}", "numeroPedido"));
+    }
+
+    @Test
+    void deveRenderizarCampanhaPorDestinatario() {
+        // Given
+        NotificacaoAdapter adapter = new NotificacaoAdapter();
+        List<String> destinatarios = Arrays.asList("ana@email.com", "bruno@email.com");
+
+        // When
+        List<NotificacaoResponse> respostas = adapter.enviarCampanhaPromocional(
+            "{destinatario}, hoje tem promoção!", "Use o cupom {cupom}.", destinatarios);
+
+        // Then
+        assertEquals(2, respostas.size());
+        assertEquals("ana@email.com, hoje tem promoção!", respostas.get(0).getTitulo());
+        assertEquals("bruno@email.com, hoje tem promoção!", respostas.get(1).getTitulo());
+        assertEquals("bruno@email.com", respostas.get(1).getDestinatario());
+    }
+}
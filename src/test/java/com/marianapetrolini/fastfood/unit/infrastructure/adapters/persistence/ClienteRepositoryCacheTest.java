@@ -0,0 +1,74 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.CPF;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ClienteRepositoryCache;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheCompartilhadoLocal;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheDoisNiveis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o cache das buscas de clientes.
+ */
+class ClienteRepositoryCacheTest {
+
+    private final ClienteRepository delegate = mock(ClienteRepository.class);
+    private final ClienteRepositoryCache repository = new ClienteRepositoryCache(delegate,
+        new CacheDoisNiveis("clientes", new CacheCompartilhadoLocal(), 100, Duration.ofMinutes(1),
+                            Duration.ofMinutes(10), new SimpleMeterRegistry()));
+
+    private static Cliente cliente(String email) {
+        LocalDateTime criadoEm = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+        return new Cliente(7L, "Maria Santos", new CPF("52998224725"), new Email(email), "(11) 98765-4321",
+                           true, false, 3, criadoEm.plusDays(2), criadoEm, criadoEm.plusDays(2));
+    }
+
+    @Test
+    void deveAtenderABuscaPorCpfDoCacheComUmaNovaInstancia() {
+        // Given
+        when(delegate.buscarPorCpf("52998224725")).thenReturn(Optional.of(cliente("maria@email.com")));
+        Cliente primeira = repository.buscarPorCpf("52998224725").get();
+
+        // When
+        primeira.atualizar("Maria Santos", new Email("maria@email.com"), "(11) 90000-0000", false);
+        Cliente segunda = repository.buscarPorCpf("52998224725").get();
+
+        // Then
+        verify(delegate, times(1)).buscarPorCpf("52998224725");
+        assertNotSame(primeira, segunda);
+        assertEquals("(11) 98765-4321", segunda.getTelefone());
+        assertEquals(3, segunda.getTotalPedidos());
+        assertEquals(cliente("maria@email.com").getCriadoEm(), segunda.getCriadoEm());
+        assertEquals(7L, repository.buscarPorId(7L).get().getId());
+        verify(delegate, never()).buscarPorId(7L);
+    }
+
+    @Test
+    void deveIgnorarAChaveDoEmailAntigoDepoisDaTroca() {
+        // Given
+        when(delegate.buscarPorEmail("maria@email.com")).thenReturn(Optional.of(cliente("maria@email.com")));
+        repository.buscarPorEmail("maria@email.com");
+        Cliente atualizado = cliente("maria.santos@email.com");
+        when(delegate.salvar(atualizado)).thenReturn(atualizado);
+        when(delegate.buscarPorId(7L)).thenReturn(Optional.of(atualizado));
+        when(delegate.buscarPorEmail("maria@email.com")).thenReturn(Optional.empty());
+
+        // When
+        repository.salvar(atualizado);
+        Optional<Cliente> peloEmailAntigo = repository.buscarPorEmail("maria@email.com");
+
+        // Then
+        assertFalse(peloEmailAntigo.isPresent());
+        verify(delegate, times(2)).buscarPorEmail("maria@email.com");
+    }
+}
@@ -0,0 +1,114 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ContadorPedidos;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para os contadores de pedidos em memória.
+ */
+class ContadorPedidosTest {
+
+    private Pedido novoPedido() {
+        Cliente cliente = new Cliente("Maria Santos", new Email("maria@email.com"));
+        Produto produto = new Produto("Big Mac", "Hambúrguer", new BigDecimal("25.90"), CategoriaProduto.LANCHE);
+        return new Pedido(cliente, Collections.singletonList(new ItemPedido(produto, 1)));
+    }
+
+    @Test
+    void deveContarCheckoutsETransicoesDeStatus() {
+        // Given
+        ContadorPedidos contador = new ContadorPedidos();
+        Pedido pedido1 = novoPedido();
+        Pedido pedido2 = novoPedido();
+
+        // When
+        contador.pedidoCriado(pedido1);
+        contador.pedidoCriado(pedido2);
+        pedido1.iniciarPreparacao();
+        contador.statusAlterado(pedido1, StatusPedido.RECEBIDO);
+
+        // Then
+        assertEquals(1, contador.contarPorStatus(StatusPedido.RECEBIDO));
+        assertEquals(1, contador.contarPorStatus(StatusPedido.EM_PREPARACAO));
+        assertEquals(2, contador.contarAtivos());
+        assertEquals(2, contador.contarNaCozinha());
+        assertEquals(2, contador.contarDeHoje());
+    }
+
+    @Test
+    void deveExcluirFinalizadosDosAtivosNoSnapshot() {
+        // Given
+        ContadorPedidos contador = new ContadorPedidos();
+        Pedido pedido = novoPedido();
+        contador.pedidoCriado(pedido);
+
+        // When
+        pedido.iniciarPreparacao();
+        contador.statusAlterado(pedido, StatusPedido.RECEBIDO);
+        pedido.marcarComoPronto();
+        contador.statusAlterado(pedido, StatusPedido.EM_PREPARACAO);
+        pedido.finalizar();
+        contador.statusAlterado(pedido, StatusPedido.PRONTO);
+        ContadorPedidos.ContagemPedidos snapshot = contador.snapshot();
+
+        // Then
+        assertEquals(1L, snapshot.getPorStatus().get(StatusPedido.FINALIZADO));
+        assertEquals(0, snapshot.getAtivos());
+        assertEquals(0, snapshot.getNaCozinha());
+        assertEquals(1, snapshot.getDeHoje());
+    }
+
+    @Test
+    void deveReconciliarComContagensDoRepositorio() {
+        // Given
+        ContadorPedidos contador = new ContadorPedidos();
+        contador.pedidoCriado(novoPedido());
+        PedidoRepository repository = mock(PedidoRepository.class);
+        when(repository.contarPorStatus(any(StatusPedido.class))).thenReturn(0L);
+        when(repository.contarPorStatus(StatusPedido.PRONTO)).thenReturn(5L);
+        when(repository.contarDeHoje()).thenReturn(7L);
+
+        // When
+        contador.reconciliar(repository);
+
+        // Then
+        assertEquals(0, contador.contarPorStatus(StatusPedido.RECEBIDO));
+        assertEquals(5, contador.contarPorStatus(StatusPedido.PRONTO));
+        assertEquals(7, contador.contarDeHoje());
+    }
+
+    @Test
+    void naoDevePerderTransicoesFeitasDuranteAReconciliacao() {
+        // Given
+        ContadorPedidos contador = new ContadorPedidos();
+        PedidoRepository repository = mock(PedidoRepository.class);
+        when(repository.contarPorStatus(any(StatusPedido.class))).thenReturn(0L);
+        // Um checkout confirmado depois da consulta de RECEBIDO
+        when(repository.contarPorStatus(StatusPedido.RECEBIDO)).thenAnswer(invocacao -> {
+            contador.pedidoCriado(novoPedido());
+            return 4L;
+        });
+        when(repository.contarDeHoje()).thenReturn(4L);
+
+        // When
+        contador.reconciliar(repository);
+
+        // Then
+        assertEquals(5, contador.contarPorStatus(StatusPedido.RECEBIDO));
+        assertEquals(4, contador.contarDeHoje());
+    }
+}
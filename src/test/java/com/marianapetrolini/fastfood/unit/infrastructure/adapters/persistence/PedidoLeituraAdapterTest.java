@@ -0,0 +1,145 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.PedidoLeituraAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.TravasTarefasAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoLeituraJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoLeituraJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a projeção e a reconstrução do modelo de leitura.
+ */
+class PedidoLeituraAdapterTest {
+
+    private PedidoLeituraJpaRepository jpaRepository;
+    private TravasTarefasAdapter travasTarefas;
+    private PedidoLeituraAdapter adapter;
+    private Pedido pedido;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(PedidoLeituraJpaRepository.class);
+        travasTarefas = mock(TravasTarefasAdapter.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        adapter = new PedidoLeituraAdapter(jpaRepository, travasTarefas, transactionManager, new SimpleMeterRegistry());
+
+        Cliente cliente = new Cliente(5L, "Maria Santos", null, new Email("maria@email.com"), null, null);
+        Produto produto = new Produto("Big Mac", "Hambúrguer", new BigDecimal("25.90"), CategoriaProduto.LANCHE);
+        pedido = new Pedido(cliente, Collections.singletonList(new ItemPedido(produto, 1)));
+        pedido.setId(1L);
+        when(jpaRepository.travarPorId(1L)).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deveProjetarSomenteAposOCommitDaGravacao() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        adapter.pedidoCriado(pedido);
+
+        // Then
+        verify(jpaRepository, never()).save(any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(jpaRepository).save(any());
+    }
+
+    @Test
+    void naoDevePropagarFalhaDaProjecao() {
+        // Given
+        when(jpaRepository.save(any())).thenThrow(new IllegalStateException("banco fora do ar"));
+
+        // When
+        assertDoesNotThrow(() -> adapter.pedidoCriado(pedido));
+
+        // Then
+        assertEquals(1, adapter.getFalhas());
+    }
+
+    @Test
+    void naoDeveSobrescreverProjecaoMaisNova() {
+        // Given
+        PedidoLeituraJpaEntity linha = PedidoLeituraJpaEntity.fromDomainEntity(pedido, LocalDateTime.now());
+        when(jpaRepository.travarPorId(1L)).thenReturn(Optional.of(linha));
+        Pedido anterior = new Pedido(1L, pedido.getCliente(), pedido.getItens(), StatusPedido.RECEBIDO,
+                                     pedido.getValorTotal(), pedido.getCriadoEm(), pedido.getAtualizadoEm().minusSeconds(1));
+
+        // When
+        adapter.statusAlterado(anterior, null);
+
+        // Then
+        verify(jpaRepository, never()).save(any());
+        assertEquals(pedido.getAtualizadoEm(), linha.getAtualizadoEm());
+    }
+
+    @Test
+    void naoDeveReconstruirQuandoOutraReplicaTemATrava() {
+        // Given
+        PedidoRepository fonte = mock(PedidoRepository.class);
+        when(travasTarefas.adquirir(anyString(), any())).thenReturn(false);
+
+        // When
+        int projetados = adapter.reconstruir(fonte);
+
+        // Then
+        assertEquals(-1, projetados);
+        verifyNoInteractions(fonte);
+        verify(travasTarefas, never()).liberar(anyString());
+    }
+
+    @Test
+    void deveReconstruirEmLotesERemoverLinhasDePedidosApagados() {
+        // Given
+        PedidoRepository fonte = mock(PedidoRepository.class);
+        when(travasTarefas.adquirir(anyString(), any())).thenReturn(true);
+        when(fonte.buscarLote(0L, 500)).thenReturn(Collections.singletonList(pedido));
+        PedidoLeituraJpaEntity orfa = PedidoLeituraJpaEntity.fromDomainEntity(
+            new Pedido(2L, pedido.getCliente(), pedido.getItens(), StatusPedido.RECEBIDO,
+                       pedido.getValorTotal(), pedido.getCriadoEm(), pedido.getAtualizadoEm()), LocalDateTime.now());
+        when(jpaRepository.travarEntre(0L, Long.MAX_VALUE)).thenReturn(Collections.singletonList(orfa));
+
+        // When
+        int projetados = adapter.reconstruir(fonte);
+
+        // Then
+        assertEquals(1, projetados);
+        verify(fonte, never()).buscarTodos();
+        verify(jpaRepository).removerItens(Collections.singleton(2L));
+        verify(jpaRepository).deleteAllByIdInBatch(Collections.singleton(2L));
+        verify(jpaRepository, never()).deleteAll();
+        verify(travasTarefas).liberar(anyString());
+    }
+}
@@ -0,0 +1,99 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.application.ports.output.OuvintePedidoPort;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ContadorPedidos;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.GravacaoPedidos;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.PedidoRepositoryObservavel;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a publicação dos eventos de pedidos na gravação.
+ */
+class PedidoRepositoryObservavelTest {
+
+    private Pedido novoPedido() {
+        Cliente cliente = new Cliente("Maria Santos", new Email("maria@email.com"));
+        Produto produto = new Produto("Big Mac", "Hambúrguer", new BigDecimal("25.90"), CategoriaProduto.LANCHE);
+        return new Pedido(cliente, Collections.singletonList(new ItemPedido(produto, 1)));
+    }
+
+    @Test
+    void deveUsarOStatusLidoNaGravacaoSemConsultaExtra() {
+        // Given
+        GravacaoPedidos delegate = mock(GravacaoPedidos.class);
+        OuvintePedidoPort ouvinte = mock(OuvintePedidoPort.class);
+        ContadorPedidos contador = new ContadorPedidos();
+        PedidoRepositoryObservavel repository = new PedidoRepositoryObservavel(
+            delegate, contador, () -> Collections.singletonList(ouvinte));
+        Pedido pedido = novoPedido();
+        pedido.setId(1L);
+        pedido.iniciarPreparacao();
+        when(delegate.gravar(pedido)).thenReturn(StatusPedido.RECEBIDO);
+
+        // When
+        repository.salvar(pedido);
+
+        // Then
+        verify(delegate, never()).buscarPorId(any());
+        verify(ouvinte).statusAlterado(pedido, StatusPedido.RECEBIDO);
+        verify(ouvinte, never()).pedidoCriado(any());
+    }
+
+    @Test
+    void naoDevePublicarQuandoOBancoJaTinhaONovoStatus() {
+        // Given
+        GravacaoPedidos delegate = mock(GravacaoPedidos.class);
+        OuvintePedidoPort ouvinte = mock(OuvintePedidoPort.class);
+        PedidoRepositoryObservavel repository = new PedidoRepositoryObservavel(
+            delegate, new ContadorPedidos(), () -> Collections.singletonList(ouvinte));
+        Pedido pedido = novoPedido();
+        pedido.setId(2L);
+        pedido.iniciarPreparacao();
+        // Outra requisição já gravou EM_PREPARACAO antes desta
+        when(delegate.gravar(pedido)).thenReturn(StatusPedido.EM_PREPARACAO);
+
+        // When
+        repository.salvar(pedido);
+
+        // Then
+        verifyNoInteractions(ouvinte);
+    }
+
+    @Test
+    void deveContarSomenteDepoisDoCommit() {
+        // Given
+        GravacaoPedidos delegate = mock(GravacaoPedidos.class);
+        ContadorPedidos contador = new ContadorPedidos();
+        PedidoRepositoryObservavel repository = new PedidoRepositoryObservavel(
+            delegate, contador, Collections::emptyList);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            repository.salvar(novoPedido());
+            long antesDoCommit = contador.contarPorStatus(StatusPedido.RECEBIDO);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertEquals(0, antesDoCommit);
+            assertEquals(1, contador.contarPorStatus(StatusPedido.RECEBIDO));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.persistence;
+
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteSugestaoResponse;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.repositories.ClienteRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ClientesRemovidosAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.SugestaoClientesAdapter;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaClientes;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o adapter de sugestões de clientes.
+ */
+class SugestaoClientesAdapterTest {
+
+    private final ClienteRepository clienteRepository = mock(ClienteRepository.class);
+    private final ClientesRemovidosAdapter removidos = mock(ClientesRemovidosAdapter.class);
+    private final SugestaoClientesAdapter adapter = new SugestaoClientesAdapter(new IndiceBuscaClientes(),
+                                                                                provedor(clienteRepository), removidos);
+
+    @Test
+    void deveTrazerClientesAlteradosEmOutrosPods() {
+        // Given
+        when(clienteRepository.buscarLoteAposId(0L, 5_000))
+            .thenReturn(Collections.singletonList(cliente(1L, "Maria Santos")));
+        adapter.carregar();
+        when(clienteRepository.buscarAtualizadosDesde(any(LocalDateTime.class)))
+            .thenReturn(Collections.singletonList(cliente(2L, "Mariana Lima")));
+
+        // When
+        int atualizados = adapter.atualizar();
+
+        // Then
+        assertEquals(1, atualizados);
+        assertEquals(2, nomes("mari").size());
+        assertTrue(nomes("mariana").contains("Mariana Lima"));
+        verify(clienteRepository, times(1)).buscarLoteAposId(anyLong(), anyInt());
+        verify(clienteRepository, never()).buscarTodos();
+    }
+
+    @Test
+    void deveTirarDoIndiceClientesRemovidosEmOutrosPods() {
+        // Given
+        when(clienteRepository.buscarLoteAposId(0L, 5_000))
+            .thenReturn(Arrays.asList(cliente(1L, "Maria Santos"), cliente(2L, "Mariana Lima")));
+        adapter.carregar();
+        when(removidos.buscarRemovidosDesde(any(LocalDateTime.class))).thenReturn(Collections.singletonList(2L));
+
+        // When
+        int atualizados = adapter.atualizar();
+
+        // Then
+        assertEquals(1, atualizados);
+        assertEquals(Collections.singletonList("Maria Santos"), nomes("mari"));
+    }
+
+    @Test
+    void naoDeveAtualizarAntesDeCarregar() {
+        // When
+        int atualizados = adapter.atualizar();
+
+        // Then
+        assertEquals(0, atualizados);
+        verify(clienteRepository, never()).buscarAtualizadosDesde(any(LocalDateTime.class));
+    }
+
+    private List<String> nomes(String termo) {
+        return adapter.sugerir(termo, 10).stream().map(ClienteSugestaoResponse::getNome).collect(Collectors.toList());
+    }
+
+    private static Cliente cliente(long id, String nome) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new Cliente(id, nome, null, new Email("cliente" + id + "@email.com"), agora, agora);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<ClienteRepository> provedor(ClienteRepository repository) {
+        ObjectProvider<ClienteRepository> provedor = mock(ObjectProvider.class);
+        when(provedor.getObject()).thenReturn(repository);
+        return provedor;
+    }
+}
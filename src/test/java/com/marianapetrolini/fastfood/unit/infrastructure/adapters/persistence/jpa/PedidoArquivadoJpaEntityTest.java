@@ -0,0 +1,48 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoArquivadoJpaEntity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a linha do arquivo de pedidos.
+ */
+class PedidoArquivadoJpaEntityTest {
+
+    @Test
+    void deveGuardarOConteudoComprimidoERecuperarOriginal() {
+        // Given
+        Cliente cliente = new Cliente(3L, "João Silva", null, new Email("joao@email.com"),
+                                      LocalDateTime.now(), LocalDateTime.now());
+        Produto produto = new Produto(1L, "Cheeseburger", "Hambúrguer com queijo", new BigDecimal("12.90"),
+                                      CategoriaProduto.LANCHE, true, LocalDateTime.now(), LocalDateTime.now());
+        Pedido pedido = new Pedido(2L, cliente, Collections.singletonList(new ItemPedido(produto, 2)));
+        pedido.setId(40L);
+        String json = String.join(",", Collections.nCopies(50,
+            "{\"produtoNome\":\"Cheeseburger\",\"quantidade\":2,\"precoUnitario\":12.90}"));
+
+        // When
+        PedidoArquivadoJpaEntity arquivado = PedidoArquivadoJpaEntity.fromDomainEntity(
+            pedido, json.getBytes(StandardCharsets.UTF_8), LocalDateTime.now());
+
+        // Then
+        assertEquals(40L, arquivado.getId());
+        assertEquals(2L, arquivado.getLojaId());
+        assertEquals(3L, arquivado.getClienteId());
+        assertTrue(arquivado.isNew());
+        assertTrue(arquivado.getConteudo().length < json.length() / 10);
+        assertEquals(json, new String(arquivado.lerConteudo(), StandardCharsets.UTF_8));
+    }
+}
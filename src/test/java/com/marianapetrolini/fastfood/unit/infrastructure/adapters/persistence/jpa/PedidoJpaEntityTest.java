@@ -0,0 +1,102 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ClienteJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ItemPedidoJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ProdutoJpaEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o mapeamento JPA de pedidos.
+ */
+class PedidoJpaEntityTest {
+
+    private final Function<Long, ProdutoJpaEntity> produtos = id -> {
+        ProdutoJpaEntity produto = new ProdutoJpaEntity();
+        produto.setId(id);
+        return produto;
+    };
+
+    private Pedido novoPedido() {
+        Cliente cliente = new Cliente(3L, "João Silva", null, new Email("joao@email.com"),
+                                      LocalDateTime.now(), LocalDateTime.now());
+        Produto lanche = new Produto(1L, "Cheeseburger", "Hambúrguer com queijo", new BigDecimal("12.90"),
+                                     CategoriaProduto.LANCHE, true, LocalDateTime.now(), LocalDateTime.now());
+        Produto bebida = new Produto(2L, "Refrigerante", "Lata 350ml", new BigDecimal("5.00"),
+                                     CategoriaProduto.BEBIDA, true, LocalDateTime.now(), LocalDateTime.now());
+        return new Pedido(cliente, Arrays.asList(new ItemPedido(lanche, 2), new ItemPedido(bebida, 1, "Sem gelo")));
+    }
+
+    @Test
+    void deveCopiarOsIdsGeradosParaODominio() {
+        // Given
+        Pedido pedido = novoPedido();
+        PedidoJpaEntity jpaEntity = PedidoJpaEntity.fromDomainEntity(pedido, new ClienteJpaEntity(), produtos);
+        ReflectionTestUtils.setField(jpaEntity, "id", 51L);
+        ReflectionTestUtils.setField(jpaEntity.getItens().get(0), "id", 51L);
+        ReflectionTestUtils.setField(jpaEntity.getItens().get(1), "id", 52L);
+
+        // When
+        jpaEntity.atribuirIds(pedido);
+
+        // Then
+        assertEquals(51L, pedido.getId());
+        assertEquals(51L, pedido.getItens().get(0).getId());
+        assertEquals(52L, pedido.getItens().get(1).getId());
+        assertEquals(2L, jpaEntity.getItens().get(1).getProduto().getId());
+    }
+
+    @Test
+    void deveSincronizarItensIncluidosERemovidos() {
+        // Given
+        Pedido pedido = novoPedido();
+        PedidoJpaEntity jpaEntity = PedidoJpaEntity.fromDomainEntity(pedido, new ClienteJpaEntity(), produtos);
+        ReflectionTestUtils.setField(jpaEntity.getItens().get(0), "id", 51L);
+        ReflectionTestUtils.setField(jpaEntity.getItens().get(1), "id", 52L);
+        jpaEntity.atribuirIds(pedido);
+
+        // When
+        Produto lanche = pedido.getItens().get(0).getProduto();
+        pedido.removerItem(51L);
+        pedido.adicionarItem(new ItemPedido(lanche, 3));
+        jpaEntity.updateFromDomainEntity(pedido, produtos);
+
+        // Then
+        assertEquals(2, jpaEntity.getItens().size());
+        ItemPedidoJpaEntity mantido = jpaEntity.getItens().get(0);
+        assertEquals(52L, mantido.getId());
+        assertNull(jpaEntity.getItens().get(1).getId());
+        assertEquals(3, jpaEntity.getItens().get(1).getQuantidade());
+        assertEquals(pedido.getValorTotal(), jpaEntity.getValorTotal());
+    }
+
+    @Test
+    void deveGravarALojaDoPedido() {
+        // Given
+        Pedido base = novoPedido();
+        Pedido pedido = new Pedido(4L, base.getCliente(), base.getItens());
+
+        // When
+        PedidoJpaEntity jpaEntity = PedidoJpaEntity.fromDomainEntity(pedido, new ClienteJpaEntity(), produtos);
+
+        // Then
+        assertEquals(4L, jpaEntity.getLojaId());
+        // Gravada com a precisão do banco, para a chave completa do pedido em memória encontrar a linha
+        assertEquals(pedido.getCriadoEm().truncatedTo(ChronoUnit.MICROS), jpaEntity.getCriadoEm());
+    }
+}
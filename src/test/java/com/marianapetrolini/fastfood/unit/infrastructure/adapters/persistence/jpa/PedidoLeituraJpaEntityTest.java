@@ -0,0 +1,70 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.persistence.jpa;
+
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoResponse;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.PedidoLeituraJpaEntity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a linha do modelo de leitura de pedidos.
+ */
+class PedidoLeituraJpaEntityTest {
+
+    private Pedido novoPedido() {
+        Cliente cliente = new Cliente("João Silva", new Email("joao@email.com"));
+        Produto lanche = new Produto("Cheeseburger", "Hambúrguer com queijo", new BigDecimal("12.90"), CategoriaProduto.LANCHE);
+        Produto bebida = new Produto("Refrigerante", "Lata 350ml", new BigDecimal("5.00"), CategoriaProduto.BEBIDA);
+        Pedido pedido = new Pedido(cliente, Arrays.asList(new ItemPedido(lanche, 2), new ItemPedido(bebida, 1, "Sem gelo")));
+        pedido.setId(7L);
+        return pedido;
+    }
+
+    @Test
+    void deveProduzirOMesmoResumoQueAEntidade() {
+        // Given
+        Pedido pedido = novoPedido();
+
+        // When
+        PedidoListaResponse esperado = PedidoListaResponse.fromEntity(pedido);
+        PedidoListaResponse lido = PedidoLeituraJpaEntity.fromDomainEntity(pedido, LocalDateTime.now())
+            .toPedidoListaResponse();
+
+        // Then
+        assertEquals(esperado.getId(), lido.getId());
+        assertEquals(esperado.getClienteNome(), lido.getClienteNome());
+        assertEquals(esperado.getDescricaoItens(), lido.getDescricaoItens());
+        assertEquals(esperado.getValorTotal(), lido.getValorTotal());
+        assertEquals(esperado.getTotalItens(), lido.getTotalItens());
+        assertEquals(esperado.getPrioridade(), lido.getPrioridade());
+    }
+
+    @Test
+    void deveProduzirOMesmoDetalheQueAEntidade() {
+        // Given
+        Pedido pedido = novoPedido();
+
+        // When
+        PedidoResponse esperado = PedidoResponse.fromEntity(pedido);
+        PedidoResponse lido = PedidoLeituraJpaEntity.fromDomainEntity(pedido, LocalDateTime.now())
+            .toPedidoResponse();
+
+        // Then
+        assertEquals(esperado.getStatus(), lido.getStatus());
+        assertEquals(esperado.getCliente().getEmail(), lido.getCliente().getEmail());
+        assertEquals(esperado.getItens().size(), lido.getItens().size());
+        assertEquals(esperado.getItens().get(1).getObservacoes(), lido.getItens().get(1).getObservacoes());
+        assertEquals(esperado.getItens().get(0).getValorTotal(), lido.getItens().get(0).getValorTotal());
+    }
+}
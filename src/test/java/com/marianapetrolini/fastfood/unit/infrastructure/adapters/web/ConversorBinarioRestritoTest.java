@@ -0,0 +1,73 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteResponse;
+import com.marianapetrolini.fastfood.application.dtos.pedido.PedidoListaResponse;
+import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
+import com.marianapetrolini.fastfood.infrastructure.adapters.web.conversores.ConversorBinarioRestrito;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o conversor binário restrito (CBOR/Smile).
+ */
+class ConversorBinarioRestritoTest {
+
+    private static final Type LISTA_PEDIDOS = new TypeReference<List<PedidoListaResponse>>() { }.getType();
+    private static final Type LISTA_CLIENTES = new TypeReference<List<ClienteResponse>>() { }.getType();
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    private final ConversorBinarioRestrito conversor = new ConversorBinarioRestrito(
+        cbor, MediaType.APPLICATION_CBOR, Arrays.asList(PedidoListaResponse.class, ProdutoResponse.class));
+
+    @Test
+    void deveEscreverListaDaCozinhaEmCborComOMesmoConteudoDoJson() throws Exception {
+        // Given
+        LocalDateTime criadoEm = LocalDateTime.of(2024, 5, 10, 12, 30);
+        List<PedidoListaResponse> pedidos = Arrays.asList(
+            new PedidoListaResponse(1L, "Maria Santos", "PRONTO", "2x Big Mac", new BigDecimal("51.80"), 2, criadoEm, 1),
+            new PedidoListaResponse(2L, "João Silva", "RECEBIDO", "1x Batata Frita", new BigDecimal("9.90"), 1,
+                                    criadoEm, 3));
+        MockHttpOutputMessage saida = new MockHttpOutputMessage();
+
+        // When
+        conversor.write(pedidos, LISTA_PEDIDOS, MediaType.APPLICATION_CBOR, saida);
+
+        // Then
+        byte[] corpo = saida.getBodyAsBytes();
+        assertEquals(MediaType.APPLICATION_CBOR, saida.getHeaders().getContentType());
+        List<PedidoListaResponse> lidos = cbor.readValue(corpo, new TypeReference<List<PedidoListaResponse>>() { });
+        assertEquals(json.writeValueAsString(pedidos), json.writeValueAsString(lidos));
+        assertTrue(corpo.length < json.writeValueAsBytes(pedidos).length);
+    }
+
+    @Test
+    void deveAceitarApenasOsTiposConfigurados() {
+        // When / Then
+        assertTrue(conversor.canWrite(LISTA_PEDIDOS, List.class, MediaType.APPLICATION_CBOR));
+        assertTrue(conversor.canWrite(ProdutoResponse.class, ProdutoResponse.class, MediaType.APPLICATION_CBOR));
+        assertTrue(conversor.canWrite(ProdutoResponse.class, null));
+        assertFalse(conversor.canWrite(LISTA_PEDIDOS, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(conversor.canWrite(LISTA_CLIENTES, List.class, MediaType.APPLICATION_CBOR));
+        assertFalse(conversor.canWrite(Map.class, MediaType.APPLICATION_CBOR));
+        assertFalse(conversor.canRead(ProdutoResponse.class, MediaType.APPLICATION_CBOR));
+    }
+}
@@ -0,0 +1,80 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.adapters.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marianapetrolini.fastfood.application.dtos.produto.CriarProdutoRequest;
+import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
+import com.marianapetrolini.fastfood.infrastructure.adapters.web.conversores.LeitorImportacaoProdutos;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a leitura da importação de produtos em CSV e NDJSON.
+ */
+class LeitorImportacaoProdutosTest {
+
+    private static final MediaType CSV = MediaType.valueOf(LeitorImportacaoProdutos.TEXT_CSV_VALUE);
+    private static final MediaType NDJSON = MediaType.valueOf(LeitorImportacaoProdutos.APPLICATION_NDJSON_VALUE);
+
+    private final LeitorImportacaoProdutos leitor = new LeitorImportacaoProdutos(new ObjectMapper());
+
+    private static InputStream corpo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void deveLerCsvComAspasSeparadorPontoEVirgulaEPrecoComVirgula() throws Exception {
+        // Given
+        String csv = "\uFEFFCategoria;Nome;Preco;Descricao\r\n"
+            + "LANCHE;Big Mac;25,90;\"Dois hambúrgueres; alface e \"\"molho especial\"\"\"\r\n"
+            + "\r\n"
+            + "BEBIDA;Água;4.00;\n"
+            + "SOBREMESA;Torta;6,9;\"Massa crocante\ncom canela\"\n";
+
+        // When
+        List<CriarProdutoRequest> produtos = leitor.ler(CSV, corpo(csv));
+
+        // Then
+        assertEquals(3, produtos.size());
+        assertEquals("Big Mac", produtos.get(0).getNome());
+        assertEquals(new BigDecimal("25.90"), produtos.get(0).getPreco());
+        assertEquals("LANCHE", produtos.get(0).getCategoria());
+        assertEquals("Dois hambúrgueres; alface e \"molho especial\"", produtos.get(0).getDescricao());
+        assertNull(produtos.get(1).getDescricao());
+        assertEquals(new BigDecimal("4.00"), produtos.get(1).getPreco());
+        assertEquals("Massa crocante\ncom canela", produtos.get(2).getDescricao());
+
+        DomainException semColuna = assertThrows(DomainException.class,
+            () -> leitor.ler(CSV, corpo("nome,descricao\nBig Mac,Hambúrguer\n")));
+        assertEquals("Cabeçalho do CSV sem a coluna obrigatória: preco", semColuna.getMessage());
+        DomainException precoInvalido = assertThrows(DomainException.class,
+            () -> leitor.ler(CSV, corpo("nome,preco,categoria\nBig Mac,abc,LANCHE\n")));
+        assertEquals("Linha 2: preço inválido: abc", precoInvalido.getMessage());
+    }
+
+    @Test
+    void deveLerNdjsonIgnorandoLinhasEmBranco() throws Exception {
+        // Given
+        String ndjson = "{\"nome\":\"Big Mac\",\"preco\":25.90,\"categoria\":\"LANCHE\"}\n"
+            + "\n"
+            + "{\"nome\":\"Água\",\"descricao\":\"Sem gás\",\"preco\":4,\"categoria\":\"BEBIDA\"}\n";
+
+        // When
+        List<CriarProdutoRequest> produtos = leitor.ler(NDJSON, corpo(ndjson));
+
+        // Then
+        assertEquals(2, produtos.size());
+        assertEquals("Big Mac", produtos.get(0).getNome());
+        assertEquals("Sem gás", produtos.get(1).getDescricao());
+        DomainException invalido = assertThrows(DomainException.class,
+            () -> leitor.ler(NDJSON, corpo("{\"nome\":\"Big Mac\"}\n{\"nome\":")));
+        assertTrue(invalido.getMessage().startsWith("Linha 2: JSON inválido"));
+    }
+}
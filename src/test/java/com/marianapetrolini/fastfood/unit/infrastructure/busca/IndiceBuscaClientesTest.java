@@ -0,0 +1,112 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.busca;
+
+import com.marianapetrolini.fastfood.application.dtos.cliente.ClienteSugestaoResponse;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.valueobjects.CPF;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaClientes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o índice de sugestões de clientes.
+ */
+class IndiceBuscaClientesTest {
+
+    private IndiceBuscaClientes indice;
+
+    private static Cliente cliente(long id, String nome, String cpf, String telefone) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new Cliente(id, nome, cpf != null ? new CPF(cpf) : null, new Email("cliente" + id + "@email.com"),
+                           telefone, true, true, 0, null, agora, agora);
+    }
+
+    private List<Long> ids(String termo) {
+        return indice.sugerir(termo, 10).stream().map(ClienteSugestaoResponse::getId).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceBuscaClientes();
+        indice.recarregar(Arrays.asList(
+            cliente(1L, "Maria Santos", "52998224725", "(11) 98765-4321"),
+            cliente(2L, "João Silva", "11144477735", null),
+            cliente(3L, "Mário Conceição", "39053344705", "11 91234-0000")
+        ));
+    }
+
+    @Test
+    void deveSugerirPorNomeCpfETelefone() {
+        // When / Then
+        assertEquals(Arrays.asList(1L, 3L), ids("mar"));
+        assertEquals(Arrays.asList(3L), ids("conceicao"));
+        assertEquals(Arrays.asList(1L), ids("santos MA"));
+        assertEquals(Arrays.asList(1L), ids("529.982"));
+        assertEquals(Arrays.asList(1L), ids("98765-43"));
+        assertEquals(Arrays.asList(2L), ids("111.444"));
+        assertEquals(Arrays.asList(3L, 1L), ids("(11) 9"));
+        assertTrue(ids("pedro").isEmpty());
+
+        ClienteSugestaoResponse maria = indice.sugerir("maria", 10).get(0);
+        assertEquals("529.982.247-25", maria.getCpf());
+        assertEquals("(11) 98765-4321", maria.getTelefone());
+    }
+
+    @Test
+    void deveLimitarResultadosEAtualizarIncrementalmente() {
+        // Given
+        List<Cliente> clientes = new ArrayList<>();
+        for (long id = 10; id < 500; id++) {
+            clientes.add(cliente(id, "Ana Souza " + id, null, "1190000" + id));
+        }
+        clientes.forEach(indice::indexar);
+
+        // When
+        indice.indexar(cliente(1L, "Maria Oliveira", "52998224725", null));
+        indice.remover(3L);
+        for (long id = 10; id < 400; id++) {
+            indice.remover(id);
+        }
+
+        // Then
+        assertEquals(5, indice.sugerir("ana", 5).size());
+        assertEquals(Arrays.asList(400L, 401L), indice.sugerir("ana souza", 2).stream()
+            .map(ClienteSugestaoResponse::getId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(1L), ids("oliv"));
+        assertTrue(ids("santos").isEmpty());
+        assertTrue(ids("mario").isEmpty());
+        assertEquals(Arrays.asList(1L), ids("mar"));
+        assertEquals(102, indice.tamanho());
+    }
+
+    @Test
+    void deveSugerirDuranteARecargaEReaplicarAsAlteracoesDoPod() {
+        // When
+        indice.recarregar(() -> {
+            // A leitura dos clientes não segura o bloqueio: as sugestões seguem no índice anterior
+            assertEquals(Arrays.asList(1L, 3L), ids("mar"));
+            indice.indexar(cliente(5L, "Marta Rocha", null, null));
+            indice.remover(1L);
+            return Arrays.asList(
+                cliente(1L, "Maria Santos", "52998224725", "(11) 98765-4321"),
+                cliente(4L, "Paula Zanetti", "00123456797", "(02) 0012-3456")).iterator();
+        });
+
+        // Then
+        assertEquals(Arrays.asList(5L), ids("mar"));
+        assertEquals(Arrays.asList(4L), ids("001.234"));
+        assertEquals(Arrays.asList(4L), ids("0012"));
+        ClienteSugestaoResponse paula = indice.sugerir("paula", 1).get(0);
+        assertEquals("001.234.567-97", paula.getCpf());
+        assertEquals("(02) 0012-3456", paula.getTelefone());
+        assertEquals(2, indice.tamanho());
+    }
+}
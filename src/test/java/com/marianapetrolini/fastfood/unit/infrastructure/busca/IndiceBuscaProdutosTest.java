@@ -0,0 +1,95 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.busca;
+
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.infrastructure.busca.IndiceBuscaProdutos;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o índice de busca de produtos em memória.
+ */
+class IndiceBuscaProdutosTest {
+
+    private IndiceBuscaProdutos indice;
+
+    private static Produto produto(long id, String nome, String descricao, CategoriaProduto categoria) {
+        LocalDateTime agora = LocalDateTime.now();
+        return new Produto(id, nome, descricao, new BigDecimal("10.00"), categoria, true, agora, agora);
+    }
+
+    private List<String> nomes(String consulta) {
+        return indice.buscar(consulta).stream().map(Produto::getNome).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceBuscaProdutos();
+        indice.recarregar(Arrays.asList(
+            produto(1L, "Torta de Maçã", "Massa crocante com recheio de maçã", CategoriaProduto.SOBREMESA),
+            produto(2L, "Big Mac", "Dois hambúrgueres, alface, queijo e molho especial", CategoriaProduto.LANCHE),
+            produto(3L, "Batata Frita Grande", "Porção grande de batatas", CategoriaProduto.ACOMPANHAMENTO),
+            produto(4L, "Suco Natural", "Suco de maçã ou laranja", CategoriaProduto.BEBIDA)
+        ));
+    }
+
+    @Test
+    void deveBuscarSemAcentosEOrdenarPorRelevancia() {
+        // When
+        List<String> resultado = nomes("mac");
+
+        // Then
+        // "Big Mac" tem a palavra exata no nome, "Torta de Maçã" o prefixo e o suco só na descrição
+        assertEquals(Arrays.asList("Big Mac", "Torta de Maçã", "Suco Natural"), resultado);
+        assertEquals(Arrays.asList("Torta de Maçã", "Suco Natural"), nomes("MAÇÃ"));
+        assertEquals(Arrays.asList("Batata Frita Grande"), nomes("bat fri"));
+        assertEquals(Arrays.asList("Batata Frita Grande"), nomes("ata"));
+        assertTrue(nomes("pizza").isEmpty());
+    }
+
+    @Test
+    void deveAtualizarIncrementalmente() {
+        // When
+        indice.indexar(produto(5L, "Maçã do Amor", "Doce de festa junina", CategoriaProduto.SOBREMESA));
+        indice.indexar(produto(2L, "Quarteirão", "Hambúrguer de carne", CategoriaProduto.LANCHE));
+        indice.remover(1L);
+
+        // Then
+        assertEquals(Arrays.asList("Maçã do Amor", "Suco Natural"), nomes("maca"));
+        assertEquals(Arrays.asList("Quarteirão"), nomes("quarteirao"));
+        assertTrue(nomes("big").isEmpty());
+        assertEquals(4, indice.tamanho());
+    }
+
+    @Test
+    void deveManterAsBuscasEAsAlteracoesDoPodDuranteARecarga() {
+        // Given
+        List<Produto> catalogoDoBanco = Arrays.asList(
+            produto(1L, "Torta de Maçã", "Massa crocante com recheio de maçã", CategoriaProduto.SOBREMESA),
+            produto(6L, "Milkshake", "Gravado por outro pod", CategoriaProduto.BEBIDA));
+
+        // When
+        indice.recarregar(() -> {
+            // Enquanto o catálogo é lido, as buscas seguem no índice anterior
+            assertEquals(Arrays.asList("Big Mac", "Torta de Maçã", "Suco Natural"), nomes("mac"));
+            indice.indexar(produto(7L, "Cookie", "Salvo neste pod durante a recarga", CategoriaProduto.SOBREMESA));
+            indice.remover(1L);
+            return catalogoDoBanco;
+        });
+
+        // Then
+        assertEquals(Arrays.asList("Milkshake"), nomes("milk"));
+        assertEquals(Arrays.asList("Cookie"), nomes("cookie"));
+        assertTrue(nomes("torta").isEmpty());
+        assertTrue(nomes("big").isEmpty());
+        assertEquals(2, indice.tamanho());
+    }
+}
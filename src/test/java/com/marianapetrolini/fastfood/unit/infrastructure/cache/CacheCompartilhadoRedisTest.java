@@ -0,0 +1,186 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.cache;
+
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheCompartilhadoRedis;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheDoisNiveis;
+import com.marianapetrolini.fastfood.infrastructure.cache.Codificador;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do cache compartilhado no Redis, contra um servidor Redis embarcado,
+ * com dois pods, cada um com as suas conexões.
+ */
+class CacheCompartilhadoRedisTest {
+
+    private static final Codificador<String> TEXTO = new Codificador<String>() {
+        @Override
+        protected void escrever(String valor, DataOutputStream saida) throws IOException {
+            saida.writeUTF(valor);
+        }
+
+        @Override
+        protected String ler(DataInputStream entrada) throws IOException {
+            return entrada.readUTF();
+        }
+    };
+
+    private final List<LettuceConnectionFactory> conexoes = new ArrayList<>();
+    private final List<RedisMessageListenerContainer> assinaturas = new ArrayList<>();
+    private final AtomicInteger consultasAoBanco = new AtomicInteger();
+    private RedisServer servidor;
+    private int porta;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        try (ServerSocket livre = new ServerSocket(0)) {
+            porta = livre.getLocalPort();
+        }
+        servidor = new RedisServer(porta);
+        servidor.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : assinaturas) {
+            container.destroy();
+        }
+        conexoes.forEach(LettuceConnectionFactory::destroy);
+        servidor.stop();
+    }
+
+    private CacheCompartilhadoRedis novoCompartilhado() {
+        LettuceConnectionFactory fabrica = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", porta),
+            LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(200)).build());
+        fabrica.afterPropertiesSet();
+        conexoes.add(fabrica);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(fabrica);
+        container.afterPropertiesSet();
+        assinaturas.add(container);
+        return new CacheCompartilhadoRedis(fabrica, container);
+    }
+
+    private CacheDoisNiveis novoPod(SimpleMeterRegistry registry) {
+        return novoPod(novoCompartilhado(), registry);
+    }
+
+    private CacheDoisNiveis novoPod(CacheCompartilhadoRedis compartilhado, SimpleMeterRegistry registry) {
+        CacheDoisNiveis pod = new CacheDoisNiveis("produtos", compartilhado, 100, Duration.ofMinutes(1),
+                                                  Duration.ofMinutes(10), registry);
+        compartilhado.iniciarAssinaturas();
+        return pod;
+    }
+
+    private Optional<String> buscar(CacheDoisNiveis pod, String valorNoBanco) {
+        return pod.obter("id:1", TEXTO, () -> {
+            consultasAoBanco.incrementAndGet();
+            return Optional.of(valorNoBanco);
+        }, true);
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.nanoTime() < limite, "condição não atendida em 5s");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void deveGravarLerERemoverComExpiracao() throws InterruptedException {
+        // Given
+        CacheCompartilhadoRedis cache = novoCompartilhado();
+
+        // When
+        cache.gravar("produtos:id:1", new byte[] {1, 2, 3}, Duration.ofMinutes(1));
+        cache.gravar("produtos:id:2", new byte[] {4}, Duration.ofMillis(100));
+        byte[] lido = cache.obter("produtos:id:1");
+        cache.remover("produtos:id:1");
+
+        // Then
+        assertArrayEquals(new byte[] {1, 2, 3}, lido);
+        assertNull(cache.obter("produtos:id:1"));
+        aguardar(() -> cache.obter("produtos:id:2") == null);
+    }
+
+    @Test
+    void deveAtenderOutroPodERetirarAChaveDoCacheProximoDeleAoInvalidar() throws InterruptedException {
+        // Given
+        SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+        CacheDoisNiveis podA = novoPod(new SimpleMeterRegistry());
+        CacheDoisNiveis podB = novoPod(registryB);
+        buscar(podA, "X-Burger");
+        Optional<String> noPodB = buscar(podB, "X-Burger");
+
+        // When
+        podA.invalidar("id:1");
+        aguardar(() -> registryB.get("fastfood.cache.invalidacoes").tag("origem", "remota").counter().count() == 1);
+        Optional<String> depois = buscar(podB, "X-Burger Duplo");
+
+        // Then
+        assertEquals(Optional.of("X-Burger"), noPodB);
+        assertEquals(Optional.of("X-Burger Duplo"), depois);
+        assertEquals(2, consultasAoBanco.get());
+    }
+
+    @Test
+    void deveSeguirPeloBancoComORedisForaDoAr() throws IOException {
+        // Given
+        CacheDoisNiveis pod = novoPod(new SimpleMeterRegistry());
+        servidor.stop();
+
+        // When
+        Optional<String> valor = pod.obter("id:1", TEXTO, () -> {
+            consultasAoBanco.incrementAndGet();
+            return Optional.of("X-Burger");
+        }, false);
+
+        // Then
+        assertEquals(Optional.of("X-Burger"), valor);
+        assertEquals(1, consultasAoBanco.get());
+    }
+
+    @Test
+    void deveAssinarOsCanaisQuandoORedisSobeDepoisDoPod() throws IOException, InterruptedException {
+        // Given
+        servidor.stop();
+        SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+        CacheCompartilhadoRedis compartilhadoB = novoCompartilhado();
+        CacheDoisNiveis podB = novoPod(compartilhadoB, registryB);
+        boolean assinadoSemRedis = compartilhadoB.iniciarAssinaturas();
+        servidor.start();
+        CacheDoisNiveis podA = novoPod(new SimpleMeterRegistry());
+
+        // When
+        boolean assinadoComRedis = compartilhadoB.iniciarAssinaturas();
+        buscar(podB, "X-Burger");
+        podA.invalidar("id:1");
+        aguardar(() -> registryB.get("fastfood.cache.invalidacoes").tag("origem", "remota").counter().count() == 1);
+        Optional<String> depois = buscar(podB, "X-Burger Duplo");
+
+        // Then
+        assertFalse(assinadoSemRedis);
+        assertTrue(assinadoComRedis);
+        assertEquals(Optional.of("X-Burger Duplo"), depois);
+    }
+}
@@ -0,0 +1,88 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.cache;
+
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheCompartilhadoLocal;
+import com.marianapetrolini.fastfood.infrastructure.cache.CacheDoisNiveis;
+import com.marianapetrolini.fastfood.infrastructure.cache.Codificador;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o cache de dois níveis, com dois pods ligados ao
+ * mesmo cache compartilhado em processo.
+ */
+class CacheDoisNiveisTest {
+
+    private static final Codificador<String> TEXTO = new Codificador<String>() {
+        @Override
+        protected void escrever(String valor, DataOutputStream saida) throws IOException {
+            saida.writeUTF(valor);
+        }
+
+        @Override
+        protected String ler(DataInputStream entrada) throws IOException {
+            return entrada.readUTF();
+        }
+    };
+
+    private final CacheCompartilhadoLocal compartilhado = new CacheCompartilhadoLocal();
+    private final SimpleMeterRegistry registryA = new SimpleMeterRegistry();
+    private final SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+    private final CacheDoisNiveis podA = novoPod(registryA);
+    private final CacheDoisNiveis podB = novoPod(registryB);
+    private final AtomicInteger consultasAoBanco = new AtomicInteger();
+
+    private CacheDoisNiveis novoPod(SimpleMeterRegistry registry) {
+        return new CacheDoisNiveis("produtos", compartilhado, 100, Duration.ofMinutes(1), Duration.ofMinutes(10),
+                                   registry);
+    }
+
+    private Optional<String> buscar(CacheDoisNiveis pod, String valorNoBanco) {
+        return pod.obter("id:1", TEXTO, () -> {
+            consultasAoBanco.incrementAndGet();
+            return Optional.of(valorNoBanco);
+        }, true);
+    }
+
+    @Test
+    void deveAtenderOutroPodPeloCacheCompartilhado() {
+        // When
+        buscar(podA, "X-Burger");
+        Optional<String> noPodB = buscar(podB, "X-Burger");
+        buscar(podB, "X-Burger");
+
+        // Then
+        assertEquals(Optional.of("X-Burger"), noPodB);
+        assertEquals(1, consultasAoBanco.get());
+        assertEquals(1.0, registryB.get("fastfood.cache.taxa.acerto").gauge().value());
+        assertEquals(1, registryB.get("fastfood.cache.consultas").tag("resultado", "compartilhado")
+            .functionCounter().count());
+        assertEquals(1, registryB.get("fastfood.cache.consultas").tag("resultado", "proximo")
+            .functionCounter().count());
+    }
+
+    @Test
+    void deveRetirarAChaveDoCacheProximoDosOutrosPodsAoInvalidar() {
+        // Given
+        buscar(podA, "X-Burger");
+        buscar(podB, "X-Burger");
+
+        // When
+        podA.invalidar("id:1");
+        Optional<String> noPodB = buscar(podB, "X-Burger Duplo");
+
+        // Then
+        assertEquals(Optional.of("X-Burger Duplo"), noPodB);
+        assertEquals(2, consultasAoBanco.get());
+        assertEquals(1, registryB.get("fastfood.cache.invalidacoes").tag("origem", "remota").counter().count());
+        assertEquals(0, registryA.get("fastfood.cache.invalidacoes").tag("origem", "remota").counter().count());
+    }
+}
@@ -0,0 +1,107 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.coalescencia;
+
+import com.marianapetrolini.fastfood.infrastructure.coalescencia.VooUnico;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a coalescência de consultas idênticas simultâneas.
+ */
+class VooUnicoTest {
+
+    private static final int CHAMADAS = 8;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VooUnico vooUnico = new VooUnico("pedidos", registry);
+
+    @Test
+    void deveExecutarUmaConsultaParaChamadasSimultaneasIdenticas() throws Exception {
+        // Given
+        AtomicInteger consultas = new AtomicInteger();
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<String> resultado = Collections.singletonList("pedido 1");
+        ExecutorService executor = Executors.newFixedThreadPool(CHAMADAS);
+
+        // When
+        List<Future<List<String>>> chamadas = new ArrayList<>();
+        for (int i = 0; i < CHAMADAS; i++) {
+            chamadas.add(executor.submit(() -> vooUnico.executar("cozinha", () -> {
+                consultas.incrementAndGet();
+                aguardar(liberar);
+                return resultado;
+            })));
+        }
+        aguardarCompartilhadas(CHAMADAS - 1);
+        liberar.countDown();
+
+        // Then
+        for (Future<List<String>> chamada : chamadas) {
+            assertSame(resultado, chamada.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, consultas.get());
+        assertEquals(7.0 / 8, vooUnico.getTaxaCompartilhadas(), 1e-9);
+        assertEquals(1, registry.get("fastfood.coalescencia.chamadas").tag("resultado", "executada")
+            .functionCounter().count());
+
+        // A consulta seguinte não reaproveita o resultado anterior
+        vooUnico.executar("cozinha", () -> {
+            consultas.incrementAndGet();
+            return resultado;
+        });
+        assertEquals(2, consultas.get());
+    }
+
+    @Test
+    void deveRepassarAExcecaoDaConsultaParaTodasAsChamadas() throws Exception {
+        // Given
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        List<Future<Object>> chamadas = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            chamadas.add(executor.submit(() -> vooUnico.executar("pendentes", () -> {
+                aguardar(liberar);
+                throw new IllegalStateException("Banco indisponível");
+            })));
+        }
+        aguardarCompartilhadas(1);
+        liberar.countDown();
+
+        // Then
+        for (Future<Object> chamada : chamadas) {
+            Exception erro = assertThrows(Exception.class, () -> chamada.get(5, TimeUnit.SECONDS));
+            assertTrue(erro.getCause() instanceof IllegalStateException);
+        }
+        executor.shutdown();
+    }
+
+    private void aguardarCompartilhadas(int esperadas) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("fastfood.coalescencia.chamadas").tag("resultado", "compartilhada")
+                   .functionCounter().count() < esperadas && System.nanoTime() < limite) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void aguardar(CountDownLatch liberar) {
+        try {
+            liberar.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutRequest;
+import com.marianapetrolini.fastfood.application.dtos.pedido.CheckoutResponse;
+import com.marianapetrolini.fastfood.domain.exceptions.DomainException;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ChavesIdempotenciaAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.jpa.ChaveIdempotenciaJpaEntity;
+import com.marianapetrolini.fastfood.infrastructure.idempotencia.CheckoutIdempotente;
+import com.marianapetrolini.fastfood.infrastructure.idempotencia.CheckoutIdempotente.Situacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o checkout idempotente.
+ */
+class CheckoutIdempotenteTest {
+
+    private final ChavesIdempotenciaAdapter chaves = mock(ChavesIdempotenciaAdapter.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CheckoutIdempotente idempotente = new CheckoutIdempotente(chaves, objectMapper,
+        new SimpleMeterRegistry(), Duration.ofHours(24), Duration.ofSeconds(60), 100);
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    private static CheckoutRequest request(int quantidade) {
+        return new CheckoutRequest(new CheckoutRequest.ClienteRequest("Maria Santos", "52998224725", "maria@email.com"),
+            Collections.singletonList(new CheckoutRequest.ItemPedidoRequest(1L, quantidade)), "PIX");
+    }
+
+    private Supplier<CheckoutResponse> checkout() {
+        return () -> new CheckoutResponse(100L + execucoes.incrementAndGet(), "RECEBIDO",
+                                          new BigDecimal("25.90"), "PIX", "Pedido realizado");
+    }
+
+    @Test
+    void deveRepetirARespostaSemExecutarOCheckoutDeNovo() {
+        // Given
+        CheckoutIdempotente.Resultado primeiro = idempotente.executar("chave-1", request(2), checkout());
+
+        // When
+        CheckoutIdempotente.Resultado repetido = idempotente.executar("chave-1", request(2), checkout());
+
+        // Then
+        assertEquals(Situacao.EXECUTADO, primeiro.getSituacao());
+        assertEquals(Situacao.REPETIDO, repetido.getSituacao());
+        assertEquals(101L, repetido.getResposta().getPedidoId());
+        assertEquals(1, execucoes.get());
+        verify(chaves, times(1)).reservar(eq("chave-1"), anyString(), any(), any());
+        verify(chaves).concluir(eq("chave-1"), any(), any());
+    }
+
+    @Test
+    void deveRecusarAMesmaChaveComOutroCorpo() {
+        // Given
+        idempotente.executar("chave-1", request(2), checkout());
+
+        // When
+        CheckoutIdempotente.Resultado resultado = idempotente.executar("chave-1", request(3), checkout());
+
+        // Then
+        assertEquals(Situacao.CONFLITO, resultado.getSituacao());
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void deveUsarARespostaGravadaPorOutroPod() throws Exception {
+        // Given
+        CheckoutIdempotente outroPod = new CheckoutIdempotente(chaves, objectMapper, new SimpleMeterRegistry(),
+            Duration.ofHours(24), Duration.ofSeconds(60), 100);
+        CheckoutIdempotente.Resultado original = outroPod.executar("chave-1", request(2), checkout());
+        ChaveIdempotenciaJpaEntity registro = new ChaveIdempotenciaJpaEntity("chave-1", impressaoReservada(),
+            LocalDateTime.now(), LocalDateTime.now().plusHours(24));
+        registro.concluir(objectMapper.writeValueAsBytes(original.getResposta()));
+        doThrow(new DataIntegrityViolationException("chave duplicada"))
+            .when(chaves).reservar(eq("chave-1"), anyString(), any(), any());
+        when(chaves.buscar("chave-1")).thenReturn(Optional.of(registro));
+
+        // When
+        CheckoutIdempotente.Resultado resultado = idempotente.executar("chave-1", request(2), checkout());
+
+        // Then
+        assertEquals(Situacao.REPETIDO, resultado.getSituacao());
+        assertEquals(101L, resultado.getResposta().getPedidoId());
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void deveResponderEmAndamentoELiberarAChaveQuandoOCheckoutFalha() {
+        // Given
+        AtomicReference<String> impressao = new AtomicReference<>();
+        doAnswer(invocacao -> {
+            impressao.set(invocacao.getArgument(1));
+            throw new DataIntegrityViolationException("chave duplicada");
+        }).when(chaves).reservar(eq("chave-2"), anyString(), any(), any());
+        // Outro pod reserva a chave entre a consulta e a reserva deste
+        when(chaves.buscar("chave-2")).thenReturn(Optional.empty()).thenAnswer(invocacao -> Optional.of(new ChaveIdempotenciaJpaEntity(
+            "chave-2", impressao.get(), LocalDateTime.now(), LocalDateTime.now().plusHours(24))));
+
+        // When
+        CheckoutIdempotente.Resultado emAndamento = idempotente.executar("chave-2", request(2), checkout());
+        assertThrows(DomainException.class, () -> idempotente.executar("chave-3", request(2), () -> {
+            throw new DomainException("Produto indisponível");
+        }));
+
+        // Then
+        assertEquals(Situacao.EM_ANDAMENTO, emAndamento.getSituacao());
+        assertEquals(0, execucoes.get());
+        verify(chaves).liberar(eq("chave-3"), any());
+        verify(chaves, never()).concluir(eq("chave-3"), any(), any());
+        assertEquals(Situacao.CHAVE_INVALIDA, idempotente.executar(" ", request(2), checkout()).getSituacao());
+    }
+
+    @Test
+    void deveMarcarAChaveComoIndeterminadaQuandoOCheckoutFalhaDepoisDePoderTerGravado() {
+        // Given
+        ArgumentCaptor<String> impressao = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<LocalDateTime> reservadaEm = ArgumentCaptor.forClass(LocalDateTime.class);
+        assertThrows(QueryTimeoutException.class, () -> idempotente.executar("chave-6", request(2), () -> {
+            throw new QueryTimeoutException("Tempo esgotado no commit");
+        }));
+        verify(chaves).reservar(eq("chave-6"), impressao.capture(), reservadaEm.capture(), any());
+        ChaveIdempotenciaJpaEntity registro = new ChaveIdempotenciaJpaEntity("chave-6", impressao.getValue(),
+            reservadaEm.getValue(), reservadaEm.getValue().plusHours(24));
+        registro.marcarIndeterminada();
+        when(chaves.buscar("chave-6")).thenReturn(Optional.of(registro));
+
+        // When
+        CheckoutIdempotente.Resultado repeticao = idempotente.executar("chave-6", request(2), checkout());
+
+        // Then
+        verify(chaves).marcarIndeterminada("chave-6", reservadaEm.getValue());
+        verify(chaves, never()).liberar(any(), any());
+        assertEquals(Situacao.INDETERMINADO, repeticao.getSituacao());
+        assertEquals(0, execucoes.get());
+    }
+
+    @Test
+    void deveTentarDeNovoAGravacaoDaRespostaComAMesmaReserva() {
+        // Given
+        when(chaves.concluir(eq("chave-4"), any(), any()))
+            .thenThrow(new IllegalStateException("Conexão perdida"))
+            .thenReturn(true);
+
+        // When
+        CheckoutIdempotente.Resultado resultado = idempotente.executar("chave-4", request(2), checkout());
+
+        // Then
+        assertEquals(Situacao.EXECUTADO, resultado.getSituacao());
+        ArgumentCaptor<LocalDateTime> reservadaEm = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(chaves).reservar(eq("chave-4"), anyString(), reservadaEm.capture(), any());
+        verify(chaves, times(2)).concluir(eq("chave-4"), eq(reservadaEm.getValue()), any());
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void naoDeveExecutarDeNovoUmaReservaAbandonadaSemResposta() {
+        // Given
+        AtomicReference<String> impressao = new AtomicReference<>();
+        doAnswer(invocacao -> {
+            impressao.set(invocacao.getArgument(1));
+            throw new DataIntegrityViolationException("chave duplicada");
+        }).when(chaves).reservar(eq("chave-5"), anyString(), any(), any());
+        // Pod que caiu no meio do checkout, há mais que a reserva máxima
+        LocalDateTime reservadaEm = LocalDateTime.now().minusMinutes(5);
+        when(chaves.buscar("chave-5")).thenReturn(Optional.empty()).thenAnswer(invocacao -> Optional.of(
+            new ChaveIdempotenciaJpaEntity("chave-5", impressao.get(), reservadaEm, reservadaEm.plusHours(24))));
+
+        // When
+        CheckoutIdempotente.Resultado resultado = idempotente.executar("chave-5", request(2), checkout());
+
+        // Then
+        assertEquals(Situacao.INDETERMINADO, resultado.getSituacao());
+        assertEquals(0, execucoes.get());
+        verify(chaves, never()).liberar(any(), any());
+    }
+
+    private String impressaoReservada() {
+        ArgumentCaptor<String> impressao = ArgumentCaptor.forClass(String.class);
+        verify(chaves).reservar(eq("chave-1"), impressao.capture(), any(), any());
+        return impressao.getValue();
+    }
+}
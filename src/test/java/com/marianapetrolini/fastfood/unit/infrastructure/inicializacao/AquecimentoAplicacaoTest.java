@@ -0,0 +1,102 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.inicializacao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marianapetrolini.fastfood.application.dtos.produto.ProdutoResponse;
+import com.marianapetrolini.fastfood.application.ports.input.ProdutoUseCase;
+import com.marianapetrolini.fastfood.infrastructure.inicializacao.AquecimentoAplicacao;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.InstrumentacaoPortas;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.Rastreamento;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o aquecimento da aplicação.
+ */
+class AquecimentoAplicacaoTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Object> eventos = new ArrayList<>();
+
+    @Test
+    void deveAquecerSemMarcarAAplicacaoComoPronta() {
+        // Given
+        ProdutoUseCase produtoUseCase = mock(ProdutoUseCase.class);
+        when(produtoUseCase.listarProdutosDisponiveis()).thenReturn(Collections.singletonList(
+            new ProdutoResponse(1L, "X-Burger", "Hambúrguer", new BigDecimal("25.90"), "LANCHE",
+                                true, LocalDateTime.now(), LocalDateTime.now())));
+        AquecimentoAplicacao aquecimento = criar(produtoUseCase, 10);
+
+        // When
+        aquecimento.run(null);
+
+        // Then
+        verify(produtoUseCase, times(3)).listarProdutosDisponiveis();
+        // Quem marca a aplicação como pronta é o Spring Boot, depois dos runners
+        assertEquals(1, eventos.size());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, estado(0));
+        assertEquals(1, registry.get("fastfood.aquecimento.duracao").timer().count());
+    }
+
+    @Test
+    void naoDeveImpedirASubidaQuandoOAquecimentoFalha() {
+        // Given
+        ProdutoUseCase produtoUseCase = mock(ProdutoUseCase.class);
+        when(produtoUseCase.listarProdutosDisponiveis()).thenThrow(new IllegalStateException("banco indisponível"));
+        AquecimentoAplicacao aquecimento = criar(produtoUseCase, 10);
+
+        // When
+        aquecimento.run(null);
+
+        // Then
+        verify(produtoUseCase, times(1)).listarProdutosDisponiveis();
+        assertEquals(1, eventos.size());
+        assertEquals(ReadinessState.REFUSING_TRAFFIC, estado(0));
+    }
+
+    @Test
+    void naoDeveRegistrarAsChamadasDoAquecimentoNoTimerDasOperacoes() {
+        // Given
+        ProdutoUseCase real = mock(ProdutoUseCase.class);
+        when(real.listarProdutosDisponiveis()).thenReturn(Collections.emptyList());
+        ProdutoUseCase produtoUseCase = (ProdutoUseCase) new InstrumentacaoPortas(registry, new Rastreamento(0.0))
+            .instrumentar(real, "caso_de_uso");
+        AquecimentoAplicacao aquecimento = criar(produtoUseCase, 10);
+
+        // When
+        aquecimento.run(null);
+        produtoUseCase.listarProdutosDisponiveis();
+
+        // Then
+        Timer listagem = registry.find(InstrumentacaoPortas.METRICA).tag("metodo", "listarProdutosDisponiveis").timer();
+        assertNotNull(listagem);
+        assertEquals(1, listagem.count());
+    }
+
+    private AquecimentoAplicacao criar(ProdutoUseCase produtoUseCase, int iteracoes) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+            Collections.singletonMap("produtoUseCase", produtoUseCase));
+        return new AquecimentoAplicacao(eventos::add,
+                                        beanFactory.getBeanProvider(ProdutoUseCase.class),
+                                        beanFactory.getBeanProvider(DataSource.class),
+                                        beanFactory.getBeanProvider(ObjectMapper.class),
+                                        registry, true, iteracoes, 3, 0, 5000);
+    }
+
+    private ReadinessState estado(int indice) {
+        return (ReadinessState) ((AvailabilityChangeEvent<?>) eventos.get(indice)).getState();
+    }
+}
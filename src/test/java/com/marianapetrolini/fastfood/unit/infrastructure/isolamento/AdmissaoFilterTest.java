@@ -0,0 +1,158 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.isolamento;
+
+import com.marianapetrolini.fastfood.infrastructure.isolamento.AdmissaoFilter;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.LimitadorTaxa;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.LimiteConcorrencia;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o controle de admissão da API.
+ */
+class AdmissaoFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LimiteConcorrencia concorrencia = new LimiteConcorrencia(2, 1, 10, 1.5);
+    private final AdmissaoFilter filtro = new AdmissaoFilter(new LimitadorTaxa(3, 6, 100),
+        Collections.singletonList("POST /api/pedidos/checkout"), concorrencia, null, registry);
+
+    @Test
+    void deveRecusarComStatus429OCheckoutAcimaDaTaxaDoCliente() throws Exception {
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, executar("POST", "/api/pedidos/checkout", "10.0.0.1").getStatus());
+        }
+        MockHttpServletResponse recusado = executar("POST", "/api/pedidos/checkout", "10.0.0.1");
+
+        // Then
+        assertEquals(429, recusado.getStatus());
+        assertEquals("10", recusado.getHeader("Retry-After"));
+        assertEquals(200, executar("POST", "/api/pedidos/checkout", "10.0.0.2").getStatus());
+        assertEquals(200, executar("GET", "/api/pedidos/cozinha", "10.0.0.1").getStatus());
+        assertEquals(1, registry.get("fastfood.admissao.recusadas").tag("motivo", "taxa").counter().count());
+    }
+
+    @Test
+    void naoDeveTrocarDeBaldeComXForwardedForForjado() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            executar("POST", "/api/pedidos/checkout", "10.0.0.1");
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/pedidos/checkout");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "203.0.113.7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filtro.doFilter(request, response, new MockFilterChain());
+
+        // Then
+        assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    void deveDescartarOBaldeUsadoHaMaisTempoAcimaDoMaximoDeClientes() {
+        // Given
+        LimitadorTaxa limitador = new LimitadorTaxa(3, 6, 2);
+        limitador.consumir("10.0.0.2");
+        for (int i = 0; i < 3; i++) {
+            limitador.consumir("10.0.0.1");
+        }
+
+        // When
+        limitador.consumir("10.0.0.3");
+
+        // Then
+        assertEquals(2, limitador.clientes());
+        assertTrue(limitador.consumir("10.0.0.1") > 0);
+    }
+
+    @Test
+    void deveRecusarComStatus503AcimaDoLimiteDeConcorrencia() throws Exception {
+        // Given
+        assertTrue(concorrencia.admitir());
+        assertTrue(concorrencia.admitir());
+
+        // When
+        MockHttpServletResponse recusado = executar("GET", "/api/produtos", "10.0.0.1");
+
+        // Then
+        assertEquals(503, recusado.getStatus());
+        assertEquals(1, registry.get("fastfood.admissao.recusadas").tag("motivo", "concorrencia").counter().count());
+    }
+
+    @Test
+    void deveReduzirOLimiteQuandoALatenciaSobe() {
+        // Given
+        LimiteConcorrencia limite = new LimiteConcorrencia(40, 5, 100, 1.5);
+        for (int i = 0; i < 10; i++) {
+            ocupar(limite, 40, "cozinha", TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        int comLatenciaNormal = limite.getLimite();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            ocupar(limite, limite.getLimite(), "cozinha", TimeUnit.MILLISECONDS.toNanos(50));
+        }
+
+        // Then
+        assertTrue(comLatenciaNormal >= 40);
+        assertTrue(limite.getLimite() < comLatenciaNormal / 2);
+    }
+
+    @Test
+    void naoDeveReduzirOLimiteComRotasRapidasELentasMisturadas() {
+        // Given
+        LimiteConcorrencia limite = new LimiteConcorrencia(40, 5, 100, 1.5);
+        int menorLimite = limite.getLimite();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            int admitidas = 0;
+            while (admitidas < limite.getLimite() && limite.admitir()) {
+                admitidas++;
+            }
+            for (int j = 0; j < admitidas; j++) {
+                if (j % 2 == 0) {
+                    limite.concluir("cozinha", TimeUnit.MILLISECONDS.toNanos(1));
+                } else {
+                    limite.concluir("relatorios", TimeUnit.MILLISECONDS.toNanos(30));
+                }
+                menorLimite = Math.min(menorLimite, limite.getLimite());
+            }
+        }
+
+        // Then
+        assertEquals(40, menorLimite);
+        assertEquals(100, limite.getLimite());
+    }
+
+    /**
+     * Admite requisições até o limite informado e conclui todas com a latência dada.
+     */
+    private static void ocupar(LimiteConcorrencia limite, int requisicoes, String grupo, long latenciaNanos) {
+        int admitidas = 0;
+        while (admitidas < requisicoes && limite.admitir()) {
+            admitidas++;
+        }
+        for (int i = 0; i < admitidas; i++) {
+            limite.concluir(grupo, latenciaNanos);
+        }
+    }
+
+    private MockHttpServletResponse executar(String metodo, String caminho, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, caminho);
+        request.setRemoteAddr(ip);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
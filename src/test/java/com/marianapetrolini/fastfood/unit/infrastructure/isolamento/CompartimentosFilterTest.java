@@ -0,0 +1,63 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.isolamento;
+
+import com.marianapetrolini.fastfood.infrastructure.isolamento.Compartimento;
+import com.marianapetrolini.fastfood.infrastructure.isolamento.CompartimentosFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para os compartimentos (bulkheads) da API.
+ */
+class CompartimentosFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Compartimento webhook = new Compartimento("webhook", 1, 0, registry);
+    private final Compartimento checkout = new Compartimento("checkout", 2, 0, registry);
+    private final CompartimentosFilter filtro = new CompartimentosFilter();
+
+    CompartimentosFilterTest() {
+        filtro.registrar("POST /api/pagamentos/webhook", webhook);
+        filtro.registrar("post /api/pedidos/checkout", checkout);
+    }
+
+    @Test
+    void deveResolverOCompartimentoPeloMetodoEPelaRota() {
+        // When / Then
+        assertSame(webhook, filtro.resolver("POST", "/api/pagamentos/webhook"));
+        assertSame(checkout, filtro.resolver("POST", "/api/pedidos/checkout"));
+        assertNull(filtro.resolver("GET", "/api/pedidos/checkout"));
+        assertNull(filtro.resolver("GET", "/api/produtos"));
+    }
+
+    @Test
+    void deveRecusarComCompartimentoLotadoSemAfetarOsOutros() throws Exception {
+        // Given
+        assertTrue(webhook.entrar());
+
+        // When
+        MockHttpServletResponse webhookRecusado = executar("POST", "/api/pagamentos/webhook");
+        MockHttpServletResponse checkoutAceito = executar("POST", "/api/pedidos/checkout");
+
+        // Then
+        assertEquals(503, webhookRecusado.getStatus());
+        assertEquals("1", webhookRecusado.getHeader("Retry-After"));
+        assertEquals(200, checkoutAceito.getStatus());
+        assertEquals(0, checkout.getEmUso());
+        assertEquals(1, registry.get("fastfood.compartimento.rejeitadas").tag("compartimento", "webhook")
+            .counter().count());
+        assertEquals(1.0, registry.get("fastfood.compartimento.ativas").tag("compartimento", "webhook")
+            .gauge().value());
+    }
+
+    private MockHttpServletResponse executar(String metodo, String caminho) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, caminho);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
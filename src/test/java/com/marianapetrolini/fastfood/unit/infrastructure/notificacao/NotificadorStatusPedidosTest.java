@@ -0,0 +1,123 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.notificacao;
+
+import com.marianapetrolini.fastfood.application.ports.output.NotificacaoPort;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.notificacao.NotificadorStatusPedidos;
+import com.marianapetrolini.fastfood.infrastructure.scheduling.RodaTemporizadora;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o envio coalescido das notificações de status.
+ */
+class NotificadorStatusPedidosTest {
+
+    private final AtomicLong agora = new AtomicLong();
+    private RodaTemporizadora roda;
+    private NotificacaoPort notificacaoPort;
+    private SimpleMeterRegistry registry;
+    private NotificadorStatusPedidos notificador;
+
+    @BeforeEach
+    void setUp() {
+        roda = new RodaTemporizadora(1, TimeUnit.SECONDS, 8, 2, agora::get);
+        notificacaoPort = mock(NotificacaoPort.class);
+        registry = new SimpleMeterRegistry();
+        notificador = new NotificadorStatusPedidos(roda, notificacaoPort, Runnable::run, registry, 2000);
+    }
+
+    private Pedido novoPedido(long id) {
+        Cliente cliente = new Cliente("Maria Santos", new Email("maria@email.com"));
+        Produto produto = new Produto("Big Mac", "Hambúrguer", new BigDecimal("25.90"), CategoriaProduto.LANCHE);
+        Pedido pedido = new Pedido(cliente, Collections.singletonList(new ItemPedido(produto, 1)));
+        pedido.setId(id);
+        return pedido;
+    }
+
+    private void avancarSegundos(long segundos) {
+        agora.addAndGet(TimeUnit.SECONDS.toNanos(segundos));
+        roda.avancar();
+    }
+
+    @Test
+    void deveCoalescerMudancasRapidasEmUmaUnicaNotificacao() {
+        // Given
+        Pedido pedido = novoPedido(42L);
+
+        // When
+        pedido.iniciarPreparacao();
+        notificador.statusAlterado(pedido, StatusPedido.RECEBIDO);
+        pedido.marcarComoPronto();
+        notificador.statusAlterado(pedido, StatusPedido.EM_PREPARACAO);
+
+        // Then
+        verifyNoInteractions(notificacaoPort);
+        assertEquals(1, notificador.getPendentes());
+
+        avancarSegundos(2);
+        verify(notificacaoPort).notificarPedidoPronto(42L, "maria@email.com", "42");
+        verifyNoMoreInteractions(notificacaoPort);
+        assertEquals(0, notificador.getPendentes());
+        assertEquals(1.0, registry.get("fastfood.notificacoes.status").tag("resultado", "coalescida").counter().count());
+    }
+
+    @Test
+    void deveEnviarMudancasSeparadasNaOrdem() {
+        // Given
+        Pedido pedido = novoPedido(7L);
+
+        // When
+        pedido.iniciarPreparacao();
+        notificador.statusAlterado(pedido, StatusPedido.RECEBIDO);
+        avancarSegundos(2);
+        pedido.marcarComoPronto();
+        notificador.statusAlterado(pedido, StatusPedido.EM_PREPARACAO);
+        avancarSegundos(2);
+
+        // Then
+        InOrder ordem = inOrder(notificacaoPort);
+        ordem.verify(notificacaoPort).notificarMudancaStatus(7L, "maria@email.com", StatusPedido.RECEBIDO,
+                                                             StatusPedido.EM_PREPARACAO, "7");
+        ordem.verify(notificacaoPort).notificarPedidoPronto(7L, "maria@email.com", "7");
+        assertEquals(2.0, registry.get("fastfood.notificacoes.status").tag("resultado", "enviada").counter().count());
+    }
+
+    @Test
+    void deveContarFalhaSemInterromperAsProximasNotificacoes() {
+        // Given
+        Pedido pedido = novoPedido(9L);
+        when(notificacaoPort.notificarMudancaStatus(anyLong(), any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("provedor fora do ar"));
+
+        // When
+        pedido.iniciarPreparacao();
+        notificador.statusAlterado(pedido, StatusPedido.RECEBIDO);
+        avancarSegundos(2);
+        pedido.marcarComoPronto();
+        notificador.statusAlterado(pedido, StatusPedido.EM_PREPARACAO);
+        avancarSegundos(2);
+
+        // Then
+        verify(notificacaoPort).notificarPedidoPronto(9L, "maria@email.com", "9");
+        assertEquals(1.0, registry.get("fastfood.notificacoes.status").tag("resultado", "falha").counter().count());
+        assertEquals(0, notificador.getPendentes());
+    }
+}
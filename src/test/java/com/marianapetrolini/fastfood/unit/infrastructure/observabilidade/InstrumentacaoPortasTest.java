@@ -0,0 +1,65 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.observabilidade;
+
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.InstrumentacaoPortas;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.PortaInstrumentada;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.Rastreamento;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a instrumentação das portas.
+ */
+class InstrumentacaoPortasTest {
+
+    interface Estoque {
+        int consultar(String item);
+    }
+
+    interface Vendas {
+        int vender(String item);
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final InstrumentacaoPortas instrumentacao = new InstrumentacaoPortas(registry, new Rastreamento(1.0));
+
+    @Test
+    void deveMedirChamadasAninhadasComAOperacaoDeOrigem() {
+        // Given
+        Estoque estoqueReal = item -> 3;
+        Estoque estoque = (Estoque) instrumentacao.instrumentar(estoqueReal, "repositorio");
+        Vendas vendas = (Vendas) instrumentacao.instrumentar((Vendas) item -> estoque.consultar(item) - 1, "caso_de_uso");
+
+        // When
+        int restante = vendas.vender("batata");
+
+        // Then
+        assertEquals(2, restante);
+        Timer consulta = registry.find(InstrumentacaoPortas.METRICA)
+            .tag("porta", "Estoque").tag("origem", "Vendas.vender").timer();
+        assertNotNull(consulta);
+        assertEquals(1, consulta.count());
+        assertNotNull(registry.find(InstrumentacaoPortas.METRICA)
+            .tag("camada", "caso_de_uso").tag("resultado", "sucesso").timer());
+        assertSame(estoqueReal, PortaInstrumentada.desembrulhar(estoque));
+    }
+
+    @Test
+    void deveRegistrarErroComOTipoDaExcecao() {
+        // Given
+        Estoque estoque = (Estoque) instrumentacao.instrumentar((Estoque) item -> {
+            throw new IllegalStateException("indisponível");
+        }, "repositorio");
+
+        // When
+        assertThrows(IllegalStateException.class, () -> estoque.consultar("batata"));
+
+        // Then
+        Timer erro = registry.find(InstrumentacaoPortas.METRICA)
+            .tag("resultado", "IllegalStateException").timer();
+        assertNotNull(erro);
+        assertEquals(1, erro.count());
+    }
+}
@@ -0,0 +1,64 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.observabilidade;
+
+import com.marianapetrolini.fastfood.application.ports.output.NotificacaoPort;
+import com.marianapetrolini.fastfood.domain.repositories.PagamentoRepository;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ContadorPedidos;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.GravacaoPedidos;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.PedidoRepositoryObservavel;
+import com.marianapetrolini.fastfood.infrastructure.observabilidade.MetricasNegocio;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para as métricas de negócio usadas pelo HPA.
+ */
+class MetricasNegocioTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final NotificacaoPort notificacaoPort = mock(NotificacaoPort.class);
+
+    @Test
+    void devePublicarNaFilaDeNotificacoesOsEnviosPendentesDoNotificacaoPort() {
+        // Given
+        new MetricasNegocio(registry, provedor(null), provedor(null), provedor(notificacaoPort));
+        when(notificacaoPort.getNotificacoesPendentes()).thenReturn(3);
+
+        // When
+        double fila = registry.get("fastfood.notificacoes.fila").gauge().value();
+
+        // Then
+        assertEquals(3, fila);
+    }
+
+    @Test
+    void devePublicarContagensDePedidosLidasDoBancoSemOsContadoresEmMemoria() {
+        // Given
+        GravacaoPedidos banco = mock(GravacaoPedidos.class);
+        when(banco.contarAtivos()).thenReturn(12L);
+        when(banco.contarNaCozinha()).thenReturn(7L);
+        ContadorPedidos contador = new ContadorPedidos();
+        PedidoRepositoryObservavel observavel = new PedidoRepositoryObservavel(banco, contador, Collections::emptyList);
+        MetricasNegocio metricas = new MetricasNegocio(registry, provedor(observavel), provedor(null),
+                                                       provedor(null));
+
+        // When
+        metricas.atualizarContagens();
+
+        // Then
+        assertEquals(12, registry.get("fastfood.pedidos.ativos").gauge().value());
+        assertEquals(7, registry.get("fastfood.pedidos.cozinha").gauge().value());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provedor(T objeto) {
+        ObjectProvider<T> provedor = mock(ObjectProvider.class);
+        when(provedor.getIfAvailable()).thenReturn(objeto);
+        return provedor;
+    }
+}
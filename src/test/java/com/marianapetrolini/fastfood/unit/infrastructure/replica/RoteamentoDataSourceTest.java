@@ -0,0 +1,78 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.replica;
+
+import com.marianapetrolini.fastfood.application.dtos.produto.AtualizarProdutoRequest;
+import com.marianapetrolini.fastfood.application.ports.input.ProdutoUseCase;
+import com.marianapetrolini.fastfood.infrastructure.replica.ContextoRoteamento;
+import com.marianapetrolini.fastfood.infrastructure.replica.LeituraEmReplica;
+import com.marianapetrolini.fastfood.infrastructure.replica.RoteamentoDataSource;
+import com.marianapetrolini.fastfood.infrastructure.replica.RoteamentoDataSource.Destino;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o roteamento das consultas dos casos de uso para a réplica.
+ */
+class RoteamentoDataSourceTest {
+
+    private final DataSource primario = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final RoteamentoDataSource roteamento = new RoteamentoDataSource(primario, replica);
+    private final ProdutoUseCase produtos = mock(ProdutoUseCase.class);
+    private final ProdutoUseCase roteado = (ProdutoUseCase) LeituraEmReplica.envolver(produtos);
+
+    @Test
+    void deveEnviarConsultasParaAReplicaEEscritasParaOPrimario() throws SQLException {
+        // Given
+        when(produtos.listarProdutosDisponiveis()).thenAnswer(chamada -> {
+            roteamento.getConnection();
+            return Collections.emptyList();
+        });
+        when(produtos.atualizarProduto(anyLong(), any())).thenAnswer(chamada -> {
+            roteamento.getConnection();
+            return null;
+        });
+
+        // When
+        roteado.listarProdutosDisponiveis();
+        roteado.atualizarProduto(1L, new AtualizarProdutoRequest());
+        roteamento.getConnection();
+
+        // Then
+        verify(replica, times(1)).getConnection();
+        verify(primario, times(2)).getConnection();
+        assertEquals(1, roteamento.getConexoes(Destino.REPLICA));
+        assertFalse(ContextoRoteamento.isReplicaPermitida());
+    }
+
+    @Test
+    void deveUsarOPrimarioQuandoOClienteAcabouDeEscrever() throws SQLException {
+        // Given
+        Connection conexao = mock(Connection.class);
+        when(primario.getConnection()).thenReturn(conexao);
+        when(produtos.listarProdutosDisponiveis()).thenAnswer(chamada -> {
+            roteamento.getConnection();
+            return Collections.emptyList();
+        });
+
+        // When
+        ContextoRoteamento.forcarPrimario();
+        try {
+            roteado.listarProdutosDisponiveis();
+        } finally {
+            ContextoRoteamento.liberarPrimario();
+        }
+
+        // Then
+        verify(primario).getConnection();
+        verify(replica, never()).getConnection();
+    }
+}
@@ -0,0 +1,54 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.scheduling;
+
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ArquivoPedidosAdapter;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ParticoesPedidos;
+import com.marianapetrolini.fastfood.infrastructure.scheduling.ArquivadorPedidos;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o arquivamento de pedidos finalizados.
+ */
+class ArquivadorPedidosTest {
+
+    private final ArquivoPedidosAdapter arquivo = mock(ArquivoPedidosAdapter.class);
+    private final ParticoesPedidos particoes = mock(ParticoesPedidos.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void deveArquivarEmLotesAteOUltimoLoteIncompleto() {
+        // Given
+        ArquivadorPedidos arquivador = new ArquivadorPedidos(arquivo, particoes, registry, true, 90, 100, 2);
+        LocalDateTime limite = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(arquivo.arquivarLote(limite, 100)).thenReturn(100, 100, 37);
+
+        // When
+        int arquivados = arquivador.arquivar(limite);
+
+        // Then
+        assertEquals(237, arquivados);
+        verify(arquivo, times(3)).arquivarLote(limite, 100);
+        assertEquals(237, registry.get("fastfood.pedidos.arquivados").counter().count());
+    }
+
+    @Test
+    void deveGarantirParticoesMesmoComArquivamentoDesabilitado() {
+        // Given
+        ArquivadorPedidos arquivador = new ArquivadorPedidos(arquivo, particoes, registry, false, 90, 100, 2);
+
+        // When
+        arquivador.executar();
+
+        // Then
+        verify(particoes).garantir(YearMonth.now(), 2);
+        verify(arquivo, never()).arquivarLote(any(), anyInt());
+    }
+}
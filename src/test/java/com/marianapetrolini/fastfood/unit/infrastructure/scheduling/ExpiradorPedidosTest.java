@@ -0,0 +1,197 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.scheduling;
+
+import com.marianapetrolini.fastfood.application.ports.output.MercadoPagoPort;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pagamento;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.repositories.PagamentoRepository;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.domain.valueobjects.MetodoPagamento;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPagamento;
+import com.marianapetrolini.fastfood.domain.valueobjects.StatusPedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.ChavePedido;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.TravasPedidosAdapter;
+import com.marianapetrolini.fastfood.infrastructure.scheduling.ExpiradorPedidos;
+import com.marianapetrolini.fastfood.infrastructure.scheduling.RodaTemporizadora;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a expiração de pedidos não pagos.
+ */
+class ExpiradorPedidosTest {
+
+    private final AtomicLong agora = new AtomicLong();
+    private RodaTemporizadora roda;
+    private PedidoRepository pedidoRepository;
+    private PagamentoRepository pagamentoRepository;
+    private MercadoPagoPort mercadoPagoPort;
+    private TravasPedidosAdapter travas;
+    private PlatformTransactionManager transactionManager;
+    private ExpiradorPedidos expirador;
+    private Pedido pedido;
+    private Pagamento pagamento;
+
+    @BeforeEach
+    void setUp() {
+        roda = new RodaTemporizadora(1, TimeUnit.MINUTES, 8, 2, agora::get);
+        pedidoRepository = mock(PedidoRepository.class);
+        pagamentoRepository = mock(PagamentoRepository.class);
+        mercadoPagoPort = mock(MercadoPagoPort.class);
+        travas = mock(TravasPedidosAdapter.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        expirador = new ExpiradorPedidos(roda, provedor(pedidoRepository), provedor(pagamentoRepository),
+                                         provedor(mercadoPagoPort), travas, transactionManager, Runnable::run, 15, 30);
+
+        Cliente cliente = new Cliente("Maria Santos", new Email("maria@email.com"));
+        Produto produto = new Produto("Big Mac", "Hambúrguer", new BigDecimal("25.90"), CategoriaProduto.LANCHE);
+        pedido = new Pedido(cliente, Collections.singletonList(new ItemPedido(produto, 1)));
+        pedido.setId(10L);
+        LocalDateTime criadoEm = LocalDateTime.now();
+        pagamento = new Pagamento(20L, pedido, MetodoPagamento.PIX, StatusPagamento.PENDENTE, pedido.getValorTotal(),
+                                  "TX-1", null, null, null, criadoEm, criadoEm, null);
+        when(pedidoRepository.buscarPorId(10L)).thenReturn(Optional.of(pedido));
+        when(pagamentoRepository.buscarPorPedidoId(10L)).thenReturn(Optional.of(pagamento));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provedor(T bean) {
+        ObjectProvider<T> provedor = mock(ObjectProvider.class);
+        when(provedor.getIfAvailable()).thenReturn(bean);
+        when(provedor.getObject()).thenReturn(bean);
+        return provedor;
+    }
+
+    // O pedido é travado pela chave completa, com as chaves de partição
+    private ChavePedido chaveDoPedido() {
+        return argThat(chave -> Long.valueOf(10L).equals(chave.getId())
+            && pedido.getLojaId().equals(chave.getLojaId())
+            && ChavePedido.truncar(pedido.getCriadoEm()).equals(chave.getCriadoEm()));
+    }
+
+    private void vencerPrazoDoPedido() {
+        expirador.pedidoCriado(pedido);
+        agora.addAndGet(TimeUnit.MINUTES.toNanos(16));
+        roda.avancar();
+    }
+
+    @Test
+    void deveManterPedidoQuandoGatewayNaoConfirmaCancelamento() {
+        // Given
+        when(travas.travarPedido(chaveDoPedido())).thenReturn(true);
+        when(mercadoPagoPort.cancelarPagamento("TX-1")).thenReturn(false);
+
+        // When
+        vencerPrazoDoPedido();
+
+        // Then
+        verify(mercadoPagoPort).cancelarPagamento("TX-1");
+        verify(pagamentoRepository, never()).salvar(any());
+        verify(pedidoRepository, never()).salvar(any());
+        assertEquals(StatusPedido.RECEBIDO, pedido.getStatus());
+        assertEquals(StatusPagamento.PENDENTE, pagamento.getStatus());
+    }
+
+    @Test
+    void deveCancelarPedidoEPagamentoQuandoGatewayConfirma() {
+        // Given
+        when(travas.travarPedido(chaveDoPedido())).thenReturn(true);
+        when(mercadoPagoPort.cancelarPagamento("TX-1")).thenReturn(true);
+
+        // When
+        vencerPrazoDoPedido();
+
+        // Then
+        verify(pagamentoRepository).salvar(pagamento);
+        verify(pedidoRepository).salvar(pedido);
+        assertEquals(StatusPedido.CANCELADO, pedido.getStatus());
+        assertEquals(StatusPagamento.CANCELADO, pagamento.getStatus());
+    }
+
+    @Test
+    void deveReagendarEExpirarQuandoGatewayConfirmaNaNovaTentativa() {
+        // Given
+        when(travas.travarPedido(chaveDoPedido())).thenReturn(true);
+        when(mercadoPagoPort.cancelarPagamento("TX-1")).thenReturn(false, true);
+        vencerPrazoDoPedido();
+
+        // When
+        agora.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        roda.avancar();
+
+        // Then
+        verify(mercadoPagoPort, times(2)).cancelarPagamento("TX-1");
+        assertEquals(StatusPedido.CANCELADO, pedido.getStatus());
+        assertEquals(StatusPagamento.CANCELADO, pagamento.getStatus());
+    }
+
+    @Test
+    void deveReagendarQuandoGatewayFalha() {
+        // Given
+        when(travas.travarPedido(chaveDoPedido())).thenReturn(true);
+        when(mercadoPagoPort.cancelarPagamento("TX-1"))
+            .thenThrow(new IllegalStateException("timeout"))
+            .thenReturn(true);
+        vencerPrazoDoPedido();
+
+        // When
+        agora.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        roda.avancar();
+
+        // Then
+        assertEquals(StatusPedido.CANCELADO, pedido.getStatus());
+    }
+
+    @Test
+    void deveChamarGatewaySemManterOPedidoTravado() {
+        // Given
+        when(travas.travarPedido(chaveDoPedido())).thenReturn(true);
+        when(mercadoPagoPort.cancelarPagamento("TX-1")).thenAnswer(invocacao -> {
+            // a transação que conferiu o pedido já terminou, levando a trava
+            verify(transactionManager, times(1)).commit(any());
+            return true;
+        });
+
+        // When
+        vencerPrazoDoPedido();
+
+        // Then
+        verify(travas, times(2)).travarPedido(chaveDoPedido());
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(StatusPedido.CANCELADO, pedido.getStatus());
+    }
+
+    @Test
+    void naoDeveChamarGatewayQuandoOutraReplicaTravouOPedido() {
+        // Given
+        when(travas.travarPedido(chaveDoPedido())).thenReturn(false);
+
+        // When
+        vencerPrazoDoPedido();
+
+        // Then
+        verifyNoInteractions(mercadoPagoPort);
+        verify(pedidoRepository, never()).salvar(any());
+    }
+}
@@ -0,0 +1,95 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.scheduling;
+
+import com.marianapetrolini.fastfood.application.ports.output.NotificacaoPort;
+import com.marianapetrolini.fastfood.domain.entities.Cliente;
+import com.marianapetrolini.fastfood.domain.entities.ItemPedido;
+import com.marianapetrolini.fastfood.domain.entities.Pedido;
+import com.marianapetrolini.fastfood.domain.entities.Produto;
+import com.marianapetrolini.fastfood.domain.repositories.PedidoRepository;
+import com.marianapetrolini.fastfood.domain.valueobjects.CategoriaProduto;
+import com.marianapetrolini.fastfood.domain.valueobjects.Email;
+import com.marianapetrolini.fastfood.infrastructure.adapters.persistence.AlertasTempoEsperaAdapter;
+import com.marianapetrolini.fastfood.infrastructure.scheduling.MonitorTempoEspera;
+import com.marianapetrolini.fastfood.infrastructure.scheduling.RodaTemporizadora;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para os alertas de tempo de espera.
+ */
+class MonitorTempoEsperaTest {
+
+    private final AtomicLong agora = new AtomicLong();
+    private RodaTemporizadora roda;
+    private PedidoRepository pedidoRepository;
+    private NotificacaoPort notificacaoPort;
+    private AlertasTempoEsperaAdapter alertas;
+    private MonitorTempoEspera monitor;
+    private Pedido pedido;
+
+    @BeforeEach
+    void setUp() {
+        roda = new RodaTemporizadora(1, TimeUnit.MINUTES, 8, 2, agora::get);
+        pedidoRepository = mock(PedidoRepository.class);
+        notificacaoPort = mock(NotificacaoPort.class);
+        alertas = mock(AlertasTempoEsperaAdapter.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<PedidoRepository> provedor = mock(ObjectProvider.class);
+        when(provedor.getObject()).thenReturn(pedidoRepository);
+        monitor = new MonitorTempoEspera(roda, notificacaoPort, provedor, alertas, Runnable::run, new int[] {30});
+
+        Cliente cliente = new Cliente("Maria Santos", new Email("maria@email.com"));
+        Produto produto = new Produto("Big Mac", "Hambúrguer", new BigDecimal("25.90"), CategoriaProduto.LANCHE);
+        pedido = new Pedido(cliente, Collections.singletonList(new ItemPedido(produto, 1)));
+        pedido.setId(10L);
+        when(pedidoRepository.buscarPorId(10L)).thenReturn(Optional.of(pedido));
+    }
+
+    @Test
+    void naoDeveAlertarPedidoFinalizadoEmOutroPodAntesDoLimite() {
+        // Given
+        monitor.pedidoCriado(pedido);
+        // Finalizado por uma requisição atendida em outro pod: este pod não recebe o evento
+        pedido.iniciarPreparacao();
+        pedido.marcarComoPronto();
+        pedido.finalizar();
+
+        // When
+        agora.addAndGet(TimeUnit.MINUTES.toNanos(31));
+        roda.avancar();
+
+        // Then
+        verify(notificacaoPort, never()).alertarTempoEsperaElevado(any(), any(), anyInt());
+        verify(alertas, never()).reivindicar(any(), anyInt(), any());
+        assertEquals(0, monitor.getPedidosMonitorados());
+    }
+
+    @Test
+    void deveAlertarSomenteQuandoEstePodReivindicaOLimite() {
+        // Given
+        monitor.pedidoCriado(pedido);
+        when(alertas.reivindicar(eq(10L), eq(30), any())).thenReturn(true, false);
+
+        // When
+        agora.addAndGet(TimeUnit.MINUTES.toNanos(31));
+        roda.avancar();
+        // Outra réplica, com o mesmo pedido agendado, chega depois
+        monitor.pedidoCriado(pedido);
+        agora.addAndGet(TimeUnit.MINUTES.toNanos(31));
+        roda.avancar();
+
+        // Then
+        verify(notificacaoPort, times(1)).alertarTempoEsperaElevado(eq(10L), any(), eq(30));
+    }
+}
@@ -0,0 +1,93 @@
+package com.marianapetrolini.fastfood.unit.infrastructure.scheduling;
+
+import com.marianapetrolini.fastfood.infrastructure.scheduling.RodaTemporizadora;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a roda de temporização.
+ */
+class RodaTemporizadoraTest {
+
+    private final AtomicLong agora = new AtomicLong();
+
+    private void avancarSegundos(RodaTemporizadora roda, long segundos) {
+        agora.addAndGet(TimeUnit.SECONDS.toNanos(segundos));
+        roda.avancar();
+    }
+
+    @Test
+    void deveExecutarTarefaSomenteAoCruzarOPrazo() {
+        // Given
+        RodaTemporizadora roda = new RodaTemporizadora(1, TimeUnit.SECONDS, 8, 2, agora::get);
+        AtomicInteger execucoes = new AtomicInteger();
+        roda.agendar(execucoes::incrementAndGet, 5, TimeUnit.SECONDS);
+
+        // When
+        avancarSegundos(roda, 4);
+
+        // Then
+        assertEquals(0, execucoes.get());
+        assertEquals(1, roda.getPendentes());
+
+        avancarSegundos(roda, 1);
+        assertEquals(1, execucoes.get());
+        assertEquals(0, roda.getPendentes());
+    }
+
+    @Test
+    void deveRespeitarPrazosMaioresQueUmaVoltaDaRoda() {
+        // Given
+        RodaTemporizadora roda = new RodaTemporizadora(1, TimeUnit.SECONDS, 8, 2, agora::get);
+        AtomicInteger execucoes = new AtomicInteger();
+        roda.agendar(execucoes::incrementAndGet, 20, TimeUnit.SECONDS);
+
+        // When
+        avancarSegundos(roda, 19);
+
+        // Then
+        assertEquals(0, execucoes.get());
+        avancarSegundos(roda, 1);
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void deveRespeitarPrazosMaioresQueACapacidadeDaRoda() {
+        // Given
+        RodaTemporizadora roda = new RodaTemporizadora(1, TimeUnit.SECONDS, 8, 2, agora::get);
+        AtomicInteger execucoes = new AtomicInteger();
+        roda.agendar(execucoes::incrementAndGet, 100, TimeUnit.SECONDS);
+
+        // When
+        for (int i = 0; i < 99; i++) {
+            avancarSegundos(roda, 1);
+        }
+
+        // Then
+        assertEquals(0, execucoes.get());
+        avancarSegundos(roda, 1);
+        assertEquals(1, execucoes.get());
+    }
+
+    @Test
+    void naoDeveExecutarTarefaCancelada() {
+        // Given
+        RodaTemporizadora roda = new RodaTemporizadora(1, TimeUnit.SECONDS, 8, 2, agora::get);
+        AtomicInteger execucoes = new AtomicInteger();
+        RodaTemporizadora.Temporizador temporizador = roda.agendar(execucoes::incrementAndGet, 3, TimeUnit.SECONDS);
+
+        // When
+        assertTrue(temporizador.cancelar());
+        avancarSegundos(roda, 10);
+
+        // Then
+        assertEquals(0, execucoes.get());
+        assertEquals(0, roda.getPendentes());
+        assertFalse(temporizador.cancelar());
+    }
+}